@@ -31,6 +31,7 @@ import com.tenio.common.data.zero.ZeroMap;
 import com.tenio.common.data.zero.implement.ZeroArrayImpl;
 import com.tenio.common.data.zero.implement.ZeroMapImpl;
 import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.nio.ByteBuffer;
 
 /**
  * This class provides all necessary methods to work with the data elements.
@@ -81,4 +82,19 @@ public final class DataUtility {
       case MSG_PACK -> MsgPackUtility.deserialize(binaries);
     };
   }
+
+  /**
+   * Deserializes the remaining bytes of a buffer to a collection without copying them, e.g.
+   * from a memory-mapped file.
+   *
+   * @param type     the serialization tool is using which is declared by {@link DataType}
+   * @param binaries the buffer, read from its position to its limit, which are not changed
+   * @return a new collection instance
+   */
+  public static DataCollection binariesToCollection(DataType type, ByteBuffer binaries) {
+    return switch (type) {
+      case ZERO -> ZeroUtility.binariesToCollection(binaries);
+      case MSG_PACK -> MsgPackUtility.deserialize(binaries);
+    };
+  }
 }
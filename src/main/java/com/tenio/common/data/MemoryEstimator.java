@@ -0,0 +1,327 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import com.tenio.common.data.zero.ConcurrentZeroMap;
+import com.tenio.common.data.zero.ReadonlyZeroArray;
+import com.tenio.common.data.zero.ReadonlyZeroMap;
+import com.tenio.common.data.zero.ZeroElement;
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.implement.DoubleZeroArrayImpl;
+import com.tenio.common.data.zero.implement.LongZeroArrayImpl;
+import com.tenio.common.data.zero.implement.StringZeroArrayImpl;
+import com.tenio.common.data.zero.implement.TypedZeroArrayImpl;
+import com.tenio.common.data.zero.implement.ZeroIntMapImpl;
+import com.tenio.common.data.zero.implement.ZeroQuantizedElementImpl;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates how much heap a {@link DataCollection}, a zero collection or a
+ * {@link com.tenio.common.data.msgpack.element.MsgPackMap}, retains, including all nested
+ * collections, elements, boxed values, strings and arrays. The estimation follows the object
+ * layout of a 64-bit JVM with compressed references: 12-byte object headers, 16-byte array
+ * headers, 4-byte references and 8-byte alignment. The capacity of hash tables and lists is
+ * derived from their sizes, so the result could slightly differ from a heap dump.
+ */
+public final class MemoryEstimator {
+
+  /**
+   * The size of an object header in bytes.
+   */
+  public static final int OBJECT_HEADER_BYTES = 12;
+  /**
+   * The size of an array header, including its length, in bytes.
+   */
+  public static final int ARRAY_HEADER_BYTES = 16;
+  /**
+   * The size of a compressed reference in bytes.
+   */
+  public static final int REFERENCE_BYTES = 4;
+  /**
+   * Every object occupies a multiple of this number of bytes.
+   */
+  public static final int OBJECT_ALIGNMENT_BYTES = 8;
+
+  private static final int HASH_MAP_BYTES = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES * 4
+      + Integer.BYTES * 3 + Float.BYTES);
+  private static final int CONCURRENT_HASH_MAP_BYTES = align(OBJECT_HEADER_BYTES
+      + REFERENCE_BYTES * 6 + Long.BYTES + Integer.BYTES * 3);
+  private static final int HASH_MAP_NODE_BYTES =
+      align(OBJECT_HEADER_BYTES + Integer.BYTES + REFERENCE_BYTES * 3);
+  private static final int HASH_MAP_MIN_CAPACITY = 16;
+  private static final float HASH_MAP_LOAD_FACTOR = 0.75f;
+  private static final int ARRAY_LIST_BYTES =
+      align(OBJECT_HEADER_BYTES + Integer.BYTES * 2 + REFERENCE_BYTES);
+  private static final int ARRAY_LIST_MIN_CAPACITY = 10;
+  private static final int WRAPPER_BYTES = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES);
+  private static final int CONCURRENT_WRAPPER_BYTES =
+      align(OBJECT_HEADER_BYTES + REFERENCE_BYTES * 2);
+  private static final int ELEMENT_BYTES = align(OBJECT_HEADER_BYTES + REFERENCE_BYTES * 2);
+  private static final int QUANTIZED_ELEMENT_BYTES =
+      align(OBJECT_HEADER_BYTES + REFERENCE_BYTES * 3);
+  private static final int TYPED_ARRAY_BYTES =
+      align(OBJECT_HEADER_BYTES + Integer.BYTES + REFERENCE_BYTES * 2);
+  private static final int INT_MAP_BYTES =
+      align(OBJECT_HEADER_BYTES + Integer.BYTES + REFERENCE_BYTES * 2);
+  private static final int STRING_BYTES =
+      align(OBJECT_HEADER_BYTES + REFERENCE_BYTES + Integer.BYTES + Byte.BYTES * 2);
+  private static final int QUANTIZATION_BYTES =
+      align(OBJECT_HEADER_BYTES + Float.BYTES * 2 + Integer.BYTES * 2);
+
+  /**
+   * The ways of estimation.
+   */
+  public enum Mode {
+
+    /**
+     * Every reference is treated as a distinct object and every string as a Latin-1 one. It
+     * needs no bookkeeping, so it is fast enough for admission checks.
+     */
+    APPROXIMATE,
+    /**
+     * Objects referenced more than once are only counted once, the cached boxed values are
+     * not counted and the encoding of each string is checked.
+     */
+    EXACT
+  }
+
+  private final Set<Object> visited;
+
+  private MemoryEstimator(Mode mode) {
+    visited = mode == Mode.EXACT ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
+  }
+
+  /**
+   * Approximately estimates the retained heap of a collection.
+   *
+   * @param collection the {@link DataCollection}
+   * @return the estimated number of bytes
+   * @see Mode#APPROXIMATE
+   */
+  public static long estimate(DataCollection collection) {
+    return estimate(collection, Mode.APPROXIMATE);
+  }
+
+  /**
+   * Estimates the retained heap of a collection.
+   *
+   * @param collection the {@link DataCollection}
+   * @param mode       the {@link Mode} of estimation
+   * @return the estimated number of bytes
+   */
+  public static long estimate(DataCollection collection, Mode mode) {
+    return new MemoryEstimator(mode).sizeOf(collection);
+  }
+
+  private static int align(long bytes) {
+    return (int) ((bytes + OBJECT_ALIGNMENT_BYTES - 1) & -OBJECT_ALIGNMENT_BYTES);
+  }
+
+  private static long arrayOf(int length, int elementBytes) {
+    return align(ARRAY_HEADER_BYTES + (long) length * elementBytes);
+  }
+
+  private static int hashMapCapacity(int size) {
+    var capacity = HASH_MAP_MIN_CAPACITY;
+    while (capacity * HASH_MAP_LOAD_FACTOR < size) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private static int arrayListCapacity(int size) {
+    var capacity = ARRAY_LIST_MIN_CAPACITY;
+    while (capacity < size) {
+      capacity += capacity >> 1;
+    }
+    return capacity;
+  }
+
+  private boolean isCounted(Object object) {
+    return visited != null && !visited.add(object);
+  }
+
+  private boolean isCached(Object object) {
+    if (object instanceof Boolean || object instanceof Byte) {
+      return true;
+    }
+    if (visited == null) {
+      return false;
+    }
+
+    return switch (object) {
+      case Short value -> value == Short.valueOf(value);
+      case Integer value -> value == Integer.valueOf(value);
+      case Long value -> value == Long.valueOf(value);
+      case Character value -> value == Character.valueOf(value);
+      default -> false;
+    };
+  }
+
+  private long sizeOf(Object object) {
+    if (object == null || object instanceof Enum<?> || isCached(object) || isCounted(object)) {
+      return 0;
+    }
+
+    return switch (object) {
+      case String string -> sizeOfString(string);
+      case Short ignored -> align(OBJECT_HEADER_BYTES + Short.BYTES);
+      case Character ignored -> align(OBJECT_HEADER_BYTES + Character.BYTES);
+      case Integer ignored -> align(OBJECT_HEADER_BYTES + Integer.BYTES);
+      case Float ignored -> align(OBJECT_HEADER_BYTES + Float.BYTES);
+      case Long ignored -> align(OBJECT_HEADER_BYTES + Long.BYTES);
+      case Double ignored -> align(OBJECT_HEADER_BYTES + Double.BYTES);
+      case ZeroQuantization ignored -> QUANTIZATION_BYTES;
+      case ZeroElement element -> sizeOfElement(element);
+      case TypedZeroArrayImpl array -> sizeOfTypedArray(array);
+      case ZeroIntMapImpl map -> sizeOfIntMap(map);
+      case ReadonlyZeroArray array -> WRAPPER_BYTES + sizeOfElements(array);
+      case ConcurrentZeroMap map -> CONCURRENT_WRAPPER_BYTES
+          + sizeOfZeroMap(map, CONCURRENT_HASH_MAP_BYTES);
+      case ReadonlyZeroMap map -> WRAPPER_BYTES + sizeOfZeroMap(map, HASH_MAP_BYTES);
+      case Map<?, ?> map -> sizeOfMap(map);
+      case Collection<?> collection -> sizeOfCollection(collection);
+      default -> object.getClass().isArray() ? sizeOfArray(object) : align(OBJECT_HEADER_BYTES);
+    };
+  }
+
+  private long sizeOfString(String string) {
+    var bytesPerChar = Byte.BYTES;
+    if (visited != null) {
+      for (int i = 0; i < string.length(); i++) {
+        if (string.charAt(i) > 0xFF) {
+          bytesPerChar = Character.BYTES;
+          break;
+        }
+      }
+    }
+
+    return STRING_BYTES + arrayOf(string.length(), bytesPerChar);
+  }
+
+  private long sizeOfElement(ZeroElement element) {
+    if (element instanceof ZeroQuantizedElementImpl quantizedElement) {
+      return QUANTIZED_ELEMENT_BYTES + sizeOf(quantizedElement.getQuantization())
+          + sizeOf(element.getData());
+    }
+
+    return ELEMENT_BYTES + sizeOf(element.getData());
+  }
+
+  private long sizeOfTypedArray(TypedZeroArrayImpl array) {
+    if (!array.isTyped()) {
+      return TYPED_ARRAY_BYTES + WRAPPER_BYTES + sizeOfElements(array);
+    }
+
+    if (array instanceof StringZeroArrayImpl) {
+      var size = arrayOf(array.size(), REFERENCE_BYTES);
+      for (int i = 0; i < array.size(); i++) {
+        size += sizeOf(array.getString(i));
+      }
+      return TYPED_ARRAY_BYTES + size;
+    }
+
+    var width = array instanceof LongZeroArrayImpl || array instanceof DoubleZeroArrayImpl
+        ? Long.BYTES : Integer.BYTES;
+    return TYPED_ARRAY_BYTES + arrayOf(array.size(), width);
+  }
+
+  private long sizeOfIntMap(ZeroIntMapImpl map) {
+    var size = INT_MAP_BYTES + arrayOf(map.getCapacity(), Integer.BYTES)
+        + arrayOf(map.getCapacity(), REFERENCE_BYTES);
+    for (var key : map.getKeys()) {
+      size += sizeOf(map.getZeroElement(key));
+    }
+
+    return size;
+  }
+
+  private long sizeOfElements(ReadonlyZeroArray array) {
+    var size = array.size() == 0 ? 0 : arrayOf(arrayListCapacity(array.size()), REFERENCE_BYTES);
+    for (int i = 0; i < array.size(); i++) {
+      size += sizeOf(array.getZeroElement(i));
+    }
+
+    return ARRAY_LIST_BYTES + size;
+  }
+
+  private long sizeOfZeroMap(ReadonlyZeroMap map, int shellBytes) {
+    var keys = map.getKeys();
+    var size = sizeOfHashTable(keys.size(), shellBytes);
+    for (var key : keys) {
+      size += HASH_MAP_NODE_BYTES + sizeOf(key) + sizeOf(map.getZeroElement(key));
+    }
+
+    return size;
+  }
+
+  private long sizeOfMap(Map<?, ?> map) {
+    var size = sizeOfHashTable(map.size(), HASH_MAP_BYTES);
+    for (var entry : map.entrySet()) {
+      size += HASH_MAP_NODE_BYTES + sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+    }
+
+    return size;
+  }
+
+  private long sizeOfHashTable(int entries, int shellBytes) {
+    return shellBytes
+        + (entries == 0 ? 0 : arrayOf(hashMapCapacity(entries), REFERENCE_BYTES));
+  }
+
+  private long sizeOfCollection(Collection<?> collection) {
+    var size = ARRAY_LIST_BYTES + arrayOf(collection.size(), REFERENCE_BYTES);
+    for (var item : collection) {
+      size += sizeOf(item);
+    }
+
+    return size;
+  }
+
+  private long sizeOfArray(Object array) {
+    return switch (array) {
+      case boolean[] values -> arrayOf(values.length, Byte.BYTES);
+      case byte[] values -> arrayOf(values.length, Byte.BYTES);
+      case short[] values -> arrayOf(values.length, Short.BYTES);
+      case char[] values -> arrayOf(values.length, Character.BYTES);
+      case int[] values -> arrayOf(values.length, Integer.BYTES);
+      case float[] values -> arrayOf(values.length, Float.BYTES);
+      case long[] values -> arrayOf(values.length, Long.BYTES);
+      case double[] values -> arrayOf(values.length, Double.BYTES);
+      case Object[] values -> {
+        var size = arrayOf(values.length, REFERENCE_BYTES);
+        for (var value : values) {
+          size += sizeOf(value);
+        }
+        yield size;
+      }
+      default -> align(ARRAY_HEADER_BYTES);
+    };
+  }
+}
@@ -0,0 +1,143 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.fragment;
+
+import com.tenio.common.data.DataCollection;
+import com.tenio.common.data.DataType;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class splits encoded data collections into fragments which fit a datagram, so a large
+ * message is never fragmented by the IP layer. Every fragment starts with a small header:
+ * <pre>
+ * | message id (int) | fragment index (short) | fragments count (short) | data type (byte) |
+ * | message length (int) | fragment payload ... |
+ * </pre>
+ * The message length is the size of the whole encoded message. All fragments of a message, but
+ * the last one, carry the same payload length, and the last one carries the remaining bytes. The
+ * fragments can be put back together by a {@link DataReassembler}.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see DataReassembler
+ */
+public final class DataFragmenter {
+
+  /**
+   * The number of bytes in the header of every fragment.
+   */
+  public static final int HEADER_BYTES =
+      Integer.BYTES + Short.BYTES + Short.BYTES + Byte.BYTES + Integer.BYTES;
+  /**
+   * A datagram size which is safe for most of the Internet paths (IPv4 and IPv6 headers
+   * included).
+   */
+  public static final int DEFAULT_DATAGRAM_BYTES = 1200;
+
+  private final int datagramBytes;
+  private final int chunkBytes;
+  private final AtomicInteger messageId;
+
+  /**
+   * Creates a new instance with the {@link #DEFAULT_DATAGRAM_BYTES} datagram size.
+   */
+  public DataFragmenter() {
+    this(DEFAULT_DATAGRAM_BYTES);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param datagramBytes the maximum size of a fragment, header included
+   * @throws IllegalArgumentException when the size can not hold any payload
+   */
+  public DataFragmenter(int datagramBytes) {
+    if (datagramBytes <= HEADER_BYTES) {
+      throw new IllegalArgumentException(
+          String.format("The datagram size must be greater than %d bytes, but found: %d",
+              HEADER_BYTES, datagramBytes));
+    }
+
+    this.datagramBytes = datagramBytes;
+    chunkBytes = datagramBytes - HEADER_BYTES;
+    messageId = new AtomicInteger();
+  }
+
+  /**
+   * Encodes a collection and splits its binaries into fragments.
+   *
+   * @param collection the {@link DataCollection}
+   * @return a list of fragments in order, each one fits a datagram
+   */
+  public List<byte[]> fragment(DataCollection collection) {
+    return fragment(collection.getType(), collection.toBinaries());
+  }
+
+  /**
+   * Splits encoded binaries into fragments.
+   *
+   * @param type     the serialization tool used to encode the binaries
+   * @param binaries the encoded binaries
+   * @return a list of fragments in order, each one fits a datagram
+   * @throws IllegalArgumentException when the binaries need too many fragments
+   */
+  public List<byte[]> fragment(DataType type, byte[] binaries) {
+    var count = Math.max(1, (binaries.length + chunkBytes - 1) / chunkBytes);
+    if (count > Short.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format("Unable to fragment %d bytes, it needs too many fragments: %d",
+              binaries.length, count));
+    }
+
+    var id = messageId.getAndIncrement();
+    var fragments = new ArrayList<byte[]>(count);
+    for (int index = 0; index < count; index++) {
+      var offset = index * chunkBytes;
+      var length = Math.min(chunkBytes, binaries.length - offset);
+      var fragment = ByteBuffer.allocate(HEADER_BYTES + length);
+      fragment.putInt(id);
+      fragment.putShort((short) index);
+      fragment.putShort((short) count);
+      fragment.put(type.getValue());
+      fragment.putInt(binaries.length);
+      fragment.put(binaries, offset, length);
+      fragments.add(fragment.array());
+    }
+
+    return fragments;
+  }
+
+  /**
+   * Retrieves the maximum size of a fragment.
+   *
+   * @return the maximum size of a fragment in bytes, header included
+   */
+  public int getDatagramBytes() {
+    return datagramBytes;
+  }
+}
@@ -0,0 +1,373 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.fragment;
+
+import com.tenio.common.data.DataCollection;
+import com.tenio.common.data.DataType;
+import com.tenio.common.data.DataUtility;
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class puts fragments created by a {@link DataFragmenter} back together. Fragments may
+ * arrive out of order or more than once. Every message's binaries are allocated once, when its
+ * first fragment arrives, and each fragment's payload is copied straight to its final place, so
+ * the completed binaries are handed out without any further copy.
+ *
+ * <p>The memory is bounded: the total size of incomplete messages never exceeds the configured
+ * limit, the oldest incomplete messages are evicted to make room for new ones, and incomplete
+ * messages are dropped once they are older than the configured timeout.
+ *
+ * <p>Message ids are only unique per sender, so one instance should be used per remote peer.
+ * The ids of recently completed messages are remembered for the timeout, so a late duplicate of
+ * their fragments is dropped instead of starting a message which could never be completed.
+ * This class is not thread-safe.
+ *
+ * @see DataFragmenter
+ */
+public final class DataReassembler {
+
+  /**
+   * The default maximum size of a message in bytes.
+   */
+  public static final int DEFAULT_MAX_MESSAGE_BYTES = 1 << 20;
+  /**
+   * The default maximum total size of incomplete messages in bytes.
+   */
+  public static final long DEFAULT_MAX_PENDING_BYTES = 4L << 20;
+  /**
+   * The default time an incomplete message is kept in milliseconds.
+   */
+  public static final long DEFAULT_TIMEOUT_MILLIS = 5000L;
+  /**
+   * The maximum number of recently completed message ids which are remembered.
+   */
+  public static final int MAX_COMPLETED_IDS = 1024;
+
+  private final int maxMessageBytes;
+  private final long maxPendingBytes;
+  private final long timeoutMillis;
+  private final Map<Integer, PendingMessage> pendingMessages;
+  private final Map<Integer, Long> completedIds;
+  private long pendingBytes;
+  private long completedMessages;
+  private long expiredMessages;
+  private long evictedMessages;
+  private long droppedMessages;
+
+  /**
+   * Creates a new instance with default limits.
+   */
+  public DataReassembler() {
+    this(DEFAULT_MAX_MESSAGE_BYTES, DEFAULT_MAX_PENDING_BYTES, DEFAULT_TIMEOUT_MILLIS);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param maxMessageBytes the maximum size of a message, larger messages are rejected
+   * @param maxPendingBytes the maximum total size of incomplete messages
+   * @param timeoutMillis   the time an incomplete message is kept in milliseconds
+   */
+  public DataReassembler(int maxMessageBytes, long maxPendingBytes, long timeoutMillis) {
+    if (maxMessageBytes <= 0 || maxPendingBytes <= 0 || timeoutMillis <= 0) {
+      throw new IllegalArgumentException("The limits must be positive");
+    }
+
+    this.maxMessageBytes = maxMessageBytes;
+    this.maxPendingBytes = maxPendingBytes;
+    this.timeoutMillis = timeoutMillis;
+    pendingMessages = new LinkedHashMap<>();
+    completedIds = new LinkedHashMap<>();
+  }
+
+  /**
+   * Accepts a fragment, see {@link #accept(ByteBuffer, long)}.
+   *
+   * @param fragment the fragment
+   * @return the decoded {@link DataCollection} when the message is completed, otherwise
+   *     <code>null</code>
+   */
+  public DataCollection accept(byte[] fragment) {
+    return accept(ByteBuffer.wrap(fragment), System.currentTimeMillis());
+  }
+
+  /**
+   * Accepts a fragment and decodes the message once all its fragments arrived.
+   *
+   * @param fragment          the fragment, read from its position to its limit
+   * @param currentTimeMillis the current time in milliseconds
+   * @return the decoded {@link DataCollection} when the message is completed, otherwise
+   *     <code>null</code>
+   * @throws IllegalArgumentException when the fragment is malformed
+   */
+  public DataCollection accept(ByteBuffer fragment, long currentTimeMillis) {
+    var message = acceptFragment(fragment, currentTimeMillis);
+    return message == null ? null :
+        DataUtility.binariesToCollection(message.type, message.binaries);
+  }
+
+  /**
+   * Accepts a fragment without decoding the completed message.
+   *
+   * @param fragment          the fragment, read from its position to its limit
+   * @param currentTimeMillis the current time in milliseconds
+   * @return the message's binaries when the message is completed, otherwise <code>null</code>
+   * @throws IllegalArgumentException when the fragment is malformed
+   */
+  public byte[] acceptBinaries(ByteBuffer fragment, long currentTimeMillis) {
+    var message = acceptFragment(fragment, currentTimeMillis);
+    return message == null ? null : message.binaries;
+  }
+
+  /**
+   * Drops all incomplete messages which are older than the timeout.
+   *
+   * @param currentTimeMillis the current time in milliseconds
+   */
+  public void expire(long currentTimeMillis) {
+    var iterator = pendingMessages.values().iterator();
+    while (iterator.hasNext()) {
+      var message = iterator.next();
+      if (currentTimeMillis - message.createdTimeMillis < timeoutMillis) {
+        break;
+      }
+      iterator.remove();
+      pendingBytes -= message.binaries.length;
+      expiredMessages++;
+    }
+
+    var completedIterator = completedIds.values().iterator();
+    while (completedIterator.hasNext()
+        && currentTimeMillis - completedIterator.next() >= timeoutMillis) {
+      completedIterator.remove();
+    }
+  }
+
+  /**
+   * Retrieves the number of incomplete messages.
+   *
+   * @return the number of incomplete messages
+   */
+  public int getPendingMessages() {
+    return pendingMessages.size();
+  }
+
+  /**
+   * Retrieves the total size of incomplete messages.
+   *
+   * @return the total size of incomplete messages in bytes
+   */
+  public long getPendingBytes() {
+    return pendingBytes;
+  }
+
+  /**
+   * Retrieves the number of completed messages.
+   *
+   * @return the number of completed messages
+   */
+  public long getCompletedMessages() {
+    return completedMessages;
+  }
+
+  /**
+   * Retrieves the number of messages dropped because of the timeout.
+   *
+   * @return the number of expired messages
+   */
+  public long getExpiredMessages() {
+    return expiredMessages;
+  }
+
+  /**
+   * Retrieves the number of incomplete messages evicted to make room for newer ones.
+   *
+   * @return the number of evicted messages
+   */
+  public long getEvictedMessages() {
+    return evictedMessages;
+  }
+
+  /**
+   * Retrieves the number of messages rejected because they are too large.
+   *
+   * @return the number of dropped messages
+   */
+  public long getDroppedMessages() {
+    return droppedMessages;
+  }
+
+  private PendingMessage acceptFragment(ByteBuffer fragment, long currentTimeMillis) {
+    expire(currentTimeMillis);
+
+    if (fragment.remaining() < DataFragmenter.HEADER_BYTES) {
+      throw new IllegalArgumentException(
+          String.format("The fragment is too small to hold a header: %d bytes",
+              fragment.remaining()));
+    }
+
+    var id = fragment.getInt();
+    var index = fragment.getShort();
+    var count = fragment.getShort();
+    var typeValue = fragment.get();
+    var totalBytes = fragment.getInt();
+    var payloadBytes = fragment.remaining();
+    var type = DataType.getByValue(typeValue);
+
+    if (type == null || count <= 0 || index < 0 || index >= count || totalBytes < 0) {
+      throw new IllegalArgumentException(
+          String.format("Invalid fragment header. Index: %d, count: %d, type: %d, size: %d",
+              index, count, typeValue, totalBytes));
+    }
+
+    if (totalBytes > maxMessageBytes || totalBytes > maxPendingBytes) {
+      droppedMessages++;
+      return null;
+    }
+
+    var message = pendingMessages.get(id);
+    if (message == null) {
+      if (completedIds.containsKey(id)) {
+        return null;
+      }
+      while (!pendingMessages.isEmpty() && pendingBytes + totalBytes > maxPendingBytes) {
+        evictEldest();
+      }
+      message = new PendingMessage(type, totalBytes, count, currentTimeMillis);
+      pendingMessages.put(id, message);
+      pendingBytes += totalBytes;
+    } else if (message.type != type || message.fragments != count
+        || message.binaries.length != totalBytes) {
+      throw new IllegalArgumentException(
+          String.format("The fragment does not match its message with id: %d", id));
+    }
+
+    int offset;
+    if (index == count - 1) {
+      offset = totalBytes - payloadBytes;
+    } else {
+      if (message.chunkBytes < 0) {
+        message.chunkBytes = payloadBytes;
+      } else if (message.chunkBytes != payloadBytes) {
+        throw new IllegalArgumentException(
+            String.format("Unexpected fragment size: %d bytes, expected: %d bytes",
+                payloadBytes, message.chunkBytes));
+      }
+      offset = index * payloadBytes;
+    }
+
+    if (offset < 0 || offset + payloadBytes > totalBytes) {
+      throw new IllegalArgumentException(
+          String.format("The fragment at index %d exceeds its message's size: %d bytes", index,
+              totalBytes));
+    }
+
+    if (message.received.get(index)) {
+      return null;
+    }
+
+    if (index == count - 1) {
+      message.lastOffset = offset;
+    }
+    if (!message.isLastOffsetValid()) {
+      pendingMessages.remove(id);
+      pendingBytes -= totalBytes;
+      throw new IllegalArgumentException(
+          String.format("The last fragment of message with id: %d starts at %d, expected: %d",
+              id, message.lastOffset, (count - 1) * message.chunkBytes));
+    }
+
+    fragment.get(message.binaries, offset, payloadBytes);
+    message.received.set(index);
+    message.receivedFragments++;
+
+    if (message.receivedFragments < count) {
+      return null;
+    }
+
+    pendingMessages.remove(id);
+    pendingBytes -= totalBytes;
+    completedMessages++;
+    rememberCompleted(id, currentTimeMillis);
+
+    return message;
+  }
+
+  private void rememberCompleted(int id, long currentTimeMillis) {
+    completedIds.put(id, currentTimeMillis);
+    if (completedIds.size() > MAX_COMPLETED_IDS) {
+      var iterator = completedIds.keySet().iterator();
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  private void evictEldest() {
+    var iterator = pendingMessages.values().iterator();
+    var message = iterator.next();
+    iterator.remove();
+    pendingBytes -= message.binaries.length;
+    evictedMessages++;
+  }
+
+  private static final class PendingMessage {
+
+    private final DataType type;
+    private final byte[] binaries;
+    private final int fragments;
+    private final BitSet received;
+    private final long createdTimeMillis;
+    private int chunkBytes;
+    private int lastOffset;
+    private int receivedFragments;
+
+    private PendingMessage(DataType type, int totalBytes, int fragments, long createdTimeMillis) {
+      this.type = type;
+      this.fragments = fragments;
+      this.createdTimeMillis = createdTimeMillis;
+      binaries = new byte[totalBytes];
+      received = new BitSet(fragments);
+      chunkBytes = -1;
+      lastOffset = -1;
+    }
+
+    /**
+     * The last fragment must start right after all the other fragments, which all carry
+     * <code>chunkBytes</code>, otherwise the message would be left with gaps or overlaps.
+     */
+    private boolean isLastOffsetValid() {
+      if (lastOffset < 0) {
+        return true;
+      }
+      if (fragments == 1) {
+        return lastOffset == 0;
+      }
+      return chunkBytes < 0 || lastOffset == (fragments - 1) * chunkBytes;
+    }
+  }
+}
@@ -0,0 +1,391 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.journal;
+
+import com.tenio.common.data.DataCollection;
+import com.tenio.common.data.DataType;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An append-only journal of encoded {@link DataCollection}s, e.g. to record the inbound and
+ * outbound messages for replays, audits or crash recovery. Records are numbered with
+ * consecutive sequence numbers and stamped with a timestamp, they are read back by a
+ * {@link JournalReader}.
+ *
+ * <p>The journal is split into segment files which roll over once they reach their size limit.
+ * Records are collected in a direct buffer and written with a single {@link FileChannel} call
+ * when the buffer is full or {@link #flush()} is called, e.g. once per tick of the game loop,
+ * then forced to the disk according to the {@link JournalSyncPolicy}. Every segment has a sparse
+ * index which points at a record about every {@link #INDEX_INTERVAL_BYTES} bytes, so a reader
+ * seeks a sequence number or a timestamp without scanning the whole segment.
+ *
+ * <p>When a journal is opened again, the end of its last segment is checked and a record which
+ * was not completely written before a crash is dropped. An instance is thread-safe.
+ */
+public final class DataJournal implements Closeable {
+
+  /**
+   * The default size limit of a segment in bytes.
+   */
+  public static final int DEFAULT_SEGMENT_BYTES = 256 << 20;
+  /**
+   * The default size of the write buffer in bytes.
+   */
+  public static final int DEFAULT_BATCH_BYTES = 64 << 10;
+  /**
+   * The distance between two indexed records of a segment in bytes.
+   */
+  public static final int INDEX_INTERVAL_BYTES = 64 << 10;
+
+  private static final int INDEX_BATCH_ENTRIES = 256;
+
+  private final Path directory;
+  private final int segmentBytes;
+  private final JournalSyncPolicy syncPolicy;
+  private final ByteBuffer batch;
+  private final ByteBuffer recordHeader;
+  private final ByteBuffer indexBatch;
+  private JournalSegment segment;
+  private FileChannel channel;
+  private FileChannel indexChannel;
+  private long segmentPosition;
+  private long nextIndexedPosition;
+  private long nextSequence;
+  private long lastTimestamp;
+  private boolean closed;
+
+  private DataJournal(Path directory, int segmentBytes, int batchBytes,
+                      JournalSyncPolicy syncPolicy) {
+    this.directory = directory;
+    this.segmentBytes = segmentBytes;
+    this.syncPolicy = syncPolicy;
+    batch = ByteBuffer.allocateDirect(batchBytes);
+    recordHeader = ByteBuffer.allocate(JournalSegment.RECORD_HEADER_BYTES);
+    indexBatch = ByteBuffer.allocate(INDEX_BATCH_ENTRIES * JournalSegment.INDEX_ENTRY_BYTES);
+    nextSequence = 1;
+    lastTimestamp = Long.MIN_VALUE;
+  }
+
+  /**
+   * Opens a journal with the default settings and {@link JournalSyncPolicy#NONE}.
+   *
+   * @param directory the directory of the journal's files
+   * @return a new instance
+   * @throws IOException when the files cannot be created or read
+   */
+  public static DataJournal open(Path directory) throws IOException {
+    return open(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_BATCH_BYTES, JournalSyncPolicy.NONE);
+  }
+
+  /**
+   * Opens a journal, appending after its last complete record.
+   *
+   * @param directory    the directory of the journal's files
+   * @param segmentBytes the size limit of a segment, which is also the limit of a record
+   * @param batchBytes   the size of the write buffer, larger records are written directly
+   * @param syncPolicy   the {@link JournalSyncPolicy}
+   * @return a new instance
+   * @throws IOException when the files cannot be created or read
+   */
+  public static DataJournal open(Path directory, int segmentBytes, int batchBytes,
+                                 JournalSyncPolicy syncPolicy) throws IOException {
+    if (segmentBytes <= JournalSegment.RECORD_HEADER_BYTES || batchBytes <= 0) {
+      throw new IllegalArgumentException(String.format(
+          "The segment size must exceed %d bytes and the batch size must be positive: %d, %d",
+          JournalSegment.RECORD_HEADER_BYTES, segmentBytes, batchBytes));
+    }
+
+    Files.createDirectories(directory);
+    var journal = new DataJournal(directory, segmentBytes, batchBytes, syncPolicy);
+    var segments = JournalSegment.list(directory);
+    try {
+      if (segments.length == 0) {
+        journal.openSegment(new JournalSegment(directory, journal.nextSequence));
+      } else {
+        journal.recover(segments[segments.length - 1]);
+      }
+    } catch (IOException | RuntimeException exception) {
+      journal.closeChannels();
+      throw exception;
+    }
+
+    return journal;
+  }
+
+  /**
+   * Appends an encoded collection stamped with the current time.
+   *
+   * @param collection the {@link DataCollection}
+   * @return the record's sequence number
+   * @throws IOException when the journal cannot be written
+   */
+  public long append(DataCollection collection) throws IOException {
+    return append(collection.getType(), ByteBuffer.wrap(collection.toBinaries()),
+        System.currentTimeMillis());
+  }
+
+  /**
+   * Appends encoded binaries stamped with the current time.
+   *
+   * @param type     the {@link DataType} of the binaries
+   * @param binaries the encoded collection
+   * @return the record's sequence number
+   * @throws IOException when the journal cannot be written
+   */
+  public long append(DataType type, byte[] binaries) throws IOException {
+    return append(type, ByteBuffer.wrap(binaries), System.currentTimeMillis());
+  }
+
+  /**
+   * Appends encoded binaries. Timestamps never decrease along the journal, so a timestamp which
+   * is older than the previous record's one is replaced by it.
+   *
+   * @param type            the {@link DataType} of the binaries
+   * @param binaries        the encoded collection, from its position to its limit, which are not
+   *                        changed
+   * @param timestampMillis the record's timestamp in milliseconds
+   * @return the record's sequence number
+   * @throws IllegalArgumentException when the record exceeds the size limit of a segment
+   * @throws IOException              when the journal cannot be written
+   */
+  public synchronized long append(DataType type, ByteBuffer binaries, long timestampMillis)
+      throws IOException {
+    checkOpen();
+    var recordBytes = JournalSegment.RECORD_HEADER_BYTES + binaries.remaining();
+    if (recordBytes > segmentBytes) {
+      throw new IllegalArgumentException(String.format(
+          "The record exceeds the segment size of %d bytes: %d", segmentBytes, recordBytes));
+    }
+
+    if (segmentPosition + recordBytes > segmentBytes) {
+      rollSegment();
+    }
+    var sequence = nextSequence++;
+    lastTimestamp = Math.max(lastTimestamp, timestampMillis);
+
+    if (recordBytes > batch.remaining()) {
+      writeBatch();
+    }
+    if (recordBytes > batch.capacity()) {
+      recordHeader.clear();
+      JournalSegment.putRecordHeader(recordHeader, sequence, lastTimestamp, type.getValue(),
+          binaries);
+      writeFully(channel, recordHeader.flip(), binaries.duplicate());
+      if (syncPolicy != JournalSyncPolicy.NONE) {
+        channel.force(false);
+      }
+    } else {
+      JournalSegment.putRecordHeader(batch, sequence, lastTimestamp, type.getValue(), binaries);
+      batch.put(binaries.duplicate());
+    }
+    // the entry is added once the record is written or buffered, so it is never flushed first
+    if (segmentPosition >= nextIndexedPosition) {
+      addIndexEntry(sequence, lastTimestamp, segmentPosition);
+    }
+    segmentPosition += recordBytes;
+
+    if (syncPolicy == JournalSyncPolicy.ALWAYS) {
+      writeBatch();
+    }
+    return sequence;
+  }
+
+  /**
+   * Writes the buffered records and forces them to the disk.
+   *
+   * @throws IOException when the journal cannot be written
+   */
+  public synchronized void flush() throws IOException {
+    checkOpen();
+    writeBatch();
+    channel.force(false);
+    indexChannel.force(false);
+  }
+
+  /**
+   * Retrieves the sequence number of the latest record.
+   *
+   * @return the sequence number, or <code>0</code> if the journal is empty
+   */
+  public synchronized long getLastSequence() {
+    return nextSequence - 1;
+  }
+
+  /**
+   * Retrieves the directory of the journal's files.
+   *
+   * @return the directory
+   */
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Flushes the buffered records and closes the journal, a closed journal cannot be used
+   * anymore.
+   *
+   * @throws IOException when the journal cannot be written
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    try {
+      flush();
+    } finally {
+      closed = true;
+      closeChannels();
+    }
+  }
+
+  private void recover(JournalSegment lastSegment) throws IOException {
+    segment = lastSegment;
+    int validBytes;
+    int loadedEntries;
+    try (var readChannel = FileChannel.open(segment.getSegmentPath(),
+        StandardOpenOption.READ)) {
+      // the segment keeps the size it was written with, even if the size limit changed since
+      var fileBytes = readChannel.size();
+      if (fileBytes > Integer.MAX_VALUE) {
+        throw new IOException(String.format("The journal segment is too large: %s, %d bytes",
+            segment.getSegmentPath(), fileBytes));
+      }
+      var size = (int) fileBytes;
+      segment.loadIndex(size);
+      var buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      // an indexed record which was torn by a crash drops its entry, the scan starts earlier
+      while (segment.getIndexSize() > 0 && JournalSegment.getRecordBytes(buffer,
+          (int) segment.getLastIndexedPosition(), size) < 0) {
+        segment.removeLastIndexEntry();
+      }
+      loadedEntries = segment.getIndexSize();
+      nextSequence = segment.getBaseSequence();
+
+      // the records after the last indexed one are checked and indexed again if needed
+      var position = (int) Math.max(0, segment.getLastIndexedPosition());
+      nextIndexedPosition = loadedEntries == 0 ? 0 : position + INDEX_INTERVAL_BYTES;
+      var recordBytes = JournalSegment.getRecordBytes(buffer, position, size);
+      while (recordBytes > 0) {
+        nextSequence = JournalSegment.getSequence(buffer, position) + 1;
+        lastTimestamp = JournalSegment.getTimestamp(buffer, position);
+        if (position >= nextIndexedPosition) {
+          segment.addIndexEntry(nextSequence - 1, lastTimestamp, position);
+          nextIndexedPosition = position + INDEX_INTERVAL_BYTES;
+        }
+        position += recordBytes;
+        recordBytes = JournalSegment.getRecordBytes(buffer, position, size);
+      }
+      validBytes = position;
+    }
+
+    channel = FileChannel.open(segment.getSegmentPath(), StandardOpenOption.WRITE);
+    channel.truncate(validBytes).position(validBytes);
+    indexChannel = FileChannel.open(segment.getIndexPath(), StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE);
+    var indexBytes = (long) loadedEntries * JournalSegment.INDEX_ENTRY_BYTES;
+    indexChannel.truncate(indexBytes).position(indexBytes);
+    writeFully(indexChannel, segment.getIndexEntries(loadedEntries));
+    segmentPosition = validBytes;
+  }
+
+  private void rollSegment() throws IOException {
+    writeBatch();
+    channel.force(false);
+    indexChannel.force(false);
+    closeChannels();
+    openSegment(new JournalSegment(directory, nextSequence));
+  }
+
+  private void openSegment(JournalSegment newSegment) throws IOException {
+    segment = newSegment;
+    channel = FileChannel.open(segment.getSegmentPath(), StandardOpenOption.CREATE_NEW,
+        StandardOpenOption.WRITE);
+    indexChannel = FileChannel.open(segment.getIndexPath(), StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    segmentPosition = 0;
+    nextIndexedPosition = 0;
+  }
+
+  private void addIndexEntry(long sequence, long timestamp, long position) throws IOException {
+    if (!indexBatch.hasRemaining()) {
+      writeBatch();
+    }
+
+    segment.addIndexEntry(sequence, timestamp, position);
+    indexBatch.putLong(sequence).putLong(timestamp).putLong(position);
+    nextIndexedPosition = position + INDEX_INTERVAL_BYTES;
+  }
+
+  /*
+   * The index entries are written after the records they point at, so an index entry is never
+   * ahead of its segment.
+   */
+  private void writeBatch() throws IOException {
+    if (batch.position() > 0) {
+      writeFully(channel, batch.flip());
+      batch.clear();
+      if (syncPolicy != JournalSyncPolicy.NONE) {
+        channel.force(false);
+      }
+    }
+    if (indexBatch.position() > 0) {
+      writeFully(indexChannel, indexBatch.flip());
+      indexBatch.clear();
+    }
+  }
+
+  private void writeFully(FileChannel target, ByteBuffer... buffers) throws IOException {
+    var last = buffers[buffers.length - 1];
+    while (last.hasRemaining()) {
+      target.write(buffers);
+    }
+  }
+
+  private void closeChannels() throws IOException {
+    try {
+      if (channel != null) {
+        channel.close();
+      }
+    } finally {
+      if (indexChannel != null) {
+        indexChannel.close();
+      }
+    }
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("The journal was closed");
+    }
+  }
+}
@@ -0,0 +1,291 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.journal;
+
+import com.tenio.common.data.DataCollection;
+import com.tenio.common.data.DataType;
+import com.tenio.common.data.DataUtility;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A sequential reader of a {@link DataJournal}. Segments are memory-mapped and records are
+ * handed out as views of the mapped files, so a replay runs at the speed of the disk and
+ * payloads are decoded in place, without being copied to the heap first.
+ *
+ * <p>A typical replay looks like
+ * <pre>{@code
+ * try (var reader = JournalReader.open(directory)) {
+ *   reader.seekTimestamp(startMillis);
+ *   while (reader.next()) {
+ *     process(reader.getCollection());
+ *   }
+ * }
+ * }</pre>
+ * The reader follows a journal which is still being written, records become visible once the
+ * journal writes them to its files. An instance is not thread-safe.
+ */
+public final class JournalReader implements Closeable {
+
+  private final Path directory;
+  private JournalSegment[] segments;
+  private int segmentIndex;
+  private FileChannel channel;
+  private MappedByteBuffer buffer;
+  private int position;
+  private int recordPosition;
+  private boolean closed;
+
+  private JournalReader(Path directory) {
+    this.directory = directory;
+    segmentIndex = -1;
+    recordPosition = -1;
+  }
+
+  /**
+   * Opens a reader positioned before the first record of a journal.
+   *
+   * @param directory the directory of the journal's files
+   * @return a new instance
+   * @throws IOException when the files cannot be listed or mapped
+   */
+  public static JournalReader open(Path directory) throws IOException {
+    var reader = new JournalReader(directory);
+    reader.segments = JournalSegment.list(directory);
+    if (reader.segments.length > 0) {
+      reader.openSegment(0);
+    }
+
+    return reader;
+  }
+
+  /**
+   * Moves to the next record.
+   *
+   * @return <code>true</code> if there is a record, <code>false</code> when the end of the
+   *     journal is reached, a later call may find records which were written meanwhile
+   * @throws IOException when a segment cannot be mapped
+   */
+  public boolean next() throws IOException {
+    checkOpen();
+    while (true) {
+      if (buffer != null) {
+        var recordBytes = JournalSegment.getRecordBytes(buffer, position, buffer.limit());
+        if (recordBytes > 0) {
+          recordPosition = position;
+          position += recordBytes;
+          return true;
+        }
+        if (remapGrownSegment()) {
+          continue;
+        }
+      }
+      if (!openNextSegment()) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Positions the reader before a record, the next call of {@link #next()} returns it.
+   *
+   * @param sequence the record's sequence number, the reader stops before the first later
+   *                 record if it does not exist
+   * @throws IOException when a segment cannot be read or mapped
+   */
+  public void seekSequence(long sequence) throws IOException {
+    checkOpen();
+    segments = JournalSegment.list(directory);
+    if (segments.length == 0) {
+      return;
+    }
+
+    var target = 0;
+    for (int i = 1; i < segments.length; i++) {
+      if (segments[i].getBaseSequence() <= sequence) {
+        target = i;
+      }
+    }
+
+    openSegment(target);
+    segments[target].loadIndex(buffer.limit());
+    position = (int) segments[target].findPositionBySequence(sequence);
+    var recordBytes = JournalSegment.getRecordBytes(buffer, position, buffer.limit());
+    while (recordBytes > 0 && JournalSegment.getSequence(buffer, position) < sequence) {
+      position += recordBytes;
+      recordBytes = JournalSegment.getRecordBytes(buffer, position, buffer.limit());
+    }
+  }
+
+  /**
+   * Positions the reader before the first record which is not older than a timestamp, the next
+   * call of {@link #next()} returns it.
+   *
+   * @param timestampMillis the timestamp in milliseconds
+   * @throws IOException when a segment cannot be read or mapped
+   */
+  public void seekTimestamp(long timestampMillis) throws IOException {
+    checkOpen();
+    segments = JournalSegment.list(directory);
+    if (segments.length == 0) {
+      return;
+    }
+
+    var target = 0;
+    for (int i = segments.length - 1; i > 0; i--) {
+      segments[i].loadIndex(Files.size(segments[i].getSegmentPath()));
+      if (segments[i].getFirstTimestamp() < timestampMillis) {
+        target = i;
+        break;
+      }
+    }
+
+    openSegment(target);
+    segments[target].loadIndex(buffer.limit());
+    position = (int) segments[target].findPositionByTimestamp(timestampMillis);
+    var recordBytes = JournalSegment.getRecordBytes(buffer, position, buffer.limit());
+    while (recordBytes > 0 && JournalSegment.getTimestamp(buffer, position) < timestampMillis) {
+      position += recordBytes;
+      recordBytes = JournalSegment.getRecordBytes(buffer, position, buffer.limit());
+    }
+  }
+
+  /**
+   * Retrieves the sequence number of the current record.
+   *
+   * @return the sequence number
+   */
+  public long getSequence() {
+    return JournalSegment.getSequence(buffer, checkRecord());
+  }
+
+  /**
+   * Retrieves the timestamp of the current record.
+   *
+   * @return the timestamp in milliseconds
+   */
+  public long getTimestamp() {
+    return JournalSegment.getTimestamp(buffer, checkRecord());
+  }
+
+  /**
+   * Retrieves the data type of the current record.
+   *
+   * @return the {@link DataType}
+   */
+  public DataType getType() {
+    return DataType.getByValue(JournalSegment.getType(buffer, checkRecord()));
+  }
+
+  /**
+   * Retrieves the encoded collection of the current record without copying it. The buffer is
+   * only valid until the reader is closed.
+   *
+   * @return a read-only view of the mapped binaries
+   */
+  public ByteBuffer getPayload() {
+    return JournalSegment.getPayload(buffer, checkRecord());
+  }
+
+  /**
+   * Decodes the collection of the current record straight from the mapped file.
+   *
+   * @return a new {@link DataCollection}
+   */
+  public DataCollection getCollection() {
+    return DataUtility.binariesToCollection(getType(), getPayload());
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    buffer = null;
+    recordPosition = -1;
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  private boolean remapGrownSegment() throws IOException {
+    if (channel.size() <= buffer.limit()) {
+      return false;
+    }
+
+    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    return true;
+  }
+
+  /*
+   * A journal writes the last records of a segment before it creates the next one, so the
+   * current segment is checked once more after a new segment was found.
+   */
+  private boolean openNextSegment() throws IOException {
+    if (segmentIndex + 1 >= segments.length) {
+      segments = JournalSegment.list(directory);
+      if (segmentIndex + 1 >= segments.length) {
+        return false;
+      }
+      if (buffer != null && remapGrownSegment()) {
+        return true;
+      }
+    }
+
+    openSegment(segmentIndex + 1);
+    return true;
+  }
+
+  private void openSegment(int index) throws IOException {
+    if (channel != null) {
+      channel.close();
+    }
+
+    segmentIndex = index;
+    channel = FileChannel.open(segments[index].getSegmentPath(), StandardOpenOption.READ);
+    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    position = 0;
+    recordPosition = -1;
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("The reader was closed");
+    }
+  }
+
+  private int checkRecord() {
+    if (recordPosition < 0) {
+      throw new IllegalStateException("There is no current record, call next() first");
+    }
+
+    return recordPosition;
+  }
+}
@@ -0,0 +1,270 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * A segment of a {@link DataJournal}, named after the sequence number of its first record, and
+ * its sparse index.
+ *
+ * <p>A record looks like <code>payload length (4) | checksum (4) | sequence (8) | timestamp (8)
+ * | data type (1) | payload</code>, the CRC32C checksum covers everything after itself. An
+ * entry of the index file looks like <code>sequence (8) | timestamp (8) | position (8)</code>
+ * and points at a record of the segment, the first record of a segment is always indexed.
+ */
+final class JournalSegment {
+
+  static final int RECORD_HEADER_BYTES = 25;
+  static final int INDEX_ENTRY_BYTES = 24;
+
+  private static final String SEGMENT_SUFFIX = ".journal";
+  private static final String INDEX_SUFFIX = ".index";
+  private static final String NAME_FORMAT = "%020d";
+  private static final int CHECKSUM_OFFSET = 4;
+  private static final int SEQUENCE_OFFSET = 8;
+  private static final int TIMESTAMP_OFFSET = 16;
+  private static final int TYPE_OFFSET = 24;
+  private static final int DEFAULT_INDEX_ENTRIES = 16;
+
+  private final long baseSequence;
+  private final Path segmentPath;
+  private final Path indexPath;
+  private long[] sequences;
+  private long[] timestamps;
+  private long[] positions;
+  private int indexSize;
+
+  JournalSegment(Path directory, long baseSequence) {
+    this.baseSequence = baseSequence;
+    var name = String.format(NAME_FORMAT, baseSequence);
+    segmentPath = directory.resolve(name + SEGMENT_SUFFIX);
+    indexPath = directory.resolve(name + INDEX_SUFFIX);
+    sequences = new long[DEFAULT_INDEX_ENTRIES];
+    timestamps = new long[DEFAULT_INDEX_ENTRIES];
+    positions = new long[DEFAULT_INDEX_ENTRIES];
+  }
+
+  /**
+   * Lists the segments of a journal.
+   *
+   * @param directory the journal's directory
+   * @return the segments, ordered by their sequence numbers
+   * @throws IOException when the directory cannot be listed
+   */
+  static JournalSegment[] list(Path directory) throws IOException {
+    try (var files = Files.list(directory)) {
+      return files.map(path -> path.getFileName().toString())
+          .filter(name -> name.endsWith(SEGMENT_SUFFIX)
+              && name.length() == SEGMENT_SUFFIX.length() + 20
+              && name.chars().limit(20).allMatch(Character::isDigit))
+          .mapToLong(name -> Long.parseLong(name.substring(0, 20)))
+          .sorted()
+          .mapToObj(baseSequence -> new JournalSegment(directory, baseSequence))
+          .toArray(JournalSegment[]::new);
+    }
+  }
+
+  /**
+   * Writes a record's header in front of its payload.
+   *
+   * @param buffer    the buffer, the header is put at its position
+   * @param sequence  the record's sequence number
+   * @param timestamp the record's timestamp
+   * @param type      the value of the payload's data type
+   * @param payload   the payload, from its position to its limit, which are not changed
+   */
+  static void putRecordHeader(ByteBuffer buffer, long sequence, long timestamp, byte type,
+                              ByteBuffer payload) {
+    var crc = new CRC32C();
+    var position = buffer.position();
+    buffer.putInt(payload.remaining()).putInt(0).putLong(sequence).putLong(timestamp).put(type);
+    crc.update(buffer.slice(position + SEQUENCE_OFFSET, RECORD_HEADER_BYTES - SEQUENCE_OFFSET));
+    crc.update(payload.duplicate());
+    buffer.putInt(position + CHECKSUM_OFFSET, (int) crc.getValue());
+  }
+
+  /**
+   * Checks a record, e.g. the last one written before a crash could be incomplete.
+   *
+   * @param buffer   the buffer which holds the segment from its beginning
+   * @param position the record's position
+   * @param limit    the end of the readable bytes
+   * @return the record's size in bytes, or <code>-1</code> if it is incomplete or corrupted
+   */
+  static int getRecordBytes(ByteBuffer buffer, int position, int limit) {
+    if (position + RECORD_HEADER_BYTES > limit) {
+      return -1;
+    }
+    var payloadLength = buffer.getInt(position);
+    if (payloadLength < 0 || payloadLength > limit - position - RECORD_HEADER_BYTES) {
+      return -1;
+    }
+
+    var crc = new CRC32C();
+    crc.update(buffer.slice(position + SEQUENCE_OFFSET,
+        RECORD_HEADER_BYTES - SEQUENCE_OFFSET + payloadLength));
+    return (int) crc.getValue() == buffer.getInt(position + CHECKSUM_OFFSET)
+        ? RECORD_HEADER_BYTES + payloadLength : -1;
+  }
+
+  static long getSequence(ByteBuffer buffer, int position) {
+    return buffer.getLong(position + SEQUENCE_OFFSET);
+  }
+
+  static long getTimestamp(ByteBuffer buffer, int position) {
+    return buffer.getLong(position + TIMESTAMP_OFFSET);
+  }
+
+  static byte getType(ByteBuffer buffer, int position) {
+    return buffer.get(position + TYPE_OFFSET);
+  }
+
+  static ByteBuffer getPayload(ByteBuffer buffer, int position) {
+    return buffer.slice(position + RECORD_HEADER_BYTES, buffer.getInt(position))
+        .asReadOnlyBuffer();
+  }
+
+  long getBaseSequence() {
+    return baseSequence;
+  }
+
+  Path getSegmentPath() {
+    return segmentPath;
+  }
+
+  Path getIndexPath() {
+    return indexPath;
+  }
+
+  int getIndexSize() {
+    return indexSize;
+  }
+
+  /**
+   * Retrieves the timestamp of the segment's first record.
+   *
+   * @return the timestamp, or {@link Long#MAX_VALUE} if nothing was indexed
+   */
+  long getFirstTimestamp() {
+    return indexSize == 0 ? Long.MAX_VALUE : timestamps[0];
+  }
+
+  long getLastIndexedPosition() {
+    return indexSize == 0 ? -1 : positions[indexSize - 1];
+  }
+
+  /**
+   * Reads the index file, a missing file or an incomplete last entry is ignored.
+   *
+   * @param segmentBytes the valid size of the segment, entries after it are dropped
+   * @throws IOException when the file cannot be read
+   */
+  void loadIndex(long segmentBytes) throws IOException {
+    indexSize = 0;
+    if (!Files.isRegularFile(indexPath)) {
+      return;
+    }
+
+    var binaries = Files.readAllBytes(indexPath);
+    var entries = binaries.length / INDEX_ENTRY_BYTES;
+    var buffer = ByteBuffer.wrap(binaries);
+    for (int i = 0; i < entries; i++) {
+      var sequence = buffer.getLong();
+      var timestamp = buffer.getLong();
+      var position = buffer.getLong();
+      if (position >= segmentBytes) {
+        break;
+      }
+      addIndexEntry(sequence, timestamp, position);
+    }
+  }
+
+  void removeLastIndexEntry() {
+    indexSize--;
+  }
+
+  void addIndexEntry(long sequence, long timestamp, long position) {
+    if (indexSize == sequences.length) {
+      sequences = Arrays.copyOf(sequences, indexSize * 2);
+      timestamps = Arrays.copyOf(timestamps, indexSize * 2);
+      positions = Arrays.copyOf(positions, indexSize * 2);
+    }
+
+    sequences[indexSize] = sequence;
+    timestamps[indexSize] = timestamp;
+    positions[indexSize] = position;
+    indexSize++;
+  }
+
+  /**
+   * Encodes index entries as they are stored in the index file.
+   *
+   * @param fromEntry the first entry
+   * @return a buffer of the entries from the first one to the last one
+   */
+  ByteBuffer getIndexEntries(int fromEntry) {
+    var buffer = ByteBuffer.allocate((indexSize - fromEntry) * INDEX_ENTRY_BYTES);
+    for (int i = fromEntry; i < indexSize; i++) {
+      buffer.putLong(sequences[i]).putLong(timestamps[i]).putLong(positions[i]);
+    }
+
+    return buffer.flip();
+  }
+
+  /**
+   * Finds the indexed record to start from when looking for a sequence number.
+   *
+   * @param sequence the sequence number
+   * @return the position of the last indexed record which is not after it, or <code>0</code>
+   */
+  long findPositionBySequence(long sequence) {
+    return findPosition(sequences, sequence);
+  }
+
+  /**
+   * Finds the indexed record to start from when looking for a timestamp.
+   *
+   * @param timestamp the timestamp
+   * @return the position of the last indexed record which is before it, or <code>0</code>
+   */
+  long findPositionByTimestamp(long timestamp) {
+    return findPosition(timestamps, timestamp - 1);
+  }
+
+  private long findPosition(long[] keys, long key) {
+    var index = Arrays.binarySearch(keys, 0, indexSize, key);
+    if (index < 0) {
+      index = -index - 2;
+    }
+
+    return index < 0 ? 0 : positions[index];
+  }
+}
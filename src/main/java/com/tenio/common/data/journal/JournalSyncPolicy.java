@@ -0,0 +1,46 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.journal;
+
+/**
+ * Decides when a {@link DataJournal} forces its written records to the disk.
+ */
+public enum JournalSyncPolicy {
+
+  /**
+   * Leaves it to the operating system, records are only forced when the journal is flushed
+   * explicitly, rolls over to a new segment or is closed. A crash of the process loses nothing
+   * which was written, a crash of the machine may lose the latest records.
+   */
+  NONE,
+  /**
+   * Forces the records every time a batch is written.
+   */
+  BATCH,
+  /**
+   * Writes and forces every record as it is appended, the safest and slowest choice.
+   */
+  ALWAYS
+}
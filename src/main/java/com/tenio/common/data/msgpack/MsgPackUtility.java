@@ -28,6 +28,7 @@ import com.tenio.common.data.msgpack.element.MsgPackMap;
 import com.tenio.common.exception.MsgPackOperationException;
 import com.tenio.common.exception.UnsupportedMsgPackDataTypeException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import org.msgpack.core.MessageBufferPacker;
 import org.msgpack.core.MessagePack;
@@ -72,6 +73,26 @@ public final class MsgPackUtility {
     return MsgPackConverter.unpack(binaries);
   }
 
+  /**
+   * Deserialize the remaining bytes of a buffer to a {@link MsgPackMap} object, the buffer is
+   * not changed. The bytes of a heap buffer are read in place, the ones of a direct or
+   * memory-mapped buffer are copied first because the MsgPack tool cannot access them without
+   * opening JDK internals.
+   *
+   * @param binaries a buffer of bytes data, read from its position to its limit
+   * @return a message object in {@link MsgPackMap} type
+   */
+  public static MsgPackMap deserialize(ByteBuffer binaries) {
+    if (binaries.hasArray()) {
+      return MsgPackConverter.unpack(MessagePack.newDefaultUnpacker(binaries.array(),
+          binaries.arrayOffset() + binaries.position(), binaries.remaining()));
+    }
+
+    var copy = new byte[binaries.remaining()];
+    binaries.get(binaries.position(), copy);
+    return MsgPackConverter.unpack(copy);
+  }
+
   /**
    * Retrieves new instance of the {@link MsgPackMap} class.
    *
@@ -198,7 +219,16 @@ class MsgPackConverter {
    * @return an object in map type
    */
   public static MsgPackMap unpack(byte[] binaries) {
-    MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(binaries);
+    return unpack(MessagePack.newDefaultUnpacker(binaries));
+  }
+
+  /**
+   * Converting the data of an unpacker to a {@link MsgPackMap} object.
+   *
+   * @param unpacker an instance of {@link MessageUnpacker}
+   * @return an object in map type
+   */
+  public static MsgPackMap unpack(MessageUnpacker unpacker) {
     MsgPackMap msgPackMap;
     try {
       int size = unpacker.unpackMapHeader();
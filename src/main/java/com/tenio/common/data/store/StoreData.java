@@ -0,0 +1,367 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32C;
+
+/**
+ * The data file of a {@link ZeroStore}. The file is mapped in regions of a fixed size and
+ * records are appended one after another, a record never crosses the end of its region.
+ *
+ * <p>The file starts with a header: <code>magic (4) | version (4) | region bytes (4) |
+ * unused (4) | generation (8) | unused (8)</code>. A record looks like <code>status (1) |
+ * unused (1) | key length (2) | capacity (4) | value length (4) | checksum (4) | key |
+ * value</code> and is padded to 8 bytes. The status is written last, so a record which was not
+ * completely appended is never seen as live. The CRC32C checksum covers the lengths, the key and
+ * the value, a live record whose value was torn by a crash while it was replaced in place fails
+ * it and is dropped when the file is scanned.
+ */
+final class StoreData {
+
+  static final int MAGIC = 0x5A445441;
+  static final int FORMAT_VERSION = 2;
+  static final int HEADER_BYTES = 32;
+  static final int RECORD_HEADER_BYTES = 16;
+
+  private static final byte STATUS_EMPTY = 0;
+  private static final byte STATUS_LIVE = 1;
+  private static final byte STATUS_DEAD = 2;
+  private static final int REGION_BYTES_OFFSET = 8;
+  private static final int GENERATION_OFFSET = 16;
+  private static final int KEY_LENGTH_OFFSET = 2;
+  private static final int CAPACITY_OFFSET = 4;
+  private static final int VALUE_LENGTH_OFFSET = 8;
+  private static final int CHECKSUM_OFFSET = 12;
+  private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+  private static final long FNV_PRIME = 0x100000001B3L;
+
+  private final FileChannel channel;
+  private final List<MappedByteBuffer> regions;
+  private final int regionBytes;
+  private final long generation;
+  private long tail;
+
+  private StoreData(FileChannel channel, int regionBytes, long generation) {
+    this.channel = channel;
+    this.regionBytes = regionBytes;
+    this.generation = generation;
+    regions = new ArrayList<>();
+    tail = HEADER_BYTES;
+  }
+
+  /**
+   * Opens a data file, a new one is created when it does not exist.
+   *
+   * @param path        the file's path
+   * @param regionBytes the size of a mapped region for a new file, an existing file keeps the
+   *                    size it was created with
+   * @return a new instance, its tail must be set or found by {@link #scan(LongConsumer)}
+   * @throws IOException when the file cannot be read or mapped
+   */
+  static StoreData open(Path path, int regionBytes) throws IOException {
+    var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    try {
+      if (channel.size() == 0) {
+        var data = new StoreData(channel, regionBytes, ThreadLocalRandom.current().nextLong());
+        var header = data.mapRegion(0);
+        header.putInt(0, MAGIC);
+        header.putInt(Integer.BYTES, FORMAT_VERSION);
+        header.putInt(REGION_BYTES_OFFSET, regionBytes);
+        header.putLong(GENERATION_OFFSET, data.generation);
+        return data;
+      }
+
+      var header = ByteBuffer.allocate(HEADER_BYTES);
+      channel.read(header, 0);
+      if (header.hasRemaining() || header.getInt(0) != MAGIC
+          || header.getInt(Integer.BYTES) != FORMAT_VERSION) {
+        throw new IOException(String.format("Unable to recognize the store data file: %s", path));
+      }
+
+      var data = new StoreData(channel, header.getInt(REGION_BYTES_OFFSET),
+          header.getLong(GENERATION_OFFSET));
+      var regionCount = (int) ((channel.size() + data.regionBytes - 1) / data.regionBytes);
+      for (int i = 0; i < regionCount; i++) {
+        data.mapRegion(i);
+      }
+      return data;
+    } catch (IOException | RuntimeException exception) {
+      channel.close();
+      throw exception;
+    }
+  }
+
+  /**
+   * Hashes the UTF-8 bytes of a key with FNV-1a, never returns <code>0</code>.
+   *
+   * @param key the key's bytes
+   * @return the hash
+   */
+  static long hash(byte[] key) {
+    var hash = FNV_OFFSET_BASIS;
+    for (var value : key) {
+      hash = (hash ^ (value & 0xFF)) * FNV_PRIME;
+    }
+
+    return hash == 0 ? 1 : hash;
+  }
+
+  static int getRecordBytes(int keyLength, int capacity) {
+    return (RECORD_HEADER_BYTES + keyLength + capacity + Long.BYTES - 1) & -Long.BYTES;
+  }
+
+  int getRecordBytes(long offset) {
+    var region = getRegion(offset);
+    var position = (int) (offset % regionBytes);
+    return getRecordBytes(region.getShort(position + KEY_LENGTH_OFFSET),
+        region.getInt(position + CAPACITY_OFFSET));
+  }
+
+  int getRegionBytes() {
+    return regionBytes;
+  }
+
+  long getGeneration() {
+    return generation;
+  }
+
+  long getTail() {
+    return tail;
+  }
+
+  void setTail(long tail) {
+    this.tail = tail;
+  }
+
+  /**
+   * Retrieves the largest value which can be stored with a key.
+   *
+   * @param keyLength the length of the key in bytes
+   * @return the maximum value length in bytes
+   */
+  int getMaxValueBytes(int keyLength) {
+    return (regionBytes - HEADER_BYTES - RECORD_HEADER_BYTES - keyLength) & -Long.BYTES;
+  }
+
+  /**
+   * Appends a live record at the tail.
+   *
+   * @param key      the key's bytes
+   * @param value    the value, from its position to its limit, which are not changed
+   * @param capacity the room reserved for the value, not less than its length
+   * @return the record's offset
+   * @throws UncheckedIOException when a new region cannot be mapped
+   */
+  long append(byte[] key, ByteBuffer value, int capacity) {
+    var recordBytes = getRecordBytes(key.length, capacity);
+    if (tail % regionBytes + recordBytes > regionBytes) {
+      tail = (tail / regionBytes + 1) * regionBytes;
+    }
+
+    var offset = tail;
+    var regionIndex = (int) (offset / regionBytes);
+    if (regionIndex == regions.size()) {
+      try {
+        mapRegion(regionIndex);
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    }
+
+    var region = regions.get(regionIndex);
+    var position = (int) (offset % regionBytes);
+    region.putShort(position + KEY_LENGTH_OFFSET, (short) key.length);
+    region.putInt(position + CAPACITY_OFFSET, capacity);
+    region.putInt(position + VALUE_LENGTH_OFFSET, value.remaining());
+    region.put(position + RECORD_HEADER_BYTES, key);
+    region.put(position + RECORD_HEADER_BYTES + key.length, value, value.position(),
+        value.remaining());
+    region.putInt(position + CHECKSUM_OFFSET, computeChecksum(region, position));
+    region.put(position, STATUS_LIVE);
+    tail = offset + recordBytes;
+
+    return offset;
+  }
+
+  /**
+   * Appends a copy of a live record of another data file, keeping its capacity.
+   *
+   * @param source the other data file
+   * @param offset the record's offset in the other data file
+   * @return the new record's offset
+   */
+  long append(StoreData source, long offset) {
+    return append(source.getKey(offset), source.getValue(offset), source.getCapacity(offset));
+  }
+
+  /**
+   * Replaces the value of a record in place, its checksum is updated last.
+   *
+   * @param offset the record's offset
+   * @param value  the new value, not longer than the record's capacity
+   */
+  void rewrite(long offset, byte[] value) {
+    var region = getRegion(offset);
+    var position = (int) (offset % regionBytes);
+    var keyLength = region.getShort(position + KEY_LENGTH_OFFSET);
+    region.put(position + RECORD_HEADER_BYTES + keyLength, value);
+    region.putInt(position + VALUE_LENGTH_OFFSET, value.length);
+    region.putInt(position + CHECKSUM_OFFSET, computeChecksum(region, position));
+  }
+
+  void markDead(long offset) {
+    getRegion(offset).put((int) (offset % regionBytes), STATUS_DEAD);
+  }
+
+  boolean isLive(long offset) {
+    return getRegion(offset).get((int) (offset % regionBytes)) == STATUS_LIVE;
+  }
+
+  int getCapacity(long offset) {
+    return getRegion(offset).getInt((int) (offset % regionBytes) + CAPACITY_OFFSET);
+  }
+
+  byte[] getKey(long offset) {
+    var region = getRegion(offset);
+    var position = (int) (offset % regionBytes);
+    var key = new byte[region.getShort(position + KEY_LENGTH_OFFSET)];
+    region.get(position + RECORD_HEADER_BYTES, key);
+
+    return key;
+  }
+
+  boolean keyEquals(long offset, byte[] key) {
+    var region = getRegion(offset);
+    var position = (int) (offset % regionBytes);
+    if (region.getShort(position + KEY_LENGTH_OFFSET) != key.length) {
+      return false;
+    }
+
+    for (int i = 0; i < key.length; i++) {
+      if (region.get(position + RECORD_HEADER_BYTES + i) != key[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Retrieves a record's value without copying it.
+   *
+   * @param offset the record's offset
+   * @return a read-only view of the mapped value
+   */
+  ByteBuffer getValue(long offset) {
+    var region = getRegion(offset);
+    var position = (int) (offset % regionBytes);
+    var keyLength = region.getShort(position + KEY_LENGTH_OFFSET);
+
+    return region.slice(position + RECORD_HEADER_BYTES + keyLength,
+        region.getInt(position + VALUE_LENGTH_OFFSET)).asReadOnlyBuffer();
+  }
+
+  /**
+   * Visits all records, live or dead, in the order they were appended and moves the tail after
+   * the last one. A live record which fails its checksum is marked dead before it is visited.
+   *
+   * @param consumer receives the offset of every record
+   */
+  void scan(LongConsumer consumer) {
+    tail = HEADER_BYTES;
+    for (int i = 0; i < regions.size(); i++) {
+      var region = regions.get(i);
+      var position = i == 0 ? HEADER_BYTES : 0;
+      while (position + RECORD_HEADER_BYTES <= regionBytes) {
+        var status = region.get(position);
+        var keyLength = region.getShort(position + KEY_LENGTH_OFFSET);
+        var capacity = region.getInt(position + CAPACITY_OFFSET);
+        if (status == STATUS_EMPTY || keyLength < 0 || capacity < 0
+            || position + (long) getRecordBytes(keyLength, capacity) > regionBytes) {
+          break;
+        }
+
+        var offset = (long) i * regionBytes + position;
+        if (status == STATUS_LIVE && !isIntact(region, position)) {
+          region.put(position, STATUS_DEAD);
+        }
+        consumer.accept(offset);
+        position += getRecordBytes(keyLength, capacity);
+        tail = offset + getRecordBytes(keyLength, capacity);
+      }
+    }
+  }
+
+  void force() {
+    regions.forEach(MappedByteBuffer::force);
+  }
+
+  void close() throws IOException {
+    channel.close();
+  }
+
+  private static boolean isIntact(MappedByteBuffer region, int position) {
+    var valueLength = region.getInt(position + VALUE_LENGTH_OFFSET);
+    if (valueLength < 0 || valueLength > region.getInt(position + CAPACITY_OFFSET)) {
+      return false;
+    }
+
+    return computeChecksum(region, position) == region.getInt(position + CHECKSUM_OFFSET);
+  }
+
+  private static int computeChecksum(MappedByteBuffer region, int position) {
+    var crc = new CRC32C();
+    crc.update(region.slice(position + KEY_LENGTH_OFFSET, CHECKSUM_OFFSET - KEY_LENGTH_OFFSET));
+    crc.update(region.slice(position + RECORD_HEADER_BYTES,
+        region.getShort(position + KEY_LENGTH_OFFSET)
+            + region.getInt(position + VALUE_LENGTH_OFFSET)));
+
+    return (int) crc.getValue();
+  }
+
+  private MappedByteBuffer getRegion(long offset) {
+    return regions.get((int) (offset / regionBytes));
+  }
+
+  private MappedByteBuffer mapRegion(int regionIndex) throws IOException {
+    var region = channel.map(FileChannel.MapMode.READ_WRITE, (long) regionIndex * regionBytes,
+        regionBytes);
+    regions.add(region);
+
+    return region;
+  }
+}
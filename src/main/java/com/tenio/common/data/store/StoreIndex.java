@@ -0,0 +1,268 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.store;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongPredicate;
+
+/**
+ * The hash index of a {@link ZeroStore}, an open addressing table with linear probing which
+ * lives in a memory-mapped file, outside of the Java heap. Every slot holds the hash of a key
+ * and the offset of its record in the data file, so a lookup only touches the data file to
+ * confirm the key of a slot with the same hash.
+ *
+ * <p>The file starts with a header: <code>magic (4) | version (4) | state (4) | capacity (4) |
+ * size (4) | deleted slots (4) | data generation (8) | tail (8) | live bytes (8) | dead bytes
+ * (8)</code>. The state is only clean after the store was closed properly, an index which is
+ * not clean or belongs to another generation of the data file is rebuilt.
+ */
+final class StoreIndex {
+
+  static final int MIN_CAPACITY = 1024;
+
+  private static final int MAGIC = 0x5A494458;
+  private static final int FORMAT_VERSION = 1;
+  private static final int STATE_OPEN = 0;
+  private static final int STATE_CLEAN = 1;
+  private static final int HEADER_BYTES = 64;
+  private static final int SLOT_BYTES = 16;
+  private static final long DELETED = -1L;
+  private static final int STATE_OFFSET = 8;
+  private static final int CAPACITY_OFFSET = 12;
+  private static final int SIZE_OFFSET = 16;
+  private static final int DELETED_OFFSET = 20;
+  private static final int GENERATION_OFFSET = 24;
+  private static final int TAIL_OFFSET = 32;
+  private static final int LIVE_BYTES_OFFSET = 40;
+  private static final int DEAD_BYTES_OFFSET = 48;
+  private static final float MAX_LOAD_FACTOR = 0.7f;
+
+  private final MappedByteBuffer buffer;
+  private final int capacity;
+  private final int mask;
+  private int size;
+  private int deleted;
+
+  private StoreIndex(MappedByteBuffer buffer) {
+    this.buffer = buffer;
+    capacity = buffer.getInt(CAPACITY_OFFSET);
+    mask = capacity - 1;
+    size = buffer.getInt(SIZE_OFFSET);
+    deleted = buffer.getInt(DELETED_OFFSET);
+  }
+
+  /**
+   * Creates a new empty index, an existing file is overwritten.
+   *
+   * @param path       the file's path
+   * @param entries    the number of entries the index should hold without growing
+   * @param generation the generation of the data file
+   * @return a new instance
+   * @throws IOException when the file cannot be created or mapped
+   */
+  static StoreIndex create(Path path, int entries, long generation) throws IOException {
+    var capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(
+        (int) Math.min(1 << 25, (long) Math.ceil(entries / MAX_LOAD_FACTOR))) << 1);
+    try (var channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+          HEADER_BYTES + (long) capacity * SLOT_BYTES);
+      buffer.putInt(0, MAGIC);
+      buffer.putInt(Integer.BYTES, FORMAT_VERSION);
+      buffer.putInt(STATE_OFFSET, STATE_OPEN);
+      buffer.putInt(CAPACITY_OFFSET, capacity);
+      buffer.putLong(GENERATION_OFFSET, generation);
+
+      return new StoreIndex(buffer);
+    }
+  }
+
+  /**
+   * Loads an index which was closed properly.
+   *
+   * @param path       the file's path
+   * @param generation the generation of the data file
+   * @return the index, or <code>null</code> when it does not exist, was not closed properly or
+   *     belongs to another data file
+   * @throws IOException when the file cannot be mapped
+   */
+  static StoreIndex load(Path path, long generation) throws IOException {
+    if (!Files.isRegularFile(path) || Files.size(path) < HEADER_BYTES) {
+      return null;
+    }
+
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+      var capacity = buffer.getInt(CAPACITY_OFFSET);
+      if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != FORMAT_VERSION
+          || buffer.getInt(STATE_OFFSET) != STATE_CLEAN
+          || buffer.getLong(GENERATION_OFFSET) != generation || Integer.bitCount(capacity) != 1
+          || channel.size() != HEADER_BYTES + (long) capacity * SLOT_BYTES) {
+        return null;
+      }
+
+      return new StoreIndex(buffer);
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  long getTail() {
+    return buffer.getLong(TAIL_OFFSET);
+  }
+
+  long getLiveBytes() {
+    return buffer.getLong(LIVE_BYTES_OFFSET);
+  }
+
+  long getDeadBytes() {
+    return buffer.getLong(DEAD_BYTES_OFFSET);
+  }
+
+  /**
+   * Determines whether the index should be rebuilt with a larger capacity.
+   *
+   * @return <code>true</code> when the used and deleted slots exceed the load factor
+   */
+  boolean isFull() {
+    return size + deleted > capacity * MAX_LOAD_FACTOR;
+  }
+
+  /**
+   * Finds the slot of a key.
+   *
+   * @param hash    the key's hash
+   * @param matches confirms that the record at an offset has the key
+   * @return the slot, or <code>-1</code> when the key is absent
+   */
+  int find(long hash, LongPredicate matches) {
+    for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+      var slotHash = getHash(slot);
+      if (slotHash == 0) {
+        return -1;
+      }
+      var location = getLocation(slot);
+      if (slotHash == hash && location != DELETED && matches.test(location)) {
+        return slot;
+      }
+    }
+  }
+
+  /**
+   * Adds a key which is not in the index yet.
+   *
+   * @param hash     the key's hash
+   * @param location the offset of its record
+   */
+  void insert(long hash, long location) {
+    var slot = (int) hash & mask;
+    while (getHash(slot) != 0 && getLocation(slot) != DELETED) {
+      slot = (slot + 1) & mask;
+    }
+
+    if (getHash(slot) != 0) {
+      deleted--;
+      buffer.putInt(DELETED_OFFSET, deleted);
+    }
+    buffer.putLong(HEADER_BYTES + slot * SLOT_BYTES, hash);
+    setLocation(slot, location);
+    size++;
+    buffer.putInt(SIZE_OFFSET, size);
+  }
+
+  void delete(int slot) {
+    setLocation(slot, DELETED);
+    size--;
+    deleted++;
+    buffer.putInt(SIZE_OFFSET, size);
+    buffer.putInt(DELETED_OFFSET, deleted);
+  }
+
+  long getLocation(int slot) {
+    return buffer.getLong(HEADER_BYTES + slot * SLOT_BYTES + Long.BYTES);
+  }
+
+  void setLocation(int slot, long location) {
+    buffer.putLong(HEADER_BYTES + slot * SLOT_BYTES + Long.BYTES, location);
+  }
+
+  /**
+   * Retrieves the record offsets of all keys.
+   *
+   * @return the offsets in slot order
+   */
+  long[] getLocations() {
+    var locations = new long[size];
+    var index = 0;
+    for (int slot = 0; slot < capacity; slot++) {
+      if (getHash(slot) != 0 && getLocation(slot) != DELETED) {
+        locations[index++] = getLocation(slot);
+      }
+    }
+
+    return locations;
+  }
+
+  /**
+   * Marks the index as in use, so it is rebuilt if the process stops before it is closed.
+   */
+  void markOpen() {
+    buffer.putInt(STATE_OFFSET, STATE_OPEN);
+    buffer.force();
+  }
+
+  /**
+   * Stores the state of the data file and marks the index as clean.
+   *
+   * @param tail      the tail of the data file
+   * @param liveBytes the size of the live records
+   * @param deadBytes the size of the dead records
+   */
+  void markClean(long tail, long liveBytes, long deadBytes) {
+    buffer.putLong(TAIL_OFFSET, tail);
+    buffer.putLong(LIVE_BYTES_OFFSET, liveBytes);
+    buffer.putLong(DEAD_BYTES_OFFSET, deadBytes);
+    buffer.force();
+    buffer.putInt(STATE_OFFSET, STATE_CLEAN);
+    buffer.force();
+  }
+
+  void force() {
+    buffer.force();
+  }
+
+  private long getHash(int slot) {
+    return buffer.getLong(HEADER_BYTES + slot * SLOT_BYTES);
+  }
+}
@@ -0,0 +1,642 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.store;
+
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import com.tenio.common.logger.SystemLogger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * An embedded key-value store which keeps encoded {@link ZeroMap}s in memory-mapped files on the
+ * local file system, e.g. for player profiles on a single node or as a local cache.
+ *
+ * <p>Values live in an append-only data file and are found through a hash index which is
+ * mapped from its own file, neither of them is kept on the Java heap. A value is replaced in
+ * place when the new binaries fit in the room reserved for it, otherwise it is appended again
+ * and the old record becomes garbage. Once the garbage exceeds the compaction ratio of the data
+ * file, the live records are copied to a new data file in the background.
+ *
+ * <p>Opening a store which was closed properly only maps its files. After a crash, the index is
+ * rebuilt by scanning the data file. Changes reach the disk when the operating system writes
+ * the mapped pages back, {@link #flush()} forces them.
+ *
+ * <p>An instance is thread-safe: reads run in parallel and writes are exclusive. A compaction
+ * copies the live records in small batches beside the reads and writes, and only blocks the
+ * store to apply the changes made meanwhile and to swap the files. The store relies on replacing
+ * mapped files, which is supported on Linux and other POSIX file systems.
+ */
+public final class ZeroStore extends SystemLogger implements Closeable {
+
+  /**
+   * The default size of a mapped region of the data file in bytes, also the limit of a record.
+   */
+  public static final int DEFAULT_REGION_BYTES = 64 << 20;
+  /**
+   * The default share of garbage in the data file which triggers a compaction.
+   */
+  public static final double DEFAULT_COMPACTION_RATIO = 0.5;
+
+  private static final String DATA_FILE = "zero-store.data";
+  private static final String INDEX_FILE = "zero-store.index";
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+  private static final String GROWING_SUFFIX = ".grow";
+  private static final int VALUE_SLACK_SHIFT = 2;
+  private static final int MIN_REGION_BYTES = 4096;
+  private static final int COMPACTION_BATCH_RECORDS = 256;
+
+  private final Path dataPath;
+  private final Path indexPath;
+  private final double compactionRatio;
+  private final long minCompactionBytes;
+  private final ReadWriteLock lock;
+  private final Lock compactionLock;
+  private final ExecutorService compactor;
+  private StoreData data;
+  private StoreIndex index;
+  private long liveBytes;
+  private long deadBytes;
+  private boolean compactionScheduled;
+  // the records replaced in place while a compaction copies them, null when none is running
+  private Set<Long> rewrittenLocations;
+  private volatile boolean closed;
+
+  private ZeroStore(Path directory, StoreData data, double compactionRatio) {
+    dataPath = directory.resolve(DATA_FILE);
+    indexPath = directory.resolve(INDEX_FILE);
+    this.data = data;
+    this.compactionRatio = compactionRatio;
+    minCompactionBytes = data.getRegionBytes() / 4;
+    lock = new ReentrantReadWriteLock();
+    compactionLock = new ReentrantLock();
+    compactor = Executors.newSingleThreadExecutor(runnable -> {
+      var thread = new Thread(runnable, "zero-store-compactor");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Opens a store with the default settings, see {@link #open(Path, int, double)}.
+   *
+   * @param directory the directory of the store's files
+   * @return a new instance
+   * @throws IOException when the files cannot be created, read or mapped
+   */
+  public static ZeroStore open(Path directory) throws IOException {
+    return open(directory, DEFAULT_REGION_BYTES, DEFAULT_COMPACTION_RATIO);
+  }
+
+  /**
+   * Opens a store, its files are created when they do not exist.
+   *
+   * @param directory       the directory of the store's files
+   * @param regionBytes     the size of a mapped region for a new store, a multiple of 4096
+   *                        bytes. An existing store keeps the size it was created with
+   * @param compactionRatio the share of garbage in the data file which triggers a background
+   *                        compaction, <code>1</code> disables it
+   * @return a new instance
+   * @throws IOException when the files cannot be created, read or mapped
+   */
+  public static ZeroStore open(Path directory, int regionBytes, double compactionRatio)
+      throws IOException {
+    if (regionBytes < MIN_REGION_BYTES || regionBytes % MIN_REGION_BYTES != 0) {
+      throw new IllegalArgumentException(String.format(
+          "The region size must be a positive multiple of %d bytes: %d", MIN_REGION_BYTES,
+          regionBytes));
+    }
+    if (compactionRatio <= 0 || compactionRatio > 1) {
+      throw new IllegalArgumentException(
+          String.format("The compaction ratio must be in (0, 1]: %f", compactionRatio));
+    }
+
+    Files.createDirectories(directory);
+    var store = new ZeroStore(directory,
+        StoreData.open(directory.resolve(DATA_FILE), regionBytes), compactionRatio);
+    try {
+      store.loadIndex();
+      store.scheduleCompactionIfNeeded();
+    } catch (IOException | RuntimeException exception) {
+      store.compactor.shutdown();
+      store.data.close();
+      throw exception;
+    }
+
+    return store;
+  }
+
+  /**
+   * Retrieves a decoded copy of a value.
+   *
+   * @param key the key
+   * @return the {@link ZeroMap}, or <code>null</code> if the key is absent
+   */
+  public ZeroMap get(String key) {
+    return read(key, ZeroUtility::binariesToMap);
+  }
+
+  /**
+   * Reads a value in place, without copying its binaries out of the mapped file, e.g. with
+   * {@link com.tenio.common.data.zero.utility.ZeroReader#reset(ByteBuffer)}. The buffer is only
+   * valid inside the reader, it must not be kept.
+   *
+   * @param <T>    the result's type
+   * @param key    the key
+   * @param reader receives a read-only buffer of the value's binaries
+   * @return the reader's result, or <code>null</code> if the key is absent
+   */
+  public <T> T read(String key, Function<ByteBuffer, T> reader) {
+    var keyBytes = encodeKey(key);
+    var hash = StoreData.hash(keyBytes);
+    lock.readLock().lock();
+    try {
+      checkOpen();
+      var slot = index.find(hash, location -> data.keyEquals(location, keyBytes));
+      return slot < 0 ? null : reader.apply(data.getValue(index.getLocation(slot)));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Determines whether a key exists.
+   *
+   * @param key the key
+   * @return <code>true</code> if the key has a value
+   */
+  public boolean containsKey(String key) {
+    return read(key, value -> Boolean.TRUE) != null;
+  }
+
+  /**
+   * Encodes and stores a value, see {@link #put(String, byte[])}.
+   *
+   * @param key   the key
+   * @param value the {@link ZeroMap}
+   */
+  public void put(String key, ZeroMap value) {
+    put(key, ZeroUtility.mapToBinaries(value));
+  }
+
+  /**
+   * Stores the binaries of a value. They overwrite the previous value in place if they fit in
+   * its record, otherwise a new record is appended with some spare room for the value to grow.
+   *
+   * @param key      the key
+   * @param binaries the encoded value
+   * @throws IllegalArgumentException when the key or the value does not fit in a region
+   * @throws UncheckedIOException when the data file cannot be extended
+   */
+  public void put(String key, byte[] binaries) {
+    var keyBytes = encodeKey(key);
+    var maxValueBytes = data.getMaxValueBytes(keyBytes.length);
+    if (binaries.length > maxValueBytes) {
+      throw new IllegalArgumentException(String.format(
+          "The value of key %s exceeds the limit of %d bytes: %d", key, maxValueBytes,
+          binaries.length));
+    }
+
+    var hash = StoreData.hash(keyBytes);
+    lock.writeLock().lock();
+    try {
+      checkOpen();
+      var slot = index.find(hash, location -> data.keyEquals(location, keyBytes));
+      var oldLocation = slot < 0 ? -1 : index.getLocation(slot);
+      if (oldLocation >= 0 && data.getCapacity(oldLocation) >= binaries.length) {
+        data.rewrite(oldLocation, binaries);
+        if (rewrittenLocations != null) {
+          rewrittenLocations.add(oldLocation);
+        }
+        return;
+      }
+
+      var capacity = (int) Math.min(maxValueBytes,
+          binaries.length + (long) (binaries.length >> VALUE_SLACK_SHIFT));
+      var location = data.append(keyBytes, ByteBuffer.wrap(binaries), capacity);
+      liveBytes += data.getRecordBytes(location);
+      if (oldLocation >= 0) {
+        index.setLocation(slot, location);
+        discard(oldLocation);
+        scheduleCompactionIfNeeded();
+      } else {
+        index.insert(hash, location);
+        growIndexIfFull();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes a value.
+   *
+   * @param key the key
+   * @return <code>true</code> if the key had a value
+   */
+  public boolean remove(String key) {
+    var keyBytes = encodeKey(key);
+    var hash = StoreData.hash(keyBytes);
+    lock.writeLock().lock();
+    try {
+      checkOpen();
+      var slot = index.find(hash, location -> data.keyEquals(location, keyBytes));
+      if (slot < 0) {
+        return false;
+      }
+
+      var location = index.getLocation(slot);
+      index.delete(slot);
+      discard(location);
+      scheduleCompactionIfNeeded();
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Retrieves the number of keys.
+   *
+   * @return the number of keys
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      checkOpen();
+      return index.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Retrieves the size of the records which are still in use.
+   *
+   * @return the size in bytes
+   */
+  public long getLiveBytes() {
+    lock.readLock().lock();
+    try {
+      return liveBytes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Retrieves the size of the records which wait to be compacted away.
+   *
+   * @return the size in bytes
+   */
+  public long getDeadBytes() {
+    lock.readLock().lock();
+    try {
+      return deadBytes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Forces all changes to the disk.
+   */
+  public void flush() {
+    lock.writeLock().lock();
+    try {
+      checkOpen();
+      data.force();
+      index.force();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Copies the live records to a new data file and drops the garbage. The records are copied in
+   * batches, reads and writes go on meanwhile and are only blocked while the changes made during
+   * the copy are applied and the files are swapped. This also happens in the background once the
+   * garbage exceeds the compaction ratio.
+   *
+   * @throws IOException when the new files cannot be created or moved
+   */
+  public void compact() throws IOException {
+    compactionLock.lock();
+    try {
+      long[] locations;
+      lock.writeLock().lock();
+      try {
+        checkOpen();
+        compactionScheduled = false;
+        locations = index.getLocations();
+        rewrittenLocations = new HashSet<>();
+      } finally {
+        lock.writeLock().unlock();
+      }
+
+      Arrays.sort(locations);
+      var compactedPath = temporaryPath(dataPath);
+      Files.deleteIfExists(compactedPath);
+      var compacted = StoreData.open(compactedPath, data.getRegionBytes());
+      try {
+        var compactedIndex = StoreIndex.create(temporaryPath(indexPath), locations.length,
+            compacted.getGeneration());
+        var compactedLocations = copyRecords(compacted, compactedIndex, locations);
+        replaceData(compacted, compactedIndex, locations, compactedLocations);
+      } catch (IOException | RuntimeException exception) {
+        // only this thread replaces the data file, it may fail after the files were swapped
+        if (data != compacted) {
+          compacted.close();
+        }
+        lock.writeLock().lock();
+        try {
+          rewrittenLocations = null;
+        } finally {
+          lock.writeLock().unlock();
+        }
+        throw exception;
+      }
+    } finally {
+      compactionLock.unlock();
+    }
+  }
+
+  /**
+   * Forces all changes to the disk and closes the store, a closed store cannot be used anymore.
+   *
+   * @throws IOException when the data file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    lock.writeLock().lock();
+    try {
+      if (closed) {
+        return;
+      }
+
+      closed = true;
+      compactor.shutdown();
+      data.force();
+      index.markClean(data.getTail(), liveBytes, deadBytes);
+      data.close();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void loadIndex() throws IOException {
+    index = StoreIndex.load(indexPath, data.getGeneration());
+    if (index != null) {
+      data.setTail(index.getTail());
+      liveBytes = index.getLiveBytes();
+      deadBytes = index.getDeadBytes();
+    } else {
+      rebuildIndex();
+    }
+    index.markOpen();
+  }
+
+  private void rebuildIndex() throws IOException {
+    if (isInfoEnabled()) {
+      info("ZERO STORE", buildgen("Rebuilding the index of ", dataPath));
+    }
+
+    index = StoreIndex.create(indexPath, StoreIndex.MIN_CAPACITY, data.getGeneration());
+    liveBytes = 0;
+    deadBytes = 0;
+    data.scan(location -> {
+      if (!data.isLive(location)) {
+        deadBytes += data.getRecordBytes(location);
+        return;
+      }
+
+      // a record is appended before the previous one of its key is marked dead
+      var keyBytes = data.getKey(location);
+      var hash = StoreData.hash(keyBytes);
+      var slot = index.find(hash, previous -> data.keyEquals(previous, keyBytes));
+      liveBytes += data.getRecordBytes(location);
+      if (slot >= 0) {
+        var previous = index.getLocation(slot);
+        index.setLocation(slot, location);
+        discard(previous);
+      } else {
+        index.insert(hash, location);
+        growIndexIfFull();
+      }
+    });
+  }
+
+  /*
+   * Every batch holds the read lock, so writers wait for one batch at most, and a record which
+   * is replaced in place after it was copied is remembered to be copied again.
+   */
+  private long[] copyRecords(StoreData compacted, StoreIndex compactedIndex, long[] locations) {
+    var compactedLocations = new long[locations.length];
+    for (int from = 0; from < locations.length; from += COMPACTION_BATCH_RECORDS) {
+      var to = Math.min(locations.length, from + COMPACTION_BATCH_RECORDS);
+      lock.readLock().lock();
+      try {
+        checkOpen();
+        for (int i = from; i < to; i++) {
+          compactedLocations[i] = compacted.append(data, locations[i]);
+          compactedIndex.insert(StoreData.hash(data.getKey(locations[i])),
+              compactedLocations[i]);
+        }
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    return compactedLocations;
+  }
+
+  /*
+   * Applies the changes made while the records were copied: removed and replaced records are
+   * dropped, records replaced in place are copied again and new records are added. Then the
+   * new files take the place of the current ones.
+   */
+  private void replaceData(StoreData compacted, StoreIndex compactedIndex, long[] locations,
+                           long[] compactedLocations) throws IOException {
+    lock.writeLock().lock();
+    try {
+      checkOpen();
+      var currentLocations = index.getLocations();
+      Arrays.sort(currentLocations);
+      var compactedLiveBytes = 0L;
+      var compactedDeadBytes = 0L;
+      for (int i = 0; i < locations.length; i++) {
+        var compactedLocation = compactedLocations[i];
+        var recordBytes = compacted.getRecordBytes(compactedLocation);
+        var current = Arrays.binarySearch(currentLocations, locations[i]) >= 0;
+        if (current && !rewrittenLocations.contains(locations[i])) {
+          compactedLiveBytes += recordBytes;
+          continue;
+        }
+
+        var slot = compactedIndex.find(StoreData.hash(data.getKey(locations[i])),
+            location -> location == compactedLocation);
+        compacted.markDead(compactedLocation);
+        compactedDeadBytes += recordBytes;
+        if (current) {
+          var copiedLocation = compacted.append(data, locations[i]);
+          compactedIndex.setLocation(slot, copiedLocation);
+          compactedLiveBytes += compacted.getRecordBytes(copiedLocation);
+        } else {
+          compactedIndex.delete(slot);
+        }
+      }
+      for (var location : currentLocations) {
+        if (Arrays.binarySearch(locations, location) < 0) {
+          if (compactedIndex.isFull()) {
+            compactedIndex = growIndex(compactedIndex, compacted, temporaryPath(indexPath));
+          }
+          var copiedLocation = compacted.append(data, location);
+          compactedIndex.insert(StoreData.hash(data.getKey(location)), copiedLocation);
+          compactedLiveBytes += compacted.getRecordBytes(copiedLocation);
+        }
+      }
+      compacted.force();
+      compactedIndex.force();
+
+      // the current index is marked open, so a crash between the moves rebuilds the index
+      Files.move(temporaryPath(dataPath), dataPath, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      Files.move(temporaryPath(indexPath), indexPath, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      closeQuietly(data);
+      data = compacted;
+      index = compactedIndex;
+      liveBytes = compactedLiveBytes;
+      deadBytes = compactedDeadBytes;
+      rewrittenLocations = null;
+      growIndexIfFull();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void closeQuietly(StoreData previous) {
+    try {
+      previous.close();
+    } catch (IOException exception) {
+      if (isErrorEnabled()) {
+        error(exception, "Unable to close the previous data file of ", dataPath);
+      }
+    }
+  }
+
+  private void growIndexIfFull() {
+    if (!index.isFull()) {
+      return;
+    }
+
+    try {
+      index = growIndex(index, data, indexPath);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  /*
+   * The grown index is built in a file of its own, so it never touches the index which a
+   * running compaction has mapped from the temporary path, then it replaces the given file.
+   */
+  private static StoreIndex growIndex(StoreIndex source, StoreData sourceData, Path path)
+      throws IOException {
+    var locations = source.getLocations();
+    var growingPath = path.resolveSibling(path.getFileName() + GROWING_SUFFIX);
+    var grownIndex = StoreIndex.create(growingPath, locations.length * 2,
+        sourceData.getGeneration());
+    for (var location : locations) {
+      grownIndex.insert(StoreData.hash(sourceData.getKey(location)), location);
+    }
+    grownIndex.force();
+    Files.move(growingPath, path, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+
+    return grownIndex;
+  }
+
+  private void discard(long location) {
+    data.markDead(location);
+    var recordBytes = data.getRecordBytes(location);
+    liveBytes -= recordBytes;
+    deadBytes += recordBytes;
+  }
+
+  private void scheduleCompactionIfNeeded() {
+    if (!compactionScheduled && deadBytes >= minCompactionBytes
+        && deadBytes > compactionRatio * (liveBytes + deadBytes)) {
+      compactionScheduled = true;
+      compactor.execute(this::compactInBackground);
+    }
+  }
+
+  private void compactInBackground() {
+    try {
+      compact();
+    } catch (IOException | RuntimeException exception) {
+      if (!closed && isErrorEnabled()) {
+        error(exception, "Unable to compact ", dataPath);
+      }
+    }
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("The store was closed");
+    }
+  }
+
+  private static byte[] encodeKey(String key) {
+    var keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    if (keyBytes.length > Short.MAX_VALUE) {
+      throw new IllegalArgumentException(String.format(
+          "The key's length must not exceed %d bytes: %d", Short.MAX_VALUE, keyBytes.length));
+    }
+
+    return keyBytes;
+  }
+
+  private static Path temporaryPath(Path path) {
+    return path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+  }
+}
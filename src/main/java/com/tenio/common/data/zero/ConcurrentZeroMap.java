@@ -0,0 +1,130 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * This class holds data by pairs of key and value like a {@link ZeroMap}, and it could be
+ * shared between threads without any external lock. Iterating over its keys or entries is
+ * weakly consistent, and the encoding works on a snapshot, so both never fail while other
+ * threads are writing. Keys and elements must not be <code>null</code>.
+ */
+public interface ConcurrentZeroMap extends ZeroMap {
+
+  /**
+   * Puts an element into the map if its key is not associated with any element yet.
+   *
+   * @param key     the {@link String} key of element
+   * @param element the {@link ZeroElement}
+   * @return the current element of the key, or <code>null</code> if the given element was put
+   */
+  ZeroElement putZeroElementIfAbsent(String key, ZeroElement element);
+
+  /**
+   * Replaces the element of a key only if it is currently associated with the expected one.
+   *
+   * @param key             the {@link String} key of element
+   * @param expectedElement the {@link ZeroElement} expected to be associated with the key
+   * @param element         the new {@link ZeroElement}
+   * @return <code>true</code> if the element was replaced, otherwise <code>false</code>
+   */
+  boolean replaceZeroElement(String key, ZeroElement expectedElement, ZeroElement element);
+
+  /**
+   * Atomically computes a new element for a key from its current one.
+   *
+   * @param key               the {@link String} key of element
+   * @param remappingFunction the function receives the key and its current element, or
+   *                          <code>null</code> when it is absent, and returns the new element,
+   *                          or <code>null</code> to remove it
+   * @return the new element, or <code>null</code> if there is none
+   */
+  ZeroElement computeZeroElement(String key,
+                                 BiFunction<String, ZeroElement, ZeroElement> remappingFunction);
+
+  /**
+   * Atomically computes an element for a key if it is not associated with any element yet.
+   *
+   * @param key             the {@link String} key of element
+   * @param mappingFunction the function receives the key and returns the new element
+   * @return the current or computed element
+   */
+  ZeroElement computeZeroElementIfAbsent(String key,
+                                         Function<String, ZeroElement> mappingFunction);
+
+  /**
+   * Atomically adds a number to an <code>integer</code> value, an absent value is treated as
+   * <code>0</code>.
+   *
+   * @param key   the {@link String} key of element
+   * @param delta the number to add
+   * @return the updated value
+   * @throws IllegalArgumentException when the current element is not {@link ZeroType#INTEGER}
+   */
+  int addAndGetInteger(String key, int delta);
+
+  /**
+   * Atomically adds a number to a <code>long</code> value, an absent value is treated as
+   * <code>0</code>.
+   *
+   * @param key   the {@link String} key of element
+   * @param delta the number to add
+   * @return the updated value
+   * @throws IllegalArgumentException when the current element is not {@link ZeroType#LONG}
+   */
+  long addAndGetLong(String key, long delta);
+
+  /**
+   * Atomically adds a number to a <code>float</code> value, an absent value is treated as
+   * <code>0</code>.
+   *
+   * @param key   the {@link String} key of element
+   * @param delta the number to add
+   * @return the updated value
+   * @throws IllegalArgumentException when the current element is not {@link ZeroType#FLOAT}
+   */
+  float addAndGetFloat(String key, float delta);
+
+  /**
+   * Atomically adds a number to a <code>double</code> value, an absent value is treated as
+   * <code>0</code>.
+   *
+   * @param key   the {@link String} key of element
+   * @param delta the number to add
+   * @return the updated value
+   * @throws IllegalArgumentException when the current element is not {@link ZeroType#DOUBLE}
+   */
+  double addAndGetDouble(String key, double delta);
+
+  /**
+   * Copies the current entries to a new map which is not shared with other threads. The copy
+   * is weakly consistent, it reflects every update completed before the copying starts.
+   *
+   * @return a new instance of {@link ZeroMap}
+   */
+  ZeroMap snapshot();
+}
@@ -0,0 +1,48 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero;
+
+/**
+ * A read-only view of one committed version of a {@link VersionedZeroMap}. It could be read and
+ * encoded on any thread while the writer keeps changing the map, and all the modifying methods
+ * throw {@link UnsupportedOperationException}. Nested versioned maps are returned as views of
+ * the same version, closing the root view releases the version for all of them.
+ */
+public interface PinnedZeroMap extends ZeroMap, AutoCloseable {
+
+  /**
+   * Retrieves the pinned version.
+   *
+   * @return the pinned version
+   */
+  long getVersion();
+
+  /**
+   * Releases the pinned version, so it could be reclaimed. Closing a view more than once has
+   * no effect.
+   */
+  @Override
+  void close();
+}
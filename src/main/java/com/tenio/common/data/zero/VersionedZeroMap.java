@@ -0,0 +1,70 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero;
+
+/**
+ * This class holds data by pairs of key and value like a {@link ZeroMap}, and keeps the
+ * committed versions of its content. A writer works on the map itself and publishes its changes
+ * as a new version by {@link #commit()}, while readers on other threads call {@link #pin()} to
+ * get a consistent point-in-time view without any lock. A version is reclaimed once it is
+ * superseded and no reader holds it anymore.
+ *
+ * <p>Nested maps created by {@link #putVersionedZeroMap(String)} share the versions with their
+ * parent, so a pinned view covers the whole tree. Other nested collections are treated as
+ * values, they should be replaced rather than modified in place once committed. The map itself
+ * must only be used by one writer thread at a time.
+ */
+public interface VersionedZeroMap extends ZeroMap {
+
+  /**
+   * Creates a new nested map which shares the versions with this map, and puts it into this
+   * map.
+   *
+   * @param key the {@link String} key of element
+   * @return the new nested {@link VersionedZeroMap}
+   */
+  VersionedZeroMap putVersionedZeroMap(String key);
+
+  /**
+   * Publishes all changes made to the tree of maps since the last commit as a new version.
+   *
+   * @return the new version
+   */
+  long commit();
+
+  /**
+   * Retrieves the latest committed version.
+   *
+   * @return the latest committed version, it is <code>0</code> before the first commit
+   */
+  long getVersion();
+
+  /**
+   * Pins the latest committed version, it is kept until the returned view is closed.
+   *
+   * @return a read-only {@link PinnedZeroMap} view of the latest committed version
+   */
+  PinnedZeroMap pin();
+}
@@ -129,6 +129,27 @@ public interface ZeroArray extends ReadonlyZeroArray, Iterable<ZeroElement>, Ser
    */
   ZeroArray addDouble(double data);
 
+  /**
+   * Appends a <code>float</code> value into the array, it is encoded as an IEEE 754
+   * half-precision float and can be read back by {@link #getFloat(int)}.
+   *
+   * @param data the appended data
+   * @return the pointer of this instance
+   * @see ZeroType#HALF_FLOAT
+   */
+  ZeroArray addHalfFloat(float data);
+
+  /**
+   * Appends a <code>float</code> value into the array, it is encoded as a fixed-point value of
+   * the given quantization and can be read back by {@link #getFloat(int)}.
+   *
+   * @param data         the appended data
+   * @param quantization the {@link ZeroQuantization} of the value
+   * @return the pointer of this instance
+   * @see ZeroType#QUANTIZED_FLOAT
+   */
+  ZeroArray addQuantizedFloat(float data, ZeroQuantization quantization);
+
   /**
    * Appends a {@link String} value into the array.
    *
@@ -161,6 +182,15 @@ public interface ZeroArray extends ReadonlyZeroArray, Iterable<ZeroElement>, Ser
    */
   ZeroArray addZeroElement(ZeroElement element);
 
+  /**
+   * Sets a {@link ZeroElement} at index in the array.
+   *
+   * @param index the element's index
+   * @param element the replacing data
+   * @return the pointer of this instance
+   */
+  ZeroArray setZeroElement(int index, ZeroElement element);
+
   /**
    * Appends a collection of {@link Boolean} values into the array.
    *
@@ -223,6 +253,29 @@ public interface ZeroArray extends ReadonlyZeroArray, Iterable<ZeroElement>, Ser
    */
   ZeroArray addDoubleArray(Collection<Double> data);
 
+  /**
+   * Appends a collection of {@link Float} values into the array, they are encoded as IEEE 754
+   * half-precision floats and can be read back by {@link #getFloatArray(int)}.
+   *
+   * @param data the appended data
+   * @return the pointer of this instance
+   * @see Collection
+   * @see ZeroType#HALF_FLOAT_ARRAY
+   */
+  ZeroArray addHalfFloatArray(Collection<Float> data);
+
+  /**
+   * Appends a collection of {@link Float} values into the array, they are encoded as fixed-point
+   * values of the given quantization and can be read back by {@link #getFloatArray(int)}.
+   *
+   * @param data         the appended data
+   * @param quantization the {@link ZeroQuantization} of all values
+   * @return the pointer of this instance
+   * @see Collection
+   * @see ZeroType#QUANTIZED_FLOAT_ARRAY
+   */
+  ZeroArray addQuantizedFloatArray(Collection<Float> data, ZeroQuantization quantization);
+
   /**
    * Appends a collection of {@link String} values into the array.
    *
@@ -238,4 +291,12 @@ public interface ZeroArray extends ReadonlyZeroArray, Iterable<ZeroElement>, Ser
    * @return a read-only array {@link ReadonlyZeroArray}
    */
   ReadonlyZeroArray getReadonlyZeroArray();
+
+  /**
+   * Retrieves a deep copy of the array, nested maps, arrays and array values are copied while
+   * immutable values such as strings and numbers are shared.
+   *
+   * @return a new {@link ZeroArray} which shares no mutable state with this array
+   */
+  ZeroArray deepCopy();
 }
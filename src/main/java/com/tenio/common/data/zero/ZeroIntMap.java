@@ -0,0 +1,503 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero;
+
+import com.tenio.common.data.DataCollection;
+import java.util.Collection;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * This class holds data by pairs of a numeric field ID and a value, works like a {@link ZeroMap}
+ * keyed by small integers. Protocols which already identify their fields by fixed numbers
+ * avoid hashing and comparing string keys on every lookup, and the keys are encoded as varints,
+ * so a field ID below 128 takes one byte on the wire.
+ *
+ * <p>Field IDs must not be negative. They are kept in a primitive open-addressing table, in
+ * which dense IDs starting from zero land in their own slots like in a direct array.
+ */
+public interface ZeroIntMap extends DataCollection {
+
+  /**
+   * Determines whether a value in the map is {@link ZeroType#NULL} type.
+   *
+   * @param key the field ID used to fetch value
+   * @return <code>true</code> if an element is available, and it equals to
+   *     {@link ZeroType#NULL} type, otherwise <code>false</code>
+   */
+  boolean isNull(int key);
+
+  /**
+   * Determines whether a value is available in map.
+   *
+   * @param key the field ID for checking
+   * @return <code>true</code> if the key is found, otherwise <code>false</code>
+   */
+  boolean containsKey(int key);
+
+  /**
+   * Retrieves the field IDs in map.
+   *
+   * @return a new array of keys in ascending order
+   */
+  int[] getKeys();
+
+  /**
+   * Performs an action for each element in map, the order of keys is not specified.
+   *
+   * @param action the {@link ObjIntConsumer} receiving each element and its field ID
+   */
+  void forEach(ObjIntConsumer<ZeroElement> action);
+
+  /**
+   * Removes an element by using its key.
+   *
+   * @param key the field ID of element should be removed
+   * @return <code>true</code> if the action is successful, otherwise <code>false</code>
+   */
+  boolean removeElement(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link Boolean} type
+   */
+  Boolean getBoolean(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link Byte} type
+   */
+  Byte getByte(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link Short} type
+   */
+  Short getShort(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link Integer} type
+   */
+  Integer getInteger(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link Long} type
+   */
+  Long getLong(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link Float} type
+   */
+  Float getFloat(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link Double} type
+   */
+  Double getDouble(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link String} type
+   */
+  String getString(int key);
+
+  /**
+   * Retrieves the data of element by its key in the generic data collection type.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link DataCollection} type
+   */
+  DataCollection getDataCollection(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link ZeroArray} type
+   */
+  ZeroArray getZeroArray(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link ZeroMap} type
+   */
+  ZeroMap getZeroMap(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link ZeroIntMap} type
+   */
+  ZeroIntMap getZeroIntMap(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held fetched by its key in {@link ZeroElement} type
+   */
+  ZeroElement getZeroElement(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held at the key in the map of {@link Boolean} type
+   * @see Collection
+   */
+  Collection<Boolean> getBooleanArray(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held at the key in the map of <code>byte</code> type
+   */
+  byte[] getByteArray(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held at the key in the map of {@link Short} type
+   * @see Collection
+   */
+  Collection<Short> getShortArray(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held at the key in the map of {@link Integer} type
+   * @see Collection
+   */
+  Collection<Integer> getIntegerArray(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held at the key in the map of {@link Long} type
+   * @see Collection
+   */
+  Collection<Long> getLongArray(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held at the key in the map of {@link Float} type
+   * @see Collection
+   */
+  Collection<Float> getFloatArray(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held at the key in the map of {@link Double} type
+   * @see Collection
+   */
+  Collection<Double> getDoubleArray(int key);
+
+  /**
+   * Retrieves the data of element by its key in the map.
+   *
+   * @param key the field ID needs to be checked
+   * @return the value held at the key in the map of {@link String} type
+   * @see Collection
+   */
+  Collection<String> getStringArray(int key);
+
+  /**
+   * Puts a <code>null</code> value into the map.
+   *
+   * @param key the field ID of element
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putNull(int key);
+
+  /**
+   * Puts a <code>boolean</code> value into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putBoolean(int key, boolean data);
+
+  /**
+   * Puts a <code>byte</code> value into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putByte(int key, byte data);
+
+  /**
+   * Puts a <code>short</code> value into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putShort(int key, short data);
+
+  /**
+   * Puts a <code>integer</code> value into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putInteger(int key, int data);
+
+  /**
+   * Puts a <code>long</code> value into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putLong(int key, long data);
+
+  /**
+   * Puts a <code>float</code> value into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putFloat(int key, float data);
+
+  /**
+   * Puts a <code>double</code> value into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putDouble(int key, double data);
+
+  /**
+   * Puts a <code>float</code> value into the map, it is encoded as an IEEE 754 half-precision
+   * float and can be read back by {@link #getFloat(int)}.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putHalfFloat(int key, float data);
+
+  /**
+   * Puts a <code>float</code> value into the map, it is encoded as a fixed-point value of the
+   * quantization and can be read back by {@link #getFloat(int)}.
+   *
+   * @param key          the field ID of element
+   * @param data         the inserted data
+   * @param quantization the {@link ZeroQuantization} applied when the data is encoded
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putQuantizedFloat(int key, float data, ZeroQuantization quantization);
+
+  /**
+   * Puts a {@link String} value into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putString(int key, String data);
+
+  /**
+   * Puts a {@link ZeroArray} value into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putZeroArray(int key, ZeroArray data);
+
+  /**
+   * Puts a {@link ZeroMap} value into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putZeroMap(int key, ZeroMap data);
+
+  /**
+   * Puts a {@link ZeroIntMap} value into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putZeroIntMap(int key, ZeroIntMap data);
+
+  /**
+   * Puts a {@link ZeroElement} into the map.
+   *
+   * @param key     the field ID of element
+   * @param element the inserted element
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putZeroElement(int key, ZeroElement element);
+
+  /**
+   * Puts a collection of {@link Boolean} values into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   * @see Collection
+   */
+  ZeroIntMap putBooleanArray(int key, Collection<Boolean> data);
+
+  /**
+   * Puts an array of <code>byte</code> values into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   */
+  ZeroIntMap putByteArray(int key, byte[] data);
+
+  /**
+   * Puts a collection of {@link Short} values into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   * @see Collection
+   */
+  ZeroIntMap putShortArray(int key, Collection<Short> data);
+
+  /**
+   * Puts a collection of {@link Integer} values into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   * @see Collection
+   */
+  ZeroIntMap putIntegerArray(int key, Collection<Integer> data);
+
+  /**
+   * Puts a collection of {@link Long} values into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   * @see Collection
+   */
+  ZeroIntMap putLongArray(int key, Collection<Long> data);
+
+  /**
+   * Puts a collection of {@link Float} values into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   * @see Collection
+   */
+  ZeroIntMap putFloatArray(int key, Collection<Float> data);
+
+  /**
+   * Puts a collection of {@link Double} values into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   * @see Collection
+   */
+  ZeroIntMap putDoubleArray(int key, Collection<Double> data);
+
+  /**
+   * Puts a collection of {@link Float} values into the map, they are encoded as IEEE 754
+   * half-precision floats and can be read back by {@link #getFloatArray(int)}.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   * @see Collection
+   */
+  ZeroIntMap putHalfFloatArray(int key, Collection<Float> data);
+
+  /**
+   * Puts a collection of {@link Float} values into the map, they are encoded as bit-packed
+   * fixed-point values of the quantization and can be read back by {@link #getFloatArray(int)}.
+   *
+   * @param key          the field ID of element
+   * @param data         the inserted data
+   * @param quantization the {@link ZeroQuantization} applied when the data is encoded
+   * @return the pointer of this instance
+   * @see Collection
+   */
+  ZeroIntMap putQuantizedFloatArray(int key, Collection<Float> data,
+                                    ZeroQuantization quantization);
+
+  /**
+   * Puts a collection of {@link String} values into the map.
+   *
+   * @param key  the field ID of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   * @see Collection
+   */
+  ZeroIntMap putStringArray(int key, Collection<String> data);
+
+  /**
+   * Retrieves a deep copy of the map, nested maps, arrays and array values are copied while
+   * immutable values such as strings and numbers are shared.
+   *
+   * @return a new {@link ZeroIntMap} which shares no mutable state with this map
+   */
+  ZeroIntMap deepCopy();
+}
@@ -113,6 +113,29 @@ public interface ZeroMap extends ReadonlyZeroMap, Iterable<Map.Entry<String, Zer
    */
   ZeroMap putDouble(String key, double data);
 
+  /**
+   * Puts a <code>float</code> value into the map, it is encoded as an IEEE 754 half-precision
+   * float and can be read back by {@link #getFloat(String)}.
+   *
+   * @param key  the {@link String} key of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   * @see ZeroType#HALF_FLOAT
+   */
+  ZeroMap putHalfFloat(String key, float data);
+
+  /**
+   * Puts a <code>float</code> value into the map, it is encoded as a fixed-point value of the
+   * given quantization and can be read back by {@link #getFloat(String)}.
+   *
+   * @param key          the {@link String} key of element
+   * @param data         the inserted data
+   * @param quantization the {@link ZeroQuantization} of the value
+   * @return the pointer of this instance
+   * @see ZeroType#QUANTIZED_FLOAT
+   */
+  ZeroMap putQuantizedFloat(String key, float data, ZeroQuantization quantization);
+
   /**
    * Puts a {@link String} value into the map.
    *
@@ -219,6 +242,32 @@ public interface ZeroMap extends ReadonlyZeroMap, Iterable<Map.Entry<String, Zer
    */
   ZeroMap putDoubleArray(String key, Collection<Double> data);
 
+  /**
+   * Puts a collection of {@link Float} values into the map, they are encoded as IEEE 754
+   * half-precision floats and can be read back by {@link #getFloatArray(String)}.
+   *
+   * @param key  the {@link String} key of element
+   * @param data the inserted data
+   * @return the pointer of this instance
+   * @see Collection
+   * @see ZeroType#HALF_FLOAT_ARRAY
+   */
+  ZeroMap putHalfFloatArray(String key, Collection<Float> data);
+
+  /**
+   * Puts a collection of {@link Float} values into the map, they are encoded as fixed-point
+   * values of the given quantization and can be read back by {@link #getFloatArray(String)}.
+   *
+   * @param key          the {@link String} key of element
+   * @param data         the inserted data
+   * @param quantization the {@link ZeroQuantization} of all values
+   * @return the pointer of this instance
+   * @see Collection
+   * @see ZeroType#QUANTIZED_FLOAT_ARRAY
+   */
+  ZeroMap putQuantizedFloatArray(String key, Collection<Float> data,
+                                 ZeroQuantization quantization);
+
   /**
    * Puts a collection of {@link String} values into the map.
    *
@@ -235,4 +284,13 @@ public interface ZeroMap extends ReadonlyZeroMap, Iterable<Map.Entry<String, Zer
    * @return a read-only map {@link ReadonlyZeroMap}
    */
   ReadonlyZeroMap getReadonlyZeroMap();
+
+  /**
+   * Retrieves a deep copy of the map, nested maps, arrays and array values are copied while
+   * immutable values such as strings and numbers are shared. A concurrent map is copied to a new
+   * concurrent map, any other map is copied to a plain one holding its current entries.
+   *
+   * @return a new {@link ZeroMap} which shares no mutable state with this map
+   */
+  ZeroMap deepCopy();
 }
@@ -0,0 +1,209 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero;
+
+import java.io.Serializable;
+
+/**
+ * Describes how a float value is mapped to a fixed-point integer inside a known range, it is
+ * used by {@link ZeroType#QUANTIZED_FLOAT} and {@link ZeroType#QUANTIZED_FLOAT_ARRAY}. Values
+ * outside the range are clamped to its bounds, the bounds themselves are always restored
+ * exactly.
+ */
+public final class ZeroQuantization implements Serializable {
+
+  /**
+   * The minimum number of bits for a quantized value.
+   */
+  public static final int MIN_BITS = 1;
+  /**
+   * The maximum number of bits for a quantized value, a float cannot hold more precision.
+   */
+  public static final int MAX_BITS = 24;
+
+  private static final long serialVersionUID = 4563358934120379652L;
+
+  /**
+   * The lower bound of the range.
+   */
+  private final float min;
+  /**
+   * The upper bound of the range.
+   */
+  private final float max;
+  /**
+   * The number of bits of a quantized value.
+   */
+  private final int bits;
+  /**
+   * The largest quantized value.
+   */
+  private final int maxCode;
+
+  /**
+   * Creates a new quantization.
+   *
+   * @param min  the lower bound of the range
+   * @param max  the upper bound of the range, it must be greater than the lower one
+   * @param bits the number of bits for a quantized value, in the range from {@link #MIN_BITS}
+   *             to {@link #MAX_BITS}
+   * @throws IllegalArgumentException when the range or the number of bits is invalid
+   */
+  public ZeroQuantization(float min, float max, int bits) {
+    if (!Float.isFinite(min) || !Float.isFinite(max) || min >= max) {
+      throw new IllegalArgumentException(
+          String.format("Invalid quantization range: [%f, %f]", min, max));
+    }
+    if (bits < MIN_BITS || bits > MAX_BITS) {
+      throw new IllegalArgumentException(
+          String.format("The number of bits must be in [%d, %d], but found: %d", MIN_BITS,
+              MAX_BITS, bits));
+    }
+
+    this.min = min;
+    this.max = max;
+    this.bits = bits;
+    maxCode = (1 << bits) - 1;
+  }
+
+  /**
+   * Creates a new quantization which uses the fewest bits still keeping the given precision,
+   * e.g. a range of 1000 metres with a precision of 0.01 needs 16 bits.
+   *
+   * @param min       the lower bound of the range
+   * @param max       the upper bound of the range
+   * @param precision the largest acceptable difference between a value and its decoded one
+   * @return a new instance of {@link ZeroQuantization}
+   * @throws IllegalArgumentException when the range is invalid or the precision could not be
+   *                                  reached with {@link #MAX_BITS}
+   */
+  public static ZeroQuantization newInstanceWithPrecision(float min, float max, float precision) {
+    if (!(precision > 0)) {
+      throw new IllegalArgumentException(
+          String.format("The precision must be positive, but found: %f", precision));
+    }
+
+    // rounding to the nearest step keeps the error within a half step
+    var steps = Math.ceil(((double) max - min) / (2.0 * precision));
+    var bits = Math.max(MIN_BITS, 64 - Long.numberOfLeadingZeros((long) steps));
+    return new ZeroQuantization(min, max, bits);
+  }
+
+  /**
+   * Retrieves the lower bound of the range.
+   *
+   * @return the lower bound
+   */
+  public float getMin() {
+    return min;
+  }
+
+  /**
+   * Retrieves the upper bound of the range.
+   *
+   * @return the upper bound
+   */
+  public float getMax() {
+    return max;
+  }
+
+  /**
+   * Retrieves the number of bits for a quantized value.
+   *
+   * @return the number of bits
+   */
+  public int getBits() {
+    return bits;
+  }
+
+  /**
+   * Retrieves the largest difference between a value inside the range and its decoded one.
+   *
+   * @return the precision
+   */
+  public float getPrecision() {
+    return (float) (((double) max - min) / maxCode / 2.0);
+  }
+
+  /**
+   * Converts a value to its fixed-point code.
+   *
+   * @param value the value, <code>NaN</code> is treated as the lower bound
+   * @return the code in the range from <code>0</code> to <code>2^bits - 1</code>
+   */
+  public int quantize(float value) {
+    if (!(value > min)) {
+      return 0;
+    }
+    if (value >= max) {
+      return maxCode;
+    }
+
+    return (int) Math.round(((double) value - min) / ((double) max - min) * maxCode);
+  }
+
+  /**
+   * Converts a fixed-point code back to its value.
+   *
+   * @param code the code in the range from <code>0</code> to <code>2^bits - 1</code>
+   * @return the decoded value
+   */
+  public float dequantize(int code) {
+    if (code >= maxCode) {
+      return max;
+    }
+
+    return (float) (min + ((double) max - min) * code / maxCode);
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (!(object instanceof ZeroQuantization quantization)) {
+      return false;
+    }
+
+    return Float.compare(min, quantization.min) == 0 && Float.compare(max, quantization.max) == 0
+        && bits == quantization.bits;
+  }
+
+  @Override
+  public int hashCode() {
+    var result = Float.hashCode(min);
+    result = 31 * result + Float.hashCode(max);
+    return 31 * result + bits;
+  }
+
+  @Override
+  public String toString() {
+    return "ZeroQuantization{"
+        + "min=" + min
+        + ", max=" + max
+        + ", bits=" + bits
+        + '}';
+  }
+}
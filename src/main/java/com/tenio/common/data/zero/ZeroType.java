@@ -122,7 +122,32 @@ public enum ZeroType {
   /**
    * {@link ZeroMap} Value.
    */
-  ZERO_MAP(18);
+  ZERO_MAP(18),
+  /**
+   * {@link Float} Value, encoded as an IEEE 754 half-precision float.
+   */
+  HALF_FLOAT(19),
+  /**
+   * Collection of {@link Float} Value, encoded as IEEE 754 half-precision floats.
+   *
+   * @see Collection
+   */
+  HALF_FLOAT_ARRAY(20),
+  /**
+   * {@link Float} Value, encoded as a fixed-point value of a {@link ZeroQuantization}.
+   */
+  QUANTIZED_FLOAT(21),
+  /**
+   * Collection of {@link Float} Value, encoded as bit-packed fixed-point values of a
+   * {@link ZeroQuantization}.
+   *
+   * @see Collection
+   */
+  QUANTIZED_FLOAT_ARRAY(22),
+  /**
+   * {@link ZeroIntMap} Value.
+   */
+  ZERO_INT_MAP(23);
 
   // Reverse-lookup map for getting a type from a value
   private static final Map<Integer, ZeroType> lookup = new HashMap<>();
@@ -0,0 +1,150 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.implement;
+
+import com.tenio.common.data.zero.ConcurrentZeroMap;
+import com.tenio.common.data.zero.ReadonlyZeroMap;
+import com.tenio.common.data.zero.ZeroElement;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * An implementation for the zero object on a {@link ConcurrentHashMap}.
+ */
+public final class ConcurrentZeroMapImpl extends ZeroMapImpl implements ConcurrentZeroMap {
+
+  private static final long serialVersionUID = 2164380367407936725L;
+
+  /**
+   * Elements holder, it is shared with the parent class.
+   */
+  private final transient ConcurrentMap<String, ZeroElement> concurrentMap;
+
+  /**
+   * Creates a new instance.
+   */
+  public ConcurrentZeroMapImpl() {
+    this(new ConcurrentHashMap<>());
+  }
+
+  private ConcurrentZeroMapImpl(ConcurrentMap<String, ZeroElement> concurrentMap) {
+    super(concurrentMap);
+    this.concurrentMap = concurrentMap;
+  }
+
+  @Override
+  public ZeroElement putZeroElementIfAbsent(String key, ZeroElement element) {
+    return concurrentMap.putIfAbsent(key, element);
+  }
+
+  @Override
+  public boolean replaceZeroElement(String key, ZeroElement expectedElement,
+                                    ZeroElement element) {
+    return concurrentMap.replace(key, expectedElement, element);
+  }
+
+  @Override
+  public ZeroElement computeZeroElement(
+      String key, BiFunction<String, ZeroElement, ZeroElement> remappingFunction) {
+    return concurrentMap.compute(key, remappingFunction);
+  }
+
+  @Override
+  public ZeroElement computeZeroElementIfAbsent(String key,
+                                                Function<String, ZeroElement> mappingFunction) {
+    return concurrentMap.computeIfAbsent(key, mappingFunction);
+  }
+
+  @Override
+  public int addAndGetInteger(String key, int delta) {
+    return (Integer) addAndGet(key, ZeroType.INTEGER, delta).getData();
+  }
+
+  @Override
+  public long addAndGetLong(String key, long delta) {
+    return (Long) addAndGet(key, ZeroType.LONG, delta).getData();
+  }
+
+  @Override
+  public float addAndGetFloat(String key, float delta) {
+    return (Float) addAndGet(key, ZeroType.FLOAT, delta).getData();
+  }
+
+  @Override
+  public double addAndGetDouble(String key, double delta) {
+    return (Double) addAndGet(key, ZeroType.DOUBLE, delta).getData();
+  }
+
+  @Override
+  public ZeroMap snapshot() {
+    var zeroMap = ZeroUtility.newZeroMap();
+    for (var entry : concurrentMap.entrySet()) {
+      zeroMap.putZeroElement(entry.getKey(), entry.getValue());
+    }
+
+    return zeroMap;
+  }
+
+  @Override
+  public ReadonlyZeroMap getReadonlyZeroMap() {
+    return snapshot();
+  }
+
+  @Override
+  public ZeroMap deepCopy() {
+    return new ConcurrentZeroMapImpl(copyElements(new ConcurrentHashMap<>(concurrentMap.size())));
+  }
+
+  @Override
+  public String toString() {
+    return snapshot().toString();
+  }
+
+  private ZeroElement addAndGet(String key, ZeroType type, Number delta) {
+    return concurrentMap.compute(key, (currentKey, element) -> {
+      if (element == null) {
+        return ZeroUtility.newZeroElement(type, delta);
+      }
+      if (element.getType() != type) {
+        throw new IllegalArgumentException(
+            String.format("Unable to add a number to the element of key %s, expected: %s, but "
+                + "found: %s", currentKey, type, element.getType()));
+      }
+
+      var value = (Number) element.getData();
+      return ZeroUtility.newZeroElement(type, switch (type) {
+        case INTEGER -> value.intValue() + delta.intValue();
+        case LONG -> value.longValue() + delta.longValue();
+        case FLOAT -> value.floatValue() + delta.floatValue();
+        default -> value.doubleValue() + delta.doubleValue();
+      });
+    });
+  }
+}
@@ -0,0 +1,139 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.implement;
+
+import com.tenio.common.data.zero.ZeroArray;
+import com.tenio.common.data.zero.ZeroElement;
+import com.tenio.common.data.zero.ZeroType;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A zero array which holds <code>int</code> values in a primitive array.
+ */
+public final class IntegerZeroArrayImpl extends TypedZeroArrayImpl {
+
+  private static final long serialVersionUID = 8720044467270079879L;
+
+  /**
+   * Values holder, only the first <code>size</code> slots are in use.
+   */
+  private int[] values;
+
+  /**
+   * Creates a new instance.
+   */
+  public IntegerZeroArrayImpl() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a new instance with an initial capacity.
+   *
+   * @param capacity the number of values which could be added without growing
+   */
+  public IntegerZeroArrayImpl(int capacity) {
+    values = new int[capacity];
+  }
+
+  /**
+   * Creates a new instance which takes over the given values.
+   *
+   * @param values the values of array, it must not be modified afterwards
+   */
+  public IntegerZeroArrayImpl(int[] values) {
+    this.values = values;
+    size = values.length;
+  }
+
+  @Override
+  public ZeroType getElementType() {
+    return ZeroType.INTEGER;
+  }
+
+  @Override
+  public ZeroArray addInteger(int data) {
+    if (!isTyped()) {
+      return super.addInteger(data);
+    }
+
+    var capacity = nextCapacity(values.length);
+    if (capacity != values.length) {
+      values = Arrays.copyOf(values, capacity);
+    }
+    values[size++] = data;
+    return this;
+  }
+
+  @Override
+  public Integer getInteger(int index) {
+    if (!isTyped()) {
+      return super.getInteger(index);
+    }
+    return values[Objects.checkIndex(index, size)];
+  }
+
+  @Override
+  public ZeroArray addZeroElement(ZeroElement element) {
+    if (isTyped() && element.getType() == ZeroType.INTEGER && element.getData() != null) {
+      return addInteger((Integer) element.getData());
+    }
+    return super.addZeroElement(element);
+  }
+
+  /**
+   * Writes a range of values into a buffer in bulk, it is used by the encoder while the array is
+   * still typed.
+   *
+   * @param buffer the {@link ByteBuffer} which has enough remaining space
+   * @param from   the index of the first value to write
+   * @param length the number of values to write
+   */
+  public void putValues(ByteBuffer buffer, int from, int length) {
+    buffer.asIntBuffer().put(values, from, length);
+    buffer.position(buffer.position() + Integer.BYTES * length);
+  }
+
+  @Override
+  protected Object getValue(int index) {
+    return values[index];
+  }
+
+  @Override
+  protected void removeValue(int index) {
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+  }
+
+  @Override
+  protected void releaseValues() {
+    values = null;
+  }
+
+  @Override
+  protected TypedZeroArrayImpl copy() {
+    return new IntegerZeroArrayImpl(Arrays.copyOf(values, size));
+  }
+}
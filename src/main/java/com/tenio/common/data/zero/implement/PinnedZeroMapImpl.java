@@ -0,0 +1,163 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.implement;
+
+import com.tenio.common.data.zero.PinnedZeroMap;
+import com.tenio.common.data.zero.ZeroElement;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An implementation for the read-only view of a versioned zero object at one version.
+ */
+public final class PinnedZeroMapImpl extends ZeroMapImpl implements PinnedZeroMap {
+
+  private static final long serialVersionUID = 7003146516394183021L;
+
+  /**
+   * The pinned version.
+   */
+  private final long version;
+  /**
+   * The versions to release the pin, it is <code>null</code> for the views of nested maps.
+   */
+  private final transient ZeroMapVersions versions;
+  /**
+   * Whether the pin was released.
+   */
+  private final AtomicBoolean closed;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param elements the {@link VersionedElements} of the versioned map
+   * @param version  the pinned version
+   * @param versions the {@link ZeroMapVersions} releasing the pin on closing, or
+   *                 <code>null</code> if the view does not own the pin
+   */
+  PinnedZeroMapImpl(VersionedElements elements, long version, ZeroMapVersions versions) {
+    super(new PinnedElements(elements, version));
+    this.version = version;
+    this.versions = versions;
+    closed = new AtomicBoolean();
+  }
+
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
+  @Override
+  public void close() {
+    if (versions != null && closed.compareAndSet(false, true)) {
+      versions.unpin(version);
+    }
+  }
+
+  /**
+   * The elements of a versioned map at one version. The entries are collected once on the
+   * first iteration, so the size and the iteration always agree.
+   */
+  private static final class PinnedElements extends AbstractMap<String, ZeroElement> {
+
+    private final VersionedElements elements;
+    private final long version;
+    private volatile Set<Entry<String, ZeroElement>> entries;
+
+    private PinnedElements(VersionedElements elements, long version) {
+      this.elements = elements;
+      this.version = version;
+    }
+
+    @Override
+    public ZeroElement get(Object key) {
+      return key instanceof String stringKey ? toView(elements.get(stringKey, version)) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return get(key) != null;
+    }
+
+    @Override
+    public ZeroElement remove(Object key) {
+      throw new UnsupportedOperationException("A pinned version could not be modified");
+    }
+
+    @Override
+    public Set<Entry<String, ZeroElement>> entrySet() {
+      if (entries == null) {
+        List<Entry<String, ZeroElement>> collectedEntries = new ArrayList<>();
+        for (var key : elements.getRecordedKeys()) {
+          var element = elements.get(key, version);
+          if (element != null) {
+            collectedEntries.add(new SimpleImmutableEntry<>(key, toView(element)));
+          }
+        }
+        entries = new ListSet<>(List.copyOf(collectedEntries));
+      }
+
+      return entries;
+    }
+
+    private ZeroElement toView(ZeroElement element) {
+      if (element != null && element.getData() instanceof VersionedZeroMapImpl child) {
+        return ZeroUtility.newZeroElement(ZeroType.ZERO_MAP,
+            new PinnedZeroMapImpl(child.getElements(), version, null));
+      }
+
+      return element;
+    }
+  }
+
+  /**
+   * A read-only set on a list whose items are known to be distinct.
+   */
+  private static final class ListSet<T> extends AbstractSet<T> {
+
+    private final List<T> items;
+
+    private ListSet(List<T> items) {
+      this.items = items;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return items.iterator();
+    }
+
+    @Override
+    public int size() {
+      return items.size();
+    }
+  }
+}
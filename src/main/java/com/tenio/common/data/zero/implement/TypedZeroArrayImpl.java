@@ -0,0 +1,573 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.implement;
+
+import com.tenio.common.data.DataType;
+import com.tenio.common.data.zero.ReadonlyZeroArray;
+import com.tenio.common.data.zero.ZeroArray;
+import com.tenio.common.data.zero.ZeroElement;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroHashing;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The base of zero arrays which only hold values of one {@link ZeroType} in a primitive or
+ * {@link String} array, instead of one {@link ZeroElement} per value. Once a value of any other
+ * type is added, the array moves its values into a generic {@link ZeroArrayImpl} and works on it
+ * from then on.
+ */
+public abstract class TypedZeroArrayImpl implements ZeroArray {
+
+  /**
+   * The capacity of a new array.
+   */
+  protected static final int DEFAULT_CAPACITY = 16;
+
+  private static final long serialVersionUID = -2180452837474311346L;
+
+  /**
+   * The number of values while the array is still typed.
+   */
+  protected int size;
+  /**
+   * The generic array holding all values once a value of another type is added.
+   */
+  private ZeroArray generic;
+
+  /**
+   * Constructor.
+   */
+  protected TypedZeroArrayImpl() {
+  }
+
+  /**
+   * Retrieves the type of all values while the array is still typed.
+   *
+   * @return the {@link ZeroType} of values
+   */
+  public abstract ZeroType getElementType();
+
+  /**
+   * Determines whether the array still holds its values in the typed storage.
+   *
+   * @return <code>true</code> if no value of another type has been added, otherwise
+   *     <code>false</code>
+   */
+  public boolean isTyped() {
+    return generic == null;
+  }
+
+  /**
+   * Retrieves a boxed value from the typed storage.
+   *
+   * @param index the index of value
+   * @return the boxed value
+   */
+  protected abstract Object getValue(int index);
+
+  /**
+   * Removes a value from the typed storage.
+   *
+   * @param index the index of value
+   */
+  protected abstract void removeValue(int index);
+
+  /**
+   * Releases the typed storage after its values are moved to the generic array.
+   */
+  protected abstract void releaseValues();
+
+  /**
+   * Creates a copy of the typed storage.
+   *
+   * @return a new typed array holding the same values
+   */
+  protected abstract TypedZeroArrayImpl copy();
+
+  /**
+   * Ensures the typed storage could take one more value.
+   *
+   * @param capacity the current capacity
+   * @return the new capacity, or the current one if it is still enough
+   */
+  protected int nextCapacity(int capacity) {
+    return size < capacity ? capacity : Math.max(DEFAULT_CAPACITY, capacity + (capacity >> 1));
+  }
+
+  /**
+   * Moves all values to a generic array, it is called before a value of another type is added.
+   *
+   * @return the generic array which holds all values from now on
+   */
+  protected ZeroArray inflate() {
+    if (generic == null) {
+      var zeroArray = new ZeroArrayImpl();
+      for (int i = 0; i < size; i++) {
+        zeroArray.addZeroElement(getZeroElement(i));
+      }
+      releaseValues();
+      size = 0;
+      generic = zeroArray;
+    }
+
+    return generic;
+  }
+
+  @Override
+  public byte[] toBinaries() {
+    return ZeroUtility.arrayToBinaries(this);
+  }
+
+  @Override
+  public boolean contains(Object data) {
+    if (!isTyped()) {
+      return generic.contains(data);
+    }
+
+    for (int i = 0; i < size; i++) {
+      if (getValue(i).equals(data)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean containsValueAt(int index) {
+    if (!isTyped()) {
+      return generic.containsValueAt(index);
+    }
+    return index >= 0 && index < size;
+  }
+
+  @Override
+  public Iterator<ZeroElement> iterator() {
+    if (!isTyped()) {
+      return generic.iterator();
+    }
+
+    return new Iterator<>() {
+
+      private int cursor;
+
+      @Override
+      public boolean hasNext() {
+        return cursor < size();
+      }
+
+      @Override
+      public ZeroElement next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return getZeroElement(cursor++);
+      }
+    };
+  }
+
+  @Override
+  public Object getDataForElementAt(int index) {
+    if (!isTyped()) {
+      return generic.getDataForElementAt(index);
+    }
+    return getValue(Objects.checkIndex(index, size));
+  }
+
+  @Override
+  public void removeElementAt(int index) {
+    if (!isTyped()) {
+      generic.removeElementAt(index);
+      return;
+    }
+
+    removeValue(Objects.checkIndex(index, size));
+    size--;
+  }
+
+  @Override
+  public int size() {
+    return isTyped() ? size : generic.size();
+  }
+
+  @Override
+  public DataType getType() {
+    return DataType.ZERO;
+  }
+
+  @Override
+  public boolean isNull(int index) {
+    if (!isTyped()) {
+      return generic.isNull(index);
+    }
+    Objects.checkIndex(index, size);
+    return false;
+  }
+
+  @Override
+  public Boolean getBoolean(int index) {
+    return (Boolean) getDataForElementAt(index);
+  }
+
+  @Override
+  public Byte getByte(int index) {
+    return (Byte) getDataForElementAt(index);
+  }
+
+  @Override
+  public Short getShort(int index) {
+    return (Short) getDataForElementAt(index);
+  }
+
+  @Override
+  public Integer getInteger(int index) {
+    return (Integer) getDataForElementAt(index);
+  }
+
+  @Override
+  public Long getLong(int index) {
+    return (Long) getDataForElementAt(index);
+  }
+
+  @Override
+  public Float getFloat(int index) {
+    return (Float) getDataForElementAt(index);
+  }
+
+  @Override
+  public Double getDouble(int index) {
+    return (Double) getDataForElementAt(index);
+  }
+
+  @Override
+  public String getString(int index) {
+    return (String) getDataForElementAt(index);
+  }
+
+  @Override
+  public ZeroArray getZeroArray(int index) {
+    return (ZeroArray) getDataForElementAt(index);
+  }
+
+  @Override
+  public ZeroMap getZeroMap(int index) {
+    return (ZeroMap) getDataForElementAt(index);
+  }
+
+  @Override
+  public ZeroElement getZeroElement(int index) {
+    if (!isTyped()) {
+      return generic.getZeroElement(index);
+    }
+    return ZeroUtility.newZeroElement(getElementType(), getDataForElementAt(index));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Boolean> getBooleanArray(int index) {
+    return (Collection<Boolean>) getDataForElementAt(index);
+  }
+
+  @Override
+  public byte[] getByteArray(int index) {
+    return (byte[]) getDataForElementAt(index);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Short> getShortArray(int index) {
+    return (Collection<Short>) getDataForElementAt(index);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Integer> getIntegerArray(int index) {
+    return (Collection<Integer>) getDataForElementAt(index);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Long> getLongArray(int index) {
+    return (Collection<Long>) getDataForElementAt(index);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Float> getFloatArray(int index) {
+    return (Collection<Float>) getDataForElementAt(index);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Double> getDoubleArray(int index) {
+    return (Collection<Double>) getDataForElementAt(index);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<String> getStringArray(int index) {
+    return (Collection<String>) getDataForElementAt(index);
+  }
+
+  @Override
+  public ZeroArray addNull() {
+    inflate().addNull();
+    return this;
+  }
+
+  @Override
+  public ZeroArray addBoolean(boolean data) {
+    inflate().addBoolean(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addByte(byte data) {
+    inflate().addByte(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray setByte(int index, byte data) {
+    inflate().setByte(index, data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addShort(short data) {
+    inflate().addShort(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray setShort(int index, short data) {
+    inflate().setShort(index, data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addInteger(int data) {
+    inflate().addInteger(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addLong(long data) {
+    inflate().addLong(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray setLong(int index, long data) {
+    inflate().setLong(index, data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addFloat(float data) {
+    inflate().addFloat(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addDouble(double data) {
+    inflate().addDouble(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addHalfFloat(float data) {
+    inflate().addHalfFloat(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addQuantizedFloat(float data, ZeroQuantization quantization) {
+    inflate().addQuantizedFloat(data, quantization);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addString(String data) {
+    inflate().addString(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addZeroArray(ZeroArray data) {
+    inflate().addZeroArray(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addZeroMap(ZeroMap data) {
+    inflate().addZeroMap(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addZeroElement(ZeroElement element) {
+    inflate().addZeroElement(element);
+    return this;
+  }
+
+  @Override
+  public ZeroArray setZeroElement(int index, ZeroElement element) {
+    inflate().setZeroElement(index, element);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addBooleanArray(Collection<Boolean> data) {
+    inflate().addBooleanArray(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addByteArray(byte[] data) {
+    inflate().addByteArray(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addShortArray(Collection<Short> data) {
+    inflate().addShortArray(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addIntegerArray(Collection<Integer> data) {
+    inflate().addIntegerArray(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addLongArray(Collection<Long> data) {
+    inflate().addLongArray(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addFloatArray(Collection<Float> data) {
+    inflate().addFloatArray(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addDoubleArray(Collection<Double> data) {
+    inflate().addDoubleArray(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addHalfFloatArray(Collection<Float> data) {
+    inflate().addHalfFloatArray(data);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addQuantizedFloatArray(Collection<Float> data,
+                                          ZeroQuantization quantization) {
+    inflate().addQuantizedFloatArray(data, quantization);
+    return this;
+  }
+
+  @Override
+  public ZeroArray addStringArray(Collection<String> data) {
+    inflate().addStringArray(data);
+    return this;
+  }
+
+  @Override
+  public ReadonlyZeroArray getReadonlyZeroArray() {
+    return isTyped() ? copy() : generic.getReadonlyZeroArray();
+  }
+
+  @Override
+  public ZeroArray deepCopy() {
+    return isTyped() ? copy() : generic.deepCopy();
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    return this == object
+        || object instanceof ReadonlyZeroArray other && ZeroHashing.equals(this, other);
+  }
+
+  @Override
+  public int hashCode() {
+    return ZeroHashing.hash(this);
+  }
+
+  @SuppressWarnings("DefaultLocale")
+  @Override
+  public String toString() {
+    if (!isTyped()) {
+      return generic.toString();
+    }
+
+    var builder = new StringBuilder();
+    builder.append("ZeroArray{");
+
+    var type = getElementType().toString().toLowerCase();
+    for (int i = 0; i < size; i++) {
+      builder.append(" (").append(type).append(") ").append(getValue(i)).append(';');
+    }
+
+    if (size > 0) {
+      builder.setLength(builder.length() - 1);
+    }
+
+    builder.append(" }");
+    return builder.toString();
+  }
+
+  /**
+   * Replaces this array with its compact Zero binaries when it is serialized, so it is read back
+   * as a typed array of the same values.
+   *
+   * @return the serialization proxy
+   */
+  protected Object writeReplace() {
+    return new ZeroSerializationProxy(this);
+  }
+
+  /**
+   * Rejects a stream which does not come from the serialization proxy.
+   *
+   * @param stream the stream
+   * @throws InvalidObjectException always
+   */
+  private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+    throw new InvalidObjectException("A serialization proxy is required");
+  }
+}
@@ -0,0 +1,256 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.implement;
+
+import com.tenio.common.data.zero.ZeroElement;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The elements holder of a versioned map. Every key keeps a chain of records from the newest
+ * version to the older ones, so a reader of a pinned version walks the chain until it reaches
+ * that version. As a {@link java.util.Map}, it shows the writer's latest changes, committed or
+ * not.
+ */
+final class VersionedElements extends AbstractMap<String, ZeroElement> {
+
+  private final ZeroMapVersions versions;
+  private final ConcurrentMap<String, Record> records;
+  private final Set<String> pendingKeys;
+  private int size;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param versions the {@link ZeroMapVersions} shared by the tree of maps
+   */
+  VersionedElements(ZeroMapVersions versions) {
+    this.versions = versions;
+    records = new ConcurrentHashMap<>();
+    pendingKeys = new HashSet<>();
+  }
+
+  ZeroMapVersions getVersions() {
+    return versions;
+  }
+
+  @Override
+  public ZeroElement get(Object key) {
+    var record = records.get(key);
+    return record == null ? null : record.element;
+  }
+
+  /**
+   * Retrieves the element of a key at a version.
+   *
+   * @param key     the key
+   * @param version the version
+   * @return the element, or <code>null</code> if the key was absent at that version
+   */
+  ZeroElement get(String key, long version) {
+    var record = records.get(key);
+    while (record != null && record.version > version) {
+      record = record.previous;
+    }
+
+    return record == null ? null : record.element;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public ZeroElement put(String key, ZeroElement element) {
+    Objects.requireNonNull(element);
+    if (element.getData() instanceof VersionedZeroMapImpl child
+        && child.getElements().getVersions() != versions) {
+      throw new IllegalArgumentException(String.format(
+          "The versioned map of key %s belongs to another tree, use putVersionedZeroMap() "
+              + "instead", key));
+    }
+
+    return write(key, element);
+  }
+
+  @Override
+  public ZeroElement remove(Object key) {
+    return key instanceof String stringKey ? write(stringKey, null) : null;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Set<Entry<String, ZeroElement>> entrySet() {
+    return new AbstractSet<>() {
+
+      @Override
+      public Iterator<Entry<String, ZeroElement>> iterator() {
+        return new LatestIterator(records.entrySet().iterator());
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  /**
+   * Retrieves all keys which have any record, including the removed ones.
+   *
+   * @return a weakly consistent {@link Set} of keys
+   */
+  Set<String> getRecordedKeys() {
+    return records.keySet();
+  }
+
+  /**
+   * Drops the records which are superseded by a record at or before the oldest version still
+   * in use.
+   *
+   * @param oldestVersion the oldest version which could be read
+   * @return <code>true</code> if no record is left to be dropped later
+   */
+  boolean trim(long oldestVersion) {
+    pendingKeys.removeIf(key -> trim(key, oldestVersion));
+    return pendingKeys.isEmpty();
+  }
+
+  private boolean trim(String key, long oldestVersion) {
+    var head = records.get(key);
+    var record = head;
+    while (record != null && record.version > oldestVersion) {
+      record = record.previous;
+    }
+    if (record == null) {
+      return head == null;
+    }
+
+    record.previous = null;
+    if (record == head && head.element == null) {
+      records.remove(key, head);
+    }
+
+    return record == head;
+  }
+
+  /*
+   * Changes of the working version replace each other, they are invisible to the readers
+   * until the version is committed.
+   */
+  private ZeroElement write(String key, ZeroElement element) {
+    var head = records.get(key);
+    if (head == null && element == null) {
+      return null;
+    }
+
+    var version = versions.getWorkingVersion();
+    var record = head != null && head.version == version
+        ? new Record(version, element, head.previous) : new Record(version, element, head);
+    records.put(key, record);
+
+    var previousElement = head == null ? null : head.element;
+    if (previousElement == null && element != null) {
+      size++;
+    } else if (previousElement != null && element == null) {
+      size--;
+    }
+    if (record.previous != null || element == null) {
+      pendingKeys.add(key);
+      versions.markPending(this);
+    }
+
+    return previousElement;
+  }
+
+  /**
+   * An element of a key since a version, a <code>null</code> element means the key was
+   * removed.
+   */
+  private static final class Record {
+
+    private final long version;
+    private final ZeroElement element;
+    private volatile Record previous;
+
+    private Record(long version, ZeroElement element, Record previous) {
+      this.version = version;
+      this.element = element;
+      this.previous = previous;
+    }
+  }
+
+  /**
+   * Iterates over the latest elements and skips the removed keys.
+   */
+  private static final class LatestIterator implements Iterator<Entry<String, ZeroElement>> {
+
+    private final Iterator<Entry<String, Record>> iterator;
+    private Entry<String, ZeroElement> next;
+
+    private LatestIterator(Iterator<Entry<String, Record>> iterator) {
+      this.iterator = iterator;
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Entry<String, ZeroElement> next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+
+      var current = next;
+      advance();
+      return current;
+    }
+
+    private void advance() {
+      next = null;
+      while (next == null && iterator.hasNext()) {
+        var entry = iterator.next();
+        if (entry.getValue().element != null) {
+          next = new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().element);
+        }
+      }
+    }
+  }
+}
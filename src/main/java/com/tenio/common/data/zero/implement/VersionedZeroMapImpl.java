@@ -0,0 +1,81 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.implement;
+
+import com.tenio.common.data.zero.PinnedZeroMap;
+import com.tenio.common.data.zero.VersionedZeroMap;
+
+/**
+ * An implementation for the versioned zero object.
+ */
+public final class VersionedZeroMapImpl extends ZeroMapImpl implements VersionedZeroMap {
+
+  private static final long serialVersionUID = -1706523924117207457L;
+
+  /**
+   * Elements holder, it is shared with the parent class.
+   */
+  private final transient VersionedElements elements;
+
+  /**
+   * Creates a new instance which is the root of a new tree of versioned maps.
+   */
+  public VersionedZeroMapImpl() {
+    this(new VersionedElements(new ZeroMapVersions()));
+  }
+
+  private VersionedZeroMapImpl(VersionedElements elements) {
+    super(elements);
+    this.elements = elements;
+  }
+
+  VersionedElements getElements() {
+    return elements;
+  }
+
+  @Override
+  public VersionedZeroMap putVersionedZeroMap(String key) {
+    var child = new VersionedZeroMapImpl(new VersionedElements(elements.getVersions()));
+    putZeroMap(key, child);
+
+    return child;
+  }
+
+  @Override
+  public long commit() {
+    return elements.getVersions().commit();
+  }
+
+  @Override
+  public long getVersion() {
+    return elements.getVersions().getCommittedVersion();
+  }
+
+  @Override
+  public PinnedZeroMap pin() {
+    var versions = elements.getVersions();
+    return new PinnedZeroMapImpl(elements, versions.pin(), versions);
+  }
+}
@@ -29,8 +29,12 @@ import com.tenio.common.data.zero.ReadonlyZeroArray;
 import com.tenio.common.data.zero.ZeroArray;
 import com.tenio.common.data.zero.ZeroElement;
 import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroQuantization;
 import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroHashing;
 import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -253,6 +257,17 @@ public final class ZeroArrayImpl implements ZeroArray {
     return addElement(ZeroType.DOUBLE, data);
   }
 
+  @Override
+  public ZeroArray addHalfFloat(float data) {
+    return addElement(ZeroType.HALF_FLOAT, data);
+  }
+
+  @Override
+  public ZeroArray addQuantizedFloat(float data, ZeroQuantization quantization) {
+    array.add(ZeroUtility.newZeroElement(ZeroType.QUANTIZED_FLOAT, data, quantization));
+    return this;
+  }
+
   @Override
   public ZeroArray addString(String data) {
     return addElement(ZeroType.STRING, data);
@@ -274,6 +289,12 @@ public final class ZeroArrayImpl implements ZeroArray {
     return this;
   }
 
+  @Override
+  public ZeroArray setZeroElement(int index, ZeroElement element) {
+    array.set(index, element);
+    return this;
+  }
+
   @SuppressWarnings("unchecked")
   @Override
   public Collection<Boolean> getBooleanArray(int index) {
@@ -364,6 +385,18 @@ public final class ZeroArrayImpl implements ZeroArray {
     return addElement(ZeroType.DOUBLE_ARRAY, data);
   }
 
+  @Override
+  public ZeroArray addHalfFloatArray(Collection<Float> data) {
+    return addElement(ZeroType.HALF_FLOAT_ARRAY, data);
+  }
+
+  @Override
+  public ZeroArray addQuantizedFloatArray(Collection<Float> data,
+                                          ZeroQuantization quantization) {
+    array.add(ZeroUtility.newZeroElement(ZeroType.QUANTIZED_FLOAT_ARRAY, data, quantization));
+    return this;
+  }
+
   @Override
   public ZeroArray addStringArray(Collection<String> data) {
     return addElement(ZeroType.STRING_ARRAY, data);
@@ -374,6 +407,27 @@ public final class ZeroArrayImpl implements ZeroArray {
     return new ZeroArrayImpl(new ArrayList<>(array));
   }
 
+  @Override
+  public ZeroArray deepCopy() {
+    var copy = new ArrayList<ZeroElement>(array.size());
+    for (var element : array) {
+      copy.add(ZeroElementImpl.deepCopy(element));
+    }
+
+    return new ZeroArrayImpl(copy);
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    return this == object
+        || object instanceof ReadonlyZeroArray other && ZeroHashing.equals(this, other);
+  }
+
+  @Override
+  public int hashCode() {
+    return ZeroHashing.hash(this);
+  }
+
   @SuppressWarnings("DefaultLocale")
   @Override
   public String toString() {
@@ -406,6 +460,25 @@ public final class ZeroArrayImpl implements ZeroArray {
     return builder.toString();
   }
 
+  /**
+   * Replaces this array with its compact Zero binaries when it is serialized.
+   *
+   * @return the serialization proxy
+   */
+  private Object writeReplace() {
+    return new ZeroSerializationProxy(this);
+  }
+
+  /**
+   * Rejects a stream which does not come from the serialization proxy.
+   *
+   * @param stream the stream
+   * @throws InvalidObjectException always
+   */
+  private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+    throw new InvalidObjectException("A serialization proxy is required");
+  }
+
   private ZeroArray addElement(ZeroType type, Object data) {
     array.add(ZeroUtility.newZeroElement(type, data));
     return this;
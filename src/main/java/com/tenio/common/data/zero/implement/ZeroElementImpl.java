@@ -24,8 +24,16 @@ THE SOFTWARE.
 
 package com.tenio.common.data.zero.implement;
 
+import com.tenio.common.data.zero.ZeroArray;
 import com.tenio.common.data.zero.ZeroElement;
+import com.tenio.common.data.zero.ZeroIntMap;
+import com.tenio.common.data.zero.ZeroMap;
 import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroHashing;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 
 /**
  * This class holds a relationship between a self-definition data type and its value.
@@ -64,6 +72,65 @@ public class ZeroElementImpl implements ZeroElement {
     return data;
   }
 
+  /**
+   * Creates a deep copy of an element. Since elements are immutable, an element holding a string,
+   * a number or nothing is shared, only one holding a collection or a binary array is recreated on
+   * a copy of its data.
+   *
+   * @param element the {@link ZeroElement}
+   * @return the element itself, or a new element on the copied data
+   */
+  static ZeroElement deepCopy(ZeroElement element) {
+    Object copy;
+    if (element.getData() instanceof ZeroMap zeroMap) {
+      copy = zeroMap.deepCopy();
+    } else if (element.getData() instanceof ZeroArray zeroArray) {
+      copy = zeroArray.deepCopy();
+    } else if (element.getData() instanceof ZeroIntMap zeroIntMap) {
+      copy = zeroIntMap.deepCopy();
+    } else if (element.getData() instanceof byte[] binaries) {
+      copy = binaries.clone();
+    } else if (element.getData() instanceof Collection<?> values) {
+      copy = new ArrayList<>(values);
+    } else {
+      return element;
+    }
+
+    return element instanceof ZeroQuantizedElementImpl quantized
+        ? new ZeroQuantizedElementImpl(element.getType(), copy, quantized.getQuantization())
+        : new ZeroElementImpl(element.getType(), copy);
+  }
+
+  /**
+   * Replaces this element with its compact Zero binaries when it is serialized.
+   *
+   * @return the serialization proxy
+   */
+  protected Object writeReplace() {
+    return new ZeroSerializationProxy(this);
+  }
+
+  /**
+   * Rejects a stream which does not come from the serialization proxy.
+   *
+   * @param stream the stream
+   * @throws InvalidObjectException always
+   */
+  private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+    throw new InvalidObjectException("A serialization proxy is required");
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    return this == object
+        || object instanceof ZeroElement element && ZeroHashing.equals(this, element);
+  }
+
+  @Override
+  public int hashCode() {
+    return ZeroHashing.hash(this);
+  }
+
   @Override
   public String toString() {
     return "ZeroElement{" +
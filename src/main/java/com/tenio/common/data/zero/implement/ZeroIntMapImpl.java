@@ -0,0 +1,537 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.implement;
+
+import com.tenio.common.data.DataCollection;
+import com.tenio.common.data.DataType;
+import com.tenio.common.data.zero.ZeroArray;
+import com.tenio.common.data.zero.ZeroElement;
+import com.tenio.common.data.zero.ZeroIntMap;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroHashing;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * An implementation for the zero map keyed by field IDs. Keys and elements are kept in two
+ * parallel arrays of a linear-probing table which is at most half full. A key's home slot is the
+ * key itself folded like in {@link java.util.HashMap}, so dense IDs from zero never collide and
+ * are found at their first probe, removals shift the following entries back instead of leaving
+ * tombstones.
+ */
+public class ZeroIntMapImpl implements ZeroIntMap {
+
+  private static final int NO_KEY = -1;
+  private static final int MIN_CAPACITY = 8;
+
+  private int[] keys;
+  private ZeroElement[] values;
+  private int size;
+
+  /**
+   * Creates a new instance.
+   */
+  public ZeroIntMapImpl() {
+    this(0);
+  }
+
+  /**
+   * Creates a new instance which holds the given number of entries without growing.
+   *
+   * @param expectedSize the expected number of entries
+   */
+  public ZeroIntMapImpl(int expectedSize) {
+    var capacity = MIN_CAPACITY;
+    while (capacity < expectedSize * 2) {
+      capacity <<= 1;
+    }
+    allocate(capacity);
+  }
+
+  @Override
+  public byte[] toBinaries() {
+    return ZeroUtility.intMapToBinaries(this);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public DataType getType() {
+    return DataType.ZERO;
+  }
+
+  /**
+   * Retrieves the number of slots in the table, which is used to estimate the retained heap.
+   *
+   * @return the table's capacity
+   */
+  public int getCapacity() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean isNull(int key) {
+    ZeroElement element = getZeroElement(key);
+    return (element != null) && element.getType() == ZeroType.NULL;
+  }
+
+  @Override
+  public boolean containsKey(int key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public int[] getKeys() {
+    var result = new int[size];
+    var count = 0;
+    for (var key : keys) {
+      if (key != NO_KEY) {
+        result[count++] = key;
+      }
+    }
+    Arrays.sort(result);
+
+    return result;
+  }
+
+  @Override
+  public void forEach(ObjIntConsumer<ZeroElement> action) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != NO_KEY) {
+        action.accept(values[i], keys[i]);
+      }
+    }
+  }
+
+  @Override
+  public boolean removeElement(int key) {
+    var index = indexOf(key);
+    if (index < 0) {
+      return false;
+    }
+
+    var mask = keys.length - 1;
+    var gap = index;
+    for (var next = (gap + 1) & mask; keys[next] != NO_KEY; next = (next + 1) & mask) {
+      if (((next - slotOf(keys[next])) & mask) >= ((next - gap) & mask)) {
+        keys[gap] = keys[next];
+        values[gap] = values[next];
+        gap = next;
+      }
+    }
+    keys[gap] = NO_KEY;
+    values[gap] = null;
+    size--;
+
+    return true;
+  }
+
+  @Override
+  public Boolean getBoolean(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Boolean) element.getData();
+  }
+
+  @Override
+  public Byte getByte(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Byte) element.getData();
+  }
+
+  @Override
+  public Short getShort(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Short) element.getData();
+  }
+
+  @Override
+  public Integer getInteger(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Integer) element.getData();
+  }
+
+  @Override
+  public Long getLong(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Long) element.getData();
+  }
+
+  @Override
+  public Float getFloat(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Float) element.getData();
+  }
+
+  @Override
+  public Double getDouble(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Double) element.getData();
+  }
+
+  @Override
+  public String getString(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (String) element.getData();
+  }
+
+  @Override
+  public DataCollection getDataCollection(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (DataCollection) element.getData();
+  }
+
+  @Override
+  public ZeroArray getZeroArray(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (ZeroArray) element.getData();
+  }
+
+  @Override
+  public ZeroMap getZeroMap(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (ZeroMap) element.getData();
+  }
+
+  @Override
+  public ZeroIntMap getZeroIntMap(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (ZeroIntMap) element.getData();
+  }
+
+  @Override
+  public ZeroElement getZeroElement(int key) {
+    var index = indexOf(key);
+    return index < 0 ? null : values[index];
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Boolean> getBooleanArray(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Collection<Boolean>) element.getData();
+  }
+
+  @Override
+  public byte[] getByteArray(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (byte[]) element.getData();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Short> getShortArray(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Collection<Short>) element.getData();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Integer> getIntegerArray(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Collection<Integer>) element.getData();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Long> getLongArray(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Collection<Long>) element.getData();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Float> getFloatArray(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Collection<Float>) element.getData();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<Double> getDoubleArray(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Collection<Double>) element.getData();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public Collection<String> getStringArray(int key) {
+    ZeroElement element = getZeroElement(key);
+    return element == null ? null : (Collection<String>) element.getData();
+  }
+
+  @Override
+  public ZeroIntMap putNull(int key) {
+    return putElement(key, ZeroType.NULL, null);
+  }
+
+  @Override
+  public ZeroIntMap putBoolean(int key, boolean data) {
+    return putElement(key, ZeroType.BOOLEAN, data);
+  }
+
+  @Override
+  public ZeroIntMap putByte(int key, byte data) {
+    return putElement(key, ZeroType.BYTE, data);
+  }
+
+  @Override
+  public ZeroIntMap putShort(int key, short data) {
+    return putElement(key, ZeroType.SHORT, data);
+  }
+
+  @Override
+  public ZeroIntMap putInteger(int key, int data) {
+    return putElement(key, ZeroType.INTEGER, data);
+  }
+
+  @Override
+  public ZeroIntMap putLong(int key, long data) {
+    return putElement(key, ZeroType.LONG, data);
+  }
+
+  @Override
+  public ZeroIntMap putFloat(int key, float data) {
+    return putElement(key, ZeroType.FLOAT, data);
+  }
+
+  @Override
+  public ZeroIntMap putDouble(int key, double data) {
+    return putElement(key, ZeroType.DOUBLE, data);
+  }
+
+  @Override
+  public ZeroIntMap putHalfFloat(int key, float data) {
+    return putElement(key, ZeroType.HALF_FLOAT, data);
+  }
+
+  @Override
+  public ZeroIntMap putQuantizedFloat(int key, float data, ZeroQuantization quantization) {
+    return putZeroElement(key,
+        ZeroUtility.newZeroElement(ZeroType.QUANTIZED_FLOAT, data, quantization));
+  }
+
+  @Override
+  public ZeroIntMap putString(int key, String data) {
+    return putElement(key, ZeroType.STRING, data);
+  }
+
+  @Override
+  public ZeroIntMap putZeroArray(int key, ZeroArray data) {
+    return putElement(key, ZeroType.ZERO_ARRAY, data);
+  }
+
+  @Override
+  public ZeroIntMap putZeroMap(int key, ZeroMap data) {
+    return putElement(key, ZeroType.ZERO_MAP, data);
+  }
+
+  @Override
+  public ZeroIntMap putZeroIntMap(int key, ZeroIntMap data) {
+    return putElement(key, ZeroType.ZERO_INT_MAP, data);
+  }
+
+  @Override
+  public ZeroIntMap putZeroElement(int key, ZeroElement element) {
+    if (key < 0) {
+      throw new IllegalArgumentException(
+          String.format("The field ID must not be negative: %d", key));
+    }
+
+    var index = indexOf(key);
+    if (index >= 0) {
+      values[index] = element;
+      return this;
+    }
+
+    if ((size + 1) * 2 > keys.length) {
+      resize(keys.length << 1);
+    }
+    insert(key, element);
+    return this;
+  }
+
+  @Override
+  public ZeroIntMap putBooleanArray(int key, Collection<Boolean> data) {
+    return putElement(key, ZeroType.BOOLEAN_ARRAY, data);
+  }
+
+  @Override
+  public ZeroIntMap putByteArray(int key, byte[] data) {
+    return putElement(key, ZeroType.BYTE_ARRAY, data);
+  }
+
+  @Override
+  public ZeroIntMap putShortArray(int key, Collection<Short> data) {
+    return putElement(key, ZeroType.SHORT_ARRAY, data);
+  }
+
+  @Override
+  public ZeroIntMap putIntegerArray(int key, Collection<Integer> data) {
+    return putElement(key, ZeroType.INTEGER_ARRAY, data);
+  }
+
+  @Override
+  public ZeroIntMap putLongArray(int key, Collection<Long> data) {
+    return putElement(key, ZeroType.LONG_ARRAY, data);
+  }
+
+  @Override
+  public ZeroIntMap putFloatArray(int key, Collection<Float> data) {
+    return putElement(key, ZeroType.FLOAT_ARRAY, data);
+  }
+
+  @Override
+  public ZeroIntMap putDoubleArray(int key, Collection<Double> data) {
+    return putElement(key, ZeroType.DOUBLE_ARRAY, data);
+  }
+
+  @Override
+  public ZeroIntMap putHalfFloatArray(int key, Collection<Float> data) {
+    return putElement(key, ZeroType.HALF_FLOAT_ARRAY, data);
+  }
+
+  @Override
+  public ZeroIntMap putQuantizedFloatArray(int key, Collection<Float> data,
+                                           ZeroQuantization quantization) {
+    return putZeroElement(key,
+        ZeroUtility.newZeroElement(ZeroType.QUANTIZED_FLOAT_ARRAY, data, quantization));
+  }
+
+  @Override
+  public ZeroIntMap putStringArray(int key, Collection<String> data) {
+    return putElement(key, ZeroType.STRING_ARRAY, data);
+  }
+
+  @Override
+  public ZeroIntMap deepCopy() {
+    var copy = new ZeroIntMapImpl(0);
+    copy.keys = keys.clone();
+    copy.values = new ZeroElement[values.length];
+    copy.size = size;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != NO_KEY) {
+        copy.values[i] = ZeroElementImpl.deepCopy(values[i]);
+      }
+    }
+
+    return copy;
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    return this == object
+        || object instanceof ZeroIntMap map && ZeroHashing.equals(this, map);
+  }
+
+  @Override
+  public int hashCode() {
+    return ZeroHashing.hash(this);
+  }
+
+  @Override
+  public String toString() {
+    var builder = new StringBuilder();
+    builder.append("ZeroIntMap{");
+
+    for (var key : getKeys()) {
+      var zeroElement = getZeroElement(key);
+      builder.append(" (").append(zeroElement.getType().toString().toLowerCase()).append(") ")
+          .append(key)
+          .append(": ");
+      if (zeroElement.getType() == ZeroType.BYTE_ARRAY) {
+        builder.append(String.format("byte[%d]", ((byte[]) zeroElement.getData()).length));
+      } else {
+        builder.append(zeroElement.getData());
+      }
+      builder.append(';');
+    }
+
+    if (size > 0) {
+      builder.setLength(builder.length() - 1);
+    }
+
+    builder.append(" }");
+    return builder.toString();
+  }
+
+  private ZeroIntMap putElement(int key, ZeroType type, Object data) {
+    return putZeroElement(key, ZeroUtility.newZeroElement(type, data));
+  }
+
+  private int indexOf(int key) {
+    if (key < 0) {
+      return -1;
+    }
+
+    var mask = keys.length - 1;
+    for (var index = slotOf(key); keys[index] != NO_KEY; index = (index + 1) & mask) {
+      if (keys[index] == key) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  private int slotOf(int key) {
+    return (key ^ (key >>> 16)) & (keys.length - 1);
+  }
+
+  private void insert(int key, ZeroElement element) {
+    var mask = keys.length - 1;
+    var index = slotOf(key);
+    while (keys[index] != NO_KEY) {
+      index = (index + 1) & mask;
+    }
+    keys[index] = key;
+    values[index] = element;
+    size++;
+  }
+
+  private void resize(int capacity) {
+    var oldKeys = keys;
+    var oldValues = values;
+    allocate(capacity);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != NO_KEY) {
+        insert(oldKeys[i], oldValues[i]);
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new int[capacity];
+    Arrays.fill(keys, NO_KEY);
+    values = new ZeroElement[capacity];
+    size = 0;
+  }
+}
@@ -30,8 +30,12 @@ import com.tenio.common.data.zero.ReadonlyZeroMap;
 import com.tenio.common.data.zero.ZeroArray;
 import com.tenio.common.data.zero.ZeroElement;
 import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroQuantization;
 import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroHashing;
 import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -43,7 +47,7 @@ import java.util.Set;
 /**
  * An implementation for the zero object.
  */
-public final class ZeroMapImpl implements ZeroMap {
+public class ZeroMapImpl implements ZeroMap {
 
   private static final long serialVersionUID = -9209290648545740755L;
 
@@ -59,7 +63,12 @@ public final class ZeroMapImpl implements ZeroMap {
     map = new HashMap<>();
   }
 
-  private ZeroMapImpl(Map<String, ZeroElement> map) {
+  /**
+   * Creates a new instance on an elements holder.
+   *
+   * @param map the {@link Map} holding elements
+   */
+  ZeroMapImpl(Map<String, ZeroElement> map) {
     this.map = map;
   }
 
@@ -228,6 +237,17 @@ public final class ZeroMapImpl implements ZeroMap {
     return putElement(key, ZeroType.DOUBLE, data);
   }
 
+  @Override
+  public ZeroMap putHalfFloat(String key, float data) {
+    return putElement(key, ZeroType.HALF_FLOAT, data);
+  }
+
+  @Override
+  public ZeroMap putQuantizedFloat(String key, float data, ZeroQuantization quantization) {
+    map.put(key, ZeroUtility.newZeroElement(ZeroType.QUANTIZED_FLOAT, data, quantization));
+    return this;
+  }
+
   @Override
   public ZeroMap putString(String key, String data) {
     return putElement(key, ZeroType.STRING, data);
@@ -339,6 +359,19 @@ public final class ZeroMapImpl implements ZeroMap {
     return putElement(key, ZeroType.DOUBLE_ARRAY, data);
   }
 
+  @Override
+  public ZeroMap putHalfFloatArray(String key, Collection<Float> data) {
+    return putElement(key, ZeroType.HALF_FLOAT_ARRAY, data);
+  }
+
+  @Override
+  public ZeroMap putQuantizedFloatArray(String key, Collection<Float> data,
+                                        ZeroQuantization quantization) {
+    map.put(key,
+        ZeroUtility.newZeroElement(ZeroType.QUANTIZED_FLOAT_ARRAY, data, quantization));
+    return this;
+  }
+
   @Override
   public ZeroMap putStringArray(String key, Collection<String> data) {
     return putElement(key, ZeroType.STRING_ARRAY, data);
@@ -349,6 +382,36 @@ public final class ZeroMapImpl implements ZeroMap {
     return new ZeroMapImpl(new HashMap<>(map));
   }
 
+  @Override
+  public ZeroMap deepCopy() {
+    return new ZeroMapImpl(copyElements(HashMap.newHashMap(map.size())));
+  }
+
+  /**
+   * Puts deep copies of all elements into a new elements holder.
+   *
+   * @param copy the new {@link Map} holding elements
+   * @return the new holder
+   */
+  <T extends Map<String, ZeroElement>> T copyElements(T copy) {
+    for (var entry : map.entrySet()) {
+      copy.put(entry.getKey(), ZeroElementImpl.deepCopy(entry.getValue()));
+    }
+
+    return copy;
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    return this == object
+        || object instanceof ReadonlyZeroMap other && ZeroHashing.equals(this, other);
+  }
+
+  @Override
+  public int hashCode() {
+    return ZeroHashing.hash(this);
+  }
+
   @SuppressWarnings("DefaultLocale")
   @Override
   public String toString() {
@@ -380,6 +443,25 @@ public final class ZeroMapImpl implements ZeroMap {
     return builder.toString();
   }
 
+  /**
+   * Replaces this map with its compact Zero binaries when it is serialized.
+   *
+   * @return the serialization proxy
+   */
+  protected Object writeReplace() {
+    return new ZeroSerializationProxy(this);
+  }
+
+  /**
+   * Rejects a stream which does not come from the serialization proxy.
+   *
+   * @param stream the stream
+   * @throws InvalidObjectException always
+   */
+  private void readObject(ObjectInputStream stream) throws InvalidObjectException {
+    throw new InvalidObjectException("A serialization proxy is required");
+  }
+
   private ZeroMap putElement(String key, ZeroType type, Object data) {
     map.put(key, ZeroUtility.newZeroElement(type, data));
     return this;
@@ -0,0 +1,109 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.implement;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * The version clock shared by a tree of versioned maps. It counts the readers of every pinned
+ * version and decides which old records are not reachable anymore.
+ */
+final class ZeroMapVersions {
+
+  private final ConcurrentSkipListMap<Long, Integer> pins;
+  private final Set<VersionedElements> pendingElements;
+  private volatile long committedVersion;
+  private volatile long reclaimedVersion;
+
+  /**
+   * Creates a new instance.
+   */
+  ZeroMapVersions() {
+    pins = new ConcurrentSkipListMap<>();
+    pendingElements = Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  long getCommittedVersion() {
+    return committedVersion;
+  }
+
+  /**
+   * Retrieves the version which the writer's changes belong to until they are committed.
+   *
+   * @return the working version
+   */
+  long getWorkingVersion() {
+    return committedVersion + 1;
+  }
+
+  long commit() {
+    var version = committedVersion + 1;
+    committedVersion = version;
+    reclaim();
+
+    return version;
+  }
+
+  /*
+   * A reader registers its version before checking the reclaimed one, and the writer publishes
+   * the reclaimed version before looking for the oldest pin. So either the writer sees the
+   * reader's pin, or the reader sees the new reclaimed version and retries.
+   */
+  long pin() {
+    while (true) {
+      var version = committedVersion;
+      pins.merge(version, 1, Integer::sum);
+      if (reclaimedVersion <= version) {
+        return version;
+      }
+      unpin(version);
+    }
+  }
+
+  void unpin(long version) {
+    pins.computeIfPresent(version, (pinnedVersion, count) -> count == 1 ? null : count - 1);
+  }
+
+  /**
+   * Registers elements which keep records that could be reclaimed later.
+   *
+   * @param elements the {@link VersionedElements}
+   */
+  void markPending(VersionedElements elements) {
+    pendingElements.add(elements);
+  }
+
+  private void reclaim() {
+    var version = committedVersion;
+    reclaimedVersion = version;
+    var oldestPin = pins.firstEntry();
+    var oldestVersion = oldestPin == null ? version : Math.min(oldestPin.getKey(), version);
+
+    pendingElements.removeIf(elements -> elements.trim(oldestVersion));
+  }
+}
@@ -0,0 +1,72 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.implement;
+
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.ZeroType;
+
+/**
+ * A {@link ZeroElementImpl} which also carries the {@link ZeroQuantization} used to encode its
+ * float value or values.
+ */
+public final class ZeroQuantizedElementImpl extends ZeroElementImpl {
+
+  private static final long serialVersionUID = 2279436505867232107L;
+
+  /**
+   * Quantization.
+   */
+  private final ZeroQuantization quantization;
+
+  /**
+   * Constructor.
+   *
+   * @param type         {@link ZeroType}
+   * @param data         {@link Object}
+   * @param quantization {@link ZeroQuantization}
+   */
+  public ZeroQuantizedElementImpl(ZeroType type, Object data, ZeroQuantization quantization) {
+    super(type, data);
+    this.quantization = quantization;
+  }
+
+  /**
+   * Retrieves the quantization of element.
+   *
+   * @return the {@link ZeroQuantization}
+   */
+  public ZeroQuantization getQuantization() {
+    return quantization;
+  }
+
+  @Override
+  public String toString() {
+    return "ZeroElement{"
+        + "type=" + getType()
+        + ", data=" + getData()
+        + ", quantization=" + quantization
+        + '}';
+  }
+}
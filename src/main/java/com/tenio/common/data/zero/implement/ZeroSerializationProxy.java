@@ -0,0 +1,129 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.implement;
+
+import com.tenio.common.data.zero.ZeroArray;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+
+/**
+ * The serialized form of the zero collections and elements. The default Java serialization
+ * writes the internals of every holder and a class descriptor for every kind of element, so
+ * a collection is written as its compact Zero binaries instead and decoded again when it is
+ * read.
+ *
+ * <p>A typed array keeps its marker in the binaries, so it is read back as a typed array, at
+ * the root as well as nested. A concurrent map is read back as a concurrent map. A versioned
+ * map is read back as the root of a new tree holding its latest state as the first committed
+ * version, its nested maps become plain maps. A pinned map is read back as a plain map of its
+ * pinned version.
+ */
+final class ZeroSerializationProxy implements Externalizable {
+
+  private static final long serialVersionUID = 3146398416262711845L;
+
+  private static final byte MAP = 0;
+  private static final byte CONCURRENT_MAP = 1;
+  private static final byte VERSIONED_MAP = 2;
+  private static final byte ARRAY = 3;
+  private static final byte ELEMENT = 4;
+
+  private byte kind;
+  private byte[] binaries;
+
+  /**
+   * Creates an empty instance, it is only used by the Java serialization.
+   */
+  public ZeroSerializationProxy() {
+  }
+
+  ZeroSerializationProxy(ZeroMapImpl map) {
+    if (map instanceof ConcurrentZeroMapImpl) {
+      kind = CONCURRENT_MAP;
+    } else if (map instanceof VersionedZeroMapImpl) {
+      kind = VERSIONED_MAP;
+    } else {
+      kind = MAP;
+    }
+    binaries = ZeroUtility.mapToBinaries(map);
+  }
+
+  ZeroSerializationProxy(ZeroArray array) {
+    kind = ARRAY;
+    binaries = ZeroUtility.arrayToBinaries(array);
+  }
+
+  ZeroSerializationProxy(ZeroElementImpl element) {
+    kind = ELEMENT;
+    binaries = ZeroUtility.arrayToBinaries(ZeroUtility.newZeroArray().addZeroElement(element));
+  }
+
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    out.writeByte(kind);
+    out.writeInt(binaries.length);
+    out.write(binaries);
+  }
+
+  @Override
+  public void readExternal(ObjectInput in) throws IOException {
+    kind = in.readByte();
+    var length = in.readInt();
+    if (length < 0) {
+      throw new InvalidObjectException(String.format("Invalid binaries length: %d", length));
+    }
+    binaries = new byte[length];
+    in.readFully(binaries);
+  }
+
+  private Object readResolve() throws ObjectStreamException {
+    return switch (kind) {
+      case MAP -> ZeroUtility.binariesToMap(binaries);
+      case CONCURRENT_MAP -> copy(ZeroUtility.binariesToMap(binaries),
+          ZeroUtility.newConcurrentZeroMap());
+      case VERSIONED_MAP -> {
+        var versionedMap = ZeroUtility.newVersionedZeroMap();
+        copy(ZeroUtility.binariesToMap(binaries), versionedMap);
+        versionedMap.commit();
+        yield versionedMap;
+      }
+      case ARRAY -> ZeroUtility.binariesToArray(binaries);
+      case ELEMENT -> ZeroUtility.binariesToArray(binaries).getZeroElement(0);
+      default -> throw new InvalidObjectException(
+          String.format("Unsupported serialized kind: %d", kind));
+    };
+  }
+
+  private static ZeroMap copy(ZeroMap source, ZeroMap target) {
+    source.getKeys().forEach(key -> target.putZeroElement(key, source.getZeroElement(key)));
+    return target;
+  }
+}
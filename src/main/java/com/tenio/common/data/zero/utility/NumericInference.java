@@ -0,0 +1,91 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import com.tenio.common.data.zero.ZeroType;
+
+/**
+ * Strategies to choose a {@link ZeroType} for numbers coming from a format which does not carry
+ * the exact numeric type of its values (i.e. JSON).
+ */
+public enum NumericInference {
+
+  /**
+   * Integral numbers become {@link ZeroType#INTEGER} or {@link ZeroType#LONG} when they do not
+   * fit, decimal numbers always become {@link ZeroType#DOUBLE}.
+   */
+  STANDARD,
+  /**
+   * Integral numbers become the narrowest of {@link ZeroType#BYTE}, {@link ZeroType#SHORT},
+   * {@link ZeroType#INTEGER} and {@link ZeroType#LONG} that holds them, decimal numbers become
+   * {@link ZeroType#FLOAT} when they can be represented without losing precision, otherwise
+   * {@link ZeroType#DOUBLE}.
+   */
+  COMPACT,
+  /**
+   * Integral numbers always become {@link ZeroType#LONG}, decimal numbers always become
+   * {@link ZeroType#DOUBLE}.
+   */
+  WIDEST;
+
+  /**
+   * Chooses a type for an integral number.
+   *
+   * @param value the number
+   * @return the corresponding {@link ZeroType}
+   */
+  public ZeroType inferIntegral(long value) {
+    return switch (this) {
+      case STANDARD -> isInteger(value) ? ZeroType.INTEGER : ZeroType.LONG;
+      case COMPACT -> {
+        if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+          yield ZeroType.BYTE;
+        }
+        if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+          yield ZeroType.SHORT;
+        }
+        yield isInteger(value) ? ZeroType.INTEGER : ZeroType.LONG;
+      }
+      case WIDEST -> ZeroType.LONG;
+    };
+  }
+
+  /**
+   * Chooses a type for a decimal number.
+   *
+   * @param value the number
+   * @return the corresponding {@link ZeroType}
+   */
+  public ZeroType inferDecimal(double value) {
+    if (this == COMPACT && (double) (float) value == value) {
+      return ZeroType.FLOAT;
+    }
+    return ZeroType.DOUBLE;
+  }
+
+  private static boolean isInteger(long value) {
+    return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+  }
+}
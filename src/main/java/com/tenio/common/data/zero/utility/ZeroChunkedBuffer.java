@@ -0,0 +1,232 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The Zero binaries of a large collection held in fixed-size chunks instead of one contiguous
+ * array. A large contiguous array goes beyond the region size of region-based collectors (i.e.
+ * G1) and is allocated in humongous regions, chunks of {@link #CHUNK_BYTES} never are, and they
+ * are pooled to be reused by later encodings.
+ *
+ * <p>The binaries are exposed as a {@link ByteBuffer} array for gathering writes, or copied into
+ * one array when it is explicitly requested. The buffer must be closed once the binaries are
+ * written, its chunks are then given back to the pool and must not be used anymore.
+ *
+ * @see ZeroUtility#mapToChunkedBuffer(com.tenio.common.data.zero.ZeroMap, ZeroEncodingOption...)
+ * @see ZeroUtility#arrayToChunkedBuffer(com.tenio.common.data.zero.ZeroArray,
+ *     ZeroEncodingOption...)
+ */
+public final class ZeroChunkedBuffer implements AutoCloseable {
+
+  /**
+   * The size of a chunk in bytes.
+   */
+  public static final int CHUNK_BYTES = 64 * 1024;
+  /**
+   * The maximum number of released chunks kept for reuse.
+   */
+  public static final int MAX_POOLED_CHUNKS = 64;
+
+  private static final Queue<ByteBuffer> POOLED_CHUNKS = new ConcurrentLinkedQueue<>();
+  private static final AtomicInteger POOLED_CHUNK_COUNT = new AtomicInteger();
+  private static final ThreadLocal<ZeroChunkedBuffer> WRITING_BUFFER = new ThreadLocal<>();
+
+  private final List<ByteBuffer> chunks = new ArrayList<>();
+  private ByteBuffer current;
+  private int size;
+  private boolean closed;
+
+  private ZeroChunkedBuffer() {
+    current = acquireChunk();
+    chunks.add(current);
+  }
+
+  /**
+   * Creates a new buffer and marks it as being written by the current thread.
+   *
+   * @return a new {@link ZeroChunkedBuffer}
+   */
+  static ZeroChunkedBuffer open() {
+    var buffer = new ZeroChunkedBuffer();
+    WRITING_BUFFER.set(buffer);
+    return buffer;
+  }
+
+  /**
+   * Retrieves the buffer being written by the current thread.
+   *
+   * @return the {@link ZeroChunkedBuffer}, or <code>null</code> when there is none
+   */
+  static ZeroChunkedBuffer writing() {
+    return WRITING_BUFFER.get();
+  }
+
+  /**
+   * Retrieves the chunk currently written.
+   *
+   * @return the current chunk
+   */
+  ByteBuffer current() {
+    return current;
+  }
+
+  /**
+   * Appends binaries which do not fit in the current chunk, they are split over new chunks.
+   *
+   * @param binaries the binaries
+   * @param length   the number of bytes to append from the start of the binaries
+   * @return the chunk to continue writing on
+   */
+  ByteBuffer append(byte[] binaries, int length) {
+    var offset = 0;
+    while (offset < length) {
+      if (!current.hasRemaining()) {
+        current = acquireChunk();
+        chunks.add(current);
+      }
+      var sliceLength = Math.min(current.remaining(), length - offset);
+      current.put(binaries, offset, sliceLength);
+      offset += sliceLength;
+    }
+
+    return current;
+  }
+
+  /**
+   * Completes writing, the current thread stops writing on this buffer.
+   *
+   * @return this buffer
+   */
+  ZeroChunkedBuffer finish() {
+    WRITING_BUFFER.remove();
+    for (var chunk : chunks) {
+      size += chunk.position();
+      chunk.flip();
+    }
+    current = null;
+
+    return this;
+  }
+
+  /**
+   * Retrieves the number of bytes.
+   *
+   * @return the size of binaries in bytes
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Retrieves the number of chunks.
+   *
+   * @return the number of chunks
+   */
+  public int getChunkCount() {
+    return chunks.size();
+  }
+
+  /**
+   * Retrieves the chunks for a gathering write. Each call returns new views, so their positions
+   * could be consumed independently.
+   *
+   * @return an array of read-only {@link ByteBuffer}s in order
+   */
+  public ByteBuffer[] toByteBuffers() {
+    ensureOpen();
+    var buffers = new ByteBuffer[chunks.size()];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = chunks.get(i).asReadOnlyBuffer();
+    }
+
+    return buffers;
+  }
+
+  /**
+   * Copies all chunks into one array.
+   *
+   * @return the binaries
+   */
+  public byte[] toBinaries() {
+    ensureOpen();
+    var binaries = new byte[size];
+    var offset = 0;
+    for (var chunk : chunks) {
+      var length = chunk.remaining();
+      chunk.get(chunk.position(), binaries, offset, length);
+      offset += length;
+    }
+
+    return binaries;
+  }
+
+  /**
+   * Gives the chunks back to the pool.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (WRITING_BUFFER.get() == this) {
+      WRITING_BUFFER.remove();
+    }
+    chunks.forEach(ZeroChunkedBuffer::releaseChunk);
+    chunks.clear();
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("The buffer is already closed");
+    }
+  }
+
+  private static ByteBuffer acquireChunk() {
+    var chunk = POOLED_CHUNKS.poll();
+    if (chunk == null) {
+      return ByteBuffer.allocate(CHUNK_BYTES);
+    }
+
+    POOLED_CHUNK_COUNT.decrementAndGet();
+    return chunk.clear();
+  }
+
+  private static void releaseChunk(ByteBuffer chunk) {
+    if (POOLED_CHUNK_COUNT.incrementAndGet() > MAX_POOLED_CHUNKS) {
+      POOLED_CHUNK_COUNT.decrementAndGet();
+      return;
+    }
+
+    POOLED_CHUNKS.offer(chunk);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+/**
+ * Optional encodings which can be applied while serializing zero collections. They trade a bit
+ * of encoding work for smaller binaries. The decoder recognizes every optional encoding by
+ * itself, so binaries created with or without any option are decoded the same way.
+ *
+ * @see ZeroUtility#mapToBinaries(com.tenio.common.data.zero.ZeroMap, ZeroEncodingOption...)
+ * @see ZeroUtility#arrayToBinaries(com.tenio.common.data.zero.ZeroArray, ZeroEncodingOption...)
+ */
+public enum ZeroEncodingOption {
+
+  /**
+   * Collections of {@link Boolean} values are packed 8 values per byte.
+   */
+  PACK_BOOLEAN_ARRAYS,
+  /**
+   * All {@link Boolean} values of a map are packed together into a single bitset field, so
+   * each flag no longer spends a type byte and a value byte.
+   */
+  PACK_BOOLEAN_FIELDS,
+  /**
+   * Every {@link String} value repeated in a payload is written once into a table in front of
+   * it and referenced by its index, the decoder shares one instance per table entry.
+   */
+  DEDUPLICATE_STRINGS,
+  /**
+   * An array of maps sharing the same keys and value types is written column by column, so
+   * every key and type is written once and the values of a column are written in bulk. Only
+   * maps of scalar values qualify, other arrays keep the plain encoding.
+   */
+  COLUMNAR_ARRAYS,
+  /**
+   * Every collection size and string value length is written as an <code>int</code>. Without
+   * it, only the elements which do not fit the <code>short</code> range switch to the wide
+   * header on their own, so this option is only needed when a fixed layout is preferred. Map
+   * keys, the string table, string references and the rows and fields of columnar arrays always
+   * keep their <code>short</code> sizes.
+   */
+  WIDE_SIZES
+}
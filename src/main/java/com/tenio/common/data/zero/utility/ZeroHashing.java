@@ -0,0 +1,376 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import com.tenio.common.data.DataCollection;
+import com.tenio.common.data.zero.ReadonlyZeroArray;
+import com.tenio.common.data.zero.ReadonlyZeroMap;
+import com.tenio.common.data.zero.ZeroElement;
+import com.tenio.common.data.zero.ZeroIntMap;
+import com.tenio.common.data.zero.implement.ZeroQuantizedElementImpl;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Structural equality, content hashing and fingerprints of zero collections.
+ *
+ * <p>Two collections are equal when they hold equal values of the same {@link
+ * com.tenio.common.data.zero.ZeroType}s, regardless of their implementations, so a typed array
+ * equals a generic one and a concurrent map equals a plain one. The content hash only depends on
+ * the values, it is independent of the iteration order of map keys and stays the same across
+ * JVMs. A fingerprint is the 64-bit xxHash of the encoded binaries, it is cheap to keep and to
+ * compare, e.g. to skip sending a state which has not changed. Because the binaries follow the
+ * iteration order of a map, two equal maps built in different ways may have different
+ * fingerprints, but equal fingerprints always come from equal binaries (barring collisions).
+ */
+public final class ZeroHashing {
+
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+  private static final int STRIPE_BYTES = 32;
+
+  private ZeroHashing() {
+    throw new UnsupportedOperationException("This class does not support to create an instance");
+  }
+
+  /**
+   * Determines whether two maps hold the same keys with equal values.
+   *
+   * @param first  the first {@link ReadonlyZeroMap}
+   * @param second the second {@link ReadonlyZeroMap}
+   * @return <code>true</code> if they are structurally equal, otherwise <code>false</code>
+   */
+  public static boolean equals(ReadonlyZeroMap first, ReadonlyZeroMap second) {
+    if (first == second) {
+      return true;
+    }
+    if (first == null || second == null || first.size() != second.size()) {
+      return false;
+    }
+
+    for (var key : first.getReadonlyKeys()) {
+      var element = second.getZeroElement(key);
+      if (element == null || !equals(first.getZeroElement(key), element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Determines whether two arrays hold equal values in the same order.
+   *
+   * @param first  the first {@link ReadonlyZeroArray}
+   * @param second the second {@link ReadonlyZeroArray}
+   * @return <code>true</code> if they are structurally equal, otherwise <code>false</code>
+   */
+  public static boolean equals(ReadonlyZeroArray first, ReadonlyZeroArray second) {
+    if (first == second) {
+      return true;
+    }
+    if (first == null || second == null || first.size() != second.size()) {
+      return false;
+    }
+
+    for (int i = 0; i < first.size(); i++) {
+      if (!equals(first.getZeroElement(i), second.getZeroElement(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Determines whether two int maps hold the same field IDs with equal values.
+   *
+   * @param first  the first {@link ZeroIntMap}
+   * @param second the second {@link ZeroIntMap}
+   * @return <code>true</code> if they are structurally equal, otherwise <code>false</code>
+   */
+  public static boolean equals(ZeroIntMap first, ZeroIntMap second) {
+    if (first == second) {
+      return true;
+    }
+    if (first == null || second == null || first.size() != second.size()) {
+      return false;
+    }
+
+    for (var key : first.getKeys()) {
+      var element = second.getZeroElement(key);
+      if (element == null || !equals(first.getZeroElement(key), element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Determines whether two elements have the same type, quantization and equal values.
+   *
+   * @param first  the first {@link ZeroElement}
+   * @param second the second {@link ZeroElement}
+   * @return <code>true</code> if they are structurally equal, otherwise <code>false</code>
+   */
+  public static boolean equals(ZeroElement first, ZeroElement second) {
+    if (first == second) {
+      return true;
+    }
+    if (first == null || second == null || first.getType() != second.getType()
+        || !Objects.equals(quantizationOf(first), quantizationOf(second))) {
+      return false;
+    }
+
+    return dataEquals(first.getData(), second.getData());
+  }
+
+  /**
+   * Calculates the content hash of a map, it does not depend on the order of keys.
+   *
+   * @param map the {@link ReadonlyZeroMap}
+   * @return the hash value
+   */
+  public static int hash(ReadonlyZeroMap map) {
+    var hash = 0;
+    for (var key : map.getReadonlyKeys()) {
+      hash += mix(31 * key.hashCode() + hash(map.getZeroElement(key)));
+    }
+    return hash;
+  }
+
+  /**
+   * Calculates the content hash of an array.
+   *
+   * @param array the {@link ReadonlyZeroArray}
+   * @return the hash value
+   */
+  public static int hash(ReadonlyZeroArray array) {
+    var hash = 1;
+    for (int i = 0; i < array.size(); i++) {
+      hash = 31 * hash + hash(array.getZeroElement(i));
+    }
+    return hash;
+  }
+
+  /**
+   * Calculates the content hash of an int map, it does not depend on the order of keys.
+   *
+   * @param map the {@link ZeroIntMap}
+   * @return the hash value
+   */
+  public static int hash(ZeroIntMap map) {
+    var hash = 0;
+    for (var key : map.getKeys()) {
+      hash += mix(31 * key + hash(map.getZeroElement(key)));
+    }
+    return hash;
+  }
+
+  /**
+   * Calculates the content hash of an element.
+   *
+   * @param element the {@link ZeroElement}
+   * @return the hash value
+   */
+  public static int hash(ZeroElement element) {
+    if (element == null) {
+      return 0;
+    }
+
+    var hash = 31 * element.getType().getValue() + dataHash(element.getData());
+    return 31 * hash + Objects.hashCode(quantizationOf(element));
+  }
+
+  /**
+   * Calculates the fingerprint of a collection from its encoded binaries.
+   *
+   * @param collection the {@link DataCollection}
+   * @return the 64-bit fingerprint
+   */
+  public static long fingerprint(DataCollection collection) {
+    return xxHash64(collection.toBinaries(), 0L);
+  }
+
+  /**
+   * Calculates the 64-bit xxHash of binaries.
+   *
+   * @param binaries the binaries
+   * @param seed     the seed
+   * @return the hash value
+   */
+  public static long xxHash64(byte[] binaries, long seed) {
+    return xxHash64(ByteBuffer.wrap(binaries), seed);
+  }
+
+  /**
+   * Calculates the 64-bit xxHash of the remaining bytes in a buffer, its position is not changed.
+   *
+   * @param buffer the {@link ByteBuffer}
+   * @param seed   the seed
+   * @return the hash value
+   */
+  public static long xxHash64(ByteBuffer buffer, long seed) {
+    var input = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    var position = input.position();
+    var limit = input.limit();
+    long hash;
+
+    if (limit - position >= STRIPE_BYTES) {
+      var v1 = seed + PRIME64_1 + PRIME64_2;
+      var v2 = seed + PRIME64_2;
+      var v3 = seed;
+      var v4 = seed - PRIME64_1;
+      do {
+        v1 = round(v1, input.getLong(position));
+        v2 = round(v2, input.getLong(position + Long.BYTES));
+        v3 = round(v3, input.getLong(position + Long.BYTES * 2));
+        v4 = round(v4, input.getLong(position + Long.BYTES * 3));
+        position += STRIPE_BYTES;
+      } while (limit - position >= STRIPE_BYTES);
+
+      hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12)
+          + Long.rotateLeft(v4, 18);
+      hash = merge(hash, v1);
+      hash = merge(hash, v2);
+      hash = merge(hash, v3);
+      hash = merge(hash, v4);
+    } else {
+      hash = seed + PRIME64_5;
+    }
+
+    hash += limit - input.position();
+
+    for (; limit - position >= Long.BYTES; position += Long.BYTES) {
+      hash ^= round(0, input.getLong(position));
+      hash = Long.rotateLeft(hash, 27) * PRIME64_1 + PRIME64_4;
+    }
+    if (limit - position >= Integer.BYTES) {
+      hash ^= (input.getInt(position) & 0xFFFFFFFFL) * PRIME64_1;
+      hash = Long.rotateLeft(hash, 23) * PRIME64_2 + PRIME64_3;
+      position += Integer.BYTES;
+    }
+    for (; position < limit; position++) {
+      hash ^= (input.get(position) & 0xFFL) * PRIME64_5;
+      hash = Long.rotateLeft(hash, 11) * PRIME64_1;
+    }
+
+    hash ^= hash >>> 33;
+    hash *= PRIME64_2;
+    hash ^= hash >>> 29;
+    hash *= PRIME64_3;
+    return hash ^ (hash >>> 32);
+  }
+
+  private static long round(long accumulator, long input) {
+    return Long.rotateLeft(accumulator + input * PRIME64_2, 31) * PRIME64_1;
+  }
+
+  private static long merge(long hash, long accumulator) {
+    return (hash ^ round(0, accumulator)) * PRIME64_1 + PRIME64_4;
+  }
+
+  private static int mix(int hash) {
+    hash ^= hash >>> 16;
+    hash *= 0x85EBCA6B;
+    hash ^= hash >>> 13;
+    hash *= 0xC2B2AE35;
+    return hash ^ (hash >>> 16);
+  }
+
+  private static Object quantizationOf(ZeroElement element) {
+    return element instanceof ZeroQuantizedElementImpl quantized ? quantized.getQuantization()
+        : null;
+  }
+
+  private static boolean dataEquals(Object first, Object second) {
+    if (first == second) {
+      return true;
+    }
+    if (first == null || second == null) {
+      return false;
+    }
+
+    if (first instanceof ReadonlyZeroMap firstMap) {
+      return second instanceof ReadonlyZeroMap secondMap && equals(firstMap, secondMap);
+    }
+    if (first instanceof ReadonlyZeroArray firstArray) {
+      return second instanceof ReadonlyZeroArray secondArray && equals(firstArray, secondArray);
+    }
+    if (first instanceof ZeroIntMap firstMap) {
+      return second instanceof ZeroIntMap secondMap && equals(firstMap, secondMap);
+    }
+    if (first instanceof byte[] firstBytes) {
+      return second instanceof byte[] secondBytes && Arrays.equals(firstBytes, secondBytes);
+    }
+    if (first instanceof Collection<?> firstValues) {
+      return second instanceof Collection<?> secondValues
+          && collectionEquals(firstValues, secondValues);
+    }
+    return first.equals(second);
+  }
+
+  private static boolean collectionEquals(Collection<?> first, Collection<?> second) {
+    if (first.size() != second.size()) {
+      return false;
+    }
+
+    Iterator<?> iterator = second.iterator();
+    for (var value : first) {
+      if (!Objects.equals(value, iterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int dataHash(Object data) {
+    if (data instanceof ReadonlyZeroMap map) {
+      return hash(map);
+    }
+    if (data instanceof ReadonlyZeroArray array) {
+      return hash(array);
+    }
+    if (data instanceof ZeroIntMap map) {
+      return hash(map);
+    }
+    if (data instanceof byte[] bytes) {
+      return Arrays.hashCode(bytes);
+    }
+    if (data instanceof Collection<?> values) {
+      var hash = 1;
+      for (var value : values) {
+        hash = 31 * hash + Objects.hashCode(value);
+      }
+      return hash;
+    }
+    return Objects.hashCode(data);
+  }
+}
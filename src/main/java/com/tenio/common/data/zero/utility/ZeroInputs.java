@@ -0,0 +1,288 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.ZeroType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Shared helpers to read the primitive parts of Zero-format binaries directly from a buffer.
+ */
+final class ZeroInputs {
+
+  private static final String[] EMPTY_STRINGS = new String[0];
+
+  private ZeroInputs() {
+    throw new UnsupportedOperationException("This class does not support to create an instance");
+  }
+
+  static boolean readBoolean(ByteBuffer buffer) {
+    var bool = buffer.get();
+    if (bool != 0 && bool != 1) {
+      throw new IllegalStateException(
+          String.format("Expected value of 0 or 1, but found: %d", bool));
+    }
+
+    return bool == 1;
+  }
+
+  static int getSizeBytes(boolean wide) {
+    return wide ? Integer.BYTES : Short.BYTES;
+  }
+
+  static int readCollectionSize(ByteBuffer buffer) {
+    return readCollectionSize(buffer, false);
+  }
+
+  static int readCollectionSize(ByteBuffer buffer, boolean wide) {
+    var size = wide ? buffer.getInt() : buffer.getShort();
+    if (size < 0) {
+      throw new NegativeArraySizeException(
+          String.format("Could not create a collection with negative size value: %d", size));
+    }
+
+    return size;
+  }
+
+  /*
+   * An unsigned varint holds 7 bits per byte, the lowest group first, and its highest bit tells
+   * whether another byte follows.
+   */
+  static int readVarint(ByteBuffer buffer) {
+    var value = 0;
+    for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+      var current = buffer.get();
+      value |= (current & 0x7F) << shift;
+      if (current >= 0) {
+        if (value < 0) {
+          throw new IllegalStateException(
+              String.format("The varint exceeds the supported range: %d", value));
+        }
+        return value;
+      }
+    }
+
+    throw new IllegalStateException("The varint is longer than 5 bytes");
+  }
+
+  static int readByteArraySize(ByteBuffer buffer) {
+    var size = buffer.getInt();
+    if (size < 0) {
+      throw new NegativeArraySizeException(
+          String.format("Could not create an array with negative size value: %d", size));
+    }
+
+    return size;
+  }
+
+  static int readStringLength(ByteBuffer buffer) {
+    return readStringLength(buffer, false);
+  }
+
+  static int readStringLength(ByteBuffer buffer, boolean wide) {
+    var length = wide ? buffer.getInt() : buffer.getShort();
+    if (length < 0) {
+      throw new IllegalStateException(
+          String.format("The length of string is incorrect: %d", length));
+    }
+
+    return length;
+  }
+
+  static String readString(ByteBuffer buffer) {
+    return newString(buffer, readStringLength(buffer));
+  }
+
+  static String readString(ByteBuffer buffer, ZeroStringCache cache) {
+    return readString(buffer, cache, false);
+  }
+
+  static String readString(ByteBuffer buffer, ZeroStringCache cache, boolean wide) {
+    var length = readStringLength(buffer, wide);
+    return cache == null ? newString(buffer, length) : cache.read(buffer, length);
+  }
+
+  private static String newString(ByteBuffer buffer, int length) {
+    String value;
+    if (buffer.hasArray()) {
+      value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+          StandardCharsets.UTF_8);
+      buffer.position(buffer.position() + length);
+    } else {
+      var binaries = new byte[length];
+      buffer.get(binaries);
+      value = new String(binaries, StandardCharsets.UTF_8);
+    }
+
+    return value;
+  }
+
+  /*
+   * The string table is optional and always written in front of the root collection, an empty
+   * table is returned when the payload has none.
+   */
+  static String[] readStringTable(ByteBuffer buffer) {
+    if (!buffer.hasRemaining() || buffer.get(buffer.position()) != ZeroWireType.STRING_TABLE) {
+      return EMPTY_STRINGS;
+    }
+
+    buffer.get();
+    var strings = new String[readCollectionSize(buffer)];
+    for (int i = 0; i < strings.length; i++) {
+      strings[i] = readString(buffer);
+    }
+
+    return strings;
+  }
+
+  static String readStringReference(ByteBuffer buffer, String[] strings) {
+    var index = buffer.getShort();
+    if (index < 0 || index >= strings.length) {
+      throw new IllegalStateException(String.format(
+          "The string reference is out of the table range: %d, size: %d", index,
+          strings.length));
+    }
+
+    return strings[index];
+  }
+
+  /*
+   * Checks the root collection of a payload whose string table, if any, is already read.
+   */
+  static void checkRootCollection(ByteBuffer buffer) {
+    var headerByte = buffer.get(buffer.position());
+    if (headerByte == ZeroWireType.WIDE) {
+      headerByte = buffer.get(buffer.position() + Byte.BYTES);
+    }
+    if (headerByte == ZeroWireType.COLUMNAR_ARRAY || headerByte == ZeroWireType.TYPED_ARRAY) {
+      return;
+    }
+
+    var type = ZeroType.getByValue(headerByte);
+    if (type != ZeroType.ZERO_MAP && type != ZeroType.ZERO_ARRAY
+        && type != ZeroType.ZERO_INT_MAP) {
+      throw new UnsupportedOperationException(String.format("Unsupported value: %s", type));
+    }
+  }
+
+  /*
+   * All boolean fields of a map are packed into its first entry, which has an empty key. The
+   * number of packed fields is returned, or -1 when the map has no such entry.
+   */
+  static int peekBooleanFieldCount(ByteBuffer buffer, int mapSize) {
+    var position = buffer.position();
+    if (mapSize == 0 || buffer.getShort(position) != 0
+        || buffer.get(position + Short.BYTES) != ZeroWireType.BOOLEAN_BIT_FIELDS) {
+      return -1;
+    }
+
+    return readCollectionSize(buffer.duplicate().position(position + Short.BYTES + Byte.BYTES));
+  }
+
+  static int bitsToBytes(int bitCount) {
+    return (bitCount + Byte.SIZE - 1) / Byte.SIZE;
+  }
+
+  static boolean isBitSet(ByteBuffer buffer, int bitsPosition, int index) {
+    return (buffer.get(bitsPosition + (index >>> 3)) & (1 << (index & 7))) != 0;
+  }
+
+  /*
+   * A column holds the values of one field for all rows of a columnar array: booleans are
+   * packed 8 per byte, strings are written one after another and the other values are fixed.
+   */
+  static int getColumnBytes(ByteBuffer buffer, int columnType, int columnStart, int rows) {
+    if (columnType == ZeroType.BOOLEAN.getValue()) {
+      return bitsToBytes(rows);
+    }
+    if (columnType == ZeroWireType.STRING_REFERENCE) {
+      return Short.BYTES * rows;
+    }
+    if (columnType == ZeroType.STRING.getValue()) {
+      var column = buffer.duplicate().position(columnStart);
+      for (int i = 0; i < rows; i++) {
+        var length = readStringLength(column);
+        column.position(column.position() + length);
+      }
+      return column.position() - columnStart;
+    }
+
+    var type = ZeroType.getByValue(columnType);
+    if (type == null) {
+      throw new IllegalStateException(
+          String.format("Unable to decode the column type: %d", columnType));
+    }
+
+    return switch (type) {
+      case BYTE -> rows;
+      case SHORT, HALF_FLOAT -> Short.BYTES * rows;
+      case INTEGER, FLOAT -> Integer.BYTES * rows;
+      case LONG, DOUBLE -> Long.BYTES * rows;
+      default -> throw new IllegalStateException(
+          String.format("Unable to decode the column type: %s", type));
+    };
+  }
+
+  static float readHalfFloat(ByteBuffer buffer) {
+    return Float.float16ToFloat(buffer.getShort());
+  }
+
+  static ZeroQuantization readQuantization(ByteBuffer buffer) {
+    var min = buffer.getFloat();
+    var max = buffer.getFloat();
+    var bits = buffer.get();
+
+    try {
+      return new ZeroQuantization(min, max, bits);
+    } catch (IllegalArgumentException exception) {
+      throw new IllegalStateException(exception.getMessage());
+    }
+  }
+
+  /*
+   * Codes are packed most significant bit first, the last byte is padded with zero bits.
+   */
+  static float[] readQuantizedFloats(ByteBuffer buffer, ZeroQuantization quantization,
+                                     int count) {
+    var bits = quantization.getBits();
+    var mask = (1L << bits) - 1;
+    var values = new float[count];
+    var accumulator = 0L;
+    var available = 0;
+
+    for (int i = 0; i < count; ++i) {
+      while (available < bits) {
+        accumulator = (accumulator << Byte.SIZE) | (buffer.get() & 0xFF);
+        available += Byte.SIZE;
+      }
+      available -= bits;
+      values[i] = quantization.dequantize((int) ((accumulator >>> available) & mask));
+    }
+
+    return values;
+  }
+}
@@ -0,0 +1,488 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.tenio.common.data.zero.ZeroType;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class converts JSON documents to the self-definition binaries and vice versa. Both
+ * directions work in streaming fashion on top of the Jackson streaming API ({@link JsonParser}
+ * and {@link JsonGenerator}), so no intermediate object model is built during the conversion.
+ *
+ * <p>The type mapping is:
+ * <ul>
+ *   <li>JSON object &harr; {@link ZeroType#ZERO_MAP}</li>
+ *   <li>JSON array &harr; {@link ZeroType#ZERO_ARRAY}</li>
+ *   <li>JSON string &harr; {@link ZeroType#STRING}</li>
+ *   <li>JSON boolean &harr; {@link ZeroType#BOOLEAN}</li>
+ *   <li>JSON null &harr; {@link ZeroType#NULL}</li>
+ *   <li>JSON number &harr; one of the numeric types, chosen by a {@link NumericInference}</li>
+ * </ul>
+ * In the other direction, collections of primitive values are written as JSON arrays and
+ * {@link ZeroType#BYTE_ARRAY} values are written as Base64 encoded strings, a
+ * {@link ZeroType#ZERO_INT_MAP} is written as a JSON object whose field names are its field IDs.
+ * Binaries written with any {@link ZeroEncodingOption} are expanded to the same values as the
+ * plain encoding, so packed booleans, string references, columnar arrays and typed arrays are
+ * transcoded like their plain counterparts.
+ */
+public final class ZeroJsonTranscoder {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private ZeroJsonTranscoder() {
+    throw new UnsupportedOperationException("This class does not support to create an instance");
+  }
+
+  /**
+   * Converts a JSON document to a stream of bytes using the {@link NumericInference#STANDARD}
+   * inference.
+   *
+   * @param json the JSON document, its root must be an object or an array
+   * @return the stream of bytes which can be decoded by {@link ZeroUtility}
+   */
+  public static byte[] jsonToBinaries(String json) {
+    return jsonToBinaries(json, NumericInference.STANDARD);
+  }
+
+  /**
+   * Converts a JSON document to a stream of bytes.
+   *
+   * @param json      the JSON document, its root must be an object or an array
+   * @param inference the strategy to choose types for numbers
+   * @return the stream of bytes which can be decoded by {@link ZeroUtility}
+   */
+  public static byte[] jsonToBinaries(String json, NumericInference inference) {
+    try (var parser = JSON_FACTORY.createParser(json)) {
+      return jsonToBinaries(parser, inference);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  /**
+   * Reads the next JSON value from a parser and converts it to a stream of bytes. When the
+   * parser is already positioned on a token, that token is used as the root.
+   *
+   * @param parser    the {@link JsonParser}, its next value must be an object or an array
+   * @param inference the strategy to choose types for numbers
+   * @return the stream of bytes which can be decoded by {@link ZeroUtility}
+   * @throws IOException when the parser fails to read its content
+   */
+  public static byte[] jsonToBinaries(JsonParser parser, NumericInference inference)
+      throws IOException {
+    var token = parser.currentToken() != null ? parser.currentToken() : parser.nextToken();
+    if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+      throw new IllegalStateException(
+          String.format("Expected a JSON object or array as the root, but found: %s", token));
+    }
+
+    var output = new ZeroOutputBuffer();
+    writeValue(parser, output, inference);
+
+    return output.toBinaries();
+  }
+
+  /**
+   * Converts a stream of bytes to a JSON document.
+   *
+   * @param binaries the stream of bytes holding a zero map or a zero array
+   * @return the JSON document
+   */
+  public static String binariesToJson(byte[] binaries) {
+    var writer = new StringWriter();
+    try (var generator = JSON_FACTORY.createGenerator(writer)) {
+      binariesToJson(binaries, generator);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+
+    return writer.toString();
+  }
+
+  /**
+   * Converts a stream of bytes to JSON tokens.
+   *
+   * @param binaries  the stream of bytes holding a zero map or a zero array
+   * @param generator the {@link JsonGenerator} receiving the tokens
+   * @throws IOException when the generator fails to write its content
+   */
+  public static void binariesToJson(byte[] binaries, JsonGenerator generator)
+      throws IOException {
+    bufferToJson(ByteBuffer.wrap(binaries), generator);
+  }
+
+  /**
+   * Converts binaries starting at the current position of a buffer to JSON tokens. After the
+   * call, the buffer's position is right behind the converted collection.
+   *
+   * @param buffer    the {@link ByteBuffer} holding a zero map or a zero array
+   * @param generator the {@link JsonGenerator} receiving the tokens
+   * @throws IOException when the generator fails to write its content
+   */
+  public static void bufferToJson(ByteBuffer buffer, JsonGenerator generator)
+      throws IOException {
+    var strings = ZeroInputs.readStringTable(buffer);
+    ZeroInputs.checkRootCollection(buffer);
+
+    transcodeElement(buffer, generator, strings);
+  }
+
+  private static void writeValue(JsonParser parser, ZeroOutputBuffer output,
+                                 NumericInference inference) throws IOException {
+    var token = parser.currentToken();
+    switch (token) {
+      case START_OBJECT -> writeObject(parser, output, inference);
+      case START_ARRAY -> writeArray(parser, output, inference);
+      case VALUE_STRING -> writeString(output, parser.getText());
+      case VALUE_NUMBER_INT -> {
+        if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+          throw new IllegalArgumentException(
+              String.format("The number is out of range: %s", parser.getText()));
+        }
+        var value = parser.getLongValue();
+        var type = inference.inferIntegral(value);
+        output.putByte(type.getValue());
+        switch (type) {
+          case BYTE -> output.putByte((int) value);
+          case SHORT -> output.putShort((int) value);
+          case INTEGER -> output.putInt((int) value);
+          default -> output.putLong(value);
+        }
+      }
+      case VALUE_NUMBER_FLOAT -> {
+        var value = parser.getDoubleValue();
+        var type = inference.inferDecimal(value);
+        output.putByte(type.getValue());
+        if (type == ZeroType.FLOAT) {
+          output.putFloat((float) value);
+        } else {
+          output.putDouble(value);
+        }
+      }
+      case VALUE_TRUE, VALUE_FALSE -> output.putByte(ZeroType.BOOLEAN.getValue())
+          .putByte(token == JsonToken.VALUE_TRUE ? 1 : 0);
+      case VALUE_NULL -> output.putByte(ZeroType.NULL.getValue());
+      case VALUE_EMBEDDED_OBJECT -> {
+        if (!(parser.getEmbeddedObject() instanceof byte[] binaries)) {
+          throw new UnsupportedOperationException(
+              String.format("Unsupported embedded object: %s", parser.getEmbeddedObject()));
+        }
+        output.putByte(ZeroType.BYTE_ARRAY.getValue()).putInt(binaries.length).put(binaries);
+      }
+      default -> throw new IllegalStateException(
+          String.format("Unexpected JSON token: %s", token));
+    }
+  }
+
+  private static void writeObject(JsonParser parser, ZeroOutputBuffer output,
+                                  NumericInference inference) throws IOException {
+    var headerPosition = output.position();
+    output.putByte(ZeroType.ZERO_MAP.getValue()).putShort(0);
+
+    var size = 0;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var key = parser.currentName().getBytes(StandardCharsets.UTF_8);
+      output.putShort(checkSize(key.length, "key")).put(key);
+      parser.nextToken();
+      writeValue(parser, output, inference);
+      size++;
+    }
+
+    output.patchSize(headerPosition, size);
+  }
+
+  private static void writeArray(JsonParser parser, ZeroOutputBuffer output,
+                                 NumericInference inference) throws IOException {
+    var headerPosition = output.position();
+    output.putByte(ZeroType.ZERO_ARRAY.getValue()).putShort(0);
+
+    var size = 0;
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      writeValue(parser, output, inference);
+      size++;
+    }
+
+    output.patchSize(headerPosition, size);
+  }
+
+  private static void writeString(ZeroOutputBuffer output, String value) {
+    var binaries = value.getBytes(StandardCharsets.UTF_8);
+    output.putSizedHeader(ZeroType.STRING.getValue(), binaries.length).put(binaries);
+  }
+
+  private static int checkSize(int size, String target) {
+    if (size > Short.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format("The %s's size exceeds the supported range: %d", target, size));
+    }
+
+    return size;
+  }
+
+  private static void transcodeElement(ByteBuffer buffer, JsonGenerator generator,
+                                       String[] strings) throws IOException {
+    var headerByte = buffer.get();
+    var wide = headerByte == ZeroWireType.WIDE;
+    if (wide) {
+      headerByte = buffer.get();
+    }
+
+    transcodeElementValue(buffer, generator, strings, headerByte, wide);
+  }
+
+  private static void transcodeElementValue(ByteBuffer buffer, JsonGenerator generator,
+                                            String[] strings, byte headerByte, boolean wide)
+      throws IOException {
+    var type = ZeroType.getByValue(headerByte);
+    if (type == null) {
+      transcodeWireValue(buffer, generator, strings, headerByte, wide);
+      return;
+    }
+
+    switch (type) {
+      case NULL -> generator.writeNull();
+      case BOOLEAN -> generator.writeBoolean(ZeroInputs.readBoolean(buffer));
+      case BYTE -> generator.writeNumber(buffer.get());
+      case SHORT -> generator.writeNumber(buffer.getShort());
+      case INTEGER -> generator.writeNumber(buffer.getInt());
+      case LONG -> generator.writeNumber(buffer.getLong());
+      case FLOAT -> generator.writeNumber(buffer.getFloat());
+      case DOUBLE -> generator.writeNumber(buffer.getDouble());
+      case STRING -> generator.writeString(ZeroInputs.readString(buffer, null, wide));
+      case BOOLEAN_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartArray(null, size);
+        for (int i = 0; i < size; i++) {
+          generator.writeBoolean(ZeroInputs.readBoolean(buffer));
+        }
+        generator.writeEndArray();
+      }
+      case BYTE_ARRAY -> {
+        var binaries = new byte[ZeroInputs.readByteArraySize(buffer)];
+        buffer.get(binaries);
+        generator.writeBinary(binaries);
+      }
+      case SHORT_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartArray(null, size);
+        for (int i = 0; i < size; i++) {
+          generator.writeNumber(buffer.getShort());
+        }
+        generator.writeEndArray();
+      }
+      case INTEGER_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartArray(null, size);
+        for (int i = 0; i < size; i++) {
+          generator.writeNumber(buffer.getInt());
+        }
+        generator.writeEndArray();
+      }
+      case LONG_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartArray(null, size);
+        for (int i = 0; i < size; i++) {
+          generator.writeNumber(buffer.getLong());
+        }
+        generator.writeEndArray();
+      }
+      case FLOAT_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartArray(null, size);
+        for (int i = 0; i < size; i++) {
+          generator.writeNumber(buffer.getFloat());
+        }
+        generator.writeEndArray();
+      }
+      case DOUBLE_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartArray(null, size);
+        for (int i = 0; i < size; i++) {
+          generator.writeNumber(buffer.getDouble());
+        }
+        generator.writeEndArray();
+      }
+      case STRING_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartArray(null, size);
+        for (int i = 0; i < size; i++) {
+          generator.writeString(ZeroInputs.readString(buffer, null, wide));
+        }
+        generator.writeEndArray();
+      }
+      case ZERO_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartArray(null, size);
+        for (int i = 0; i < size; i++) {
+          transcodeElement(buffer, generator, strings);
+        }
+        generator.writeEndArray();
+      }
+      case ZERO_MAP -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartObject();
+        for (int i = 0; i < size; i++) {
+          var key = ZeroInputs.readString(buffer);
+          if (key.isEmpty()
+              && buffer.get(buffer.position()) == ZeroWireType.BOOLEAN_BIT_FIELDS) {
+            buffer.get();
+            transcodeBooleanFields(buffer, generator);
+            continue;
+          }
+          generator.writeFieldName(key);
+          transcodeElement(buffer, generator, strings);
+        }
+        generator.writeEndObject();
+      }
+      case ZERO_INT_MAP -> {
+        var size = ZeroInputs.readVarint(buffer);
+        generator.writeStartObject();
+        for (int i = 0; i < size; i++) {
+          generator.writeFieldName(Integer.toString(ZeroInputs.readVarint(buffer)));
+          transcodeElement(buffer, generator, strings);
+        }
+        generator.writeEndObject();
+      }
+      case HALF_FLOAT -> generator.writeNumber(ZeroInputs.readHalfFloat(buffer));
+      case HALF_FLOAT_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartArray(null, size);
+        for (int i = 0; i < size; i++) {
+          generator.writeNumber(ZeroInputs.readHalfFloat(buffer));
+        }
+        generator.writeEndArray();
+      }
+      case QUANTIZED_FLOAT -> generator.writeNumber(
+          ZeroInputs.readQuantizedFloats(buffer, ZeroInputs.readQuantization(buffer), 1)[0]);
+      case QUANTIZED_FLOAT_ARRAY -> {
+        var quantization = ZeroInputs.readQuantization(buffer);
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartArray(null, size);
+        for (var value : ZeroInputs.readQuantizedFloats(buffer, quantization, size)) {
+          generator.writeNumber(value);
+        }
+        generator.writeEndArray();
+      }
+    }
+  }
+
+  /*
+   * The optional encodings are expanded to the values they stand for, so the JSON document does
+   * not depend on the options used to create the binaries.
+   */
+  private static void transcodeWireValue(ByteBuffer buffer, JsonGenerator generator,
+                                         String[] strings, byte wireType, boolean wide)
+      throws IOException {
+    switch (wireType) {
+      case ZeroWireType.BOOLEAN_BIT_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        var bitsPosition = buffer.position();
+        generator.writeStartArray(null, size);
+        for (int i = 0; i < size; i++) {
+          generator.writeBoolean(ZeroInputs.isBitSet(buffer, bitsPosition, i));
+        }
+        generator.writeEndArray();
+        buffer.position(bitsPosition + ZeroInputs.bitsToBytes(size));
+      }
+      case ZeroWireType.STRING_REFERENCE ->
+          generator.writeString(ZeroInputs.readStringReference(buffer, strings));
+      case ZeroWireType.STRING_REFERENCE_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        generator.writeStartArray(null, size);
+        for (int i = 0; i < size; i++) {
+          generator.writeString(ZeroInputs.readStringReference(buffer, strings));
+        }
+        generator.writeEndArray();
+      }
+      case ZeroWireType.TYPED_ARRAY -> transcodeElement(buffer, generator, strings);
+      case ZeroWireType.COLUMNAR_ARRAY -> transcodeColumnarArray(buffer, generator, strings);
+      default -> throw new IllegalStateException(
+          String.format("Unable to decode the ZeroType value: %d", wireType));
+    }
+  }
+
+  private static void transcodeBooleanFields(ByteBuffer buffer, JsonGenerator generator)
+      throws IOException {
+    var fieldCount = ZeroInputs.readCollectionSize(buffer);
+    var keys = new String[fieldCount];
+    for (int i = 0; i < fieldCount; i++) {
+      keys[i] = ZeroInputs.readString(buffer);
+    }
+
+    var bitsPosition = buffer.position();
+    for (int i = 0; i < fieldCount; i++) {
+      generator.writeFieldName(keys[i]);
+      generator.writeBoolean(ZeroInputs.isBitSet(buffer, bitsPosition, i));
+    }
+    buffer.position(bitsPosition + ZeroInputs.bitsToBytes(fieldCount));
+  }
+
+  /*
+   * All columns are located at first, then each row reads its fields through the cursors of the
+   * columns on a duplicate of the buffer, so the objects are written in order.
+   */
+  private static void transcodeColumnarArray(ByteBuffer buffer, JsonGenerator generator,
+                                             String[] strings) throws IOException {
+    var rows = ZeroInputs.readCollectionSize(buffer);
+    var fields = ZeroInputs.readCollectionSize(buffer);
+    var keys = new String[fields];
+    var columnTypes = new byte[fields];
+    var columnPositions = new int[fields];
+    for (int field = 0; field < fields; field++) {
+      keys[field] = ZeroInputs.readString(buffer);
+      columnTypes[field] = buffer.get();
+      columnPositions[field] = buffer.position();
+      buffer.position(columnPositions[field]
+          + ZeroInputs.getColumnBytes(buffer, columnTypes[field], buffer.position(), rows));
+    }
+    var column = buffer.duplicate();
+
+    generator.writeStartArray(null, rows);
+    for (int row = 0; row < rows; row++) {
+      generator.writeStartObject();
+      for (int field = 0; field < fields; field++) {
+        generator.writeFieldName(keys[field]);
+        if (columnTypes[field] == ZeroType.BOOLEAN.getValue()) {
+          generator.writeBoolean(ZeroInputs.isBitSet(buffer, columnPositions[field], row));
+          continue;
+        }
+        column.position(columnPositions[field]);
+        transcodeElementValue(column, generator, strings, columnTypes[field], false);
+        columnPositions[field] = column.position();
+      }
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+  }
+}
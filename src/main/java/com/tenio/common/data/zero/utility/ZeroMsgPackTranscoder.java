@@ -0,0 +1,470 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import com.tenio.common.data.msgpack.MsgPackUtility;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.exception.MsgPackOperationException;
+import com.tenio.common.exception.UnsupportedMsgPackDataTypeException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.msgpack.core.MessageFormat;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.ValueType;
+
+/**
+ * This class converts <a href="https://msgpack.org/index.html">MessagePack</a> binaries to the
+ * self-definition binaries and vice versa. The conversion streams {@link MessageUnpacker} events
+ * to Zero-format bytes and Zero-format bytes to {@link MessagePacker} calls, so neither a
+ * {@link com.tenio.common.data.msgpack.element.MsgPackMap} nor a
+ * {@link com.tenio.common.data.zero.ZeroMap} is built in between.
+ *
+ * <p>MessagePack to Zero type mapping:
+ * <ul>
+ *   <li>nil &rarr; {@link ZeroType#NULL}</li>
+ *   <li>boolean &rarr; {@link ZeroType#BOOLEAN}</li>
+ *   <li>integer &rarr; one of the integral types, chosen by a {@link NumericInference}</li>
+ *   <li>float 32 &rarr; {@link ZeroType#FLOAT}, float 64 &rarr; {@link ZeroType#DOUBLE}</li>
+ *   <li>string &rarr; {@link ZeroType#STRING}</li>
+ *   <li>binary &rarr; {@link ZeroType#BYTE_ARRAY}</li>
+ *   <li>array &rarr; {@link ZeroType#ZERO_ARRAY}</li>
+ *   <li>map with string keys &rarr; {@link ZeroType#ZERO_MAP}</li>
+ * </ul>
+ * Extension types are not supported. In the other direction, every Zero type is written as its
+ * natural MessagePack counterpart, collections of primitive values become arrays and a
+ * {@link ZeroType#ZERO_INT_MAP} becomes a map with integer keys.
+ * Binaries written with any {@link ZeroEncodingOption} are expanded to the same values as the
+ * plain encoding, so packed booleans, string references, columnar arrays and typed arrays are
+ * transcoded like their plain counterparts.
+ *
+ * @see MsgPackUtility
+ */
+public final class ZeroMsgPackTranscoder {
+
+  private ZeroMsgPackTranscoder() {
+    throw new UnsupportedOperationException("This class does not support to create an instance");
+  }
+
+  /**
+   * Converts MessagePack binaries to Zero binaries using the {@link NumericInference#STANDARD}
+   * inference.
+   *
+   * @param binaries the MessagePack binaries, its root must be a map or an array
+   * @return the stream of bytes which can be decoded by {@link ZeroUtility}
+   */
+  public static byte[] msgPackToBinaries(byte[] binaries) {
+    return msgPackToBinaries(binaries, NumericInference.STANDARD);
+  }
+
+  /**
+   * Converts MessagePack binaries to Zero binaries.
+   *
+   * @param binaries  the MessagePack binaries, its root must be a map or an array
+   * @param inference the strategy to choose types for integers
+   * @return the stream of bytes which can be decoded by {@link ZeroUtility}
+   */
+  public static byte[] msgPackToBinaries(byte[] binaries, NumericInference inference) {
+    try (var unpacker = MessagePack.newDefaultUnpacker(binaries)) {
+      return msgPackToBinaries(unpacker, inference);
+    } catch (IOException exception) {
+      throw new MsgPackOperationException(exception);
+    }
+  }
+
+  /**
+   * Reads the next value of an unpacker and converts it to Zero binaries.
+   *
+   * @param unpacker  the {@link MessageUnpacker}, its next value must be a map or an array
+   * @param inference the strategy to choose types for integers
+   * @return the stream of bytes which can be decoded by {@link ZeroUtility}
+   */
+  public static byte[] msgPackToBinaries(MessageUnpacker unpacker, NumericInference inference) {
+    try {
+      var valueType = unpacker.getNextFormat().getValueType();
+      if (valueType != ValueType.MAP && valueType != ValueType.ARRAY) {
+        throw new IllegalStateException(
+            String.format("Expected a map or an array as the root, but found: %s", valueType));
+      }
+
+      var output = new ZeroOutputBuffer();
+      transcodeValue(unpacker, output, inference);
+
+      return output.toBinaries();
+    } catch (IOException exception) {
+      throw new MsgPackOperationException(exception);
+    }
+  }
+
+  /**
+   * Converts Zero binaries to MessagePack binaries.
+   *
+   * @param binaries the stream of bytes holding a zero map or a zero array
+   * @return the MessagePack binaries
+   */
+  public static byte[] binariesToMsgPack(byte[] binaries) {
+    try (var packer = MessagePack.newDefaultBufferPacker()) {
+      bufferToMsgPack(ByteBuffer.wrap(binaries), packer);
+      return packer.toByteArray();
+    } catch (IOException exception) {
+      throw new MsgPackOperationException(exception);
+    }
+  }
+
+  /**
+   * Converts Zero binaries starting at the current position of a buffer to MessagePack calls.
+   * After the call, the buffer's position is right behind the converted collection.
+   *
+   * @param buffer the {@link ByteBuffer} holding a zero map or a zero array
+   * @param packer the {@link MessagePacker} receiving the values
+   */
+  public static void bufferToMsgPack(ByteBuffer buffer, MessagePacker packer) {
+    var strings = ZeroInputs.readStringTable(buffer);
+    ZeroInputs.checkRootCollection(buffer);
+
+    try {
+      transcodeElement(buffer, packer, strings);
+    } catch (IOException exception) {
+      throw new MsgPackOperationException(exception);
+    }
+  }
+
+  private static void transcodeValue(MessageUnpacker unpacker, ZeroOutputBuffer output,
+                                     NumericInference inference) throws IOException {
+    var format = unpacker.getNextFormat();
+    switch (format.getValueType()) {
+      case NIL -> {
+        unpacker.unpackNil();
+        output.putByte(ZeroType.NULL.getValue());
+      }
+      case BOOLEAN -> output.putByte(ZeroType.BOOLEAN.getValue())
+          .putByte(unpacker.unpackBoolean() ? 1 : 0);
+      case INTEGER -> {
+        var value = unpacker.unpackLong();
+        var type = inference.inferIntegral(value);
+        output.putByte(type.getValue());
+        switch (type) {
+          case BYTE -> output.putByte((int) value);
+          case SHORT -> output.putShort((int) value);
+          case INTEGER -> output.putInt((int) value);
+          default -> output.putLong(value);
+        }
+      }
+      case FLOAT -> {
+        if (format == MessageFormat.FLOAT32) {
+          output.putByte(ZeroType.FLOAT.getValue()).putFloat(unpacker.unpackFloat());
+        } else {
+          output.putByte(ZeroType.DOUBLE.getValue()).putDouble(unpacker.unpackDouble());
+        }
+      }
+      case STRING -> {
+        var length = unpacker.unpackRawStringHeader();
+        output.putSizedHeader(ZeroType.STRING.getValue(), length);
+        unpacker.readPayload(output.reserve(length));
+      }
+      case BINARY -> {
+        var length = unpacker.unpackBinaryHeader();
+        output.putByte(ZeroType.BYTE_ARRAY.getValue()).putInt(length);
+        unpacker.readPayload(output.reserve(length));
+      }
+      case ARRAY -> {
+        var size = unpacker.unpackArrayHeader();
+        output.putSizedHeader(ZeroType.ZERO_ARRAY.getValue(), size);
+        for (int i = 0; i < size; i++) {
+          transcodeValue(unpacker, output, inference);
+        }
+      }
+      case MAP -> {
+        var size = unpacker.unpackMapHeader();
+        output.putSizedHeader(ZeroType.ZERO_MAP.getValue(), size);
+        for (int i = 0; i < size; i++) {
+          if (unpacker.getNextFormat().getValueType() != ValueType.STRING) {
+            throw new IllegalArgumentException(
+                String.format("Only string keys are supported, but found: %s",
+                    unpacker.getNextFormat().getValueType()));
+          }
+          var length = unpacker.unpackRawStringHeader();
+          output.putShort(checkSize(length, "key"));
+          unpacker.readPayload(output.reserve(length));
+          transcodeValue(unpacker, output, inference);
+        }
+      }
+      case EXTENSION -> throw new UnsupportedMsgPackDataTypeException();
+    }
+  }
+
+  private static int checkSize(int size, String target) {
+    if (size > Short.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format("The %s's size exceeds the supported range: %d", target, size));
+    }
+
+    return size;
+  }
+
+  private static void transcodeElement(ByteBuffer buffer, MessagePacker packer,
+                                       String[] strings) throws IOException {
+    var headerByte = buffer.get();
+    var wide = headerByte == ZeroWireType.WIDE;
+    if (wide) {
+      headerByte = buffer.get();
+    }
+
+    transcodeElementValue(buffer, packer, strings, headerByte, wide);
+  }
+
+  private static void transcodeElementValue(ByteBuffer buffer, MessagePacker packer,
+                                            String[] strings, byte headerByte, boolean wide)
+      throws IOException {
+    var type = ZeroType.getByValue(headerByte);
+    if (type == null) {
+      transcodeWireValue(buffer, packer, strings, headerByte, wide);
+      return;
+    }
+
+    switch (type) {
+      case NULL -> packer.packNil();
+      case BOOLEAN -> packer.packBoolean(ZeroInputs.readBoolean(buffer));
+      case BYTE -> packer.packByte(buffer.get());
+      case SHORT -> packer.packShort(buffer.getShort());
+      case INTEGER -> packer.packInt(buffer.getInt());
+      case LONG -> packer.packLong(buffer.getLong());
+      case FLOAT -> packer.packFloat(buffer.getFloat());
+      case DOUBLE -> packer.packDouble(buffer.getDouble());
+      case STRING -> {
+        var length = ZeroInputs.readStringLength(buffer, wide);
+        packer.packRawStringHeader(length);
+        writePayload(buffer, length, packer);
+      }
+      case BOOLEAN_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        packer.packArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          packer.packBoolean(ZeroInputs.readBoolean(buffer));
+        }
+      }
+      case BYTE_ARRAY -> {
+        var length = ZeroInputs.readByteArraySize(buffer);
+        packer.packBinaryHeader(length);
+        writePayload(buffer, length, packer);
+      }
+      case SHORT_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        packer.packArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          packer.packShort(buffer.getShort());
+        }
+      }
+      case INTEGER_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        packer.packArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          packer.packInt(buffer.getInt());
+        }
+      }
+      case LONG_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        packer.packArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          packer.packLong(buffer.getLong());
+        }
+      }
+      case FLOAT_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        packer.packArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          packer.packFloat(buffer.getFloat());
+        }
+      }
+      case DOUBLE_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        packer.packArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          packer.packDouble(buffer.getDouble());
+        }
+      }
+      case STRING_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        packer.packArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          var length = ZeroInputs.readStringLength(buffer, wide);
+          packer.packRawStringHeader(length);
+          writePayload(buffer, length, packer);
+        }
+      }
+      case ZERO_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        packer.packArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          transcodeElement(buffer, packer, strings);
+        }
+      }
+      case ZERO_MAP -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        var fieldCount = ZeroInputs.peekBooleanFieldCount(buffer, size);
+        packer.packMapHeader(fieldCount < 0 ? size : size - 1 + fieldCount);
+        for (int i = 0; i < size; i++) {
+          var length = ZeroInputs.readStringLength(buffer);
+          if (length == 0 && buffer.get(buffer.position()) == ZeroWireType.BOOLEAN_BIT_FIELDS) {
+            buffer.get();
+            transcodeBooleanFields(buffer, packer);
+            continue;
+          }
+          packer.packRawStringHeader(length);
+          writePayload(buffer, length, packer);
+          transcodeElement(buffer, packer, strings);
+        }
+      }
+      case ZERO_INT_MAP -> {
+        var size = ZeroInputs.readVarint(buffer);
+        packer.packMapHeader(size);
+        for (int i = 0; i < size; i++) {
+          packer.packInt(ZeroInputs.readVarint(buffer));
+          transcodeElement(buffer, packer, strings);
+        }
+      }
+      case HALF_FLOAT -> packer.packFloat(ZeroInputs.readHalfFloat(buffer));
+      case HALF_FLOAT_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        packer.packArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          packer.packFloat(ZeroInputs.readHalfFloat(buffer));
+        }
+      }
+      case QUANTIZED_FLOAT -> packer.packFloat(
+          ZeroInputs.readQuantizedFloats(buffer, ZeroInputs.readQuantization(buffer), 1)[0]);
+      case QUANTIZED_FLOAT_ARRAY -> {
+        var quantization = ZeroInputs.readQuantization(buffer);
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        packer.packArrayHeader(size);
+        for (var value : ZeroInputs.readQuantizedFloats(buffer, quantization, size)) {
+          packer.packFloat(value);
+        }
+      }
+    }
+  }
+
+  /*
+   * The optional encodings are expanded to the values they stand for, so the MessagePack
+   * document does not depend on the options used to create the binaries.
+   */
+  private static void transcodeWireValue(ByteBuffer buffer, MessagePacker packer,
+                                         String[] strings, byte wireType, boolean wide)
+      throws IOException {
+    switch (wireType) {
+      case ZeroWireType.BOOLEAN_BIT_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        var bitsPosition = buffer.position();
+        packer.packArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          packer.packBoolean(ZeroInputs.isBitSet(buffer, bitsPosition, i));
+        }
+        buffer.position(bitsPosition + ZeroInputs.bitsToBytes(size));
+      }
+      case ZeroWireType.STRING_REFERENCE ->
+          packer.packString(ZeroInputs.readStringReference(buffer, strings));
+      case ZeroWireType.STRING_REFERENCE_ARRAY -> {
+        var size = ZeroInputs.readCollectionSize(buffer, wide);
+        packer.packArrayHeader(size);
+        for (int i = 0; i < size; i++) {
+          packer.packString(ZeroInputs.readStringReference(buffer, strings));
+        }
+      }
+      case ZeroWireType.TYPED_ARRAY -> transcodeElement(buffer, packer, strings);
+      case ZeroWireType.COLUMNAR_ARRAY -> transcodeColumnarArray(buffer, packer, strings);
+      default -> throw new IllegalStateException(
+          String.format("Unable to decode the ZeroType value: %d", wireType));
+    }
+  }
+
+  private static void transcodeBooleanFields(ByteBuffer buffer, MessagePacker packer)
+      throws IOException {
+    var fieldCount = ZeroInputs.readCollectionSize(buffer);
+    var keysPosition = buffer.position();
+    for (int i = 0; i < fieldCount; i++) {
+      var length = ZeroInputs.readStringLength(buffer);
+      buffer.position(buffer.position() + length);
+    }
+
+    var bitsPosition = buffer.position();
+    buffer.position(keysPosition);
+    for (int i = 0; i < fieldCount; i++) {
+      var length = ZeroInputs.readStringLength(buffer);
+      packer.packRawStringHeader(length);
+      writePayload(buffer, length, packer);
+      packer.packBoolean(ZeroInputs.isBitSet(buffer, bitsPosition, i));
+    }
+    buffer.position(bitsPosition + ZeroInputs.bitsToBytes(fieldCount));
+  }
+
+  /*
+   * All columns are located at first, then each row reads its fields through the cursors of the
+   * columns on a duplicate of the buffer, so the maps are written in order.
+   */
+  private static void transcodeColumnarArray(ByteBuffer buffer, MessagePacker packer,
+                                             String[] strings) throws IOException {
+    var rows = ZeroInputs.readCollectionSize(buffer);
+    var fields = ZeroInputs.readCollectionSize(buffer);
+    var keys = new String[fields];
+    var columnTypes = new byte[fields];
+    var columnPositions = new int[fields];
+    for (int field = 0; field < fields; field++) {
+      keys[field] = ZeroInputs.readString(buffer);
+      columnTypes[field] = buffer.get();
+      columnPositions[field] = buffer.position();
+      buffer.position(columnPositions[field]
+          + ZeroInputs.getColumnBytes(buffer, columnTypes[field], buffer.position(), rows));
+    }
+    var column = buffer.duplicate();
+
+    packer.packArrayHeader(rows);
+    for (int row = 0; row < rows; row++) {
+      packer.packMapHeader(fields);
+      for (int field = 0; field < fields; field++) {
+        packer.packString(keys[field]);
+        if (columnTypes[field] == ZeroType.BOOLEAN.getValue()) {
+          packer.packBoolean(ZeroInputs.isBitSet(buffer, columnPositions[field], row));
+          continue;
+        }
+        column.position(columnPositions[field]);
+        transcodeElementValue(column, packer, strings, columnTypes[field], false);
+        columnPositions[field] = column.position();
+      }
+    }
+  }
+
+  private static void writePayload(ByteBuffer buffer, int length, MessagePacker packer)
+      throws IOException {
+    if (buffer.hasArray()) {
+      packer.writePayload(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+      buffer.position(buffer.position() + length);
+    } else {
+      var binaries = new byte[length];
+      buffer.get(binaries);
+      packer.writePayload(binaries);
+    }
+  }
+}
@@ -0,0 +1,256 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A growable output buffer holding Zero-format binaries. It allows writing values sequentially
+ * and patching previously reserved headers (i.e. collection sizes) once they become known.
+ */
+final class ZeroOutputBuffer {
+
+  private static final int DEFAULT_CAPACITY_BYTES = 512;
+
+  private ByteBuffer buffer;
+
+  /**
+   * Creates a new instance with the default capacity.
+   */
+  ZeroOutputBuffer() {
+    this(DEFAULT_CAPACITY_BYTES);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param initialCapacity the initial capacity in bytes
+   */
+  ZeroOutputBuffer(int initialCapacity) {
+    buffer = ByteBuffer.allocate(Math.max(initialCapacity, Long.BYTES));
+  }
+
+  /**
+   * Retrieves the current writing position.
+   *
+   * @return the number of written bytes
+   */
+  int position() {
+    return buffer.position();
+  }
+
+  ZeroOutputBuffer putByte(int value) {
+    ensureRemaining(Byte.BYTES);
+    buffer.put((byte) value);
+    return this;
+  }
+
+  ZeroOutputBuffer putShort(int value) {
+    ensureRemaining(Short.BYTES);
+    buffer.putShort((short) value);
+    return this;
+  }
+
+  ZeroOutputBuffer putInt(int value) {
+    ensureRemaining(Integer.BYTES);
+    buffer.putInt(value);
+    return this;
+  }
+
+  ZeroOutputBuffer putLong(long value) {
+    ensureRemaining(Long.BYTES);
+    buffer.putLong(value);
+    return this;
+  }
+
+  ZeroOutputBuffer putFloat(float value) {
+    ensureRemaining(Float.BYTES);
+    buffer.putFloat(value);
+    return this;
+  }
+
+  ZeroOutputBuffer putDouble(double value) {
+    ensureRemaining(Double.BYTES);
+    buffer.putDouble(value);
+    return this;
+  }
+
+  /**
+   * Writes the header of a sized value as <code>| type | short size |</code>, or as the wide
+   * form <code>| WIDE | type | int size |</code> when the size exceeds the <code>short</code>
+   * range.
+   *
+   * @param type the type of the value
+   * @param size the size of the value
+   * @return the buffer itself
+   */
+  ZeroOutputBuffer putSizedHeader(int type, int size) {
+    return putSizedHeader(type, size, size > Short.MAX_VALUE);
+  }
+
+  /**
+   * Writes the header of a sized value in the short or the wide form.
+   *
+   * @param type the type of the value
+   * @param size the size of the value
+   * @param wide <code>true</code> to write the wide form whatever the size is
+   * @return the buffer itself
+   */
+  ZeroOutputBuffer putSizedHeader(int type, int size, boolean wide) {
+    if (wide) {
+      return putByte(ZeroWireType.WIDE).putByte(type).putInt(size);
+    }
+
+    return putByte(type).putShort(size);
+  }
+
+  ZeroOutputBuffer put(byte[] binaries) {
+    return put(binaries, 0, binaries.length);
+  }
+
+  ZeroOutputBuffer put(byte[] binaries, int offset, int length) {
+    ensureRemaining(length);
+    buffer.put(binaries, offset, length);
+    return this;
+  }
+
+  /**
+   * Reserves a number of bytes at the current position and skips over them.
+   *
+   * @param length the number of reserved bytes
+   * @return a {@link ByteBuffer} view of the reserved region, it should be filled by the caller
+   */
+  ByteBuffer reserve(int length) {
+    ensureRemaining(length);
+    var region = buffer.slice(buffer.position(), length);
+    buffer.position(buffer.position() + length);
+    return region;
+  }
+
+  /**
+   * Overwrites a <code>short</code> value at a position which was written before.
+   *
+   * @param position the absolute position
+   * @param value    the new value
+   */
+  void patchShort(int position, int value) {
+    buffer.putShort(position, (short) value);
+  }
+
+  /**
+   * Overwrites an <code>integer</code> value at a position which was written before.
+   *
+   * @param position the absolute position
+   * @param value    the new value
+   */
+  void patchInt(int position, int value) {
+    buffer.putInt(position, value);
+  }
+
+  /**
+   * Overwrites the size of a header reserved as <code>| type | short size |</code>. A size
+   * beyond the <code>short</code> range turns the header into the wide form
+   * <code>| WIDE | type | int size |</code>, the following binaries are moved forward to make
+   * room for it.
+   *
+   * @param headerPosition the absolute position of the header's type
+   * @param size           the final size
+   */
+  void patchSize(int headerPosition, int size) {
+    if (size <= Short.MAX_VALUE) {
+      patchShort(headerPosition + Byte.BYTES, size);
+      return;
+    }
+
+    var type = buffer.get(headerPosition);
+    insert(headerPosition, Integer.BYTES - Short.BYTES + Byte.BYTES);
+    buffer.put(headerPosition, ZeroWireType.WIDE).put(headerPosition + Byte.BYTES, type)
+        .putInt(headerPosition + Byte.BYTES + Byte.BYTES, size);
+  }
+
+  /**
+   * Overwrites a <code>byte</code> value at a position which was written before.
+   *
+   * @param position the absolute position
+   * @param value    the new value
+   */
+  void patchByte(int position, int value) {
+    buffer.put(position, (byte) value);
+  }
+
+  /**
+   * Opens a gap of bytes at a position which was written before, the following binaries are
+   * moved forward. It lets a reserved header grow once its final content becomes known.
+   *
+   * @param position the absolute position of the gap
+   * @param length   the number of inserted bytes, they should be patched by the caller
+   */
+  void insert(int position, int length) {
+    ensureRemaining(length);
+    var end = buffer.position();
+    buffer.put(position + length, buffer, position, end - position);
+    buffer.position(end + length);
+  }
+
+  /**
+   * Discards the written binaries but keeps the allocated capacity.
+   */
+  void clear() {
+    buffer.clear();
+  }
+
+  /**
+   * Copies the written binaries to another buffer.
+   *
+   * @param target the {@link ByteBuffer} receiving the binaries at its current position
+   */
+  void copyTo(ByteBuffer target) {
+    target.put(target.position(), buffer, 0, buffer.position());
+    target.position(target.position() + buffer.position());
+  }
+
+  /**
+   * Copies the written binaries to a new array of bytes.
+   *
+   * @return the written binaries
+   */
+  byte[] toBinaries() {
+    var result = new byte[buffer.position()];
+    buffer.get(0, result, 0, result.length);
+    return result;
+  }
+
+  private void ensureRemaining(int length) {
+    if (buffer.remaining() >= length) {
+      return;
+    }
+
+    var newCapacity = Math.max(buffer.capacity() << 1, buffer.position() + length);
+    var newBuffer = ByteBuffer.allocate(newCapacity);
+    buffer.flip();
+    newBuffer.put(buffer);
+    buffer = newBuffer;
+  }
+}
@@ -0,0 +1,266 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the encoded sizes of one type of message in a streaming histogram. A profile is
+ * named by the caller, e.g. after a message type or a call site, and passed to
+ * {@link ZeroUtility#mapToBinaries(com.tenio.common.data.zero.ZeroMap, ZeroPayloadProfile)} or
+ * {@link ZeroUtility#arrayToBinaries(com.tenio.common.data.zero.ZeroArray, ZeroPayloadProfile)}.
+ * Once enough payloads are recorded, their 99th percentile size becomes the initial capacity of
+ * the encoding buffer, so nearly no encoding of that type has to grow its buffer.
+ *
+ * <p>The histogram keeps exact counts of sizes below 16 bytes, and 8 buckets for every larger
+ * power of two, so a percentile is at most 12.5% above the real value. Recording is lock-free and
+ * a profile takes about 2 KB whatever the number of recorded payloads. All profiles are kept by
+ * their names, which makes them available as metrics by {@link #getProfiles()}.
+ */
+public final class ZeroPayloadProfile {
+
+  /**
+   * The number of recorded payloads before the percentile is used as the initial capacity.
+   */
+  public static final int MIN_SAMPLES = 64;
+
+  private static final int LINEAR_BUCKETS = 16;
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = LINEAR_BUCKETS
+      + (Integer.SIZE - 1 - Integer.numberOfTrailingZeros(LINEAR_BUCKETS)) * SUB_BUCKETS;
+  private static final double CAPACITY_PERCENTILE = 0.99;
+  private static final Map<String, ZeroPayloadProfile> PROFILES = new ConcurrentHashMap<>();
+
+  private final String name;
+  private final AtomicLongArray buckets;
+  private final AtomicLong count;
+  private final LongAdder totalBytes;
+  private final AtomicInteger maxBytes;
+  private volatile int initialCapacity;
+
+  private ZeroPayloadProfile(String name) {
+    this.name = name;
+    buckets = new AtomicLongArray(BUCKETS);
+    count = new AtomicLong();
+    totalBytes = new LongAdder();
+    maxBytes = new AtomicInteger();
+  }
+
+  /**
+   * Retrieves the profile of a type of message, it is created at the first call.
+   *
+   * @param name the name of the message type or call site
+   * @return the {@link ZeroPayloadProfile} of the name
+   */
+  public static ZeroPayloadProfile of(String name) {
+    return PROFILES.computeIfAbsent(name, ZeroPayloadProfile::new);
+  }
+
+  /**
+   * Retrieves all profiles.
+   *
+   * @return a read-only {@link Map} of profiles sorted by their names
+   */
+  public static Map<String, ZeroPayloadProfile> getProfiles() {
+    return Collections.unmodifiableMap(new TreeMap<>(PROFILES));
+  }
+
+  /**
+   * Removes all profiles, the removed profiles are still usable but no longer listed.
+   */
+  public static void clearProfiles() {
+    PROFILES.clear();
+  }
+
+  /**
+   * Records the size of an encoded payload.
+   *
+   * @param bytes the size in bytes
+   */
+  public void record(int bytes) {
+    if (bytes < 0) {
+      throw new IllegalArgumentException(
+          String.format("The payload size must not be negative: %d", bytes));
+    }
+
+    buckets.incrementAndGet(bucketOf(bytes));
+    totalBytes.add(bytes);
+    maxBytes.accumulateAndGet(bytes, Math::max);
+    var samples = count.incrementAndGet();
+    if (samples % MIN_SAMPLES == 0) {
+      initialCapacity = getPercentile(CAPACITY_PERCENTILE);
+    }
+  }
+
+  /**
+   * Retrieves the name of the profile.
+   *
+   * @return the name of the message type or call site
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Retrieves the number of recorded payloads.
+   *
+   * @return the number of payloads
+   */
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * Retrieves the total size of recorded payloads, which shows the bandwidth taken by this
+   * type of message.
+   *
+   * @return the total size in bytes
+   */
+  public long getTotalBytes() {
+    return totalBytes.sum();
+  }
+
+  /**
+   * Retrieves the largest recorded size.
+   *
+   * @return the size in bytes, <code>0</code> when nothing is recorded
+   */
+  public int getMaxBytes() {
+    return maxBytes.get();
+  }
+
+  /**
+   * Retrieves the mean of recorded sizes.
+   *
+   * @return the mean size in bytes, <code>0</code> when nothing is recorded
+   */
+  public double getMeanBytes() {
+    var samples = count.get();
+    return samples == 0 ? 0 : (double) totalBytes.sum() / samples;
+  }
+
+  /**
+   * Retrieves a percentile of recorded sizes, it is the upper bound of the histogram bucket
+   * holding the percentile and never exceeds the largest recorded size.
+   *
+   * @param percentile the percentile between <code>0</code> and <code>1</code>, e.g.
+   *                   <code>0.99</code>
+   * @return the size in bytes, <code>0</code> when nothing is recorded
+   * @throws IllegalArgumentException when the percentile is out of range
+   */
+  public int getPercentile(double percentile) {
+    if (!(percentile >= 0 && percentile <= 1)) {
+      throw new IllegalArgumentException(
+          String.format("The percentile must be between 0 and 1: %s", percentile));
+    }
+
+    var counts = new long[BUCKETS];
+    var samples = 0L;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+      samples += counts[i];
+    }
+    if (samples == 0) {
+      return 0;
+    }
+
+    var rank = Math.max(1, (long) Math.ceil(percentile * samples));
+    var seen = 0L;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(upperBoundOf(i), getMaxBytes());
+      }
+    }
+
+    return getMaxBytes();
+  }
+
+  /**
+   * Retrieves the initial capacity of a buffer encoding this type of message, it is the 99th
+   * percentile of recorded sizes, refreshed every {@link #MIN_SAMPLES} payloads.
+   *
+   * @return the capacity in bytes, <code>0</code> before enough payloads are recorded
+   */
+  public int getInitialCapacity() {
+    return initialCapacity;
+  }
+
+  /**
+   * Retrieves the histogram of recorded sizes.
+   *
+   * @return a read-only {@link Map} of the upper bound of every non-empty bucket in bytes to the
+   *     number of payloads in it, sorted by sizes
+   */
+  public Map<Integer, Long> getHistogram() {
+    var histogram = new TreeMap<Integer, Long>();
+    for (int i = 0; i < BUCKETS; i++) {
+      var bucketCount = buckets.get(i);
+      if (bucketCount > 0) {
+        histogram.put(upperBoundOf(i), bucketCount);
+      }
+    }
+
+    return Collections.unmodifiableMap(histogram);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ZeroPayloadProfile{name=%s, count=%d, totalBytes=%d, p50=%d, p99=%d,"
+            + " max=%d}", name, getCount(), getTotalBytes(), getPercentile(0.5),
+        getPercentile(CAPACITY_PERCENTILE), getMaxBytes());
+  }
+
+  private static int bucketOf(int bytes) {
+    if (bytes < LINEAR_BUCKETS) {
+      return bytes;
+    }
+
+    var exponent = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(bytes);
+    var shift = exponent - SUB_BUCKET_BITS;
+    return LINEAR_BUCKETS + (exponent - Integer.numberOfTrailingZeros(LINEAR_BUCKETS))
+        * SUB_BUCKETS + ((bytes >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  private static int upperBoundOf(int bucket) {
+    if (bucket < LINEAR_BUCKETS) {
+      return bucket;
+    }
+
+    var exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS
+        + Integer.numberOfTrailingZeros(LINEAR_BUCKETS);
+    var shift = exponent - SUB_BUCKET_BITS;
+    var lowerBound = (long) (SUB_BUCKETS + (bucket - LINEAR_BUCKETS) % SUB_BUCKETS) << shift;
+    return (int) Math.min(Integer.MAX_VALUE, lowerBound + (1L << shift) - 1);
+  }
+}
@@ -0,0 +1,985 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import com.tenio.common.data.zero.ZeroArray;
+import com.tenio.common.data.zero.ZeroIntMap;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroType;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A pull parser walking through the self-definition binaries token by token, in the spirit of
+ * the Jackson's <code>JsonParser</code>. It reads values straight from the underlying buffer
+ * and builds neither {@link ZeroMap} nor {@link ZeroArray}, e.g.
+ * <pre>{@code
+ * reader.reset(binaries);
+ * reader.nextToken(); // START_MAP
+ * while (reader.nextToken() != ZeroToken.END_MAP) {
+ *   if (reader.currentKeyEquals(ID_KEY)) {
+ *     id = reader.readInt();
+ *   } else {
+ *     reader.skipValue();
+ *   }
+ * }
+ * }</pre>
+ * Keys are compared against pre-encoded UTF-8 binaries, so no key string is created, and the
+ * entries of a {@link ZeroIntMap} are reported between {@link ZeroToken#START_INT_MAP} and
+ * {@link ZeroToken#END_INT_MAP} with their field IDs as keys. Scalar
+ * values are read without allocation, only strings and collections of primitive values create
+ * their results. The binaries of all optional encodings are understood, and their values are
+ * reported with the regular {@link ZeroType}s, i.e. packed booleans as
+ * {@link ZeroType#BOOLEAN} or {@link ZeroType#BOOLEAN_ARRAY}, strings in the table as
+ * {@link ZeroType#STRING} or {@link ZeroType#STRING_ARRAY}, and columnar or typed arrays as
+ * arrays of their rows or values. An instance could be reused for many payloads by
+ * {@link #reset(byte[])}, it is not thread-safe.
+ *
+ * @see ZeroWriter
+ */
+public final class ZeroReader {
+
+  private static final int DEFAULT_DEPTH = 8;
+  private static final int NO_POSITION = -1;
+  private static final int QUANTIZATION_HEADER_BYTES = Float.BYTES + Float.BYTES + Byte.BYTES;
+
+  private ByteBuffer buffer;
+  private int position;
+  private int[] stringPositions;
+  private int stringCount;
+  private Frame[] frames;
+  private int depth;
+  private boolean started;
+  private ZeroToken currentToken;
+  private ZeroType currentType;
+  private int collectionSize;
+  private int keyPosition;
+  private int fieldId;
+  private int valueWireType;
+  private int valueStart;
+  private boolean valueWide;
+  private int valueBitIndex;
+
+  /**
+   * Creates a new instance, a payload should be given by {@link #reset(byte[])} before reading.
+   */
+  public ZeroReader() {
+    stringPositions = new int[0];
+    frames = new Frame[DEFAULT_DEPTH];
+    reset(ByteBuffer.allocate(0));
+  }
+
+  /**
+   * Creates a new instance reading a payload.
+   *
+   * @param binaries the stream of bytes holding a zero map or a zero array
+   */
+  public ZeroReader(byte[] binaries) {
+    this();
+    reset(binaries);
+  }
+
+  /**
+   * Starts reading a new payload.
+   *
+   * @param binaries the stream of bytes holding a zero map or a zero array
+   * @return the reader itself
+   */
+  public ZeroReader reset(byte[] binaries) {
+    return reset(ByteBuffer.wrap(binaries));
+  }
+
+  /**
+   * Starts reading a new payload, the buffer's position and limit are not changed.
+   *
+   * @param source the {@link ByteBuffer} holding a zero map or a zero array between its
+   *               position and limit
+   * @return the reader itself
+   */
+  public ZeroReader reset(ByteBuffer source) {
+    buffer = source.duplicate();
+    position = buffer.position();
+    stringCount = 0;
+    depth = 0;
+    started = false;
+    currentToken = null;
+    currentType = null;
+    keyPosition = NO_POSITION;
+    fieldId = NO_POSITION;
+    valueBitIndex = NO_POSITION;
+    return this;
+  }
+
+  /**
+   * Moves to the next token. The value of the current token is skipped when it was not read.
+   *
+   * @return the next {@link ZeroToken}, or <code>null</code> when the root collection has ended
+   */
+  public ZeroToken nextToken() {
+    keyPosition = NO_POSITION;
+    fieldId = NO_POSITION;
+    valueBitIndex = NO_POSITION;
+    if (!started) {
+      started = true;
+      return currentToken = readRoot();
+    }
+    if (depth == 0) {
+      currentType = null;
+      return currentToken = null;
+    }
+
+    var frame = frames[depth - 1];
+    return currentToken = switch (frame.kind) {
+      case MAP -> nextMapToken(frame);
+      case INT_MAP -> nextIntMapToken(frame);
+      case ARRAY -> nextArrayToken(frame);
+      case TYPED_ARRAY -> nextTypedArrayToken(frame);
+      case COLUMNAR_ARRAY -> nextColumnarArrayToken(frame);
+      case COLUMNAR_ROW -> nextColumnarRowToken(frame, frames[depth - 2]);
+    };
+  }
+
+  /**
+   * Retrieves the current token.
+   *
+   * @return the current {@link ZeroToken}, or <code>null</code> when the reading has not
+   *     started or has finished
+   */
+  public ZeroToken currentToken() {
+    return currentToken;
+  }
+
+  /**
+   * Retrieves the type of the current token, it is {@link ZeroType#ZERO_MAP},
+   * {@link ZeroType#ZERO_INT_MAP} or {@link ZeroType#ZERO_ARRAY} for the tokens of collections.
+   *
+   * @return the current {@link ZeroType}, or <code>null</code> when there is no current token
+   */
+  public ZeroType currentType() {
+    return currentType;
+  }
+
+  /**
+   * Retrieves the number of items held by the current value, it is the number of entries for
+   * {@link ZeroToken#START_MAP} or {@link ZeroToken#START_INT_MAP}, the number of elements for
+   * {@link ZeroToken#START_ARRAY} or the number of values for a collection of primitive values.
+   *
+   * @return the number of items
+   * @throws IllegalStateException when the current value has no items
+   */
+  public int currentSize() {
+    if (isCollectionStart()) {
+      return collectionSize;
+    }
+    if (currentToken == ZeroToken.VALUE) {
+      switch (currentType) {
+        case BYTE_ARRAY -> {
+          return ZeroInputs.readByteArraySize(at(valueStart));
+        }
+        case QUANTIZED_FLOAT_ARRAY -> {
+          return readSize(valueStart + QUANTIZATION_HEADER_BYTES, valueWide);
+        }
+        case BOOLEAN_ARRAY, SHORT_ARRAY, INTEGER_ARRAY, LONG_ARRAY, FLOAT_ARRAY, DOUBLE_ARRAY,
+             STRING_ARRAY, HALF_FLOAT_ARRAY -> {
+          return readSize(valueStart, valueWide);
+        }
+        default -> {
+          // the other values hold no items
+        }
+      }
+    }
+
+    throw new IllegalStateException(
+        String.format("The current %s has no size", currentToken == ZeroToken.VALUE
+            ? currentType : currentToken));
+  }
+
+  /**
+   * Determines whether the current token is a map entry with the given key.
+   *
+   * @param key the UTF-8 binaries of the key
+   * @return <code>true</code> if the current key matches, otherwise <code>false</code>
+   */
+  public boolean currentKeyEquals(byte[] key) {
+    if (keyPosition == NO_POSITION) {
+      return false;
+    }
+
+    var length = ZeroInputs.readStringLength(at(keyPosition));
+    if (length != key.length) {
+      return false;
+    }
+
+    var keyStart = keyPosition + Short.BYTES;
+    for (int i = 0; i < length; i++) {
+      if (buffer.get(keyStart + i) != key[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Retrieves the key of the current map entry.
+   *
+   * @return the key, or <code>null</code> when the current token is not a map entry
+   */
+  public String currentKey() {
+    return keyPosition == NO_POSITION ? null : ZeroInputs.readString(at(keyPosition),
+        ZeroUtility.getKeyCache());
+  }
+
+  /**
+   * Retrieves the field ID of the current int map entry.
+   *
+   * @return the field ID, or <code>-1</code> when the current token is not an int map entry
+   */
+  public int currentFieldId() {
+    return fieldId;
+  }
+
+  /**
+   * Skips the current value. When the current token begins a collection, all its content is
+   * skipped and the current token becomes the end of that collection.
+   */
+  public void skipValue() {
+    if (!isCollectionStart()) {
+      return;
+    }
+
+    var targetDepth = depth - 1;
+    while (depth > targetDepth) {
+      nextToken();
+    }
+  }
+
+  /**
+   * Reads the current <code>boolean</code> value.
+   *
+   * @return the value
+   */
+  public boolean readBoolean() {
+    checkValue(ZeroType.BOOLEAN);
+    if (valueBitIndex != NO_POSITION) {
+      return isBitSet(valueStart, valueBitIndex);
+    }
+
+    return ZeroInputs.readBoolean(at(valueStart));
+  }
+
+  /**
+   * Reads the current <code>byte</code> value.
+   *
+   * @return the value
+   */
+  public byte readByte() {
+    checkValue(ZeroType.BYTE);
+    return buffer.get(valueStart);
+  }
+
+  /**
+   * Reads the current <code>short</code> value, a <code>byte</code> value is widened.
+   *
+   * @return the value
+   */
+  public short readShort() {
+    return switch (checkValue()) {
+      case BYTE -> buffer.get(valueStart);
+      case SHORT -> buffer.getShort(valueStart);
+      default -> throw unableToRead(ZeroType.SHORT);
+    };
+  }
+
+  /**
+   * Reads the current <code>integer</code> value, a <code>byte</code> or <code>short</code>
+   * value is widened.
+   *
+   * @return the value
+   */
+  public int readInt() {
+    return switch (checkValue()) {
+      case BYTE -> buffer.get(valueStart);
+      case SHORT -> buffer.getShort(valueStart);
+      case INTEGER -> buffer.getInt(valueStart);
+      default -> throw unableToRead(ZeroType.INTEGER);
+    };
+  }
+
+  /**
+   * Reads the current <code>long</code> value, a narrower integral value is widened.
+   *
+   * @return the value
+   */
+  public long readLong() {
+    return switch (checkValue()) {
+      case BYTE -> buffer.get(valueStart);
+      case SHORT -> buffer.getShort(valueStart);
+      case INTEGER -> buffer.getInt(valueStart);
+      case LONG -> buffer.getLong(valueStart);
+      default -> throw unableToRead(ZeroType.LONG);
+    };
+  }
+
+  /**
+   * Reads the current <code>float</code> value, the half-precision and quantized values are
+   * decoded.
+   *
+   * @return the value
+   */
+  public float readFloat() {
+    return switch (checkValue()) {
+      case FLOAT -> buffer.getFloat(valueStart);
+      case HALF_FLOAT -> ZeroInputs.readHalfFloat(at(valueStart));
+      case QUANTIZED_FLOAT -> {
+        var quantization = ZeroInputs.readQuantization(at(valueStart));
+        yield ZeroInputs.readQuantizedFloats(buffer, quantization, 1)[0];
+      }
+      default -> throw unableToRead(ZeroType.FLOAT);
+    };
+  }
+
+  /**
+   * Reads the current <code>double</code> value, a <code>float</code> value is widened.
+   *
+   * @return the value
+   */
+  public double readDouble() {
+    if (checkValue() == ZeroType.DOUBLE) {
+      return buffer.getDouble(valueStart);
+    }
+
+    return switch (currentType) {
+      case FLOAT, HALF_FLOAT, QUANTIZED_FLOAT -> readFloat();
+      default -> throw unableToRead(ZeroType.DOUBLE);
+    };
+  }
+
+  /**
+   * Reads the current {@link String} value.
+   *
+   * @return the value
+   */
+  public String readString() {
+    checkValue(ZeroType.STRING);
+    if (valueWireType == ZeroWireType.STRING_REFERENCE) {
+      return readTableString(buffer.getShort(valueStart));
+    }
+
+    return ZeroInputs.readString(at(valueStart), ZeroUtility.getValueCache(), valueWide);
+  }
+
+  /**
+   * Reads the current collection of <code>boolean</code> values.
+   *
+   * @return a new array of values
+   */
+  public boolean[] readBooleanArray() {
+    checkValue(ZeroType.BOOLEAN_ARRAY);
+    var values = new boolean[readSize(valueStart, valueWide)];
+    var valuesStart = valuesStart();
+    for (int i = 0; i < values.length; i++) {
+      values[i] = valueWireType == ZeroWireType.BOOLEAN_BIT_ARRAY ? isBitSet(valuesStart, i)
+          : ZeroInputs.readBoolean(at(valuesStart + i));
+    }
+
+    return values;
+  }
+
+  /**
+   * Reads the current collection of <code>byte</code> values.
+   *
+   * @return a new array of values
+   */
+  public byte[] readByteArray() {
+    checkValue(ZeroType.BYTE_ARRAY);
+    var values = new byte[ZeroInputs.readByteArraySize(at(valueStart))];
+    buffer.get(valueStart + Integer.BYTES, values);
+
+    return values;
+  }
+
+  /**
+   * Reads the current collection of <code>short</code> values.
+   *
+   * @return a new array of values
+   */
+  public short[] readShortArray() {
+    checkValue(ZeroType.SHORT_ARRAY);
+    var values = new short[readSize(valueStart, valueWide)];
+    at(valuesStart()).asShortBuffer().get(values);
+
+    return values;
+  }
+
+  /**
+   * Reads the current collection of <code>integer</code> values.
+   *
+   * @return a new array of values
+   */
+  public int[] readIntArray() {
+    checkValue(ZeroType.INTEGER_ARRAY);
+    var values = new int[readSize(valueStart, valueWide)];
+    at(valuesStart()).asIntBuffer().get(values);
+
+    return values;
+  }
+
+  /**
+   * Reads the current collection of <code>long</code> values.
+   *
+   * @return a new array of values
+   */
+  public long[] readLongArray() {
+    checkValue(ZeroType.LONG_ARRAY);
+    var values = new long[readSize(valueStart, valueWide)];
+    at(valuesStart()).asLongBuffer().get(values);
+
+    return values;
+  }
+
+  /**
+   * Reads the current collection of <code>float</code> values, the half-precision and
+   * quantized values are decoded.
+   *
+   * @return a new array of values
+   */
+  public float[] readFloatArray() {
+    switch (checkValue()) {
+      case FLOAT_ARRAY -> {
+        var values = new float[readSize(valueStart, valueWide)];
+        at(valuesStart()).asFloatBuffer().get(values);
+        return values;
+      }
+      case HALF_FLOAT_ARRAY -> {
+        var values = new float[readSize(valueStart, valueWide)];
+        at(valuesStart());
+        for (int i = 0; i < values.length; i++) {
+          values[i] = ZeroInputs.readHalfFloat(buffer);
+        }
+        return values;
+      }
+      case QUANTIZED_FLOAT_ARRAY -> {
+        var quantization = ZeroInputs.readQuantization(at(valueStart));
+        var count = ZeroInputs.readCollectionSize(buffer, valueWide);
+        return ZeroInputs.readQuantizedFloats(buffer, quantization, count);
+      }
+      default -> throw unableToRead(ZeroType.FLOAT_ARRAY);
+    }
+  }
+
+  /**
+   * Reads the current collection of <code>double</code> values.
+   *
+   * @return a new array of values
+   */
+  public double[] readDoubleArray() {
+    checkValue(ZeroType.DOUBLE_ARRAY);
+    var values = new double[readSize(valueStart, valueWide)];
+    at(valuesStart()).asDoubleBuffer().get(values);
+
+    return values;
+  }
+
+  /**
+   * Reads the current collection of {@link String} values.
+   *
+   * @return a new array of values
+   */
+  public String[] readStringArray() {
+    checkValue(ZeroType.STRING_ARRAY);
+    var values = new String[readSize(valueStart, valueWide)];
+    var itemPosition = valuesStart();
+    for (int i = 0; i < values.length; i++) {
+      if (valueWireType == ZeroWireType.STRING_REFERENCE_ARRAY) {
+        values[i] = readTableString(buffer.getShort(itemPosition));
+        itemPosition += Short.BYTES;
+      } else {
+        values[i] =
+            ZeroInputs.readString(at(itemPosition), ZeroUtility.getValueCache(), valueWide);
+        itemPosition = buffer.position();
+      }
+    }
+
+    return values;
+  }
+
+  private ZeroToken readRoot() {
+    if (position < buffer.limit() && buffer.get(position) == ZeroWireType.STRING_TABLE) {
+      readStringTable();
+    }
+    if (position >= buffer.limit()) {
+      throw new IllegalStateException("Unable to read a payload without any root collection");
+    }
+
+    var token = readValue();
+    if (token == ZeroToken.VALUE) {
+      throw new IllegalStateException(
+          String.format("Expected a map or an array as the root, but found: %s", currentType));
+    }
+
+    return token;
+  }
+
+  private void readStringTable() {
+    stringCount = readSize(position + Byte.BYTES);
+    position += Byte.BYTES + Short.BYTES;
+    if (stringPositions.length < stringCount) {
+      stringPositions = new int[stringCount];
+    }
+
+    for (int i = 0; i < stringCount; i++) {
+      stringPositions[i] = position;
+      position += Short.BYTES + ZeroInputs.readStringLength(at(position));
+    }
+  }
+
+  private String readTableString(int index) {
+    if (index < 0 || index >= stringCount) {
+      throw new IllegalStateException(
+          String.format("The string reference is out of the table: %d", index));
+    }
+
+    return ZeroInputs.readString(at(stringPositions[index]), ZeroUtility.getValueCache());
+  }
+
+  private ZeroToken readValue() {
+    var wireType = buffer.get(position++);
+    var wide = wireType == ZeroWireType.WIDE;
+    if (wide) {
+      wireType = buffer.get(position++);
+    }
+    if (wireType == ZeroType.ZERO_MAP.getValue()) {
+      return beginMap(wide);
+    }
+    if (wireType == ZeroType.ZERO_INT_MAP.getValue()) {
+      return beginIntMap();
+    }
+    if (wireType == ZeroType.ZERO_ARRAY.getValue()) {
+      var frame = pushFrame(FrameKind.ARRAY);
+      frame.remaining = readSize(position, wide);
+      position += ZeroInputs.getSizeBytes(wide);
+      return beginArray(frame.remaining);
+    }
+    if (wireType == ZeroWireType.TYPED_ARRAY) {
+      return beginTypedArray();
+    }
+    if (wireType == ZeroWireType.COLUMNAR_ARRAY) {
+      return beginColumnarArray();
+    }
+
+    valueWireType = wireType;
+    currentType = toZeroType(wireType);
+    valueStart = position;
+    valueWide = wide;
+    position += getPayloadSize(wireType, position, wide);
+    return ZeroToken.VALUE;
+  }
+
+  private ZeroToken readBit(int bitsPosition, int index) {
+    valueWireType = ZeroType.BOOLEAN.getValue();
+    currentType = ZeroType.BOOLEAN;
+    valueStart = bitsPosition;
+    valueWide = false;
+    valueBitIndex = index;
+    return ZeroToken.VALUE;
+  }
+
+  /*
+   * The packed boolean fields are always the first entry of their map, they are expanded to
+   * one entry per field.
+   */
+  private ZeroToken beginMap(boolean wide) {
+    var frame = pushFrame(FrameKind.MAP);
+    frame.remaining = readSize(position, wide);
+    position += ZeroInputs.getSizeBytes(wide);
+    frame.bitFieldCount = 0;
+    frame.bitIndex = 0;
+    collectionSize = frame.remaining;
+
+    if (frame.remaining > 0 && buffer.getShort(position) == 0
+        && buffer.get(position + Short.BYTES) == ZeroWireType.BOOLEAN_BIT_FIELDS) {
+      position += Short.BYTES + Byte.BYTES;
+      frame.bitFieldCount = readSize(position);
+      position += Short.BYTES;
+      frame.bitKeyPosition = position;
+      for (int i = 0; i < frame.bitFieldCount; i++) {
+        position += Short.BYTES + ZeroInputs.readStringLength(at(position));
+      }
+      frame.bitsPosition = position;
+      position += bitsToBytes(frame.bitFieldCount);
+      frame.remaining--;
+      collectionSize = frame.remaining + frame.bitFieldCount;
+    }
+
+    currentType = ZeroType.ZERO_MAP;
+    return ZeroToken.START_MAP;
+  }
+
+  private ZeroToken beginIntMap() {
+    var frame = pushFrame(FrameKind.INT_MAP);
+    frame.remaining = ZeroInputs.readVarint(at(position));
+    position = buffer.position();
+    collectionSize = frame.remaining;
+    currentType = ZeroType.ZERO_INT_MAP;
+    return ZeroToken.START_INT_MAP;
+  }
+
+  private ZeroToken beginArray(int size) {
+    collectionSize = size;
+    currentType = ZeroType.ZERO_ARRAY;
+    return ZeroToken.START_ARRAY;
+  }
+
+  private ZeroToken beginTypedArray() {
+    var arrayType = buffer.get(position++);
+    var wide = arrayType == ZeroWireType.WIDE;
+    if (wide) {
+      arrayType = buffer.get(position++);
+    }
+    var frame = pushFrame(FrameKind.TYPED_ARRAY);
+    frame.elementWireType = switch (arrayType == ZeroWireType.STRING_REFERENCE_ARRAY ? null
+        : ZeroType.getByValue(arrayType)) {
+      case null -> ZeroWireType.STRING_REFERENCE;
+      case INTEGER_ARRAY -> ZeroType.INTEGER.getValue();
+      case LONG_ARRAY -> ZeroType.LONG.getValue();
+      case FLOAT_ARRAY -> ZeroType.FLOAT.getValue();
+      case DOUBLE_ARRAY -> ZeroType.DOUBLE.getValue();
+      case STRING_ARRAY -> ZeroType.STRING.getValue();
+      default -> throw new IllegalStateException(
+          String.format("Unable to decode the typed array type: %d", arrayType));
+    };
+    frame.elementWide = wide;
+    frame.remaining = readSize(position, wide);
+    position += ZeroInputs.getSizeBytes(wide);
+
+    return beginArray(frame.remaining);
+  }
+
+  /*
+   * All columns are located at first, then each row reads its fields from the cursors of the
+   * columns, so the rows are reported in order without being built.
+   */
+  private ZeroToken beginColumnarArray() {
+    var frame = pushFrame(FrameKind.COLUMNAR_ARRAY);
+    frame.rows = readSize(position);
+    frame.fields = readSize(position + Short.BYTES);
+    frame.rowIndex = 0;
+    position += Short.BYTES + Short.BYTES;
+    if (frame.keyPositions.length < frame.fields) {
+      frame.keyPositions = new int[frame.fields];
+      frame.columnWireTypes = new int[frame.fields];
+      frame.columnPositions = new int[frame.fields];
+    }
+
+    for (int field = 0; field < frame.fields; field++) {
+      frame.keyPositions[field] = position;
+      position += Short.BYTES + ZeroInputs.readStringLength(at(position));
+      var columnType = buffer.get(position++);
+      frame.columnWireTypes[field] = columnType;
+      frame.columnPositions[field] = position;
+      position += getColumnSize(columnType, position, frame.rows);
+    }
+
+    return beginArray(frame.rows);
+  }
+
+  private ZeroToken nextMapToken(Frame frame) {
+    if (frame.bitIndex < frame.bitFieldCount) {
+      keyPosition = frame.bitKeyPosition;
+      frame.bitKeyPosition += Short.BYTES + ZeroInputs.readStringLength(at(keyPosition));
+      return readBit(frame.bitsPosition, frame.bitIndex++);
+    }
+    if (frame.remaining == 0) {
+      depth--;
+      currentType = ZeroType.ZERO_MAP;
+      return ZeroToken.END_MAP;
+    }
+
+    frame.remaining--;
+    var currentKeyPosition = position;
+    position += Short.BYTES + ZeroInputs.readStringLength(at(position));
+    var token = readValue();
+    keyPosition = currentKeyPosition;
+    return token;
+  }
+
+  private ZeroToken nextIntMapToken(Frame frame) {
+    if (frame.remaining == 0) {
+      depth--;
+      currentType = ZeroType.ZERO_INT_MAP;
+      return ZeroToken.END_INT_MAP;
+    }
+
+    frame.remaining--;
+    var currentFieldId = ZeroInputs.readVarint(at(position));
+    position = buffer.position();
+    var token = readValue();
+    fieldId = currentFieldId;
+    return token;
+  }
+
+  private ZeroToken nextArrayToken(Frame frame) {
+    if (frame.remaining == 0) {
+      return endArray();
+    }
+
+    frame.remaining--;
+    return readValue();
+  }
+
+  private ZeroToken nextTypedArrayToken(Frame frame) {
+    if (frame.remaining == 0) {
+      return endArray();
+    }
+
+    frame.remaining--;
+    valueWireType = frame.elementWireType;
+    currentType = toZeroType(valueWireType);
+    valueStart = position;
+    valueWide = frame.elementWide;
+    position += getPayloadSize(valueWireType, position, valueWide);
+    return ZeroToken.VALUE;
+  }
+
+  private ZeroToken nextColumnarArrayToken(Frame frame) {
+    if (frame.rowIndex == frame.rows) {
+      return endArray();
+    }
+
+    pushFrame(FrameKind.COLUMNAR_ROW).fieldIndex = 0;
+    collectionSize = frame.fields;
+    currentType = ZeroType.ZERO_MAP;
+    return ZeroToken.START_MAP;
+  }
+
+  private ZeroToken nextColumnarRowToken(Frame row, Frame columns) {
+    if (row.fieldIndex == columns.fields) {
+      depth--;
+      columns.rowIndex++;
+      currentType = ZeroType.ZERO_MAP;
+      return ZeroToken.END_MAP;
+    }
+
+    var field = row.fieldIndex++;
+    keyPosition = columns.keyPositions[field];
+    var columnType = columns.columnWireTypes[field];
+    if (columnType == ZeroType.BOOLEAN.getValue()) {
+      return readBit(columns.columnPositions[field], columns.rowIndex);
+    }
+
+    valueWireType = columnType;
+    currentType = toZeroType(columnType);
+    valueStart = columns.columnPositions[field];
+    valueWide = false;
+    columns.columnPositions[field] += getPayloadSize(columnType, valueStart, false);
+    return ZeroToken.VALUE;
+  }
+
+  private ZeroToken endArray() {
+    depth--;
+    currentType = ZeroType.ZERO_ARRAY;
+    return ZeroToken.END_ARRAY;
+  }
+
+  private Frame pushFrame(FrameKind kind) {
+    if (depth == frames.length) {
+      frames = Arrays.copyOf(frames, depth << 1);
+    }
+    if (frames[depth] == null) {
+      frames[depth] = new Frame();
+    }
+
+    var frame = frames[depth++];
+    frame.kind = kind;
+    return frame;
+  }
+
+  private int getColumnSize(int columnType, int columnStart, int rows) {
+    if (columnType == ZeroType.BOOLEAN.getValue()) {
+      return bitsToBytes(rows);
+    }
+    if (columnType == ZeroType.STRING.getValue()) {
+      var columnEnd = columnStart;
+      for (int i = 0; i < rows; i++) {
+        columnEnd += Short.BYTES + ZeroInputs.readStringLength(at(columnEnd));
+      }
+      return columnEnd - columnStart;
+    }
+
+    if (columnType == ZeroWireType.STRING_REFERENCE) {
+      return Short.BYTES * rows;
+    }
+
+    return switch (ZeroType.getByValue(columnType)) {
+      case BYTE -> rows;
+      case SHORT, HALF_FLOAT -> Short.BYTES * rows;
+      case INTEGER, FLOAT -> Integer.BYTES * rows;
+      case LONG, DOUBLE -> Long.BYTES * rows;
+      case null, default -> throw new IllegalStateException(
+          String.format("Unable to decode the column type: %d", columnType));
+    };
+  }
+
+  private int getPayloadSize(int wireType, int payloadPosition, boolean wide) {
+    var sizeBytes = ZeroInputs.getSizeBytes(wide);
+    return switch (wireType) {
+      case ZeroWireType.BOOLEAN_BIT_ARRAY ->
+          sizeBytes + bitsToBytes(readSize(payloadPosition, wide));
+      case ZeroWireType.STRING_REFERENCE -> Short.BYTES;
+      case ZeroWireType.STRING_REFERENCE_ARRAY ->
+          Short.BYTES + Short.BYTES * readSize(payloadPosition);
+      default -> getPayloadSize(toZeroType(wireType), payloadPosition, wide);
+    };
+  }
+
+  private int getPayloadSize(ZeroType type, int payloadPosition, boolean wide) {
+    var sizeBytes = ZeroInputs.getSizeBytes(wide);
+    return switch (type) {
+      case NULL -> 0;
+      case BOOLEAN, BYTE -> Byte.BYTES;
+      case SHORT, HALF_FLOAT -> Short.BYTES;
+      case INTEGER, FLOAT -> Integer.BYTES;
+      case LONG, DOUBLE -> Long.BYTES;
+      case STRING -> sizeBytes + ZeroInputs.readStringLength(at(payloadPosition), wide);
+      case BOOLEAN_ARRAY -> sizeBytes + readSize(payloadPosition, wide);
+      case BYTE_ARRAY -> Integer.BYTES + ZeroInputs.readByteArraySize(at(payloadPosition));
+      case SHORT_ARRAY, HALF_FLOAT_ARRAY ->
+          sizeBytes + Short.BYTES * readSize(payloadPosition, wide);
+      case INTEGER_ARRAY, FLOAT_ARRAY ->
+          sizeBytes + Integer.BYTES * readSize(payloadPosition, wide);
+      case LONG_ARRAY, DOUBLE_ARRAY -> sizeBytes + Long.BYTES * readSize(payloadPosition, wide);
+      case STRING_ARRAY -> {
+        var itemPosition = payloadPosition + sizeBytes;
+        for (int i = readSize(payloadPosition, wide); i > 0; i--) {
+          itemPosition += sizeBytes + ZeroInputs.readStringLength(at(itemPosition), wide);
+        }
+        yield itemPosition - payloadPosition;
+      }
+      case QUANTIZED_FLOAT -> QUANTIZATION_HEADER_BYTES
+          + bitsToBytes(buffer.get(payloadPosition + QUANTIZATION_HEADER_BYTES - Byte.BYTES));
+      case QUANTIZED_FLOAT_ARRAY -> QUANTIZATION_HEADER_BYTES + sizeBytes
+          + bitsToBytes(buffer.get(payloadPosition + QUANTIZATION_HEADER_BYTES - Byte.BYTES)
+          * readSize(payloadPosition + QUANTIZATION_HEADER_BYTES, wide));
+      case ZERO_ARRAY, ZERO_MAP, ZERO_INT_MAP -> throw new IllegalStateException(
+          String.format("The collection type has no fixed payload: %s", type));
+    };
+  }
+
+  private ZeroType checkValue() {
+    if (currentToken != ZeroToken.VALUE) {
+      throw new IllegalStateException(
+          String.format("Expected a value, but found the token: %s", currentToken));
+    }
+
+    return currentType;
+  }
+
+  private void checkValue(ZeroType expectedType) {
+    if (checkValue() != expectedType) {
+      throw unableToRead(expectedType);
+    }
+  }
+
+  private IllegalStateException unableToRead(ZeroType expectedType) {
+    return new IllegalStateException(
+        String.format("Unable to read the current %s as %s", currentType, expectedType));
+  }
+
+  private int readSize(int sizePosition) {
+    return ZeroInputs.readCollectionSize(at(sizePosition));
+  }
+
+  private int readSize(int sizePosition, boolean wide) {
+    return ZeroInputs.readCollectionSize(at(sizePosition), wide);
+  }
+
+  private int valuesStart() {
+    return valueStart + ZeroInputs.getSizeBytes(valueWide);
+  }
+
+  private boolean isCollectionStart() {
+    return currentToken == ZeroToken.START_MAP || currentToken == ZeroToken.START_INT_MAP
+        || currentToken == ZeroToken.START_ARRAY;
+  }
+
+  private boolean isBitSet(int bitsPosition, int index) {
+    return (buffer.get(bitsPosition + (index >>> 3)) & (1 << (index & 7))) != 0;
+  }
+
+  private ByteBuffer at(int newPosition) {
+    return buffer.position(newPosition);
+  }
+
+  private static int bitsToBytes(int bitCount) {
+    return (bitCount + Byte.SIZE - 1) / Byte.SIZE;
+  }
+
+  private static ZeroType toZeroType(int wireType) {
+    var type = switch (wireType) {
+      case ZeroWireType.BOOLEAN_BIT_ARRAY -> ZeroType.BOOLEAN_ARRAY;
+      case ZeroWireType.STRING_REFERENCE -> ZeroType.STRING;
+      case ZeroWireType.STRING_REFERENCE_ARRAY -> ZeroType.STRING_ARRAY;
+      default -> ZeroType.getByValue(wireType);
+    };
+    if (type == null) {
+      throw new IllegalStateException(String.format("Unable to decode the type: %d", wireType));
+    }
+
+    return type;
+  }
+
+  private enum FrameKind {
+    MAP,
+    INT_MAP,
+    ARRAY,
+    TYPED_ARRAY,
+    COLUMNAR_ARRAY,
+    COLUMNAR_ROW
+  }
+
+  /**
+   * Holds the reading state of one open collection. Frames are kept between payloads, so a
+   * reused reader does not allocate them again.
+   */
+  private static final class Frame {
+
+    private FrameKind kind;
+    private int remaining;
+    private int bitFieldCount;
+    private int bitIndex;
+    private int bitKeyPosition;
+    private int bitsPosition;
+    private int elementWireType;
+    private boolean elementWide;
+    private int rows;
+    private int rowIndex;
+    private int fields;
+    private int fieldIndex;
+    private int[] keyPositions = new int[0];
+    private int[] columnWireTypes = new int[0];
+    private int[] columnPositions = new int[0];
+  }
+}
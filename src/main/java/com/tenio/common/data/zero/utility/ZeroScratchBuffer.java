@@ -0,0 +1,164 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A reusable buffer for encoding collections, it saves allocating and growing a new buffer on
+ * every serialization. A platform thread keeps its own buffer, virtual threads borrow one from a
+ * small shared pool sized by the number of processors, so buffers are not held by short-lived
+ * threads. The buffer follows the average size of recent payloads: it keeps the capacity a
+ * payload grew it to, but falls back to a smaller one after an outlier, and it is never retained
+ * above {@link #MAX_RETAINED_BYTES}.
+ */
+final class ZeroScratchBuffer {
+
+  /**
+   * The smallest capacity of a buffer.
+   */
+  static final int MIN_CAPACITY_BYTES = 512;
+  /**
+   * The largest capacity of a buffer which is kept for reuse.
+   */
+  static final int MAX_RETAINED_BYTES = 1 << 20;
+
+  private static final int OUTLIER_FACTOR = 4;
+  private static final ThreadLocal<ZeroScratchBuffer> LOCAL_BUFFERS = new ThreadLocal<>();
+  private static final AtomicReferenceArray<ZeroScratchBuffer> SHARED_BUFFERS =
+      new AtomicReferenceArray<>(Integer.highestOneBit(
+          Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+  private static volatile boolean enabled = true;
+
+  private final int slot;
+  private ByteBuffer buffer;
+  private int averageBytes;
+  private boolean acquired;
+
+  private ZeroScratchBuffer(int slot) {
+    this.slot = slot;
+  }
+
+  /**
+   * Enables or disables reusing buffers.
+   *
+   * @param enabled <code>true</code> to reuse buffers, otherwise every encoding allocates its own
+   */
+  static void setEnabled(boolean enabled) {
+    ZeroScratchBuffer.enabled = enabled;
+  }
+
+  /**
+   * Determines whether buffers are reused.
+   *
+   * @return <code>true</code> if buffers are reused, otherwise <code>false</code>
+   */
+  static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Acquires the buffer of the current thread, it must be given back by calling {@link
+   * #release(ByteBuffer)} once the encoding is done. A nested call, or any call while reusing is
+   * disabled, gets a buffer which is simply dropped afterwards.
+   *
+   * @return a {@link ZeroScratchBuffer}
+   */
+  static ZeroScratchBuffer acquire() {
+    if (!enabled) {
+      return new ZeroScratchBuffer(-1);
+    }
+
+    ZeroScratchBuffer scratch;
+    if (Thread.currentThread().isVirtual()) {
+      var slot = ThreadLocalRandom.current().nextInt() & (SHARED_BUFFERS.length() - 1);
+      scratch = SHARED_BUFFERS.getAndSet(slot, null);
+      if (scratch == null) {
+        scratch = new ZeroScratchBuffer(slot);
+      }
+    } else {
+      scratch = LOCAL_BUFFERS.get();
+      if (scratch == null) {
+        scratch = new ZeroScratchBuffer(-1);
+        LOCAL_BUFFERS.set(scratch);
+      } else if (scratch.acquired) {
+        return new ZeroScratchBuffer(-1);
+      }
+    }
+
+    scratch.acquired = true;
+    return scratch;
+  }
+
+  /**
+   * Retrieves an empty buffer to write into.
+   *
+   * @return the {@link ByteBuffer}
+   */
+  ByteBuffer buffer() {
+    return buffer(0);
+  }
+
+  /**
+   * Retrieves an empty buffer to write into, which holds at least the expected payload without
+   * growing.
+   *
+   * @param expectedBytes the expected size of the payload in bytes
+   * @return the {@link ByteBuffer}
+   */
+  ByteBuffer buffer(int expectedBytes) {
+    if (buffer == null || buffer.capacity() < expectedBytes) {
+      buffer = ByteBuffer.allocate(Math.max(expectedBytes, Math.max(MIN_CAPACITY_BYTES,
+          Math.min(MAX_RETAINED_BYTES, Integer.highestOneBit(averageBytes) << 1))));
+    }
+
+    return buffer.clear();
+  }
+
+  /**
+   * Gives the buffer back. Since writing may replace the buffer with a larger one, the last
+   * written buffer is passed and kept for the next encoding unless it is too large.
+   *
+   * @param written the last {@link ByteBuffer} holding the payload
+   */
+  void release(ByteBuffer written) {
+    var length = written.position();
+    averageBytes = averageBytes == 0 ? length : averageBytes + (length - averageBytes) / 8;
+    var capacity = written.capacity();
+    buffer = capacity > MAX_RETAINED_BYTES
+        || capacity > Math.max(MIN_CAPACITY_BYTES, averageBytes * OUTLIER_FACTOR) ? null : written;
+
+    if (!acquired) {
+      return;
+    }
+    acquired = false;
+    if (slot >= 0) {
+      SHARED_BUFFERS.compareAndSet(slot, null, this);
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A bounded cache which maps the UTF-8 bytes of short strings to canonical {@link String}
+ * instances, so decoding the same keys over and over again does not allocate a new string
+ * every time. The bytes are hashed in place, straight from the decoded buffer, and a miss
+ * falls back to a new string which replaces the previous entry of its slot. The returned
+ * strings already have their hash codes computed, which speeds up the lookups of the maps they
+ * are put into.
+ *
+ * <p>The cache is direct-mapped and lock-free: every slot holds at most one immutable entry and
+ * concurrent decoders may overwrite each other's entries, which only costs a later miss.
+ *
+ * @see ZeroUtility#setKeyCache(ZeroStringCache)
+ * @see ZeroUtility#setValueCache(ZeroStringCache)
+ */
+public final class ZeroStringCache {
+
+  /**
+   * The default number of slots.
+   */
+  public static final int DEFAULT_CAPACITY = 1024;
+  /**
+   * The default length limit of a cached string in bytes.
+   */
+  public static final int DEFAULT_MAX_LENGTH = 64;
+
+  private static final int FNV_OFFSET_BASIS = 0x811C9DC5;
+  private static final int FNV_PRIME = 0x01000193;
+
+  private final Entry[] entries;
+  private final int mask;
+  private final int maxLength;
+
+  /**
+   * Creates a new instance with the default capacity and length limit.
+   */
+  public ZeroStringCache() {
+    this(DEFAULT_CAPACITY, DEFAULT_MAX_LENGTH);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity  the number of slots, rounded up to a power of two
+   * @param maxLength the length limit of a cached string in bytes, longer strings are always
+   *                  allocated
+   */
+  public ZeroStringCache(int capacity, int maxLength) {
+    if (capacity <= 0 || capacity > 1 << 24 || maxLength < 0) {
+      throw new IllegalArgumentException(String.format(
+          "The capacity must be in (0, %d] and the length limit must not be negative: %d, %d",
+          1 << 24, capacity, maxLength));
+    }
+
+    var slots = Integer.highestOneBit(capacity);
+    entries = new Entry[slots < capacity ? slots << 1 : slots];
+    mask = entries.length - 1;
+    this.maxLength = maxLength;
+  }
+
+  /**
+   * Reads a string and moves the buffer's position after it.
+   *
+   * @param buffer the buffer, the string's bytes start at its position
+   * @param length the string's length in bytes
+   * @return the canonical instance if the string is cached, otherwise a new one
+   */
+  public String read(ByteBuffer buffer, int length) {
+    var position = buffer.position();
+    if (length > maxLength) {
+      buffer.position(position + length);
+      return newString(buffer, position, length);
+    }
+
+    var hash = FNV_OFFSET_BASIS;
+    for (int i = 0; i < length; ++i) {
+      hash = (hash ^ (buffer.get(position + i) & 0xFF)) * FNV_PRIME;
+    }
+
+    var slot = (hash ^ (hash >>> 16)) & mask;
+    var entry = entries[slot];
+    buffer.position(position + length);
+    if (entry != null && entry.hash == hash && entry.matches(buffer, position, length)) {
+      return entry.value;
+    }
+
+    var binaries = new byte[length];
+    buffer.get(position, binaries);
+    var value = new String(binaries, StandardCharsets.UTF_8);
+    value.hashCode();
+    entries[slot] = new Entry(hash, binaries, value);
+
+    return value;
+  }
+
+  /**
+   * Retrieves the number of slots.
+   *
+   * @return the capacity
+   */
+  public int getCapacity() {
+    return entries.length;
+  }
+
+  /**
+   * Retrieves the length limit of a cached string.
+   *
+   * @return the length limit in bytes
+   */
+  public int getMaxLength() {
+    return maxLength;
+  }
+
+  /**
+   * Drops all cached strings.
+   */
+  public void clear() {
+    for (int i = 0; i < entries.length; ++i) {
+      entries[i] = null;
+    }
+  }
+
+  private static String newString(ByteBuffer buffer, int position, int length) {
+    if (buffer.hasArray()) {
+      return new String(buffer.array(), buffer.arrayOffset() + position, length,
+          StandardCharsets.UTF_8);
+    }
+
+    var binaries = new byte[length];
+    buffer.get(position, binaries);
+    return new String(binaries, StandardCharsets.UTF_8);
+  }
+
+  private static final class Entry {
+
+    private final int hash;
+    private final byte[] binaries;
+    private final String value;
+
+    private Entry(int hash, byte[] binaries, String value) {
+      this.hash = hash;
+      this.binaries = binaries;
+      this.value = value;
+    }
+
+    private boolean matches(ByteBuffer buffer, int position, int length) {
+      if (binaries.length != length) {
+        return false;
+      }
+      for (int i = 0; i < length; ++i) {
+        if (binaries[i] != buffer.get(position + i)) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+/**
+ * The tokens reported by a {@link ZeroReader} while it walks through the self-definition
+ * binaries.
+ */
+public enum ZeroToken {
+
+  /**
+   * A map begins, its entries follow until the matching {@link #END_MAP}.
+   */
+  START_MAP,
+  /**
+   * The current map ends.
+   */
+  END_MAP,
+  /**
+   * An array begins, its elements follow until the matching {@link #END_ARRAY}.
+   */
+  START_ARRAY,
+  /**
+   * The current array ends.
+   */
+  END_ARRAY,
+  /**
+   * An int map begins, its entries keyed by field IDs follow until the matching
+   * {@link #END_INT_MAP}.
+   */
+  START_INT_MAP,
+  /**
+   * The current int map ends.
+   */
+  END_INT_MAP,
+  /**
+   * A value which is neither a map nor an array, e.g. a number, a string or a collection of
+   * primitive values.
+   */
+  VALUE
+}
@@ -25,17 +25,40 @@ THE SOFTWARE.
 package com.tenio.common.data.zero.utility;
 
 import com.tenio.common.data.DataCollection;
+import com.tenio.common.data.zero.ConcurrentZeroMap;
+import com.tenio.common.data.zero.VersionedZeroMap;
 import com.tenio.common.data.zero.ZeroArray;
 import com.tenio.common.data.zero.ZeroElement;
+import com.tenio.common.data.zero.ZeroIntMap;
 import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroQuantization;
 import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.implement.ConcurrentZeroMapImpl;
+import com.tenio.common.data.zero.implement.DoubleZeroArrayImpl;
+import com.tenio.common.data.zero.implement.FloatZeroArrayImpl;
+import com.tenio.common.data.zero.implement.IntegerZeroArrayImpl;
+import com.tenio.common.data.zero.implement.LongZeroArrayImpl;
+import com.tenio.common.data.zero.implement.StringZeroArrayImpl;
+import com.tenio.common.data.zero.implement.TypedZeroArrayImpl;
+import com.tenio.common.data.zero.implement.VersionedZeroMapImpl;
 import com.tenio.common.data.zero.implement.ZeroArrayImpl;
 import com.tenio.common.data.zero.implement.ZeroElementImpl;
+import com.tenio.common.data.zero.implement.ZeroIntMapImpl;
 import com.tenio.common.data.zero.implement.ZeroMapImpl;
+import com.tenio.common.data.zero.implement.ZeroQuantizedElementImpl;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This class provides all necessary methods to work with the self-definition data elements.
@@ -43,16 +66,28 @@ import java.util.Collection;
 public final class ZeroUtility {
 
   private static final int BUFFER_CHUNK_BYTES = 512;
+  // large arrays and columns are written through slices of at most this many bytes
+  private static final int ENCODE_SLICE_BYTES = 8 * 1024;
   private static final int ENCODE_SHORT_BYTES = Byte.BYTES + Short.BYTES;
   private static final int ENCODE_INTEGER_BYTES = Byte.BYTES + Integer.BYTES;
   private static final int ENCODE_LONG_BYTES = Byte.BYTES + Long.BYTES;
   private static final int ENCODE_FLOAT_BYTES = Byte.BYTES + Float.BYTES;
   private static final int ENCODE_DOUBLE_BYTES = Byte.BYTES + Double.BYTES;
-  private static final int ENCODE_HEADER_STRING_BYTES = Byte.BYTES + Short.BYTES;
-  private static final int ENCODE_HEADER_BOOLEAN_ARRAY_BYTES = Byte.BYTES + Short.BYTES;
+  private static final int ENCODE_HEADER_SIZED_BYTES = Byte.BYTES + Short.BYTES;
+  private static final int ENCODE_HEADER_WIDE_SIZED_BYTES = Byte.BYTES + Byte.BYTES + Integer.BYTES;
   private static final int ENCODE_HEADER_BYTE_ARRAY_BYTES = Byte.BYTES + Integer.BYTES;
-  private static final int ENCODE_HEADER_NUMERIC_ARRAY_BYTES = Byte.BYTES + Short.BYTES;
-  private static final int ENCODE_HEADER_STRING_ARRAY_BYTES = Byte.BYTES + Short.BYTES;
+  private static final int ENCODE_HALF_FLOAT_BYTES = Byte.BYTES + Short.BYTES;
+  private static final int ENCODE_HEADER_QUANTIZATION_BYTES =
+      Byte.BYTES + Float.BYTES + Float.BYTES + Byte.BYTES;
+  private static final int ENCODE_HEADER_BOOLEAN_BIT_FIELDS_BYTES =
+      Short.BYTES + Byte.BYTES + Short.BYTES;
+  // a column keeps 16-bit string lengths, which hold any string of this many UTF-16 chars
+  private static final int MAX_COLUMNAR_STRING_LENGTH = Short.MAX_VALUE / 3;
+
+  private static volatile Set<ZeroEncodingOption> defaultEncodingOptions =
+      Collections.unmodifiableSet(EnumSet.noneOf(ZeroEncodingOption.class));
+  private static volatile ZeroStringCache keyCache = new ZeroStringCache();
+  private static volatile ZeroStringCache valueCache;
 
   private ZeroUtility() {
     throw new UnsupportedOperationException("This class does not support to create an instance");
@@ -80,6 +115,20 @@ public final class ZeroUtility {
     return new ZeroElementImpl(type, data);
   }
 
+  /**
+   * Creates a new instance of {@link ZeroElement} class for the quantized types.
+   *
+   * @param type         the type of element, {@link ZeroType#QUANTIZED_FLOAT} or
+   *                     {@link ZeroType#QUANTIZED_FLOAT_ARRAY}
+   * @param data         the {@link Float} value or the {@link Collection} of {@link Float} values
+   * @param quantization the {@link ZeroQuantization} applied when the data is encoded
+   * @return new instance of zero element
+   */
+  public static ZeroElement newZeroElement(ZeroType type, Object data,
+                                           ZeroQuantization quantization) {
+    return new ZeroQuantizedElementImpl(type, data, quantization);
+  }
+
   /**
    * Creates a new instance of {@link ZeroArray} class.
    *
@@ -89,6 +138,28 @@ public final class ZeroUtility {
     return new ZeroArrayImpl();
   }
 
+  /**
+   * Creates a new instance of {@link ZeroArray} class which holds values of one type in a
+   * primitive or {@link String} array. It still accepts values of other types, but then falls
+   * back to the storage of a generic array.
+   *
+   * @param type the type of values, one of {@link ZeroType#INTEGER}, {@link ZeroType#LONG},
+   *             {@link ZeroType#FLOAT}, {@link ZeroType#DOUBLE} or {@link ZeroType#STRING}
+   * @return new instance of zero array
+   * @throws IllegalArgumentException when the type is not supported
+   */
+  public static ZeroArray newTypedZeroArray(ZeroType type) {
+    return switch (type) {
+      case INTEGER -> new IntegerZeroArrayImpl();
+      case LONG -> new LongZeroArrayImpl();
+      case FLOAT -> new FloatZeroArrayImpl();
+      case DOUBLE -> new DoubleZeroArrayImpl();
+      case STRING -> new StringZeroArrayImpl();
+      default -> throw new IllegalArgumentException(
+          String.format("Unsupported type of typed array: %s", type));
+    };
+  }
+
   /**
    * Creates a new instance of {@link ZeroMap} class.
    *
@@ -98,6 +169,35 @@ public final class ZeroUtility {
     return new ZeroMapImpl();
   }
 
+  /**
+   * Creates a new instance of {@link ZeroIntMap} class which is keyed by numeric field IDs.
+   *
+   * @return new instance of zero int map
+   */
+  public static ZeroIntMap newZeroIntMap() {
+    return new ZeroIntMapImpl();
+  }
+
+  /**
+   * Creates a new instance of {@link ConcurrentZeroMap} class which could be shared between
+   * threads.
+   *
+   * @return new instance of concurrent zero map
+   */
+  public static ConcurrentZeroMap newConcurrentZeroMap() {
+    return new ConcurrentZeroMapImpl();
+  }
+
+  /**
+   * Creates a new instance of {@link VersionedZeroMap} class which is the root of a new tree of
+   * versioned maps.
+   *
+   * @return new instance of versioned zero map
+   */
+  public static VersionedZeroMap newVersionedZeroMap() {
+    return new VersionedZeroMapImpl();
+  }
+
   /**
    * Deserializes a stream of bytes to a zero collection.
    *
@@ -105,11 +205,41 @@ public final class ZeroUtility {
    * @return a new zero collection instance
    */
   public static DataCollection binariesToCollection(byte[] binaries) {
-    return switch (ZeroType.getByValue(binaries[0])) {
+    return binariesToCollection(ByteBuffer.wrap(binaries));
+  }
+
+  /**
+   * Deserializes the remaining bytes of a buffer to a zero collection. The bytes are read in
+   * place, so a memory-mapped or direct buffer is decoded without being copied to the heap first.
+   *
+   * @param binaries the buffer, read from its position to its limit, which are not changed
+   * @return a new zero collection instance
+   */
+  public static DataCollection binariesToCollection(ByteBuffer binaries) {
+    var rootIndex = binaries.position();
+    if (binaries.hasRemaining() && binaries.get(rootIndex) == ZeroWireType.STRING_TABLE) {
+      rootIndex = skipStringTable(binaries.duplicate());
+    }
+    if (rootIndex < binaries.limit() && binaries.get(rootIndex) == ZeroWireType.WIDE) {
+      rootIndex++;
+    }
+
+    var hasRoot = rootIndex < binaries.limit();
+    var rootType = hasRoot ? ZeroType.getByValue(binaries.get(rootIndex)) : null;
+    if (hasRoot && (binaries.get(rootIndex) == ZeroWireType.COLUMNAR_ARRAY
+        || binaries.get(rootIndex) == ZeroWireType.TYPED_ARRAY)) {
+      rootType = ZeroType.ZERO_ARRAY;
+    }
+    if (rootType == null) {
+      throw new UnsupportedOperationException(String.format("Unsupported value: %s", rootType));
+    }
+
+    return switch (rootType) {
       case ZERO_MAP -> binariesToMap(binaries);
       case ZERO_ARRAY -> binariesToArray(binaries);
+      case ZERO_INT_MAP -> binariesToIntMap(binaries);
       default -> throw new UnsupportedOperationException(
-          String.format("Unsupported value: %s", ZeroType.getByValue(binaries[0])));
+          String.format("Unsupported value: %s", rootType));
     };
   }
 
@@ -131,7 +261,26 @@ public final class ZeroUtility {
     buffer.put(binaries);
     buffer.flip();
 
-    return decodeZeroArray(buffer);
+    return decodeZeroArray(buffer, decodeStringTable(buffer));
+  }
+
+  /**
+   * Deserializes the remaining bytes of a buffer to a zero array. The bytes are read in place,
+   * so a memory-mapped or direct buffer is decoded without being copied to the heap first.
+   *
+   * @param binaries the buffer, read from its position to its limit, which are not changed
+   * @return a new zero array instance
+   */
+  public static ZeroArray binariesToArray(ByteBuffer binaries) {
+    if (binaries.remaining() < 3) {
+      throw new IllegalStateException(String.format(
+          "Unable to decode a ZeroArray because binary data size is not big enough to work on it."
+              + " Size: %d bytes",
+          binaries.remaining()));
+    }
+
+    var buffer = binaries.duplicate();
+    return decodeZeroArray(buffer, decodeStringTable(buffer));
   }
 
   /**
@@ -152,594 +301,2189 @@ public final class ZeroUtility {
     buffer.put(binaries);
     buffer.flip();
 
-    return decodeZeroMap(buffer);
+    return decodeZeroMap(buffer, decodeStringTable(buffer));
   }
 
   /**
-   * Serialize a map to a stream of bytes.
+   * Deserializes the remaining bytes of a buffer to a zero map. The bytes are read in place, so
+   * a memory-mapped or direct buffer is decoded without being copied to the heap first.
    *
-   * @param map the map
-   * @return the stream of bytes converted from the map
+   * @param binaries the buffer, read from its position to its limit, which are not changed
+   * @return a new zero map instance
    */
-  public static byte[] mapToBinaries(ZeroMap map) {
-    var buffer = ByteBuffer.allocate(BUFFER_CHUNK_BYTES);
-    buffer.put((byte) ZeroType.ZERO_MAP.getValue());
-    buffer.putShort((short) map.size());
+  public static ZeroMap binariesToMap(ByteBuffer binaries) {
+    if (binaries.remaining() < 3) {
+      throw new IllegalStateException(String.format(
+          "Unable to decode a ZeroMap because binary data size is not big enough to work on it"
+              + ". Size: %d bytes",
+          binaries.remaining()));
+    }
 
-    return mapToBinaries(map, buffer);
+    var buffer = binaries.duplicate();
+    return decodeZeroMap(buffer, decodeStringTable(buffer));
   }
 
-  private static byte[] mapToBinaries(ZeroMap map, ByteBuffer buffer) {
-    var keys = map.getKeys();
-    ZeroElement zeroElement;
-    Object data;
+  /**
+   * Deserializes a stream of bytes into an existing zero array, which is cleared and refilled.
+   * Nested zero maps and zero arrays, byte arrays of the same length and typed arrays of the same
+   * type which the target already holds at the same index are refilled in place, so decoding
+   * messages of a steady shape into one long-lived instance allocates very little.
+   *
+   * <p>References taken from the target before the call see the new values afterwards. If the
+   * bytes could not be decoded, the content of target is unspecified.
+   *
+   * @param target   the zero array to refill
+   * @param binaries the stream of bytes, it is read in place and not kept
+   * @return the target instance
+   */
+  public static ZeroArray decodeInto(ZeroArray target, byte[] binaries) {
+    return decodeInto(target, ByteBuffer.wrap(binaries));
+  }
 
-    for (var iterator = keys.iterator(); iterator
-        .hasNext(); buffer = encodeElement(buffer, zeroElement.getType(), data)) {
-      var key = iterator.next();
-      zeroElement = map.getZeroElement(key);
-      data = zeroElement.getData();
-      buffer = encodeZeroMapKey(buffer, key);
+  /**
+   * Deserializes the remaining bytes of a buffer into an existing zero array, which is cleared
+   * and refilled in the same way as {@link #decodeInto(ZeroArray, byte[])}.
+   *
+   * @param target   the zero array to refill
+   * @param binaries the buffer, read from its position to its limit, which are not changed
+   * @return the target instance
+   */
+  public static ZeroArray decodeInto(ZeroArray target, ByteBuffer binaries) {
+    if (binaries.remaining() < 3) {
+      throw new IllegalStateException(String.format(
+          "Unable to decode a ZeroArray because binary data size is not big enough to work on it."
+              + " Size: %d bytes",
+          binaries.remaining()));
     }
 
-    var position = buffer.position();
-    var result = new byte[position];
-    buffer.flip();
-    buffer.get(result, 0, position);
+    var buffer = binaries.duplicate();
+    return decodeZeroArray(buffer, decodeStringTable(buffer), target);
+  }
 
-    return result;
+  /**
+   * Deserializes a stream of bytes into an existing zero map, which is cleared and refilled.
+   * Nested zero maps and zero arrays, byte arrays of the same length and typed arrays of the same
+   * type which the target already holds under the same key are refilled in place, and the
+   * entries of keys present in both are overwritten without growing the backing table, so
+   * decoding messages of a steady shape into one long-lived instance allocates very little.
+   *
+   * <p>References taken from the target before the call see the new values afterwards. If the
+   * bytes could not be decoded, the content of target is unspecified.
+   *
+   * @param target   the zero map to refill
+   * @param binaries the stream of bytes, it is read in place and not kept
+   * @return the target instance
+   */
+  public static ZeroMap decodeInto(ZeroMap target, byte[] binaries) {
+    return decodeInto(target, ByteBuffer.wrap(binaries));
   }
 
   /**
-   * Serializes an array to a stream of bytes.
+   * Deserializes the remaining bytes of a buffer into an existing zero map, which is cleared and
+   * refilled in the same way as {@link #decodeInto(ZeroMap, byte[])}.
    *
-   * @param array the array
-   * @return the stream of bytes converted from the array
+   * @param target   the zero map to refill
+   * @param binaries the buffer, read from its position to its limit, which are not changed
+   * @return the target instance
    */
-  public static byte[] arrayToBinaries(ZeroArray array) {
-    var buffer = ByteBuffer.allocate(BUFFER_CHUNK_BYTES);
-    buffer.put((byte) ZeroType.ZERO_ARRAY.getValue());
-    buffer.putShort((short) array.size());
+  public static ZeroMap decodeInto(ZeroMap target, ByteBuffer binaries) {
+    if (binaries.remaining() < 3) {
+      throw new IllegalStateException(String.format(
+          "Unable to decode a ZeroMap because binary data size is not big enough to work on it"
+              + ". Size: %d bytes",
+          binaries.remaining()));
+    }
 
-    return arrayToBinaries(array, buffer);
+    var buffer = binaries.duplicate();
+    return decodeZeroMap(buffer, decodeStringTable(buffer), target);
   }
 
-  private static byte[] arrayToBinaries(ZeroArray array, ByteBuffer buffer) {
-    ZeroElement zeroElement;
-    Object data;
+  /**
+   * Deserializes a stream of bytes to a zero int map.
+   *
+   * @param binaries the stream of bytes
+   * @return a new zero int map instance
+   */
+  public static ZeroIntMap binariesToIntMap(byte[] binaries) {
+    return binariesToIntMap(ByteBuffer.wrap(binaries));
+  }
 
-    for (var iterator = array.iterator(); iterator
-        .hasNext(); buffer = encodeElement(buffer, zeroElement.getType(), data)) {
-      zeroElement = iterator.next();
-      data = zeroElement.getData();
+  /**
+   * Deserializes the remaining bytes of a buffer to a zero int map. The bytes are read in place,
+   * so a memory-mapped or direct buffer is decoded without being copied to the heap first.
+   *
+   * @param binaries the buffer, read from its position to its limit, which are not changed
+   * @return a new zero int map instance
+   */
+  public static ZeroIntMap binariesToIntMap(ByteBuffer binaries) {
+    if (binaries.remaining() < 2) {
+      throw new IllegalStateException(String.format(
+          "Unable to decode a ZeroIntMap because binary data size is not big enough to work on"
+              + " it. Size: %d bytes",
+          binaries.remaining()));
     }
 
-    var position = buffer.position();
-    var result = new byte[position];
-    buffer.flip();
-    buffer.get(result, 0, position);
+    var buffer = binaries.duplicate();
+    return decodeZeroIntMap(buffer, decodeStringTable(buffer));
+  }
 
-    return result;
+  /**
+   * Sets the optional encodings applied by default when a collection is serialized without
+   * explicit options, e.g. by {@link DataCollection#toBinaries()}.
+   *
+   * @param options the default {@link ZeroEncodingOption}s, none means the plain encoding
+   */
+  public static void setDefaultEncodingOptions(ZeroEncodingOption... options) {
+    defaultEncodingOptions = Collections.unmodifiableSet(toEncodingOptions(options));
   }
 
-  private static ZeroElement decodeElement(ByteBuffer buffer) throws RuntimeException {
-    var headerByte = buffer.get();
-    var type = ZeroType.getByValue(headerByte);
-    if (type == null) {
-      return null;
-    }
+  /**
+   * Retrieves the optional encodings applied by default.
+   *
+   * @return an unmodifiable {@link Set} of {@link ZeroEncodingOption}
+   */
+  public static Set<ZeroEncodingOption> getDefaultEncodingOptions() {
+    return defaultEncodingOptions;
+  }
 
-    return switch (type) {
-      case NULL -> decodeNull();
-      case BOOLEAN -> decodeBoolean(buffer);
-      case BYTE -> decodeByte(buffer);
-      case SHORT -> decodeShort(buffer);
-      case INTEGER -> decodeInteger(buffer);
-      case FLOAT -> decodeFloat(buffer);
-      case LONG -> decodeLong(buffer);
-      case DOUBLE -> decodeDouble(buffer);
-      case STRING -> decodeString(buffer);
-      case BOOLEAN_ARRAY -> decodeBooleanArray(buffer);
-      case BYTE_ARRAY -> decodeByteArray(buffer);
-      case SHORT_ARRAY -> decodeShortArray(buffer);
-      case INTEGER_ARRAY -> decodeIntegerArray(buffer);
-      case FLOAT_ARRAY -> decodeFloatArray(buffer);
-      case LONG_ARRAY -> decodeLongArray(buffer);
-      case DOUBLE_ARRAY -> decodeDoubleArray(buffer);
-      case STRING_ARRAY -> decodeStringArray(buffer);
-      case ZERO_ARRAY -> {
-        buffer.position(buffer.position() - Byte.BYTES);
-        yield newZeroElement(ZeroType.ZERO_ARRAY, decodeZeroArray(buffer));
-      }
-      case ZERO_MAP -> {
-        buffer.position(buffer.position() - Byte.BYTES);
-        yield newZeroElement(ZeroType.ZERO_MAP, decodeZeroMap(buffer));
-      }
-    };
+  /**
+   * Sets the cache used to canonicalize map keys while decoding. Keys repeat across nearly every
+   * message, so they are cached by default.
+   *
+   * @param cache the {@link ZeroStringCache} for keys, {@code null} disables key caching
+   */
+  public static void setKeyCache(ZeroStringCache cache) {
+    keyCache = cache;
   }
 
-  @SuppressWarnings("unchecked")
-  private static ByteBuffer encodeElement(ByteBuffer buffer, ZeroType type, Object data) {
-    switch (type) {
-      case NULL -> buffer = encodeNull(buffer);
-      case BOOLEAN -> buffer = encodeBoolean(buffer, (Boolean) data);
-      case BYTE -> buffer = encodeByte(buffer, (Byte) data);
-      case SHORT -> buffer = encodeShort(buffer, (Short) data);
-      case INTEGER -> buffer = encodeInteger(buffer, (Integer) data);
-      case LONG -> buffer = encodeLong(buffer, (Long) data);
-      case FLOAT -> buffer = encodeFloat(buffer, (Float) data);
-      case DOUBLE -> buffer = encodeDouble(buffer, (Double) data);
-      case STRING -> buffer = encodeString(buffer, (String) data);
-      case BOOLEAN_ARRAY -> buffer = encodeBooleanArray(buffer, (Collection<Boolean>) data);
-      case BYTE_ARRAY -> buffer = encodeByteArray(buffer, (byte[]) data);
-      case SHORT_ARRAY -> buffer = encodeShortArray(buffer, (Collection<Short>) data);
-      case INTEGER_ARRAY -> buffer = encodeIntegerArray(buffer, (Collection<Integer>) data);
-      case LONG_ARRAY -> buffer = encodeLongArray(buffer, (Collection<Long>) data);
-      case FLOAT_ARRAY -> buffer = encodeFloatArray(buffer, (Collection<Float>) data);
-      case DOUBLE_ARRAY -> buffer = encodeDoubleArray(buffer, (Collection<Double>) data);
-      case STRING_ARRAY -> buffer = encodeStringArray(buffer, (Collection<String>) data);
-      case ZERO_ARRAY -> buffer = appendBinariesToBuffer(buffer, arrayToBinaries((ZeroArray) data));
-      case ZERO_MAP -> buffer = appendBinariesToBuffer(buffer, mapToBinaries((ZeroMap) data));
-    }
+  /**
+   * Retrieves the cache used to canonicalize map keys while decoding.
+   *
+   * @return the {@link ZeroStringCache} for keys, or {@code null} when disabled
+   */
+  public static ZeroStringCache getKeyCache() {
+    return keyCache;
+  }
 
-    return buffer;
+  /**
+   * Sets the cache used to canonicalize short string values while decoding. It is disabled by
+   * default, enable it when values come from a small vocabulary (states, names, commands).
+   *
+   * @param cache the {@link ZeroStringCache} for values, {@code null} disables value caching
+   */
+  public static void setValueCache(ZeroStringCache cache) {
+    valueCache = cache;
   }
 
-  private static ZeroElement decodeNull() {
-    return newZeroElement(ZeroType.NULL, null);
+  /**
+   * Retrieves the cache used to canonicalize string values while decoding.
+   *
+   * @return the {@link ZeroStringCache} for values, or {@code null} when disabled
+   */
+  public static ZeroStringCache getValueCache() {
+    return valueCache;
   }
 
-  private static ZeroElement decodeBoolean(ByteBuffer buffer) {
-    var bool = buffer.get();
-    Boolean data;
+  /**
+   * Enables or disables reusing a per-thread buffer while serializing collections. It is enabled
+   * by default, each serialization then only allocates its resulting array.
+   *
+   * @param enabled <code>true</code> to reuse buffers, otherwise every serialization allocates
+   *                its own buffer
+   */
+  public static void setReusableBuffersEnabled(boolean enabled) {
+    ZeroScratchBuffer.setEnabled(enabled);
+  }
 
-    if (bool == 0) {
-      data = Boolean.FALSE;
-    } else {
-      if (bool != 1) {
-        throw new IllegalStateException(
-            String.format("Expected value of 0 or 1, but found: %d", bool));
+  /**
+   * Determines whether a per-thread buffer is reused while serializing collections.
+   *
+   * @return <code>true</code> if buffers are reused, otherwise <code>false</code>
+   */
+  public static boolean isReusableBuffersEnabled() {
+    return ZeroScratchBuffer.isEnabled();
+  }
+
+  /**
+   * Serialize a map to a stream of bytes.
+   *
+   * @param map the map
+   * @return the stream of bytes converted from the map
+   */
+  public static byte[] mapToBinaries(ZeroMap map) {
+    return mapToBinaries(map, new EncodingContext(defaultEncodingOptions));
+  }
+
+  /**
+   * Serialize a map to a stream of bytes with the given optional encodings.
+   *
+   * @param map     the map
+   * @param options the {@link ZeroEncodingOption}s applied to the map and all its nested
+   *                collections
+   * @return the stream of bytes converted from the map
+   */
+  public static byte[] mapToBinaries(ZeroMap map, ZeroEncodingOption... options) {
+    return mapToBinaries(map, new EncodingContext(toEncodingOptions(options)));
+  }
+
+  /**
+   * Serializes a map to a stream of bytes and records its size in a profile. The buffer starts
+   * at the size which holds 99% of the recorded payloads of the profile, so it rarely grows.
+   *
+   * @param map     the map
+   * @param profile the {@link ZeroPayloadProfile} of the map's message type
+   * @return the stream of bytes converted from the map
+   */
+  public static byte[] mapToBinaries(ZeroMap map, ZeroPayloadProfile profile) {
+    return mapToBinaries(map, new EncodingContext(defaultEncodingOptions, profile));
+  }
+
+  private static byte[] mapToBinaries(ZeroMap map, EncodingContext context) {
+    var scratch = ZeroScratchBuffer.acquire();
+    var buffer = scratch.buffer(context.getInitialCapacity());
+    try {
+      if (context.isEnabled(ZeroEncodingOption.DEDUPLICATE_STRINGS)) {
+        countStrings(map, context);
+        buffer = encodeStringTable(buffer, context);
       }
 
-      data = Boolean.TRUE;
+      buffer = encodeZeroMap(buffer, map, context);
+      context.recordSize(buffer.position());
+      return bufferToBinaries(buffer);
+    } finally {
+      scratch.release(buffer);
     }
+  }
 
-    return newZeroElement(ZeroType.BOOLEAN, data);
+  /**
+   * Serializes an array to a stream of bytes.
+   *
+   * @param array the array
+   * @return the stream of bytes converted from the array
+   */
+  public static byte[] arrayToBinaries(ZeroArray array) {
+    return arrayToBinaries(array, new EncodingContext(defaultEncodingOptions));
   }
 
-  private static ZeroElement decodeByte(ByteBuffer buffer) {
-    var data = buffer.get();
-    return newZeroElement(ZeroType.BYTE, data);
+  /**
+   * Serializes an array to a stream of bytes with the given optional encodings.
+   *
+   * @param array   the array
+   * @param options the {@link ZeroEncodingOption}s applied to the array and all its nested
+   *                collections
+   * @return the stream of bytes converted from the array
+   */
+  public static byte[] arrayToBinaries(ZeroArray array, ZeroEncodingOption... options) {
+    return arrayToBinaries(array, new EncodingContext(toEncodingOptions(options)));
   }
 
-  private static ZeroElement decodeShort(ByteBuffer buffer) {
-    var data = buffer.getShort();
-    return newZeroElement(ZeroType.SHORT, data);
+  /**
+   * Serializes an array to a stream of bytes and records its size in a profile. The buffer
+   * starts at the size which holds 99% of the recorded payloads of the profile, so it rarely
+   * grows.
+   *
+   * @param array   the array
+   * @param profile the {@link ZeroPayloadProfile} of the array's message type
+   * @return the stream of bytes converted from the array
+   */
+  public static byte[] arrayToBinaries(ZeroArray array, ZeroPayloadProfile profile) {
+    return arrayToBinaries(array, new EncodingContext(defaultEncodingOptions, profile));
   }
 
-  private static ZeroElement decodeInteger(ByteBuffer buffer) {
-    var data = buffer.getInt();
-    return newZeroElement(ZeroType.INTEGER, data);
+  private static byte[] arrayToBinaries(ZeroArray array, EncodingContext context) {
+    var scratch = ZeroScratchBuffer.acquire();
+    var buffer = scratch.buffer(context.getInitialCapacity());
+    try {
+      if (context.isEnabled(ZeroEncodingOption.DEDUPLICATE_STRINGS)) {
+        countStrings(array, context);
+        buffer = encodeStringTable(buffer, context);
+      }
+
+      buffer = encodeZeroArray(buffer, array, context);
+      context.recordSize(buffer.position());
+      return bufferToBinaries(buffer);
+    } finally {
+      scratch.release(buffer);
+    }
   }
 
-  private static ZeroElement decodeLong(ByteBuffer buffer) {
-    var data = buffer.getLong();
-    return newZeroElement(ZeroType.LONG, data);
+  /**
+   * Serializes an int map to a stream of bytes.
+   *
+   * @param map the int map
+   * @return the stream of bytes converted from the map
+   */
+  public static byte[] intMapToBinaries(ZeroIntMap map) {
+    return intMapToBinaries(map, new EncodingContext(defaultEncodingOptions));
   }
 
-  private static ZeroElement decodeFloat(ByteBuffer buffer) {
-    var data = buffer.getFloat();
-    return newZeroElement(ZeroType.FLOAT, data);
+  /**
+   * Serializes an int map to a stream of bytes with the given optional encodings.
+   *
+   * @param map     the int map
+   * @param options the {@link ZeroEncodingOption}s applied to the map and all its nested
+   *                collections
+   * @return the stream of bytes converted from the map
+   */
+  public static byte[] intMapToBinaries(ZeroIntMap map, ZeroEncodingOption... options) {
+    return intMapToBinaries(map, new EncodingContext(toEncodingOptions(options)));
   }
 
-  private static ZeroElement decodeDouble(ByteBuffer buffer) {
-    var data = buffer.getDouble();
-    return newZeroElement(ZeroType.DOUBLE, data);
+  /**
+   * Serializes an int map to a stream of bytes and records its size in a profile. The buffer
+   * starts at the size which holds 99% of the recorded payloads of the profile, so it rarely
+   * grows.
+   *
+   * @param map     the int map
+   * @param profile the {@link ZeroPayloadProfile} of the map's message type
+   * @return the stream of bytes converted from the map
+   */
+  public static byte[] intMapToBinaries(ZeroIntMap map, ZeroPayloadProfile profile) {
+    return intMapToBinaries(map, new EncodingContext(defaultEncodingOptions, profile));
+  }
+
+  private static byte[] intMapToBinaries(ZeroIntMap map, EncodingContext context) {
+    var scratch = ZeroScratchBuffer.acquire();
+    var buffer = scratch.buffer(context.getInitialCapacity());
+    try {
+      if (context.isEnabled(ZeroEncodingOption.DEDUPLICATE_STRINGS)) {
+        countStrings(map, context);
+        buffer = encodeStringTable(buffer, context);
+      }
+
+      buffer = encodeZeroIntMap(buffer, map, context);
+      context.recordSize(buffer.position());
+      return bufferToBinaries(buffer);
+    } finally {
+      scratch.release(buffer);
+    }
   }
 
-  private static ZeroElement decodeString(ByteBuffer buffer) {
-    var strLen = buffer.getShort();
+  /**
+   * Serializes a large map into fixed-size chunks, so that no large contiguous array is
+   * allocated. The returned buffer must be closed once its binaries are written.
+   *
+   * @param map     the map
+   * @param options the {@link ZeroEncodingOption}s applied to the map and all its nested
+   *                collections, none means the default encodings
+   * @return a {@link ZeroChunkedBuffer} holding the binaries
+   */
+  public static ZeroChunkedBuffer mapToChunkedBuffer(ZeroMap map, ZeroEncodingOption... options) {
+    var context = new EncodingContext(options.length == 0 ? defaultEncodingOptions
+        : toEncodingOptions(options));
+    var chunkedBuffer = ZeroChunkedBuffer.open();
+    try {
+      var buffer = chunkedBuffer.current();
+      if (context.isEnabled(ZeroEncodingOption.DEDUPLICATE_STRINGS)) {
+        countStrings(map, context);
+        buffer = encodeStringTable(buffer, context);
+      }
+
+      encodeZeroMap(buffer, map, context);
+      return chunkedBuffer.finish();
+    } catch (RuntimeException exception) {
+      chunkedBuffer.close();
+      throw exception;
+    }
+  }
+
+  /**
+   * Serializes a large array into fixed-size chunks, so that no large contiguous array is
+   * allocated. The returned buffer must be closed once its binaries are written.
+   *
+   * @param array   the array
+   * @param options the {@link ZeroEncodingOption}s applied to the array and all its nested
+   *                collections, none means the default encodings
+   * @return a {@link ZeroChunkedBuffer} holding the binaries
+   */
+  public static ZeroChunkedBuffer arrayToChunkedBuffer(ZeroArray array,
+                                                       ZeroEncodingOption... options) {
+    var context = new EncodingContext(options.length == 0 ? defaultEncodingOptions
+        : toEncodingOptions(options));
+    var chunkedBuffer = ZeroChunkedBuffer.open();
+    try {
+      var buffer = chunkedBuffer.current();
+      if (context.isEnabled(ZeroEncodingOption.DEDUPLICATE_STRINGS)) {
+        countStrings(array, context);
+        buffer = encodeStringTable(buffer, context);
+      }
+
+      encodeZeroArray(buffer, array, context);
+      return chunkedBuffer.finish();
+    } catch (RuntimeException exception) {
+      chunkedBuffer.close();
+      throw exception;
+    }
+  }
+
+  private static ByteBuffer encodeZeroMap(ByteBuffer buffer, ZeroMap map,
+                                          EncodingContext context) {
+    map = toStableMap(map);
+    var booleanFields = context.isEnabled(ZeroEncodingOption.PACK_BOOLEAN_FIELDS)
+        ? countBooleanFields(map) : 0;
+    var packBooleanFields = isWorthPackingBooleanFields(booleanFields);
+    var size = packBooleanFields ? map.size() - booleanFields + 1 : map.size();
+    var wide = context.isWide(size);
+
+    var header = ByteBuffer.allocate(getSizedHeaderBytes(wide));
+    putSizedHeader(header, ZeroType.ZERO_MAP.getValue(), size, wide);
+    buffer = appendBinariesToBuffer(buffer, header.array());
+
+    if (packBooleanFields) {
+      buffer = encodeBooleanFields(buffer, map, booleanFields);
+    }
+
+    for (var key : map.getKeys()) {
+      var zeroElement = map.getZeroElement(key);
+      if (packBooleanFields && zeroElement.getType() == ZeroType.BOOLEAN) {
+        continue;
+      }
+
+      buffer = encodeZeroMapKey(buffer, key);
+      buffer = encodeElement(buffer, zeroElement, context);
+    }
+
+    return buffer;
+  }
+
+  private static ByteBuffer encodeZeroArray(ByteBuffer buffer, ZeroArray array,
+                                            EncodingContext context) {
+    if (array instanceof TypedZeroArrayImpl typedArray && typedArray.isTyped()) {
+      return encodeTypedArray(buffer, typedArray, context);
+    }
+
+    if (context.isEnabled(ZeroEncodingOption.COLUMNAR_ARRAYS)) {
+      var rows = toColumnarRows(array);
+      if (rows != null) {
+        return encodeColumnarArray(buffer, rows, context);
+      }
+    }
+
+    var wide = context.isWide(array.size());
+    var header = ByteBuffer.allocate(getSizedHeaderBytes(wide));
+    putSizedHeader(header, ZeroType.ZERO_ARRAY.getValue(), array.size(), wide);
+    buffer = appendBinariesToBuffer(buffer, header.array());
+
+    for (var zeroElement : array) {
+      buffer = encodeElement(buffer, zeroElement, context);
+    }
+
+    return buffer;
+  }
+
+  /*
+   * An int map is written as its size and then pairs of a field ID and a value in the ascending
+   * order of field IDs, so equal maps always have equal binaries. Both the size and the field
+   * IDs are unsigned varints.
+   */
+  private static ByteBuffer encodeZeroIntMap(ByteBuffer buffer, ZeroIntMap map,
+                                             EncodingContext context) {
+    var header = ByteBuffer.allocate(Byte.BYTES + getVarintBytes(map.size()));
+    header.put((byte) ZeroType.ZERO_INT_MAP.getValue());
+    putVarint(header, map.size());
+    buffer = appendBinariesToBuffer(buffer, header.array());
+
+    for (var key : map.getKeys()) {
+      var keyBinaries = ByteBuffer.allocate(getVarintBytes(key));
+      putVarint(keyBinaries, key);
+      buffer = appendBinariesToBuffer(buffer, keyBinaries.array());
+      buffer = encodeElement(buffer, map.getZeroElement(key), context);
+    }
+
+    return buffer;
+  }
+
+  private static int getVarintBytes(int value) {
+    return (Integer.SIZE - Integer.numberOfLeadingZeros(value | 1) + 6) / 7;
+  }
+
+  private static void putVarint(ByteBuffer buffer, int value) {
+    while ((value & ~0x7F) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  private static byte[] bufferToBinaries(ByteBuffer buffer) {
+    return Arrays.copyOf(buffer.array(), buffer.position());
+  }
+
+  private static ZeroElement decodeElement(ByteBuffer buffer, DecodingContext context,
+                                           ZeroElement previous) throws RuntimeException {
+    if (previous == null) {
+      return decodeElement(buffer, context);
+    }
+
+    var headerPosition = buffer.position();
+    var headerByte = buffer.get(headerPosition);
+    if (headerByte == ZeroWireType.WIDE) {
+      headerByte = buffer.get(headerPosition + 1);
+    }
+
+    if (previous.getType() == ZeroType.ZERO_MAP
+        && headerByte == ZeroType.ZERO_MAP.getValue()) {
+      decodeZeroMap(buffer, context, (ZeroMap) previous.getData());
+      return previous;
+    }
+
+    if (previous.getType() == ZeroType.ZERO_ARRAY
+        && (headerByte == ZeroType.ZERO_ARRAY.getValue() || headerByte == ZeroWireType.TYPED_ARRAY
+        || headerByte == ZeroWireType.COLUMNAR_ARRAY)) {
+      decodeZeroArray(buffer, context, (ZeroArray) previous.getData());
+      return previous;
+    }
+
+    if (previous.getType() == ZeroType.BYTE_ARRAY
+        && headerByte == ZeroType.BYTE_ARRAY.getValue()) {
+      var byteData = (byte[]) previous.getData();
+      if (buffer.getInt(headerPosition + Byte.BYTES) == byteData.length) {
+        buffer.position(headerPosition + ENCODE_HEADER_BYTE_ARRAY_BYTES);
+        buffer.get(byteData);
+        return previous;
+      }
+    }
+
+    return decodeElement(buffer, context);
+  }
+
+  private static ZeroElement decodeElement(ByteBuffer buffer, DecodingContext context)
+      throws RuntimeException {
+    var headerPosition = buffer.position();
+    var headerByte = buffer.get();
+    var wide = headerByte == ZeroWireType.WIDE;
+    if (wide) {
+      headerByte = buffer.get();
+    }
+    var type = ZeroType.getByValue(headerByte);
+    if (type == null) {
+      return switch (headerByte) {
+        case ZeroWireType.BOOLEAN_BIT_ARRAY -> decodeBooleanBitArray(buffer, wide);
+        case ZeroWireType.STRING_REFERENCE -> decodeStringReference(buffer, context);
+        case ZeroWireType.STRING_REFERENCE_ARRAY ->
+            decodeStringReferenceArray(buffer, context, wide);
+        case ZeroWireType.COLUMNAR_ARRAY, ZeroWireType.TYPED_ARRAY -> {
+          buffer.position(headerPosition);
+          yield newZeroElement(ZeroType.ZERO_ARRAY, decodeZeroArray(buffer, context));
+        }
+        default -> null;
+      };
+    }
+
+    return switch (type) {
+      case NULL -> decodeNull();
+      case BOOLEAN -> decodeBoolean(buffer);
+      case BYTE -> decodeByte(buffer);
+      case SHORT -> decodeShort(buffer);
+      case INTEGER -> decodeInteger(buffer);
+      case FLOAT -> decodeFloat(buffer);
+      case LONG -> decodeLong(buffer);
+      case DOUBLE -> decodeDouble(buffer);
+      case STRING -> decodeString(buffer, wide);
+      case BOOLEAN_ARRAY -> decodeBooleanArray(buffer, wide);
+      case BYTE_ARRAY -> decodeByteArray(buffer);
+      case SHORT_ARRAY -> decodeShortArray(buffer, wide);
+      case INTEGER_ARRAY -> decodeIntegerArray(buffer, wide);
+      case FLOAT_ARRAY -> decodeFloatArray(buffer, wide);
+      case LONG_ARRAY -> decodeLongArray(buffer, wide);
+      case DOUBLE_ARRAY -> decodeDoubleArray(buffer, wide);
+      case STRING_ARRAY -> decodeStringArray(buffer, wide);
+      case ZERO_ARRAY -> {
+        buffer.position(headerPosition);
+        yield newZeroElement(ZeroType.ZERO_ARRAY, decodeZeroArray(buffer, context));
+      }
+      case ZERO_MAP -> {
+        buffer.position(headerPosition);
+        yield newZeroElement(ZeroType.ZERO_MAP, decodeZeroMap(buffer, context));
+      }
+      case ZERO_INT_MAP -> {
+        buffer.position(headerPosition);
+        yield newZeroElement(ZeroType.ZERO_INT_MAP, decodeZeroIntMap(buffer, context));
+      }
+      case HALF_FLOAT -> decodeHalfFloat(buffer);
+      case HALF_FLOAT_ARRAY -> decodeHalfFloatArray(buffer, wide);
+      case QUANTIZED_FLOAT -> decodeQuantizedFloat(buffer);
+      case QUANTIZED_FLOAT_ARRAY -> decodeQuantizedFloatArray(buffer, wide);
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ByteBuffer encodeElement(ByteBuffer buffer, ZeroElement element,
+                                          EncodingContext context) {
+    var data = element.getData();
+    switch (element.getType()) {
+      case NULL -> buffer = encodeNull(buffer);
+      case BOOLEAN -> buffer = encodeBoolean(buffer, (Boolean) data);
+      case BYTE -> buffer = encodeByte(buffer, (Byte) data);
+      case SHORT -> buffer = encodeShort(buffer, (Short) data);
+      case INTEGER -> buffer = encodeInteger(buffer, (Integer) data);
+      case LONG -> buffer = encodeLong(buffer, (Long) data);
+      case FLOAT -> buffer = encodeFloat(buffer, (Float) data);
+      case DOUBLE -> buffer = encodeDouble(buffer, (Double) data);
+      case STRING -> buffer = context.hasStringIndex((String) data)
+          ? encodeStringReference(buffer, context.getStringIndex((String) data))
+          : encodeString(buffer, (String) data, context);
+      case BOOLEAN_ARRAY -> buffer = context.isEnabled(ZeroEncodingOption.PACK_BOOLEAN_ARRAYS)
+          ? encodeBooleanBitArray(buffer, (Collection<Boolean>) data, context)
+          : encodeBooleanArray(buffer, (Collection<Boolean>) data, context);
+      case BYTE_ARRAY -> buffer = encodeByteArray(buffer, (byte[]) data);
+      case SHORT_ARRAY -> buffer = encodeShortArray(buffer, (Collection<Short>) data, context);
+      case INTEGER_ARRAY ->
+          buffer = encodeIntegerArray(buffer, (Collection<Integer>) data, context);
+      case LONG_ARRAY -> buffer = encodeLongArray(buffer, (Collection<Long>) data, context);
+      case FLOAT_ARRAY -> buffer = encodeFloatArray(buffer, (Collection<Float>) data, context);
+      case DOUBLE_ARRAY ->
+          buffer = encodeDoubleArray(buffer, (Collection<Double>) data, context);
+      case STRING_ARRAY -> buffer = context.hasStringIndexes((Collection<String>) data)
+          ? encodeStringReferenceArray(buffer, (Collection<String>) data, context)
+          : encodeStringArray(buffer, (Collection<String>) data, context);
+      case ZERO_ARRAY -> buffer = encodeZeroArray(buffer, (ZeroArray) data, context);
+      case ZERO_MAP -> buffer = encodeZeroMap(buffer, (ZeroMap) data, context);
+      case ZERO_INT_MAP -> buffer = encodeZeroIntMap(buffer, (ZeroIntMap) data, context);
+      case HALF_FLOAT -> buffer = encodeHalfFloat(buffer, (Float) data);
+      case HALF_FLOAT_ARRAY ->
+          buffer = encodeHalfFloatArray(buffer, (Collection<Float>) data, context);
+      case QUANTIZED_FLOAT ->
+          buffer = encodeQuantizedFloats(buffer, ZeroType.QUANTIZED_FLOAT,
+              getQuantization(element), List.of((Float) data), context);
+      case QUANTIZED_FLOAT_ARRAY ->
+          buffer = encodeQuantizedFloats(buffer, ZeroType.QUANTIZED_FLOAT_ARRAY,
+              getQuantization(element), (Collection<Float>) data, context);
+    }
+
+    return buffer;
+  }
+
+  private static ZeroElement decodeNull() {
+    return newZeroElement(ZeroType.NULL, null);
+  }
+
+  private static ZeroElement decodeBoolean(ByteBuffer buffer) {
+    var bool = buffer.get();
+    Boolean data;
+
+    if (bool == 0) {
+      data = Boolean.FALSE;
+    } else {
+      if (bool != 1) {
+        throw new IllegalStateException(
+            String.format("Expected value of 0 or 1, but found: %d", bool));
+      }
+
+      data = Boolean.TRUE;
+    }
+
+    return newZeroElement(ZeroType.BOOLEAN, data);
+  }
+
+  private static ZeroElement decodeByte(ByteBuffer buffer) {
+    var data = buffer.get();
+    return newZeroElement(ZeroType.BYTE, data);
+  }
+
+  private static ZeroElement decodeShort(ByteBuffer buffer) {
+    var data = buffer.getShort();
+    return newZeroElement(ZeroType.SHORT, data);
+  }
+
+  private static ZeroElement decodeInteger(ByteBuffer buffer) {
+    var data = buffer.getInt();
+    return newZeroElement(ZeroType.INTEGER, data);
+  }
+
+  private static ZeroElement decodeLong(ByteBuffer buffer) {
+    var data = buffer.getLong();
+    return newZeroElement(ZeroType.LONG, data);
+  }
+
+  private static ZeroElement decodeFloat(ByteBuffer buffer) {
+    var data = buffer.getFloat();
+    return newZeroElement(ZeroType.FLOAT, data);
+  }
+
+  private static ZeroElement decodeDouble(ByteBuffer buffer) {
+    var data = buffer.getDouble();
+    return newZeroElement(ZeroType.DOUBLE, data);
+  }
+
+  private static ZeroElement decodeString(ByteBuffer buffer, boolean wide) {
+    return newZeroElement(ZeroType.STRING, ZeroInputs.readString(buffer, valueCache, wide));
+  }
+
+  private static ZeroElement decodeBooleanArray(ByteBuffer buffer, boolean wide) {
+    var collectionSize = getCollectionSize(buffer, wide);
+    var data = new ArrayList<Boolean>();
+
+    for (int i = 0; i < collectionSize; ++i) {
+      var bool = buffer.get();
+      if (bool == 0) {
+        data.add(false);
+      } else {
+        if (bool != 1) {
+          throw new IllegalStateException(
+              String.format("Expected value of 0 or 1, but found: %d", bool));
+        }
+
+        data.add(true);
+      }
+    }
+
+    return newZeroElement(ZeroType.BOOLEAN_ARRAY, data);
+  }
+
+  private static ZeroElement decodeBooleanBitArray(ByteBuffer buffer, boolean wide) {
+    var collectionSize = getCollectionSize(buffer, wide);
+    var bits = new byte[bitsToBytes(collectionSize)];
+    buffer.get(bits);
+    var data = new ArrayList<Boolean>(collectionSize);
+
+    for (int i = 0; i < collectionSize; ++i) {
+      data.add(isBitSet(bits, i));
+    }
+
+    return newZeroElement(ZeroType.BOOLEAN_ARRAY, data);
+  }
+
+  private static void decodeBooleanFields(ByteBuffer buffer, ZeroMap zeroMap,
+                                          Set<String> decodedKeys) {
+    var fieldCount = getCollectionSize(buffer);
+    var keys = new String[fieldCount];
+    for (int i = 0; i < fieldCount; ++i) {
+      keys[i] = decodeZeroMapKey(buffer);
+    }
+
+    var bits = new byte[bitsToBytes(fieldCount)];
+    buffer.get(bits);
+    for (int i = 0; i < fieldCount; ++i) {
+      zeroMap.putBoolean(keys[i], isBitSet(bits, i));
+      if (decodedKeys != null) {
+        decodedKeys.add(keys[i]);
+      }
+    }
+  }
+
+  private static ZeroElement decodeByteArray(ByteBuffer buffer) {
+    var arraySize = buffer.getInt();
+    if (arraySize < 0) {
+      throw new NegativeArraySizeException(
+          String.format("Could not create an array with negative size value: %d", arraySize));
+    }
+
+    var byteData = new byte[arraySize];
+    buffer.get(byteData, 0, arraySize);
+
+    return newZeroElement(ZeroType.BYTE_ARRAY, byteData);
+  }
+
+  private static ZeroElement decodeShortArray(ByteBuffer buffer, boolean wide) {
+    var collectionSize = getCollectionSize(buffer, wide);
+    var data = new ArrayList<Short>();
+
+    for (int i = 0; i < collectionSize; ++i) {
+      var shortValue = buffer.getShort();
+      data.add(shortValue);
+    }
+
+    return newZeroElement(ZeroType.SHORT_ARRAY, data);
+  }
+
+  private static ZeroElement decodeIntegerArray(ByteBuffer buffer, boolean wide) {
+    var collectionSize = getCollectionSize(buffer, wide);
+    var data = new ArrayList<Integer>();
+
+    for (int i = 0; i < collectionSize; ++i) {
+      var intValue = buffer.getInt();
+      data.add(intValue);
+    }
+
+    return newZeroElement(ZeroType.INTEGER_ARRAY, data);
+  }
+
+  private static ZeroElement decodeLongArray(ByteBuffer buffer, boolean wide) {
+    var collectionSize = getCollectionSize(buffer, wide);
+    var data = new ArrayList<Long>();
+
+    for (int i = 0; i < collectionSize; ++i) {
+      var longValue = buffer.getLong();
+      data.add(longValue);
+    }
+
+    return newZeroElement(ZeroType.LONG_ARRAY, data);
+  }
+
+  private static ZeroElement decodeFloatArray(ByteBuffer buffer, boolean wide) {
+    var collectionSize = getCollectionSize(buffer, wide);
+    var data = new ArrayList<Float>();
+
+    for (int i = 0; i < collectionSize; ++i) {
+      var floatValue = buffer.getFloat();
+      data.add(floatValue);
+    }
+
+    return newZeroElement(ZeroType.FLOAT_ARRAY, data);
+  }
+
+  private static ZeroElement decodeDoubleArray(ByteBuffer buffer, boolean wide) {
+    var collectionSize = getCollectionSize(buffer, wide);
+    var data = new ArrayList<Double>();
+
+    for (int i = 0; i < collectionSize; ++i) {
+      var doubleValue = buffer.getDouble();
+      data.add(doubleValue);
+    }
+
+    return newZeroElement(ZeroType.DOUBLE_ARRAY, data);
+  }
+
+  private static ZeroElement decodeStringArray(ByteBuffer buffer, boolean wide) {
+    var collectionSize = getCollectionSize(buffer, wide);
+    var data = new ArrayList<String>();
+
+    for (int i = 0; i < collectionSize; ++i) {
+      data.add(ZeroInputs.readString(buffer, valueCache, wide));
+    }
+
+    return newZeroElement(ZeroType.STRING_ARRAY, data);
+  }
+
+  private static ZeroElement decodeHalfFloat(ByteBuffer buffer) {
+    var data = ZeroInputs.readHalfFloat(buffer);
+    return newZeroElement(ZeroType.HALF_FLOAT, data);
+  }
+
+  private static ZeroElement decodeHalfFloatArray(ByteBuffer buffer, boolean wide) {
+    var collectionSize = getCollectionSize(buffer, wide);
+    var data = new ArrayList<Float>(collectionSize);
+
+    for (int i = 0; i < collectionSize; ++i) {
+      data.add(ZeroInputs.readHalfFloat(buffer));
+    }
+
+    return newZeroElement(ZeroType.HALF_FLOAT_ARRAY, data);
+  }
+
+  private static ZeroElement decodeQuantizedFloat(ByteBuffer buffer) {
+    var quantization = ZeroInputs.readQuantization(buffer);
+    var data = ZeroInputs.readQuantizedFloats(buffer, quantization, 1)[0];
+
+    return newZeroElement(ZeroType.QUANTIZED_FLOAT, data, quantization);
+  }
+
+  private static ZeroElement decodeQuantizedFloatArray(ByteBuffer buffer, boolean wide) {
+    var quantization = ZeroInputs.readQuantization(buffer);
+    var collectionSize = getCollectionSize(buffer, wide);
+    var values = ZeroInputs.readQuantizedFloats(buffer, quantization, collectionSize);
+    var data = new ArrayList<Float>(collectionSize);
+
+    for (var value : values) {
+      data.add(value);
+    }
+
+    return newZeroElement(ZeroType.QUANTIZED_FLOAT_ARRAY, data, quantization);
+  }
+
+  private static DecodingContext decodeStringTable(ByteBuffer buffer) {
+    if (buffer.get(buffer.position()) != ZeroWireType.STRING_TABLE) {
+      return DecodingContext.EMPTY;
+    }
+
+    buffer.get();
+    var strings = new String[getCollectionSize(buffer)];
+    for (int i = 0; i < strings.length; ++i) {
+      strings[i] = ZeroInputs.readString(buffer, valueCache);
+    }
+
+    return new DecodingContext(strings);
+  }
+
+  private static int skipStringTable(ByteBuffer buffer) {
+    buffer.get();
+    var tableSize = getCollectionSize(buffer);
+    for (int i = 0; i < tableSize; ++i) {
+      var strLen = ZeroInputs.readStringLength(buffer);
+      buffer.position(buffer.position() + strLen);
+    }
+
+    return buffer.position();
+  }
+
+  private static ZeroElement decodeStringReference(ByteBuffer buffer, DecodingContext context) {
+    return newZeroElement(ZeroType.STRING, context.getString(buffer.getShort()));
+  }
+
+  private static ZeroElement decodeStringReferenceArray(ByteBuffer buffer,
+                                                        DecodingContext context, boolean wide) {
+    var collectionSize = getCollectionSize(buffer, wide);
+    var data = new ArrayList<String>(collectionSize);
+
+    for (int i = 0; i < collectionSize; ++i) {
+      data.add(context.getString(buffer.getShort()));
+    }
+
+    return newZeroElement(ZeroType.STRING_ARRAY, data);
+  }
+
+  private static ZeroArray decodeZeroArray(ByteBuffer buffer, DecodingContext context) {
+    return decodeZeroArray(buffer, context, null);
+  }
+
+  private static ZeroArray decodeZeroArray(ByteBuffer buffer, DecodingContext context,
+                                           ZeroArray target) {
+    var headerByte = buffer.get();
+    var wide = headerByte == ZeroWireType.WIDE;
+    if (wide) {
+      headerByte = buffer.get();
+    }
+
+    if (headerByte == ZeroWireType.COLUMNAR_ARRAY || headerByte == ZeroWireType.TYPED_ARRAY) {
+      try {
+        if (target == null) {
+          return headerByte == ZeroWireType.COLUMNAR_ARRAY ? decodeColumnarArray(buffer, context)
+              : decodeTypedArray(buffer, context);
+        }
+
+        if (headerByte == ZeroWireType.TYPED_ARRAY
+            && decodeTypedArrayInto(buffer, context, target)) {
+          return target;
+        }
+
+        var decoded = headerByte == ZeroWireType.COLUMNAR_ARRAY
+            ? decodeColumnarArray(buffer, context) : decodeTypedArray(buffer, context);
+        truncateZeroArray(target, 0);
+        for (var zeroElement : decoded) {
+          target.addZeroElement(zeroElement);
+        }
+
+        return target;
+      } catch (RuntimeException exception) {
+        throw new IllegalArgumentException(exception.getMessage());
+      }
+    }
+
+    if (ZeroType.getByValue(headerByte) != ZeroType.ZERO_ARRAY) {
+      throw new IllegalStateException(
+          String.format("Invalid ZeroType. Expected: %s, value: %d, but found: %s, value: %d",
+              ZeroType.ZERO_ARRAY, ZeroType.ZERO_ARRAY.getValue(),
+              ZeroType.getByValue(headerByte) != null ?
+                  ZeroType.getByValue(headerByte).toString() : "null", headerByte));
+    }
+
+    var arraySize = wide ? buffer.getInt() : buffer.getShort();
+    if (arraySize < 0) {
+      throw new NegativeArraySizeException(
+          String.format("Could not create an array with negative size value: %d", arraySize));
+    }
+
+    var zeroArray = target != null ? target : newZeroArray();
+    var reusableSize = zeroArray.size();
+    try {
+      for (int i = 0; i < arraySize; ++i) {
+        var previous = i < reusableSize ? zeroArray.getZeroElement(i) : null;
+        var zeroElement = decodeElement(buffer, context, previous);
+        if (zeroElement == null) {
+          throw new IllegalStateException(
+              String.format("Unable to not decode ZeroArray item at index: %d", i));
+        }
+
+        if (i >= reusableSize) {
+          zeroArray.addZeroElement(zeroElement);
+        } else if (zeroElement != previous) {
+          zeroArray.setZeroElement(i, zeroElement);
+        }
+      }
+      truncateZeroArray(zeroArray, arraySize);
+
+      return zeroArray;
+    } catch (RuntimeException exception) {
+      throw new IllegalArgumentException(exception.getMessage());
+    }
+  }
+
+  private static ZeroArray decodeTypedArray(ByteBuffer buffer, DecodingContext context) {
+    var arrayType = buffer.get();
+    var wide = arrayType == ZeroWireType.WIDE;
+    if (wide) {
+      arrayType = buffer.get();
+    }
+    if (arrayType == ZeroWireType.STRING_REFERENCE_ARRAY) {
+      var values = new String[getCollectionSize(buffer, wide)];
+      for (int i = 0; i < values.length; ++i) {
+        values[i] = context.getString(buffer.getShort());
+      }
+      return new StringZeroArrayImpl(values);
+    }
+
+    var type = ZeroType.getByValue(arrayType);
+    if (type == null) {
+      throw new IllegalStateException(
+          String.format("Unable to decode the typed array type: %d", arrayType));
+    }
+
+    var collectionSize = getCollectionSize(buffer, wide);
+    switch (type) {
+      case INTEGER_ARRAY -> {
+        var values = new int[collectionSize];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + Integer.BYTES * collectionSize);
+        return new IntegerZeroArrayImpl(values);
+      }
+      case LONG_ARRAY -> {
+        var values = new long[collectionSize];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + Long.BYTES * collectionSize);
+        return new LongZeroArrayImpl(values);
+      }
+      case FLOAT_ARRAY -> {
+        var values = new float[collectionSize];
+        buffer.asFloatBuffer().get(values);
+        buffer.position(buffer.position() + Float.BYTES * collectionSize);
+        return new FloatZeroArrayImpl(values);
+      }
+      case DOUBLE_ARRAY -> {
+        var values = new double[collectionSize];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + Double.BYTES * collectionSize);
+        return new DoubleZeroArrayImpl(values);
+      }
+      case STRING_ARRAY -> {
+        var values = new String[collectionSize];
+        for (int i = 0; i < collectionSize; ++i) {
+          values[i] = ZeroInputs.readString(buffer, valueCache, wide);
+        }
+        return new StringZeroArrayImpl(values);
+      }
+      default -> throw new IllegalStateException(
+          String.format("Unable to decode the typed array type: %s", type));
+    }
+  }
+
+  // refills a typed array holding values of the same type in place, otherwise leaves the buffer
+  private static boolean decodeTypedArrayInto(ByteBuffer buffer, DecodingContext context,
+                                              ZeroArray target) {
+    if (!(target instanceof TypedZeroArrayImpl typedArray) || !typedArray.isTyped()) {
+      return false;
+    }
+
+    var arrayType = buffer.get(buffer.position());
+    var wide = arrayType == ZeroWireType.WIDE;
+    if (wide) {
+      arrayType = buffer.get(buffer.position() + 1);
+    }
+    var type = ZeroType.getByValue(arrayType);
+    var elementType = type == null ? null : switch (type) {
+      case INTEGER_ARRAY -> ZeroType.INTEGER;
+      case LONG_ARRAY -> ZeroType.LONG;
+      case FLOAT_ARRAY -> ZeroType.FLOAT;
+      case DOUBLE_ARRAY -> ZeroType.DOUBLE;
+      case STRING_ARRAY -> ZeroType.STRING;
+      default -> null;
+    };
+    if (arrayType == ZeroWireType.STRING_REFERENCE_ARRAY) {
+      elementType = ZeroType.STRING;
+    }
+    if (elementType == null || elementType != typedArray.getElementType()) {
+      return false;
+    }
+
+    buffer.position(buffer.position() + (wide ? 2 : 1));
+    var collectionSize = getCollectionSize(buffer, wide);
+    truncateZeroArray(target, 0);
+    for (int i = 0; i < collectionSize; ++i) {
+      if (arrayType == ZeroWireType.STRING_REFERENCE_ARRAY) {
+        target.addString(context.getString(buffer.getShort()));
+        continue;
+      }
+
+      switch (elementType) {
+        case INTEGER -> target.addInteger(buffer.getInt());
+        case LONG -> target.addLong(buffer.getLong());
+        case FLOAT -> target.addFloat(buffer.getFloat());
+        case DOUBLE -> target.addDouble(buffer.getDouble());
+        default -> target.addString(ZeroInputs.readString(buffer, valueCache, wide));
+      }
+    }
+
+    return true;
+  }
+
+  private static void truncateZeroArray(ZeroArray zeroArray, int size) {
+    for (int i = zeroArray.size() - 1; i >= size; --i) {
+      zeroArray.removeElementAt(i);
+    }
+  }
+
+  private static ZeroArray decodeColumnarArray(ByteBuffer buffer, DecodingContext context) {
+    var rows = new ZeroMap[getCollectionSize(buffer)];
+    var fieldCount = getCollectionSize(buffer);
+    for (int i = 0; i < rows.length; ++i) {
+      rows[i] = newZeroMap();
+    }
+
+    for (int field = 0; field < fieldCount; ++field) {
+      var key = decodeZeroMapKey(buffer);
+      var columnType = buffer.get();
+      if (columnType == ZeroWireType.STRING_REFERENCE) {
+        for (var row : rows) {
+          row.putString(key, context.getString(buffer.getShort()));
+        }
+        continue;
+      }
+
+      var type = ZeroType.getByValue(columnType);
+      if (type == null) {
+        throw new IllegalStateException(
+            String.format("Unable to decode the column type: %d", columnType));
+      }
+
+      switch (type) {
+        case BOOLEAN -> {
+          var bits = new byte[bitsToBytes(rows.length)];
+          buffer.get(bits);
+          for (int i = 0; i < rows.length; ++i) {
+            rows[i].putBoolean(key, isBitSet(bits, i));
+          }
+        }
+        case BYTE -> {
+          for (var row : rows) {
+            row.putByte(key, buffer.get());
+          }
+        }
+        case SHORT -> {
+          var values = new short[rows.length];
+          buffer.asShortBuffer().get(values);
+          buffer.position(buffer.position() + Short.BYTES * rows.length);
+          for (int i = 0; i < rows.length; ++i) {
+            rows[i].putShort(key, values[i]);
+          }
+        }
+        case INTEGER -> {
+          var values = new int[rows.length];
+          buffer.asIntBuffer().get(values);
+          buffer.position(buffer.position() + Integer.BYTES * rows.length);
+          for (int i = 0; i < rows.length; ++i) {
+            rows[i].putInteger(key, values[i]);
+          }
+        }
+        case LONG -> {
+          var values = new long[rows.length];
+          buffer.asLongBuffer().get(values);
+          buffer.position(buffer.position() + Long.BYTES * rows.length);
+          for (int i = 0; i < rows.length; ++i) {
+            rows[i].putLong(key, values[i]);
+          }
+        }
+        case FLOAT -> {
+          var values = new float[rows.length];
+          buffer.asFloatBuffer().get(values);
+          buffer.position(buffer.position() + Float.BYTES * rows.length);
+          for (int i = 0; i < rows.length; ++i) {
+            rows[i].putFloat(key, values[i]);
+          }
+        }
+        case DOUBLE -> {
+          var values = new double[rows.length];
+          buffer.asDoubleBuffer().get(values);
+          buffer.position(buffer.position() + Double.BYTES * rows.length);
+          for (int i = 0; i < rows.length; ++i) {
+            rows[i].putDouble(key, values[i]);
+          }
+        }
+        case HALF_FLOAT -> {
+          for (var row : rows) {
+            row.putHalfFloat(key, ZeroInputs.readHalfFloat(buffer));
+          }
+        }
+        case STRING -> {
+          for (var row : rows) {
+            row.putString(key, ZeroInputs.readString(buffer, valueCache));
+          }
+        }
+        default -> throw new IllegalStateException(
+            String.format("Unable to decode the column type: %s", type));
+      }
+    }
+
+    var zeroArray = newZeroArray();
+    for (var row : rows) {
+      zeroArray.addZeroMap(row);
+    }
+
+    return zeroArray;
+  }
+
+  private static ZeroMap decodeZeroMap(ByteBuffer buffer, DecodingContext context) {
+    return decodeZeroMap(buffer, context, newZeroMap());
+  }
+
+  private static ZeroMap decodeZeroMap(ByteBuffer buffer, DecodingContext context,
+                                       ZeroMap zeroMap) {
+    var headerByte = buffer.get();
+    var wide = headerByte == ZeroWireType.WIDE;
+    if (wide) {
+      headerByte = buffer.get();
+    }
+
+    if (ZeroType.getByValue(headerByte) != ZeroType.ZERO_MAP) {
+      throw new IllegalStateException(
+          String.format("Invalid ZeroType. Expected: %s, value: %d, but found: %s, value: %d",
+              ZeroType.ZERO_MAP, ZeroType.ZERO_MAP.getValue(),
+              ZeroType.getByValue(headerByte), headerByte));
+    }
+
+    var mapSize = wide ? buffer.getInt() : buffer.getShort();
+    if (mapSize < 0) {
+      throw new NegativeArraySizeException(
+          String.format("Could not create an object with negative size value: %d", mapSize));
+    }
+
+    try {
+      // only a reused map can hold keys which are not in the payload
+      var decodedKeys = zeroMap.size() == 0 ? null : new HashSet<String>();
+      for (int i = 0; i < mapSize; ++i) {
+        var key = decodeZeroMapKey(buffer);
+        if (buffer.get(buffer.position()) == ZeroWireType.BOOLEAN_BIT_FIELDS) {
+          buffer.get();
+          decodeBooleanFields(buffer, zeroMap, decodedKeys);
+          continue;
+        }
+
+        var previous = zeroMap.getZeroElement(key);
+        var zeroElement = decodeElement(buffer, context, previous);
+
+        if (zeroElement == null) {
+          throw new IllegalStateException(
+              String.format("Unable to decode value for key: %s", key));
+        }
+
+        if (zeroElement != previous) {
+          zeroMap.putZeroElement(key, zeroElement);
+        }
+        if (decodedKeys != null) {
+          decodedKeys.add(key);
+        }
+      }
+
+      if (decodedKeys != null && zeroMap.size() > decodedKeys.size()) {
+        for (var key : zeroMap.getReadonlyKeys()) {
+          if (!decodedKeys.contains(key)) {
+            zeroMap.removeElement(key);
+          }
+        }
+      }
+
+      return zeroMap;
+    } catch (RuntimeException exception) {
+      throw new IllegalArgumentException(exception.getMessage());
+    }
+  }
+
+  private static ZeroIntMap decodeZeroIntMap(ByteBuffer buffer, DecodingContext context) {
+    var headerByte = buffer.get();
+    if (ZeroType.getByValue(headerByte) != ZeroType.ZERO_INT_MAP) {
+      throw new IllegalStateException(
+          String.format("Invalid ZeroType. Expected: %s, value: %d, but found: %s, value: %d",
+              ZeroType.ZERO_INT_MAP, ZeroType.ZERO_INT_MAP.getValue(),
+              ZeroType.getByValue(headerByte), headerByte));
+    }
+
+    try {
+      var mapSize = ZeroInputs.readVarint(buffer);
+      var zeroIntMap = new ZeroIntMapImpl(mapSize);
+      for (int i = 0; i < mapSize; ++i) {
+        var key = ZeroInputs.readVarint(buffer);
+        var zeroElement = decodeElement(buffer, context);
+
+        if (zeroElement == null) {
+          throw new IllegalStateException(
+              String.format("Unable to decode value for key: %d", key));
+        }
+
+        zeroIntMap.putZeroElement(key, zeroElement);
+      }
+
+      return zeroIntMap;
+    } catch (RuntimeException exception) {
+      throw new IllegalArgumentException(exception.getMessage());
+    }
+  }
+
+  private static String decodeZeroMapKey(ByteBuffer buffer) {
+    return ZeroInputs.readString(buffer, keyCache);
+  }
+
+  private static int getCollectionSize(ByteBuffer buffer) {
+    return getCollectionSize(buffer, false);
+  }
+
+  private static int getCollectionSize(ByteBuffer buffer, boolean wide) {
+    var collectionSize = wide ? buffer.getInt() : buffer.getShort();
+    if (collectionSize < 0) {
+      throw new NegativeArraySizeException(
+          String.format("Could not create a collection with negative size value: %d",
+              collectionSize));
+    }
+
+    return collectionSize;
+  }
+
+  private static ByteBuffer encodeNull(ByteBuffer buffer) {
+    return appendBinariesToBuffer(buffer, new byte[1]);
+  }
+
+  private static ByteBuffer encodeBoolean(ByteBuffer buffer, Boolean data) {
+    var binaries = new byte[] {(byte) ZeroType.BOOLEAN.getValue(), (byte) (data ? 1 : 0)};
+    return appendBinariesToBuffer(buffer, binaries);
+  }
+
+  private static ByteBuffer encodeByte(ByteBuffer buffer, Byte data) {
+    var binaries = new byte[] {(byte) ZeroType.BYTE.getValue(), data};
+    return appendBinariesToBuffer(buffer, binaries);
+  }
+
+  private static ByteBuffer encodeShort(ByteBuffer buffer, Short data) {
+    var buf = ByteBuffer.allocate(ENCODE_SHORT_BYTES);
+    buf.put((byte) ZeroType.SHORT.getValue());
+    buf.putShort(data);
+
+    return appendBinariesToBuffer(buffer, buf.array());
+  }
+
+  private static ByteBuffer encodeInteger(ByteBuffer buffer, Integer data) {
+    var buf = ByteBuffer.allocate(ENCODE_INTEGER_BYTES);
+    buf.put((byte) ZeroType.INTEGER.getValue());
+    buf.putInt(data);
+
+    return appendBinariesToBuffer(buffer, buf.array());
+  }
+
+  private static ByteBuffer encodeLong(ByteBuffer buffer, Long data) {
+    var buf = ByteBuffer.allocate(ENCODE_LONG_BYTES);
+    buf.put((byte) ZeroType.LONG.getValue());
+    buf.putLong(data);
+
+    return appendBinariesToBuffer(buffer, buf.array());
+  }
+
+  private static ByteBuffer encodeFloat(ByteBuffer buffer, Float data) {
+    var buf = ByteBuffer.allocate(ENCODE_FLOAT_BYTES);
+    buf.put((byte) ZeroType.FLOAT.getValue());
+    buf.putFloat(data);
+
+    return appendBinariesToBuffer(buffer, buf.array());
+  }
+
+  private static ByteBuffer encodeDouble(ByteBuffer buffer, Double data) {
+    var buf = ByteBuffer.allocate(ENCODE_DOUBLE_BYTES);
+    buf.put((byte) ZeroType.DOUBLE.getValue());
+    buf.putDouble(data);
+
+    return appendBinariesToBuffer(buffer, buf.array());
+  }
+
+  private static ByteBuffer encodeString(ByteBuffer buffer, String data,
+                                         EncodingContext context) {
+    var stringBytes = data.getBytes(StandardCharsets.UTF_8);
+    var wide = context.isWide(stringBytes.length);
+    var slice = newSlice(getSizedHeaderBytes(wide) + stringBytes.length);
+    putSizedHeader(slice, ZeroType.STRING.getValue(), stringBytes.length, wide);
+    buffer = putSliceBinaries(buffer, slice, stringBytes);
+
+    return appendSlice(buffer, slice);
+  }
+
+  private static ByteBuffer encodeBooleanArray(ByteBuffer buffer, Collection<Boolean> data,
+                                               EncodingContext context) {
+    var wide = context.isWide(data.size());
+    var slice = newSlice(getSizedHeaderBytes(wide) + data.size());
+    putSizedHeader(slice, ZeroType.BOOLEAN_ARRAY.getValue(), data.size(), wide);
+
+    for (Boolean boolValue : data) {
+      if (slice.remaining() < Byte.BYTES) {
+        buffer = appendSlice(buffer, slice);
+      }
+      slice.put((byte) (boolValue ? 1 : 0));
+    }
+
+    return appendSlice(buffer, slice);
+  }
+
+  private static ByteBuffer encodeBooleanBitArray(ByteBuffer buffer, Collection<Boolean> data,
+                                                  EncodingContext context) {
+    var wide = context.isWide(data.size());
+    var buf = ByteBuffer.allocate(getSizedHeaderBytes(wide) + bitsToBytes(data.size()));
+    putSizedHeader(buf, ZeroWireType.BOOLEAN_BIT_ARRAY, data.size(), wide);
+
+    var bits = new byte[bitsToBytes(data.size())];
+    var index = 0;
+    for (Boolean boolValue : data) {
+      if (boolValue) {
+        setBit(bits, index);
+      }
+      index++;
+    }
+    buf.put(bits);
+
+    return appendBinariesToBuffer(buffer, buf.array());
+  }
+
+  private static ByteBuffer encodeHalfFloat(ByteBuffer buffer, Float data) {
+    var buf = ByteBuffer.allocate(ENCODE_HALF_FLOAT_BYTES);
+    buf.put((byte) ZeroType.HALF_FLOAT.getValue());
+    buf.putShort(Float.floatToFloat16(data));
+
+    return appendBinariesToBuffer(buffer, buf.array());
+  }
+
+  private static ByteBuffer encodeHalfFloatArray(ByteBuffer buffer, Collection<Float> data,
+                                                 EncodingContext context) {
+    var wide = context.isWide(data.size());
+    var slice = newSlice(getSizedHeaderBytes(wide) + Short.BYTES * data.size());
+    putSizedHeader(slice, ZeroType.HALF_FLOAT_ARRAY.getValue(), data.size(), wide);
+
+    for (Float floatValue : data) {
+      if (slice.remaining() < Short.BYTES) {
+        buffer = appendSlice(buffer, slice);
+      }
+      slice.putShort(Float.floatToFloat16(floatValue));
+    }
+
+    return appendSlice(buffer, slice);
+  }
+
+  private static ZeroQuantization getQuantization(ZeroElement element) {
+    if (element instanceof ZeroQuantizedElementImpl quantizedElement
+        && quantizedElement.getQuantization() != null) {
+      return quantizedElement.getQuantization();
+    }
+
+    throw new IllegalArgumentException(
+        String.format("The element of type %s has no quantization", element.getType()));
+  }
+
+  /*
+   * The scalar type is written the same way as a collection of one value without its size.
+   * Codes are packed most significant bit first, the last byte is padded with zero bits.
+   */
+  private static ByteBuffer encodeQuantizedFloats(ByteBuffer buffer, ZeroType type,
+                                                  ZeroQuantization quantization,
+                                                  Collection<Float> data,
+                                                  EncodingContext context) {
+    var isArray = type == ZeroType.QUANTIZED_FLOAT_ARRAY;
+    var wide = isArray && context.isWide(data.size());
+    var bits = quantization.getBits();
+    var buf = ByteBuffer.allocate(ENCODE_HEADER_QUANTIZATION_BYTES + (wide ? Byte.BYTES : 0)
+        + (isArray ? ZeroInputs.getSizeBytes(wide) : 0)
+        + bitsToBytes(bits * data.size()));
+    if (wide) {
+      buf.put(ZeroWireType.WIDE);
+    }
+    buf.put((byte) type.getValue());
+    buf.putFloat(quantization.getMin());
+    buf.putFloat(quantization.getMax());
+    buf.put((byte) bits);
+    if (wide) {
+      buf.putInt(data.size());
+    } else if (isArray) {
+      buf.putShort((short) data.size());
+    }
+
+    var accumulator = 0L;
+    var pending = 0;
+    for (Float floatValue : data) {
+      accumulator = (accumulator << bits) | quantization.quantize(floatValue);
+      pending += bits;
+      while (pending >= Byte.SIZE) {
+        pending -= Byte.SIZE;
+        buf.put((byte) (accumulator >>> pending));
+      }
+    }
+    if (pending > 0) {
+      buf.put((byte) (accumulator << (Byte.SIZE - pending)));
+    }
+
+    return appendBinariesToBuffer(buffer, buf.array());
+  }
+
+  /*
+   * A typed array is written as the collection type of its values behind a marker, so it is
+   * decoded to a typed array again.
+   */
+  private static ByteBuffer encodeTypedArray(ByteBuffer buffer, TypedZeroArrayImpl array,
+                                             EncodingContext context) {
+    buffer = appendBinariesToBuffer(buffer, new byte[] {ZeroWireType.TYPED_ARRAY});
+
+    var elementType = array.getElementType();
+    if (elementType == ZeroType.STRING) {
+      var strings = new ArrayList<String>(array.size());
+      for (int i = 0; i < array.size(); ++i) {
+        strings.add(array.getString(i));
+      }
+
+      return context.hasStringIndexes(strings)
+          ? encodeStringReferenceArray(buffer, strings, context)
+          : encodeStringArray(buffer, strings, context);
+    }
+
+    var arrayType = switch (elementType) {
+      case INTEGER -> ZeroType.INTEGER_ARRAY;
+      case LONG -> ZeroType.LONG_ARRAY;
+      case FLOAT -> ZeroType.FLOAT_ARRAY;
+      default -> ZeroType.DOUBLE_ARRAY;
+    };
+    var width = switch (elementType) {
+      case INTEGER, FLOAT -> Integer.BYTES;
+      default -> Long.BYTES;
+    };
+    var wide = context.isWide(array.size());
+    var slice = newSlice(getSizedHeaderBytes(wide) + width * array.size());
+    putSizedHeader(slice, arrayType.getValue(), array.size(), wide);
+    var from = 0;
+    while (from < array.size()) {
+      if (slice.remaining() < width) {
+        buffer = appendSlice(buffer, slice);
+      }
+      var length = Math.min(slice.remaining() / width, array.size() - from);
+      switch (elementType) {
+        case INTEGER -> ((IntegerZeroArrayImpl) array).putValues(slice, from, length);
+        case LONG -> ((LongZeroArrayImpl) array).putValues(slice, from, length);
+        case FLOAT -> ((FloatZeroArrayImpl) array).putValues(slice, from, length);
+        default -> ((DoubleZeroArrayImpl) array).putValues(slice, from, length);
+      }
+      from += length;
+    }
+
+    return appendSlice(buffer, slice);
+  }
+
+  /*
+   * An array is written in columns when it holds at least 2 maps of the same keys, and every key
+   * has the same type of a fixed or string value in all maps.
+   */
+  private static ZeroMap[] toColumnarRows(ZeroArray array) {
+    if (array.size() < 2 || array.size() > Short.MAX_VALUE) {
+      return null;
+    }
+
+    var rows = new ZeroMap[array.size()];
+    var index = 0;
+    for (var zeroElement : array) {
+      if (zeroElement.getType() != ZeroType.ZERO_MAP) {
+        return null;
+      }
+      rows[index++] = toStableMap((ZeroMap) zeroElement.getData());
+    }
+
+    var schema = rows[0];
+    if (schema.size() == 0) {
+      return null;
+    }
+    for (var entry : schema) {
+      if (!isColumnType(entry.getValue().getType()) || entry.getValue().getData() == null) {
+        return null;
+      }
+    }
+
+    for (int i = 1; i < rows.length; ++i) {
+      if (rows[i].size() != schema.size()) {
+        return null;
+      }
+      for (var entry : schema) {
+        var zeroElement = rows[i].getZeroElement(entry.getKey());
+        if (zeroElement == null || zeroElement.getType() != entry.getValue().getType()
+            || zeroElement.getData() == null) {
+          return null;
+        }
+      }
+    }
+
+    for (var row : rows) {
+      for (var entry : row) {
+        if (entry.getValue().getType() == ZeroType.STRING
+            && ((String) entry.getValue().getData()).length() > MAX_COLUMNAR_STRING_LENGTH) {
+          return null;
+        }
+      }
+    }
+
+    return rows;
+  }
+
+  /*
+   * A concurrent map is encoded from its snapshot, so its size and entries stay consistent
+   * while other threads are writing.
+   */
+  private static ZeroMap toStableMap(ZeroMap map) {
+    return map instanceof ConcurrentZeroMap concurrentMap ? concurrentMap.snapshot() : map;
+  }
+
+  private static boolean isColumnType(ZeroType type) {
+    return switch (type) {
+      case BOOLEAN, BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE, HALF_FLOAT, STRING -> true;
+      default -> false;
+    };
+  }
+
+  private static ByteBuffer encodeColumnarArray(ByteBuffer buffer, ZeroMap[] rows,
+                                                EncodingContext context) {
+    var header = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + Short.BYTES);
+    header.put(ZeroWireType.COLUMNAR_ARRAY);
+    header.putShort((short) rows.length);
+    header.putShort((short) rows[0].size());
+    buffer = appendBinariesToBuffer(buffer, header.array());
+
+    for (var key : rows[0].getKeys()) {
+      buffer = encodeZeroMapKey(buffer, key);
+      buffer = encodeColumn(buffer, rows, key, rows[0].getZeroElement(key).getType(), context);
+    }
+
+    return buffer;
+  }
+
+  private static ByteBuffer encodeColumn(ByteBuffer buffer, ZeroMap[] rows, String key,
+                                         ZeroType type, EncodingContext context) {
+    if (type == ZeroType.BOOLEAN) {
+      var column = ByteBuffer.allocate(Byte.BYTES + bitsToBytes(rows.length));
+      column.put((byte) type.getValue());
+      var bits = new byte[bitsToBytes(rows.length)];
+      for (int i = 0; i < rows.length; ++i) {
+        if (rows[i].getBoolean(key)) {
+          setBit(bits, i);
+        }
+      }
+      column.put(bits);
+
+      return appendBinariesToBuffer(buffer, column.array());
+    }
 
-    if (strLen < 0) {
-      throw new IllegalStateException(
-          String.format("The length of string is incorrect: %d", strLen));
+    if (type == ZeroType.STRING) {
+      return encodeStringColumn(buffer, rows, key, context);
     }
 
-    var strData = new byte[strLen];
-    buffer.get(strData, 0, strLen);
-    var data = new String(strData);
+    var width = switch (type) {
+      case BYTE -> Byte.BYTES;
+      case SHORT, HALF_FLOAT -> Short.BYTES;
+      case INTEGER, FLOAT -> Integer.BYTES;
+      default -> Long.BYTES;
+    };
+    var column = newSlice(Byte.BYTES + width * rows.length);
+    column.put((byte) type.getValue());
+    for (var row : rows) {
+      if (column.remaining() < width) {
+        buffer = appendSlice(buffer, column);
+      }
+      switch (type) {
+        case BYTE -> column.put(row.getByte(key));
+        case SHORT -> column.putShort(row.getShort(key));
+        case HALF_FLOAT -> column.putShort(Float.floatToFloat16(row.getFloat(key)));
+        case INTEGER -> column.putInt(row.getInteger(key));
+        case FLOAT -> column.putFloat(row.getFloat(key));
+        case LONG -> column.putLong(row.getLong(key));
+        default -> column.putDouble(row.getDouble(key));
+      }
+    }
 
-    return newZeroElement(ZeroType.STRING, data);
+    return appendSlice(buffer, column);
   }
 
-  private static ZeroElement decodeBooleanArray(ByteBuffer buffer) {
-    var collectionSize = getCollectionSize(buffer);
-    var data = new ArrayList<Boolean>();
+  private static ByteBuffer encodeStringColumn(ByteBuffer buffer, ZeroMap[] rows, String key,
+                                               EncodingContext context) {
+    var referenced = true;
+    for (var row : rows) {
+      if (!context.hasStringIndex(row.getString(key))) {
+        referenced = false;
+        break;
+      }
+    }
 
-    for (int i = 0; i < collectionSize; ++i) {
-      var bool = buffer.get();
-      if (bool == 0) {
-        data.add(false);
-      } else {
-        if (bool != 1) {
-          throw new IllegalStateException(
-              String.format("Expected value of 0 or 1, but found: %d", bool));
+    if (referenced) {
+      var column = newSlice(Byte.BYTES + Short.BYTES * rows.length);
+      column.put(ZeroWireType.STRING_REFERENCE);
+      for (var row : rows) {
+        if (column.remaining() < Short.BYTES) {
+          buffer = appendSlice(buffer, column);
         }
+        column.putShort((short) context.getStringIndex(row.getString(key)));
+      }
 
-        data.add(true);
+      return appendSlice(buffer, column);
+    }
+
+    var binaries = new byte[rows.length][];
+    var totalStringsLengthInBytes = 0;
+    for (int i = 0; i < rows.length; ++i) {
+      binaries[i] = rows[i].getString(key).getBytes(StandardCharsets.UTF_8);
+      totalStringsLengthInBytes += Short.BYTES + binaries[i].length;
+    }
+
+    var column = newSlice(Byte.BYTES + totalStringsLengthInBytes);
+    column.put((byte) ZeroType.STRING.getValue());
+    for (var stringBytes : binaries) {
+      if (column.remaining() < Short.BYTES) {
+        buffer = appendSlice(buffer, column);
       }
+      column.putShort((short) stringBytes.length);
+      buffer = putSliceBinaries(buffer, column, stringBytes);
     }
 
-    return newZeroElement(ZeroType.BOOLEAN_ARRAY, data);
+    return appendSlice(buffer, column);
   }
 
-  private static ZeroElement decodeByteArray(ByteBuffer buffer) {
-    var arraySize = buffer.getInt();
-    if (arraySize < 0) {
-      throw new NegativeArraySizeException(
-          String.format("Could not create an array with negative size value: %d", arraySize));
+  private static int countBooleanFields(ZeroMap map) {
+    var count = 0;
+    for (var key : map.getKeys()) {
+      if (map.getZeroElement(key).getType() == ZeroType.BOOLEAN) {
+        count++;
+      }
     }
 
-    var byteData = new byte[arraySize];
-    buffer.get(byteData, 0, arraySize);
+    return count;
+  }
 
-    return newZeroElement(ZeroType.BYTE_ARRAY, byteData);
+  /*
+   * Every plain boolean field costs a type byte and a value byte, the packed entry costs its
+   * empty key, a type byte, a count and the bits.
+   */
+  private static boolean isWorthPackingBooleanFields(int fieldCount) {
+    return fieldCount <= Short.MAX_VALUE
+        && fieldCount * 2 > ENCODE_HEADER_BOOLEAN_BIT_FIELDS_BYTES + bitsToBytes(fieldCount);
   }
 
-  private static ZeroElement decodeShortArray(ByteBuffer buffer) {
-    var collectionSize = getCollectionSize(buffer);
-    var data = new ArrayList<Short>();
+  private static ByteBuffer encodeBooleanFields(ByteBuffer buffer, ZeroMap map, int fieldCount) {
+    var header = ByteBuffer.allocate(ENCODE_HEADER_BOOLEAN_BIT_FIELDS_BYTES);
+    header.putShort((short) 0);
+    header.put(ZeroWireType.BOOLEAN_BIT_FIELDS);
+    header.putShort((short) fieldCount);
+    buffer = appendBinariesToBuffer(buffer, header.array());
+
+    var bits = new byte[bitsToBytes(fieldCount)];
+    var index = 0;
+    for (var key : map.getKeys()) {
+      var zeroElement = map.getZeroElement(key);
+      if (zeroElement.getType() != ZeroType.BOOLEAN) {
+        continue;
+      }
 
-    for (int i = 0; i < collectionSize; ++i) {
-      var shortValue = buffer.getShort();
-      data.add(shortValue);
+      buffer = encodeZeroMapKey(buffer, key);
+      if ((Boolean) zeroElement.getData()) {
+        setBit(bits, index);
+      }
+      index++;
     }
 
-    return newZeroElement(ZeroType.SHORT_ARRAY, data);
+    return appendBinariesToBuffer(buffer, bits);
   }
 
-  private static ZeroElement decodeIntegerArray(ByteBuffer buffer) {
-    var collectionSize = getCollectionSize(buffer);
-    var data = new ArrayList<Integer>();
-
-    for (int i = 0; i < collectionSize; ++i) {
-      var intValue = buffer.getInt();
-      data.add(intValue);
-    }
+  private static int bitsToBytes(int bitCount) {
+    return (bitCount + Byte.SIZE - 1) / Byte.SIZE;
+  }
 
-    return newZeroElement(ZeroType.INTEGER_ARRAY, data);
+  private static void setBit(byte[] bits, int index) {
+    bits[index >>> 3] |= (byte) (1 << (index & 7));
   }
 
-  private static ZeroElement decodeLongArray(ByteBuffer buffer) {
-    var collectionSize = getCollectionSize(buffer);
-    var data = new ArrayList<Long>();
+  private static boolean isBitSet(byte[] bits, int index) {
+    return (bits[index >>> 3] & (1 << (index & 7))) != 0;
+  }
 
-    for (int i = 0; i < collectionSize; ++i) {
-      var longValue = buffer.getLong();
-      data.add(longValue);
-    }
+  private static ByteBuffer encodeByteArray(ByteBuffer buffer, byte[] data) {
+    var slice = newSlice(ENCODE_HEADER_BYTE_ARRAY_BYTES + data.length);
+    slice.put((byte) ZeroType.BYTE_ARRAY.getValue());
+    slice.putInt(data.length);
+    buffer = putSliceBinaries(buffer, slice, data);
 
-    return newZeroElement(ZeroType.LONG_ARRAY, data);
+    return appendSlice(buffer, slice);
   }
 
-  private static ZeroElement decodeFloatArray(ByteBuffer buffer) {
-    var collectionSize = getCollectionSize(buffer);
-    var data = new ArrayList<Float>();
+  private static ByteBuffer encodeShortArray(ByteBuffer buffer, Collection<Short> data,
+                                             EncodingContext context) {
+    var wide = context.isWide(data.size());
+    var slice = newSlice(getSizedHeaderBytes(wide) + Short.BYTES * data.size());
+    putSizedHeader(slice, ZeroType.SHORT_ARRAY.getValue(), data.size(), wide);
 
-    for (int i = 0; i < collectionSize; ++i) {
-      var floatValue = buffer.getFloat();
-      data.add(floatValue);
+    for (Short shortValue : data) {
+      if (slice.remaining() < Short.BYTES) {
+        buffer = appendSlice(buffer, slice);
+      }
+      slice.putShort(shortValue);
     }
 
-    return newZeroElement(ZeroType.FLOAT_ARRAY, data);
+    return appendSlice(buffer, slice);
   }
 
-  private static ZeroElement decodeDoubleArray(ByteBuffer buffer) {
-    var collectionSize = getCollectionSize(buffer);
-    var data = new ArrayList<Double>();
+  private static ByteBuffer encodeIntegerArray(ByteBuffer buffer, Collection<Integer> data,
+                                               EncodingContext context) {
+    var wide = context.isWide(data.size());
+    var slice = newSlice(getSizedHeaderBytes(wide) + Integer.BYTES * data.size());
+    putSizedHeader(slice, ZeroType.INTEGER_ARRAY.getValue(), data.size(), wide);
 
-    for (int i = 0; i < collectionSize; ++i) {
-      var doubleValue = buffer.getDouble();
-      data.add(doubleValue);
+    for (Integer integerValue : data) {
+      if (slice.remaining() < Integer.BYTES) {
+        buffer = appendSlice(buffer, slice);
+      }
+      slice.putInt(integerValue);
     }
 
-    return newZeroElement(ZeroType.DOUBLE_ARRAY, data);
+    return appendSlice(buffer, slice);
   }
 
-  private static ZeroElement decodeStringArray(ByteBuffer buffer) {
-    var collectionSize = getCollectionSize(buffer);
-    var data = new ArrayList<String>();
+  private static ByteBuffer encodeLongArray(ByteBuffer buffer, Collection<Long> data,
+                                            EncodingContext context) {
+    var wide = context.isWide(data.size());
+    var slice = newSlice(getSizedHeaderBytes(wide) + Long.BYTES * data.size());
+    putSizedHeader(slice, ZeroType.LONG_ARRAY.getValue(), data.size(), wide);
 
-    for (int i = 0; i < collectionSize; ++i) {
-      var strLen = buffer.getShort();
-      if (strLen < 0) {
-        throw new IllegalStateException(
-            String.format("The length of string is incorrect: %d", strLen));
+    for (Long longValue : data) {
+      if (slice.remaining() < Long.BYTES) {
+        buffer = appendSlice(buffer, slice);
       }
-
-      var strData = new byte[strLen];
-      buffer.get(strData, 0, strLen);
-      var stringValue = new String(strData);
-      data.add(stringValue);
+      slice.putLong(longValue);
     }
 
-    return newZeroElement(ZeroType.STRING_ARRAY, data);
+    return appendSlice(buffer, slice);
   }
 
-  private static ZeroArray decodeZeroArray(ByteBuffer buffer) {
-    var zeroArray = newZeroArray();
-    var headerByte = buffer.get();
+  private static ByteBuffer encodeFloatArray(ByteBuffer buffer, Collection<Float> data,
+                                             EncodingContext context) {
+    var wide = context.isWide(data.size());
+    var slice = newSlice(getSizedHeaderBytes(wide) + Float.BYTES * data.size());
+    putSizedHeader(slice, ZeroType.FLOAT_ARRAY.getValue(), data.size(), wide);
 
-    if (ZeroType.getByValue(headerByte) != ZeroType.ZERO_ARRAY) {
-      throw new IllegalStateException(
-          String.format("Invalid ZeroType. Expected: %s, value: %d, but found: %s, value: %d",
-              ZeroType.ZERO_ARRAY, ZeroType.ZERO_ARRAY.getValue(),
-              ZeroType.getByValue(headerByte) != null ?
-                  ZeroType.getByValue(headerByte).toString() : "null", headerByte));
+    for (Float floatValue : data) {
+      if (slice.remaining() < Float.BYTES) {
+        buffer = appendSlice(buffer, slice);
+      }
+      slice.putFloat(floatValue);
     }
 
-    var arraySize = buffer.getShort();
-    if (arraySize < 0) {
-      throw new NegativeArraySizeException(
-          String.format("Could not create an array with negative size value: %d", arraySize));
-    }
+    return appendSlice(buffer, slice);
+  }
 
-    try {
-      for (int i = 0; i < arraySize; ++i) {
-        var zeroElement = decodeElement(buffer);
-        if (zeroElement == null) {
-          throw new IllegalStateException(
-              String.format("Unable to not decode ZeroArray item at index: %d", i));
-        }
+  private static ByteBuffer encodeDoubleArray(ByteBuffer buffer, Collection<Double> data,
+                                              EncodingContext context) {
+    var wide = context.isWide(data.size());
+    var slice = newSlice(getSizedHeaderBytes(wide) + Double.BYTES * data.size());
+    putSizedHeader(slice, ZeroType.DOUBLE_ARRAY.getValue(), data.size(), wide);
 
-        zeroArray.addZeroElement(zeroElement);
+    for (Double doubleValue : data) {
+      if (slice.remaining() < Double.BYTES) {
+        buffer = appendSlice(buffer, slice);
       }
-
-      return zeroArray;
-    } catch (RuntimeException exception) {
-      throw new IllegalArgumentException(exception.getMessage());
+      slice.putDouble(doubleValue);
     }
-  }
 
-  private static ZeroMap decodeZeroMap(ByteBuffer buffer) {
-    var zeroMap = newZeroMap();
-    var headerByte = buffer.get();
+    return appendSlice(buffer, slice);
+  }
 
-    if (ZeroType.getByValue(headerByte) != ZeroType.ZERO_MAP) {
-      throw new IllegalStateException(
-          String.format("Invalid ZeroType. Expected: %s, value: %d, but found: %s, value: %d",
-              ZeroType.ZERO_MAP, ZeroType.ZERO_MAP.getValue(),
-              ZeroType.getByValue(headerByte), headerByte));
+  private static ByteBuffer encodeStringArray(ByteBuffer buffer, Collection<String> collection,
+                                              EncodingContext context) {
+    var binaries = new byte[collection.size()][];
+    var totalStringsLengthInBytes = 0;
+    var maxLength = collection.size();
+    var index = 0;
+    for (var string : collection) {
+      var stringBytes = string.getBytes(StandardCharsets.UTF_8);
+      binaries[index++] = stringBytes;
+      totalStringsLengthInBytes += stringBytes.length;
+      maxLength = Math.max(maxLength, stringBytes.length);
     }
 
-    var mapSize = buffer.getShort();
-    if (mapSize < 0) {
-      throw new NegativeArraySizeException(
-          String.format("Could not create an object with negative size value: %d", mapSize));
+    var wide = context.isWide(maxLength);
+    var sizeBytes = ZeroInputs.getSizeBytes(wide);
+    var slice = newSlice(getSizedHeaderBytes(wide) + sizeBytes * binaries.length
+        + totalStringsLengthInBytes);
+    putSizedHeader(slice, ZeroType.STRING_ARRAY.getValue(), binaries.length, wide);
+    for (var stringBytes : binaries) {
+      if (slice.remaining() < sizeBytes) {
+        buffer = appendSlice(buffer, slice);
+      }
+      if (wide) {
+        slice.putInt(stringBytes.length);
+      } else {
+        slice.putShort((short) stringBytes.length);
+      }
+      buffer = putSliceBinaries(buffer, slice, stringBytes);
     }
 
-    try {
-      for (int i = 0; i < mapSize; ++i) {
-        var keySize = buffer.getShort();
-        var keyData = new byte[keySize];
-        buffer.get(keyData, 0, keyData.length);
-        var key = new String(keyData);
-        var zeroElement = decodeElement(buffer);
-
-        if (zeroElement == null) {
-          throw new IllegalStateException(
-              String.format("Unable to decode value for key: %s", Arrays.toString(keyData)));
-        }
-
-        zeroMap.putZeroElement(key, zeroElement);
-      }
+    return appendSlice(buffer, slice);
+  }
 
-      return zeroMap;
-    } catch (RuntimeException exception) {
-      throw new IllegalArgumentException(exception.getMessage());
+  private static void countStrings(ZeroMap map, EncodingContext context) {
+    for (var entry : map) {
+      countStrings(entry.getValue(), context);
     }
   }
 
-  private static short getCollectionSize(ByteBuffer buffer) {
-    var collectionSize = buffer.getShort();
-    if (collectionSize < 0) {
-      throw new NegativeArraySizeException(
-          String.format("Could not create a collection with negative size value: %d",
-              collectionSize));
+  private static void countStrings(ZeroArray array, EncodingContext context) {
+    for (var zeroElement : array) {
+      countStrings(zeroElement, context);
     }
-
-    return collectionSize;
   }
 
-  private static ByteBuffer encodeNull(ByteBuffer buffer) {
-    return appendBinariesToBuffer(buffer, new byte[1]);
+  private static void countStrings(ZeroIntMap map, EncodingContext context) {
+    map.forEach((zeroElement, key) -> countStrings(zeroElement, context));
   }
 
-  private static ByteBuffer encodeBoolean(ByteBuffer buffer, Boolean data) {
-    var binaries = new byte[] {(byte) ZeroType.BOOLEAN.getValue(), (byte) (data ? 1 : 0)};
-    return appendBinariesToBuffer(buffer, binaries);
+  @SuppressWarnings("unchecked")
+  private static void countStrings(ZeroElement zeroElement, EncodingContext context) {
+    switch (zeroElement.getType()) {
+      case STRING -> context.countString((String) zeroElement.getData());
+      case STRING_ARRAY -> ((Collection<String>) zeroElement.getData())
+          .forEach(context::countString);
+      case ZERO_ARRAY -> countStrings((ZeroArray) zeroElement.getData(), context);
+      case ZERO_MAP -> countStrings((ZeroMap) zeroElement.getData(), context);
+      case ZERO_INT_MAP -> countStrings((ZeroIntMap) zeroElement.getData(), context);
+      default -> {
+        // other types hold no string value
+      }
+    }
   }
 
-  private static ByteBuffer encodeByte(ByteBuffer buffer, Byte data) {
-    var binaries = new byte[] {(byte) ZeroType.BYTE.getValue(), data};
-    return appendBinariesToBuffer(buffer, binaries);
-  }
+  private static ByteBuffer encodeStringTable(ByteBuffer buffer, EncodingContext context) {
+    var strings = context.buildStringTable();
+    if (strings.isEmpty()) {
+      return buffer;
+    }
 
-  private static ByteBuffer encodeShort(ByteBuffer buffer, Short data) {
-    var buf = ByteBuffer.allocate(ENCODE_SHORT_BYTES);
-    buf.put((byte) ZeroType.SHORT.getValue());
-    buf.putShort(data);
+    var totalStringsLengthInBytes = 0;
+    for (var binaries : strings) {
+      totalStringsLengthInBytes += Short.BYTES + binaries.length;
+    }
+
+    var buf = ByteBuffer.allocate(Byte.BYTES + Short.BYTES + totalStringsLengthInBytes);
+    buf.put(ZeroWireType.STRING_TABLE);
+    buf.putShort((short) strings.size());
+    for (var binaries : strings) {
+      buf.putShort((short) binaries.length);
+      buf.put(binaries);
+    }
 
     return appendBinariesToBuffer(buffer, buf.array());
   }
 
-  private static ByteBuffer encodeInteger(ByteBuffer buffer, Integer data) {
-    var buf = ByteBuffer.allocate(ENCODE_INTEGER_BYTES);
-    buf.put((byte) ZeroType.INTEGER.getValue());
-    buf.putInt(data);
+  private static ByteBuffer encodeStringReference(ByteBuffer buffer, int index) {
+    var buf = ByteBuffer.allocate(Byte.BYTES + Short.BYTES);
+    buf.put(ZeroWireType.STRING_REFERENCE);
+    buf.putShort((short) index);
 
     return appendBinariesToBuffer(buffer, buf.array());
   }
 
-  private static ByteBuffer encodeLong(ByteBuffer buffer, Long data) {
-    var buf = ByteBuffer.allocate(ENCODE_LONG_BYTES);
-    buf.put((byte) ZeroType.LONG.getValue());
-    buf.putLong(data);
+  private static ByteBuffer encodeStringReferenceArray(ByteBuffer buffer,
+                                                       Collection<String> collection,
+                                                       EncodingContext context) {
+    var slice = newSlice(Byte.BYTES + Short.BYTES + Short.BYTES * collection.size());
+    slice.put(ZeroWireType.STRING_REFERENCE_ARRAY);
+    slice.putShort((short) collection.size());
+    for (var string : collection) {
+      if (slice.remaining() < Short.BYTES) {
+        buffer = appendSlice(buffer, slice);
+      }
+      slice.putShort((short) context.getStringIndex(string));
+    }
 
-    return appendBinariesToBuffer(buffer, buf.array());
+    return appendSlice(buffer, slice);
   }
 
-  private static ByteBuffer encodeFloat(ByteBuffer buffer, Float data) {
-    var buf = ByteBuffer.allocate(ENCODE_FLOAT_BYTES);
-    buf.put((byte) ZeroType.FLOAT.getValue());
-    buf.putFloat(data);
+  private static ByteBuffer encodeZeroMapKey(ByteBuffer buffer, String key) {
+    var keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    if (keyBytes.length > Short.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format("The key is too long to be encoded: %d bytes", keyBytes.length));
+    }
+
+    var buf = ByteBuffer.allocate(Short.BYTES + keyBytes.length);
+    buf.putShort((short) keyBytes.length);
+    buf.put(keyBytes);
 
     return appendBinariesToBuffer(buffer, buf.array());
   }
 
-  private static ByteBuffer encodeDouble(ByteBuffer buffer, Double data) {
-    var buf = ByteBuffer.allocate(ENCODE_DOUBLE_BYTES);
-    buf.put((byte) ZeroType.DOUBLE.getValue());
-    buf.putDouble(data);
+  private static int getSizedHeaderBytes(boolean wide) {
+    return wide ? ENCODE_HEADER_WIDE_SIZED_BYTES : ENCODE_HEADER_SIZED_BYTES;
+  }
 
-    return appendBinariesToBuffer(buffer, buf.array());
+  private static void putSizedHeader(ByteBuffer buffer, int type, int size, boolean wide) {
+    if (wide) {
+      buffer.put(ZeroWireType.WIDE);
+      buffer.put((byte) type);
+      buffer.putInt(size);
+    } else {
+      buffer.put((byte) type);
+      buffer.putShort((short) size);
+    }
   }
 
-  private static ByteBuffer encodeString(ByteBuffer buffer, String data) {
-    var stringBytes = data.getBytes();
-    var buf = ByteBuffer.allocate(ENCODE_HEADER_STRING_BYTES + stringBytes.length);
-    buf.put((byte) ZeroType.STRING.getValue());
-    buf.putShort((short) stringBytes.length);
-    buf.put(stringBytes);
+  private static Set<ZeroEncodingOption> toEncodingOptions(ZeroEncodingOption... options) {
+    var encodingOptions = EnumSet.noneOf(ZeroEncodingOption.class);
+    Collections.addAll(encodingOptions, options);
 
-    return appendBinariesToBuffer(buffer, buf.array());
+    return encodingOptions;
+  }
+
+  private static ByteBuffer appendBinariesToBuffer(ByteBuffer buffer, byte[] binaries) {
+    return appendBinariesToBuffer(buffer, binaries, binaries.length);
   }
 
-  private static ByteBuffer encodeBooleanArray(ByteBuffer buffer, Collection<Boolean> data) {
-    var buf = ByteBuffer.allocate(ENCODE_HEADER_BOOLEAN_ARRAY_BYTES + data.size());
-    buf.put((byte) ZeroType.BOOLEAN_ARRAY.getValue());
-    buf.putShort((short) data.size());
+  private static ByteBuffer appendBinariesToBuffer(ByteBuffer buffer, byte[] binaries,
+                                                   int length) {
+    if (buffer.remaining() < length) {
+      var chunkedBuffer = ZeroChunkedBuffer.writing();
+      if (chunkedBuffer != null && chunkedBuffer.current() == buffer) {
+        return chunkedBuffer.append(binaries, length);
+      }
 
-    for (Boolean boolValue : data) {
-      buf.put((byte) (boolValue ? 1 : 0));
+      var newBuffer = ByteBuffer.allocate(Math.max(buffer.capacity() << 1,
+          buffer.position() + Math.max(BUFFER_CHUNK_BYTES, length)));
+      buffer.flip();
+      newBuffer.put(buffer);
+      buffer = newBuffer;
     }
 
-    return appendBinariesToBuffer(buffer, buf.array());
+    buffer.put(binaries, 0, length);
+    return buffer;
   }
 
-  private static ByteBuffer encodeByteArray(ByteBuffer buffer, byte[] data) {
-    var buf = ByteBuffer.allocate(ENCODE_HEADER_BYTE_ARRAY_BYTES + data.length);
-    buf.put((byte) ZeroType.BYTE_ARRAY.getValue());
-    buf.putInt(data.length);
-    buf.put(data);
-
-    return appendBinariesToBuffer(buffer, buf.array());
+  /*
+   * Large arrays and columns are written through a bounded slice which is appended to the
+   * buffer whenever it is full, so no contiguous array of the whole value is allocated.
+   */
+  private static ByteBuffer newSlice(int bytes) {
+    return ByteBuffer.allocate(Math.min(bytes, ENCODE_SLICE_BYTES));
   }
 
-  private static ByteBuffer encodeShortArray(ByteBuffer buffer, Collection<Short> data) {
-    var buf = ByteBuffer.allocate(ENCODE_HEADER_NUMERIC_ARRAY_BYTES + Short.BYTES * data.size());
-    buf.put((byte) ZeroType.SHORT_ARRAY.getValue());
-    buf.putShort((short) data.size());
+  private static ByteBuffer appendSlice(ByteBuffer buffer, ByteBuffer slice) {
+    buffer = appendBinariesToBuffer(buffer, slice.array(), slice.position());
+    slice.clear();
 
-    for (Short shortValue : data) {
-      buf.putShort(shortValue);
+    return buffer;
+  }
+
+  private static ByteBuffer putSliceBinaries(ByteBuffer buffer, ByteBuffer slice,
+                                             byte[] binaries) {
+    if (slice.remaining() < binaries.length) {
+      buffer = appendSlice(buffer, slice);
+      if (slice.capacity() < binaries.length) {
+        return appendBinariesToBuffer(buffer, binaries);
+      }
     }
+    slice.put(binaries);
 
-    return appendBinariesToBuffer(buffer, buf.array());
+    return buffer;
   }
 
-  private static ByteBuffer encodeIntegerArray(ByteBuffer buffer, Collection<Integer> data) {
-    var buf = ByteBuffer.allocate(ENCODE_HEADER_NUMERIC_ARRAY_BYTES + Integer.BYTES * data.size());
-    buf.put((byte) ZeroType.INTEGER_ARRAY.getValue());
-    buf.putShort((short) data.size());
+  /**
+   * Holds the settings of one encoding call and is passed down to all nested collections.
+   */
+  private static final class EncodingContext {
 
-    for (Integer integerValue : data) {
-      buf.putInt(integerValue);
+    private final Set<ZeroEncodingOption> options;
+    private final ZeroPayloadProfile profile;
+    private Map<String, Integer> stringCounts;
+    private Map<String, Integer> stringIndexes;
+
+    private EncodingContext(Set<ZeroEncodingOption> options) {
+      this(options, null);
     }
 
-    return appendBinariesToBuffer(buffer, buf.array());
-  }
+    private EncodingContext(Set<ZeroEncodingOption> options, ZeroPayloadProfile profile) {
+      this.options = options;
+      this.profile = profile;
+    }
 
-  private static ByteBuffer encodeLongArray(ByteBuffer buffer, Collection<Long> data) {
-    var buf = ByteBuffer.allocate(ENCODE_HEADER_NUMERIC_ARRAY_BYTES + Long.BYTES * data.size());
-    buf.put((byte) ZeroType.LONG_ARRAY.getValue());
-    buf.putShort((short) data.size());
+    private int getInitialCapacity() {
+      return profile == null ? 0 : profile.getInitialCapacity();
+    }
 
-    for (Long longValue : data) {
-      buf.putLong(longValue);
+    private void recordSize(int bytes) {
+      if (profile != null) {
+        profile.record(bytes);
+      }
     }
 
-    return appendBinariesToBuffer(buffer, buf.array());
-  }
+    private boolean isEnabled(ZeroEncodingOption option) {
+      return options.contains(option);
+    }
 
-  private static ByteBuffer encodeFloatArray(ByteBuffer buffer, Collection<Float> data) {
-    var buf = ByteBuffer.allocate(ENCODE_HEADER_NUMERIC_ARRAY_BYTES + Float.BYTES * data.size());
-    buf.put((byte) ZeroType.FLOAT_ARRAY.getValue());
-    buf.putShort((short) data.size());
+    private boolean isWide(int size) {
+      return size > Short.MAX_VALUE || options.contains(ZeroEncodingOption.WIDE_SIZES);
+    }
 
-    for (Float floatValue : data) {
-      buf.putFloat(floatValue);
+    private void countString(String string) {
+      if (stringCounts == null) {
+        stringCounts = new LinkedHashMap<>();
+      }
+      stringCounts.merge(string, 1, Integer::sum);
     }
 
-    return appendBinariesToBuffer(buffer, buf.array());
-  }
+    /*
+     * A string is moved to the table only when it saves bytes: c plain occurrences cost
+     * c * (3 + n), the table entry costs 2 + n plus 3 bytes per reference.
+     */
+    private List<byte[]> buildStringTable() {
+      var strings = new ArrayList<byte[]>();
+      if (stringCounts == null) {
+        return strings;
+      }
 
-  private static ByteBuffer encodeDoubleArray(ByteBuffer buffer, Collection<Double> data) {
-    var buf = ByteBuffer.allocate(ENCODE_HEADER_NUMERIC_ARRAY_BYTES + Double.BYTES * data.size());
-    buf.put((byte) ZeroType.DOUBLE_ARRAY.getValue());
-    buf.putShort((short) data.size());
+      stringIndexes = new HashMap<>();
+      for (var entry : stringCounts.entrySet()) {
+        var binaries = entry.getKey().getBytes(StandardCharsets.UTF_8);
+        if (binaries.length * (entry.getValue() - 1) > Short.BYTES
+            && binaries.length <= Short.MAX_VALUE && strings.size() < Short.MAX_VALUE) {
+          stringIndexes.put(entry.getKey(), strings.size());
+          strings.add(binaries);
+        }
+      }
+      stringCounts = null;
 
-    for (Double doubleValue : data) {
-      buf.putDouble(doubleValue);
+      return strings;
     }
 
-    return appendBinariesToBuffer(buffer, buf.array());
-  }
+    private boolean hasStringIndex(String string) {
+      return stringIndexes != null && stringIndexes.containsKey(string);
+    }
 
-  private static ByteBuffer encodeStringArray(ByteBuffer buffer, Collection<String> collection) {
-    var totalStringsLengthInBytes = 0;
-    byte[] stringInBinary;
+    private boolean hasStringIndexes(Collection<String> strings) {
+      if (stringIndexes == null || strings.isEmpty() || strings.size() > Short.MAX_VALUE) {
+        return false;
+      }
 
-    for (var iterator = collection.iterator(); iterator
-        .hasNext(); totalStringsLengthInBytes += Short.BYTES + stringInBinary.length) {
-      var item = iterator.next();
-      stringInBinary = item.getBytes();
-    }
+      for (var string : strings) {
+        if (!stringIndexes.containsKey(string)) {
+          return false;
+        }
+      }
 
-    var buf = ByteBuffer.allocate(ENCODE_HEADER_STRING_ARRAY_BYTES + totalStringsLengthInBytes);
-    buf.put((byte) ZeroType.STRING_ARRAY.getValue());
-    buf.putShort((short) collection.size());
-    collection.forEach(string -> {
-      var bytes = string.getBytes();
-      buf.putShort((short) bytes.length);
-      buf.put(bytes);
-    });
+      return true;
+    }
 
-    return appendBinariesToBuffer(buffer, buf.array());
+    private int getStringIndex(String string) {
+      return stringIndexes.get(string);
+    }
   }
 
-  private static ByteBuffer encodeZeroMapKey(ByteBuffer buffer, String key) {
-    var buf = ByteBuffer.allocate(Short.BYTES + key.length());
-    buf.putShort((short) key.length());
-    buf.put(key.getBytes());
+  /**
+   * Holds the string table of one payload while it is decoded, every reference to the same
+   * entry shares one {@link String} instance.
+   */
+  private static final class DecodingContext {
 
-    return appendBinariesToBuffer(buffer, buf.array());
-  }
+    private static final DecodingContext EMPTY = new DecodingContext(new String[0]);
 
-  private static ByteBuffer appendBinariesToBuffer(ByteBuffer buffer, byte[] binaries) {
-    if (buffer.remaining() < binaries.length) {
-      int newSize = BUFFER_CHUNK_BYTES;
-      if (newSize < binaries.length) {
-        newSize = binaries.length;
-      }
+    private final String[] strings;
 
-      var newBuffer = ByteBuffer.allocate(buffer.capacity() + newSize);
-      buffer.flip();
-      newBuffer.put(buffer);
-      buffer = newBuffer;
+    private DecodingContext(String[] strings) {
+      this.strings = strings;
     }
 
-    buffer.put(binaries);
-    return buffer;
+    private String getString(int index) {
+      if (index < 0 || index >= strings.length) {
+        throw new IllegalStateException(String.format(
+            "The string reference is out of the table range: %d, size: %d", index,
+            strings.length));
+      }
+
+      return strings[index];
+    }
   }
 }
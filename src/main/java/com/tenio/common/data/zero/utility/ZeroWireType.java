@@ -0,0 +1,81 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+/**
+ * Type bytes which only exist in the binaries produced by optional encodings. They never appear
+ * as the type of a {@link com.tenio.common.data.zero.ZeroElement}, decoding turns them back into
+ * the regular {@link com.tenio.common.data.zero.ZeroType}s. The values start from 64 to stay
+ * clear of the regular types.
+ *
+ * @see ZeroEncodingOption
+ */
+final class ZeroWireType {
+
+  /**
+   * A collection of booleans packed 8 values per byte:
+   * <code>| size (short) | bits ... |</code>.
+   */
+  static final byte BOOLEAN_BIT_ARRAY = 64;
+  /**
+   * All boolean fields of a map packed into one entry with an empty key, it is always the first
+   * entry of its map: <code>| size (short) | keys ... | bits ... |</code>.
+   */
+  static final byte BOOLEAN_BIT_FIELDS = 65;
+  /**
+   * The table of strings which are shared by a whole payload, it is always written before the
+   * root collection: <code>| size (short) | strings ... |</code>.
+   */
+  static final byte STRING_TABLE = 66;
+  /**
+   * A string in the table: <code>| index (short) |</code>.
+   */
+  static final byte STRING_REFERENCE = 67;
+  /**
+   * A collection of strings in the table: <code>| size (short) | indexes (short) ... |</code>.
+   */
+  static final byte STRING_REFERENCE_ARRAY = 68;
+  /**
+   * A collection of maps sharing the same keys, written once per column:
+   * <code>| rows (short) | fields (short) | (key | type | values ...) ... |</code>.
+   */
+  static final byte COLUMNAR_ARRAY = 69;
+  /**
+   * A typed zero array, followed by the collection type of its values and their encoding:
+   * <code>| collection type | size (short) | values ... |</code>.
+   */
+  static final byte TYPED_ARRAY = 70;
+  /**
+   * Written in front of the type of an element whose own sizes and string lengths are written
+   * as <code>int</code> instead of <code>short</code>, e.g. a string longer than 32767 bytes or
+   * a collection holding more than 32767 items: <code>| type | size (int) | ... |</code>. It
+   * only applies to that element, the nested ones carry their own marker when they need it.
+   */
+  static final byte WIDE = 71;
+
+  private ZeroWireType() {
+    throw new UnsupportedOperationException("This class does not support to create an instance");
+  }
+}
@@ -0,0 +1,695 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data.zero.utility;
+
+import com.tenio.common.data.zero.ZeroArray;
+import com.tenio.common.data.zero.ZeroIntMap;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.ZeroType;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A streaming writer which produces the self-definition binaries directly, without building an
+ * intermediate {@link ZeroMap} or {@link ZeroArray}. The output is byte-identical to the plain
+ * encoding of {@link ZeroUtility#mapToBinaries(ZeroMap)} and
+ * {@link ZeroUtility#arrayToBinaries(ZeroArray)} for the same content, given that map entries
+ * are written in the iteration order of the map.
+ *
+ * <p>A payload is written as a sequence of calls, e.g.
+ * <pre>{@code
+ * var binaries = writer.reset()
+ *     .beginMap()
+ *       .key("id").writeInt(1)
+ *       .key("items").beginArray()
+ *         .writeString("sword")
+ *       .end()
+ *     .end()
+ *     .toBinaries();
+ * }</pre>
+ * A {@link ZeroIntMap} is written the same way by {@link #beginIntMap()}, with
+ * {@link #fieldId(int)} in place of {@link #key(String)}, its output matches
+ * {@link ZeroUtility#intMapToBinaries(ZeroIntMap)} when the field IDs are written in the
+ * ascending order.
+ *
+ * <p>The size of every collection is reserved when it begins and patched when it ends, a size
+ * beyond the <code>short</code> range switches its header to the wide form the same way as the
+ * encoder does. The writer keeps its buffer between payloads, so reusing an instance after
+ * {@link #reset()} does not allocate once the buffer has grown to the size of the payloads. An
+ * instance is not thread-safe.
+ */
+public final class ZeroWriter {
+
+  private static final int DEFAULT_DEPTH = 8;
+  private static final int UTF8_REPLACEMENT = '?';
+
+  private final ZeroOutputBuffer output;
+  private int[] headerPositions;
+  private int[] sizes;
+  private ZeroType[] types;
+  private int depth;
+  private boolean expectingValue;
+  private boolean completed;
+
+  /**
+   * Creates a new instance with the default capacity.
+   */
+  public ZeroWriter() {
+    this(new ZeroOutputBuffer());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param initialCapacity the initial capacity of the buffer in bytes
+   */
+  public ZeroWriter(int initialCapacity) {
+    this(new ZeroOutputBuffer(initialCapacity));
+  }
+
+  private ZeroWriter(ZeroOutputBuffer output) {
+    this.output = output;
+    headerPositions = new int[DEFAULT_DEPTH];
+    sizes = new int[DEFAULT_DEPTH];
+    types = new ZeroType[DEFAULT_DEPTH];
+  }
+
+  /**
+   * Discards all written content, so the writer can be used for a new payload.
+   *
+   * @return the writer itself
+   */
+  public ZeroWriter reset() {
+    output.clear();
+    depth = 0;
+    expectingValue = false;
+    completed = false;
+    return this;
+  }
+
+  /**
+   * Begins a new map, the following calls write its entries until {@link #end()} is called.
+   *
+   * @return the writer itself
+   */
+  public ZeroWriter beginMap() {
+    return begin(ZeroType.ZERO_MAP);
+  }
+
+  /**
+   * Begins a new int map, the following calls write its entries until {@link #end()} is
+   * called.
+   *
+   * @return the writer itself
+   */
+  public ZeroWriter beginIntMap() {
+    return begin(ZeroType.ZERO_INT_MAP);
+  }
+
+  /**
+   * Begins a new array, the following calls write its elements until {@link #end()} is called.
+   *
+   * @return the writer itself
+   */
+  public ZeroWriter beginArray() {
+    return begin(ZeroType.ZERO_ARRAY);
+  }
+
+  /**
+   * Ends the current map or array and patches its size.
+   *
+   * @return the writer itself
+   */
+  public ZeroWriter end() {
+    if (depth == 0) {
+      throw new IllegalStateException("There is no collection to end");
+    }
+    if (expectingValue) {
+      throw new IllegalStateException("The last key has no value");
+    }
+
+    depth--;
+    if (types[depth] == ZeroType.ZERO_INT_MAP) {
+      patchVarint(headerPositions[depth] + Byte.BYTES, sizes[depth]);
+    } else {
+      output.patchSize(headerPositions[depth], sizes[depth]);
+    }
+    if (depth == 0) {
+      completed = true;
+    }
+    return this;
+  }
+
+  /**
+   * Writes the key of the next map entry, its value must be written right after.
+   *
+   * @param key the key
+   * @return the writer itself
+   */
+  public ZeroWriter key(String key) {
+    if (depth == 0 || types[depth - 1] != ZeroType.ZERO_MAP) {
+      throw new IllegalStateException("A key can only be written inside a map");
+    }
+    if (expectingValue) {
+      throw new IllegalStateException(
+          String.format("Expected a value, but found the key: %s", key));
+    }
+
+    var lengthPosition = output.position();
+    output.putShort(0);
+    output.patchShort(lengthPosition, checkSize(writeUtf8(key), "key"));
+    expectingValue = true;
+    return this;
+  }
+
+  /**
+   * Writes the field ID of the next int map entry, its value must be written right after.
+   *
+   * @param fieldId the non-negative field ID
+   * @return the writer itself
+   */
+  public ZeroWriter fieldId(int fieldId) {
+    if (depth == 0 || types[depth - 1] != ZeroType.ZERO_INT_MAP) {
+      throw new IllegalStateException("A field ID can only be written inside an int map");
+    }
+    if (expectingValue) {
+      throw new IllegalStateException(
+          String.format("Expected a value, but found the field ID: %d", fieldId));
+    }
+    if (fieldId < 0) {
+      throw new IllegalArgumentException(
+          String.format("The field ID must not be negative: %d", fieldId));
+    }
+
+    putVarint(fieldId);
+    expectingValue = true;
+    return this;
+  }
+
+  /**
+   * Writes a null value.
+   *
+   * @return the writer itself
+   */
+  public ZeroWriter writeNull() {
+    beginValue(ZeroType.NULL);
+    return this;
+  }
+
+  /**
+   * Writes a <code>boolean</code> value.
+   *
+   * @param value the value
+   * @return the writer itself
+   */
+  public ZeroWriter writeBoolean(boolean value) {
+    beginValue(ZeroType.BOOLEAN).putByte(value ? 1 : 0);
+    return this;
+  }
+
+  /**
+   * Writes a <code>byte</code> value.
+   *
+   * @param value the value
+   * @return the writer itself
+   */
+  public ZeroWriter writeByte(byte value) {
+    beginValue(ZeroType.BYTE).putByte(value);
+    return this;
+  }
+
+  /**
+   * Writes a <code>short</code> value.
+   *
+   * @param value the value
+   * @return the writer itself
+   */
+  public ZeroWriter writeShort(short value) {
+    beginValue(ZeroType.SHORT).putShort(value);
+    return this;
+  }
+
+  /**
+   * Writes an <code>integer</code> value.
+   *
+   * @param value the value
+   * @return the writer itself
+   */
+  public ZeroWriter writeInt(int value) {
+    beginValue(ZeroType.INTEGER).putInt(value);
+    return this;
+  }
+
+  /**
+   * Writes a <code>long</code> value.
+   *
+   * @param value the value
+   * @return the writer itself
+   */
+  public ZeroWriter writeLong(long value) {
+    beginValue(ZeroType.LONG).putLong(value);
+    return this;
+  }
+
+  /**
+   * Writes a <code>float</code> value.
+   *
+   * @param value the value
+   * @return the writer itself
+   */
+  public ZeroWriter writeFloat(float value) {
+    beginValue(ZeroType.FLOAT).putFloat(value);
+    return this;
+  }
+
+  /**
+   * Writes a <code>double</code> value.
+   *
+   * @param value the value
+   * @return the writer itself
+   */
+  public ZeroWriter writeDouble(double value) {
+    beginValue(ZeroType.DOUBLE).putDouble(value);
+    return this;
+  }
+
+  /**
+   * Writes a {@link String} value.
+   *
+   * @param value the value
+   * @return the writer itself
+   */
+  public ZeroWriter writeString(String value) {
+    var headerPosition = output.position();
+    beginValue(ZeroType.STRING).putShort(0);
+    output.patchSize(headerPosition, writeUtf8(value));
+    return this;
+  }
+
+  /**
+   * Writes a <code>float</code> value in the half-precision format.
+   *
+   * @param value the value
+   * @return the writer itself
+   * @see ZeroType#HALF_FLOAT
+   */
+  public ZeroWriter writeHalfFloat(float value) {
+    beginValue(ZeroType.HALF_FLOAT).putShort(Float.floatToFloat16(value));
+    return this;
+  }
+
+  /**
+   * Writes a <code>float</code> value quantized to a fixed number of bits.
+   *
+   * @param value        the value
+   * @param quantization the {@link ZeroQuantization} applied to the value
+   * @return the writer itself
+   * @see ZeroType#QUANTIZED_FLOAT
+   */
+  public ZeroWriter writeQuantizedFloat(float value, ZeroQuantization quantization) {
+    beginValue(ZeroType.QUANTIZED_FLOAT);
+    writeQuantizedFloats(quantization, false, value);
+    return this;
+  }
+
+  /**
+   * Writes an array of <code>boolean</code> values.
+   *
+   * @param values the values
+   * @return the writer itself
+   */
+  public ZeroWriter writeBooleanArray(boolean... values) {
+    beginArrayValue(ZeroType.BOOLEAN_ARRAY, values.length);
+    for (var value : values) {
+      output.putByte(value ? 1 : 0);
+    }
+    return this;
+  }
+
+  /**
+   * Writes an array of <code>byte</code> values.
+   *
+   * @param values the values
+   * @return the writer itself
+   */
+  public ZeroWriter writeByteArray(byte[] values) {
+    beginValue(ZeroType.BYTE_ARRAY).putInt(values.length).put(values);
+    return this;
+  }
+
+  /**
+   * Writes an array of <code>short</code> values.
+   *
+   * @param values the values
+   * @return the writer itself
+   */
+  public ZeroWriter writeShortArray(short... values) {
+    beginArrayValue(ZeroType.SHORT_ARRAY, values.length);
+    for (var value : values) {
+      output.putShort(value);
+    }
+    return this;
+  }
+
+  /**
+   * Writes an array of <code>integer</code> values.
+   *
+   * @param values the values
+   * @return the writer itself
+   */
+  public ZeroWriter writeIntArray(int... values) {
+    beginArrayValue(ZeroType.INTEGER_ARRAY, values.length);
+    for (var value : values) {
+      output.putInt(value);
+    }
+    return this;
+  }
+
+  /**
+   * Writes an array of <code>long</code> values.
+   *
+   * @param values the values
+   * @return the writer itself
+   */
+  public ZeroWriter writeLongArray(long... values) {
+    beginArrayValue(ZeroType.LONG_ARRAY, values.length);
+    for (var value : values) {
+      output.putLong(value);
+    }
+    return this;
+  }
+
+  /**
+   * Writes an array of <code>float</code> values.
+   *
+   * @param values the values
+   * @return the writer itself
+   */
+  public ZeroWriter writeFloatArray(float... values) {
+    beginArrayValue(ZeroType.FLOAT_ARRAY, values.length);
+    for (var value : values) {
+      output.putFloat(value);
+    }
+    return this;
+  }
+
+  /**
+   * Writes an array of <code>double</code> values.
+   *
+   * @param values the values
+   * @return the writer itself
+   */
+  public ZeroWriter writeDoubleArray(double... values) {
+    beginArrayValue(ZeroType.DOUBLE_ARRAY, values.length);
+    for (var value : values) {
+      output.putDouble(value);
+    }
+    return this;
+  }
+
+  /**
+   * Writes an array of {@link String} values.
+   *
+   * @param values the values
+   * @return the writer itself
+   */
+  public ZeroWriter writeStringArray(String... values) {
+    var wide = values.length > Short.MAX_VALUE;
+    for (int i = 0; !wide && i < values.length; i++) {
+      wide = getUtf8Length(values[i]) > Short.MAX_VALUE;
+    }
+
+    countValue(ZeroType.STRING_ARRAY);
+    output.putSizedHeader(ZeroType.STRING_ARRAY.getValue(), values.length, wide);
+    for (var value : values) {
+      var lengthPosition = output.position();
+      if (wide) {
+        output.putInt(0);
+        output.patchInt(lengthPosition, writeUtf8(value));
+      } else {
+        output.putShort(0);
+        output.patchShort(lengthPosition, writeUtf8(value));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Writes an array of <code>float</code> values in the half-precision format.
+   *
+   * @param values the values
+   * @return the writer itself
+   * @see ZeroType#HALF_FLOAT_ARRAY
+   */
+  public ZeroWriter writeHalfFloatArray(float... values) {
+    beginArrayValue(ZeroType.HALF_FLOAT_ARRAY, values.length);
+    for (var value : values) {
+      output.putShort(Float.floatToFloat16(value));
+    }
+    return this;
+  }
+
+  /**
+   * Writes an array of <code>float</code> values quantized to a fixed number of bits.
+   *
+   * @param quantization the {@link ZeroQuantization} applied to all the values
+   * @param values       the values
+   * @return the writer itself
+   * @see ZeroType#QUANTIZED_FLOAT_ARRAY
+   */
+  public ZeroWriter writeQuantizedFloatArray(ZeroQuantization quantization, float... values) {
+    countValue(ZeroType.QUANTIZED_FLOAT_ARRAY);
+    if (values.length > Short.MAX_VALUE) {
+      output.putByte(ZeroWireType.WIDE);
+    }
+    output.putByte(ZeroType.QUANTIZED_FLOAT_ARRAY.getValue());
+    writeQuantizedFloats(quantization, true, values);
+    return this;
+  }
+
+  /**
+   * Retrieves the number of bytes written so far.
+   *
+   * @return the number of written bytes
+   */
+  public int size() {
+    return output.position();
+  }
+
+  /**
+   * Copies the written payload to a new array of bytes.
+   *
+   * @return the stream of bytes which can be decoded by {@link ZeroUtility}
+   */
+  public byte[] toBinaries() {
+    checkCompleted();
+    return output.toBinaries();
+  }
+
+  /**
+   * Copies the written payload to a buffer without any intermediate array.
+   *
+   * @param target the {@link ByteBuffer} receiving the payload at its current position
+   */
+  public void writeTo(ByteBuffer target) {
+    checkCompleted();
+    output.copyTo(target);
+  }
+
+  private ZeroWriter begin(ZeroType type) {
+    var headerPosition = output.position();
+    beginValue(type);
+    if (depth == sizes.length) {
+      headerPositions = Arrays.copyOf(headerPositions, depth << 1);
+      sizes = Arrays.copyOf(sizes, depth << 1);
+      types = Arrays.copyOf(types, depth << 1);
+    }
+
+    headerPositions[depth] = headerPosition;
+    sizes[depth] = 0;
+    types[depth] = type;
+    depth++;
+    if (type == ZeroType.ZERO_INT_MAP) {
+      output.putByte(0);
+    } else {
+      output.putShort(0);
+    }
+    return this;
+  }
+
+  private ZeroOutputBuffer beginValue(ZeroType type) {
+    countValue(type);
+    return output.putByte(type.getValue());
+  }
+
+  private void countValue(ZeroType type) {
+    if (depth == 0) {
+      if (completed) {
+        throw new IllegalStateException("The payload already has a root collection");
+      }
+      if (type != ZeroType.ZERO_MAP && type != ZeroType.ZERO_INT_MAP
+          && type != ZeroType.ZERO_ARRAY) {
+        throw new IllegalStateException(
+            String.format("Expected a map or an array as the root, but found: %s", type));
+      }
+    } else {
+      if (types[depth - 1] != ZeroType.ZERO_ARRAY && !expectingValue) {
+        throw new IllegalStateException(String.format("Expected a %s before the value of type: %s",
+            types[depth - 1] == ZeroType.ZERO_MAP ? "key" : "field ID", type));
+      }
+      expectingValue = false;
+      sizes[depth - 1]++;
+    }
+  }
+
+  private void beginArrayValue(ZeroType type, int length) {
+    countValue(type);
+    output.putSizedHeader(type.getValue(), length);
+  }
+
+  /*
+   * Strings are encoded straight into the buffer behind their reserved length, a malformed
+   * surrogate is replaced the same way as String#getBytes does.
+   */
+  private int writeUtf8(String value) {
+    var start = output.position();
+    var length = value.length();
+    for (int i = 0; i < length; i++) {
+      var character = value.charAt(i);
+      if (character < 0x80) {
+        output.putByte(character);
+      } else if (character < 0x800) {
+        output.putByte(0xC0 | (character >> 6)).putByte(0x80 | (character & 0x3F));
+      } else if (!Character.isSurrogate(character)) {
+        output.putByte(0xE0 | (character >> 12)).putByte(0x80 | ((character >> 6) & 0x3F))
+            .putByte(0x80 | (character & 0x3F));
+      } else if (Character.isHighSurrogate(character) && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        var codePoint = Character.toCodePoint(character, value.charAt(++i));
+        output.putByte(0xF0 | (codePoint >> 18)).putByte(0x80 | ((codePoint >> 12) & 0x3F))
+            .putByte(0x80 | ((codePoint >> 6) & 0x3F)).putByte(0x80 | (codePoint & 0x3F));
+      } else {
+        output.putByte(UTF8_REPLACEMENT);
+      }
+    }
+
+    return output.position() - start;
+  }
+
+  private void writeQuantizedFloats(ZeroQuantization quantization, boolean isArray,
+                                    float... values) {
+    var bits = quantization.getBits();
+    output.putFloat(quantization.getMin()).putFloat(quantization.getMax()).putByte(bits);
+    if (isArray && values.length > Short.MAX_VALUE) {
+      output.putInt(values.length);
+    } else if (isArray) {
+      output.putShort(values.length);
+    }
+
+    var accumulator = 0L;
+    var pending = 0;
+    for (var value : values) {
+      accumulator = (accumulator << bits) | quantization.quantize(value);
+      pending += bits;
+      while (pending >= Byte.SIZE) {
+        pending -= Byte.SIZE;
+        output.putByte((int) (accumulator >>> pending));
+      }
+    }
+    if (pending > 0) {
+      output.putByte((int) (accumulator << (Byte.SIZE - pending)));
+    }
+  }
+
+  private void putVarint(int value) {
+    while ((value & ~0x7F) != 0) {
+      output.putByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.putByte(value);
+  }
+
+  /*
+   * A single byte is reserved for the size of an int map, which holds up to 127 entries, a
+   * larger size moves the entries forward to make room for its varint.
+   */
+  private void patchVarint(int position, int value) {
+    var extraBytes = (Integer.SIZE - Integer.numberOfLeadingZeros(value | 1) - 1) / 7;
+    if (extraBytes > 0) {
+      output.insert(position + Byte.BYTES, extraBytes);
+    }
+    while ((value & ~0x7F) != 0) {
+      output.patchByte(position++, (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.patchByte(position, value);
+  }
+
+  private void checkCompleted() {
+    if (!completed || depth > 0) {
+      throw new IllegalStateException("The payload has no completed root collection");
+    }
+  }
+
+  /*
+   * Every character takes at least one byte, so only a string which could exceed the short
+   * range in three bytes per character is measured.
+   */
+  private static int getUtf8Length(String value) {
+    var length = value.length();
+    if (length > Short.MAX_VALUE || length * 3 <= Short.MAX_VALUE) {
+      return length;
+    }
+
+    var bytes = 0;
+    for (int i = 0; i < length; i++) {
+      var character = value.charAt(i);
+      if (character < 0x80) {
+        bytes++;
+      } else if (character < 0x800) {
+        bytes += 2;
+      } else if (!Character.isSurrogate(character)) {
+        bytes += 3;
+      } else if (Character.isHighSurrogate(character) && i + 1 < length
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        bytes += 4;
+        i++;
+      } else {
+        bytes++;
+      }
+    }
+    return bytes;
+  }
+
+  private static int checkSize(int size, String target) {
+    if (size > Short.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          String.format("The %s's size exceeds the supported range: %d", target, size));
+    }
+
+    return size;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroEncodingOption;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Concurrent Zero Map")
+class ConcurrentZeroMapTest {
+
+  private static final int THREADS = 8;
+  private static final int INCREMENTS = 10_000;
+
+  @Test
+  @DisplayName("Numeric fields should be updated atomically by many threads")
+  void numericFieldsShouldBeUpdatedAtomically() throws Exception {
+    var zeroMap = ZeroUtility.newConcurrentZeroMap();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      var futures = new ArrayList<Future<?>>();
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < INCREMENTS; j++) {
+            zeroMap.addAndGetInteger("kills", 1);
+            zeroMap.addAndGetLong("gold", 2L);
+            zeroMap.addAndGetDouble("damage", 0.5);
+          }
+        }));
+      }
+      for (var future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertAll("numericFieldsShouldBeUpdatedAtomically",
+        () -> assertEquals(THREADS * INCREMENTS, zeroMap.getInteger("kills")),
+        () -> assertEquals(2L * THREADS * INCREMENTS, zeroMap.getLong("gold")),
+        () -> assertEquals(0.5 * THREADS * INCREMENTS, zeroMap.getDouble("damage")),
+        () -> assertEquals(1.5f, zeroMap.addAndGetFloat("ratio", 1.5f)),
+        () -> assertEquals(ZeroType.FLOAT, zeroMap.getZeroElement("ratio").getType()),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> zeroMap.addAndGetLong("kills", 1L))
+    );
+  }
+
+  @Test
+  @DisplayName("Conditional operations should only apply under their conditions")
+  void conditionalOperationsShouldApply() {
+    var zeroMap = ZeroUtility.newConcurrentZeroMap();
+    var first = ZeroUtility.newZeroElement(ZeroType.STRING, "first");
+    var second = ZeroUtility.newZeroElement(ZeroType.STRING, "second");
+
+    assertAll("conditionalOperationsShouldApply",
+        () -> assertNull(zeroMap.putZeroElementIfAbsent("owner", first)),
+        () -> assertSame(first, zeroMap.putZeroElementIfAbsent("owner", second)),
+        () -> assertFalse(zeroMap.replaceZeroElement("owner", second, first)),
+        () -> assertTrue(zeroMap.replaceZeroElement("owner", first, second)),
+        () -> assertEquals("second", zeroMap.getString("owner")),
+        () -> assertSame(second, zeroMap.computeZeroElementIfAbsent("owner", key -> first)),
+        () -> assertNull(zeroMap.computeZeroElement("owner", (key, element) -> null)),
+        () -> assertFalse(zeroMap.containsKey("owner"))
+    );
+  }
+
+  @Test
+  @DisplayName("Encoding should stay consistent while other threads are writing")
+  void encodingShouldBeSafeWhileWriting() throws Exception {
+    var zeroMap = ZeroUtility.newConcurrentZeroMap();
+    var row = ZeroUtility.newConcurrentZeroMap().putInteger("id", 1).putBoolean("online", true);
+    zeroMap.putZeroArray("rows", ZeroUtility.newZeroArray().addZeroMap(row).addZeroMap(row));
+    var running = new AtomicBoolean(true);
+    var writer = new Thread(() -> {
+      var index = 0;
+      while (running.get()) {
+        var key = "key-" + (index++ % 64);
+        zeroMap.putBoolean(key, index % 2 == 0);
+        zeroMap.removeElement("key-" + (index * 7 % 64));
+        if (index % 3 == 0) {
+          row.putString("name", key);
+        } else {
+          row.removeElement("name");
+        }
+      }
+    });
+
+    writer.start();
+    try {
+      for (int i = 0; i < 500; i++) {
+        var options = i % 2 == 0 ? new ZeroEncodingOption[0] : ZeroEncodingOption.values();
+        assertDoesNotThrow(
+            () -> ZeroUtility.binariesToMap(ZeroUtility.mapToBinaries(zeroMap, options)));
+        assertDoesNotThrow(zeroMap::toString);
+      }
+    } finally {
+      running.set(false);
+      writer.join();
+    }
+
+    var snapshot = zeroMap.snapshot();
+    assertEquals(snapshot.toString(),
+        ZeroUtility.binariesToMap(snapshot.toBinaries()).toString());
+  }
+}
@@ -0,0 +1,220 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.fragment.DataFragmenter;
+import com.tenio.common.data.fragment.DataReassembler;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Data Fragmentation")
+class DataFragmentTest {
+
+  private static ZeroMap newLargeZeroMap() {
+    var zeroMap = ZeroUtility.newZeroMap();
+    for (int i = 0; i < 300; i++) {
+      zeroMap.putString("key-" + i, "value-" + i);
+    }
+    return zeroMap;
+  }
+
+  @Test
+  @DisplayName("Every fragment should fit the datagram size")
+  void fragmentsShouldFitTheDatagramSize() {
+    var fragmenter = new DataFragmenter(512);
+    var binaries = newLargeZeroMap().toBinaries();
+    var fragments = fragmenter.fragment(DataType.ZERO, binaries);
+
+    assertEquals((binaries.length + 511 - DataFragmenter.HEADER_BYTES)
+        / (512 - DataFragmenter.HEADER_BYTES), fragments.size());
+    fragments.forEach(fragment -> assertTrue(fragment.length <= 512));
+    assertThrows(IllegalArgumentException.class,
+        () -> new DataFragmenter(DataFragmenter.HEADER_BYTES));
+  }
+
+  @Test
+  @DisplayName("Shuffled and duplicated fragments should be reassembled")
+  void shuffledFragmentsShouldBeReassembled() {
+    var zeroMap = newLargeZeroMap();
+    var fragments = new ArrayList<>(new DataFragmenter(256).fragment(zeroMap));
+    fragments.add(fragments.get(0));
+    fragments.add(fragments.get(fragments.size() - 2));
+    Collections.shuffle(fragments, new Random(123));
+
+    var reassembler = new DataReassembler();
+    DataCollection result = null;
+    for (var fragment : fragments) {
+      var collection = reassembler.accept(fragment);
+      if (collection != null) {
+        assertNull(result);
+        result = collection;
+      }
+    }
+
+    assertNotNull(result);
+    assertArrayEquals(zeroMap.toBinaries(), result.toBinaries());
+    assertEquals(0, reassembler.getPendingMessages());
+    assertEquals(0, reassembler.getPendingBytes());
+    assertEquals(1, reassembler.getCompletedMessages());
+  }
+
+  @Test
+  @DisplayName("Incomplete messages should expire after the timeout")
+  void incompleteMessagesShouldExpire() {
+    var fragments = new DataFragmenter(256).fragment(newLargeZeroMap());
+    var reassembler = new DataReassembler(1 << 20, 1 << 20, 1000L);
+
+    assertNull(reassembler.accept(ByteBuffer.wrap(fragments.get(0)), 0L));
+    assertEquals(1, reassembler.getPendingMessages());
+    reassembler.expire(1000L);
+
+    assertAll("incompleteMessagesShouldExpire",
+        () -> assertEquals(0, reassembler.getPendingMessages()),
+        () -> assertEquals(0, reassembler.getPendingBytes()),
+        () -> assertEquals(1, reassembler.getExpiredMessages()));
+  }
+
+  @Test
+  @DisplayName("The pending memory should be bounded")
+  void pendingMemoryShouldBeBounded() {
+    var fragmenter = new DataFragmenter(256);
+    var binaries = newLargeZeroMap().toBinaries();
+    var reassembler = new DataReassembler(binaries.length, binaries.length * 2L, 1000L);
+
+    for (int i = 0; i < 3; i++) {
+      reassembler.accept(ByteBuffer.wrap(fragmenter.fragment(DataType.ZERO, binaries).get(0)), 0L);
+    }
+    var tooLarge = new byte[binaries.length + 1];
+    reassembler.accept(ByteBuffer.wrap(fragmenter.fragment(DataType.ZERO, tooLarge).get(0)), 0L);
+
+    assertAll("pendingMemoryShouldBeBounded",
+        () -> assertEquals(2, reassembler.getPendingMessages()),
+        () -> assertEquals(binaries.length * 2L, reassembler.getPendingBytes()),
+        () -> assertEquals(1, reassembler.getEvictedMessages()),
+        () -> assertEquals(1, reassembler.getDroppedMessages()));
+  }
+
+  @Test
+  @DisplayName("Malformed fragments should be rejected")
+  void malformedFragmentsShouldBeRejected() {
+    var reassembler = new DataReassembler();
+
+    assertThrows(IllegalArgumentException.class, () -> reassembler.accept(new byte[] {1, 2, 3}));
+    assertThrows(IllegalArgumentException.class,
+        () -> reassembler.accept(new byte[DataFragmenter.HEADER_BYTES]));
+  }
+
+  @Test
+  @DisplayName("A last fragment which does not end the message should be rejected")
+  void misplacedLastFragmentShouldBeRejected() {
+    var fragments = new DataFragmenter(256).fragment(newLargeZeroMap());
+    var last = fragments.get(fragments.size() - 1);
+    var shortLast = Arrays.copyOf(last, last.length - 1);
+
+    var reassembler = new DataReassembler();
+    for (int i = 0; i < fragments.size() - 1; i++) {
+      assertNull(reassembler.accept(fragments.get(i)));
+    }
+    assertThrows(IllegalArgumentException.class, () -> reassembler.accept(shortLast));
+
+    var reversedReassembler = new DataReassembler();
+    assertNull(reversedReassembler.accept(shortLast));
+    assertThrows(IllegalArgumentException.class,
+        () -> reversedReassembler.accept(fragments.get(0)));
+
+    assertAll("misplacedLastFragmentShouldBeRejected",
+        () -> assertEquals(0, reassembler.getPendingMessages()),
+        () -> assertEquals(0, reassembler.getPendingBytes()),
+        () -> assertEquals(0, reassembler.getCompletedMessages()),
+        () -> assertEquals(0, reversedReassembler.getPendingMessages()),
+        () -> assertEquals(0, reversedReassembler.getPendingBytes()));
+  }
+
+  @Test
+  @DisplayName("Duplicated fragments of a completed message should be dropped")
+  void lateDuplicatesShouldBeDropped() {
+    var fragments = new DataFragmenter(256).fragment(newLargeZeroMap());
+    var reassembler = new DataReassembler(1 << 20, 1 << 20, 1000L);
+
+    for (var fragment : fragments) {
+      reassembler.accept(ByteBuffer.wrap(fragment), 0L);
+    }
+    assertNull(reassembler.accept(ByteBuffer.wrap(fragments.get(1)), 10L));
+    assertEquals(0, reassembler.getPendingMessages());
+
+    assertNull(reassembler.accept(ByteBuffer.wrap(fragments.get(1)), 1000L));
+    assertAll("lateDuplicatesShouldBeDropped",
+        () -> assertEquals(1, reassembler.getCompletedMessages()),
+        () -> assertEquals(1, reassembler.getPendingMessages()));
+  }
+
+  @Test
+  @DisplayName("Fragments sent over the loopback interface should be reassembled")
+  void fragmentsOverLoopbackShouldBeReassembled() throws Exception {
+    var zeroMap = newLargeZeroMap();
+    var fragmenter = new DataFragmenter();
+    var reassembler = new DataReassembler();
+
+    try (var receiver = DatagramChannel.open();
+         var sender = DatagramChannel.open()) {
+      receiver.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+      var target = receiver.getLocalAddress();
+      var fragments = fragmenter.fragment(zeroMap);
+      for (var fragment : fragments) {
+        sender.send(ByteBuffer.wrap(fragment), target);
+      }
+
+      var datagram = ByteBuffer.allocate(fragmenter.getDatagramBytes());
+      DataCollection result = null;
+      for (int i = 0; i < fragments.size(); i++) {
+        datagram.clear();
+        receiver.receive(datagram);
+        datagram.flip();
+        result = reassembler.accept(datagram, System.currentTimeMillis());
+      }
+
+      assertNotNull(result);
+      assertArrayEquals(zeroMap.toBinaries(), result.toBinaries());
+    }
+  }
+}
@@ -0,0 +1,252 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.journal.DataJournal;
+import com.tenio.common.data.journal.JournalReader;
+import com.tenio.common.data.journal.JournalSyncPolicy;
+import com.tenio.common.data.msgpack.MsgPackUtility;
+import com.tenio.common.data.msgpack.element.MsgPackMap;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Unit Test Cases For Data Journal")
+class DataJournalTest {
+
+  @TempDir
+  Path directory;
+
+  private static ZeroMap newMessage(int id) {
+    return ZeroUtility.newZeroMap().putInteger("id", id).putString("command", "move-" + id);
+  }
+
+  @Test
+  @DisplayName("Appended collections should be replayed in order")
+  void collectionsShouldBeReplayed() throws Exception {
+    var msgPackMap = MsgPackMap.newInstance().putInteger("id", 2).putString("command", "chat");
+    try (var journal = DataJournal.open(directory)) {
+      assertEquals(1, journal.append(newMessage(1)));
+      assertEquals(2, journal.append(msgPackMap));
+      assertEquals(3, journal.append(DataType.ZERO, newMessage(3).toBinaries()));
+      assertEquals(3, journal.getLastSequence());
+    }
+
+    try (var reader = JournalReader.open(directory)) {
+      var collections = new ArrayList<DataCollection>();
+      var types = new ArrayList<DataType>();
+      var payloadReadOnly = true;
+      while (reader.next()) {
+        assertEquals(collections.size() + 1, reader.getSequence());
+        collections.add(reader.getCollection());
+        types.add(reader.getType());
+        payloadReadOnly &= reader.getPayload().isReadOnly();
+      }
+      var readOnly = payloadReadOnly;
+
+      assertAll("collectionsShouldBeReplayed",
+          () -> assertEquals(3, collections.size()),
+          () -> assertEquals(DataType.MSG_PACK, types.get(1)),
+          () -> assertEquals(newMessage(1).toString(), collections.get(0).toString()),
+          () -> assertEquals(msgPackMap, collections.get(1)),
+          () -> assertEquals(newMessage(3).toString(), collections.get(2).toString()),
+          () -> assertEquals(msgPackMap, MsgPackUtility.deserialize(
+              ByteBuffer.wrap(MsgPackUtility.serialize(msgPackMap)))),
+          () -> assertTrue(readOnly)
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("Readers should seek records by sequence number and timestamp across segments")
+  void readersShouldSeekRecords() throws Exception {
+    try (var journal = DataJournal.open(directory, 4096, 512, JournalSyncPolicy.BATCH)) {
+      for (int i = 1; i <= 2000; i++) {
+        journal.append(DataType.ZERO, ByteBuffer.wrap(newMessage(i).toBinaries()), i * 10L);
+      }
+      // a record larger than the batch is written directly
+      journal.append(DataType.ZERO, ByteBuffer.wrap(ZeroUtility.newZeroMap()
+          .putString("large", "x".repeat(1000)).toBinaries()), 20010L);
+    }
+
+    try (var segments = Files.list(directory); var reader = JournalReader.open(directory)) {
+      var segmentCount = segments.filter(path -> path.toString().endsWith(".journal")).count();
+      reader.seekSequence(1234);
+      var bySequence = reader.next() ? reader.getSequence() : -1;
+      var bySequenceCollection = reader.getCollection().toString();
+      reader.seekTimestamp(7005L);
+      var byTimestamp = reader.next() ? reader.getTimestamp() : -1;
+      var byTimestampSequence = reader.getSequence();
+      reader.seekTimestamp(0L);
+      var first = reader.next() ? reader.getSequence() : -1;
+      reader.seekSequence(2001);
+      var large = reader.next() ? ((ZeroMap) reader.getCollection()).getString("large") : null;
+      var afterLast = reader.next();
+
+      assertAll("readersShouldSeekRecords",
+          () -> assertTrue(segmentCount > 10),
+          () -> assertEquals(1234, bySequence),
+          () -> assertEquals(newMessage(1234).toString(), bySequenceCollection),
+          () -> assertEquals(7010L, byTimestamp),
+          () -> assertEquals(701, byTimestampSequence),
+          () -> assertEquals(1, first),
+          () -> assertEquals("x".repeat(1000), large),
+          () -> assertFalse(afterLast)
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("An incomplete record should be dropped when the journal is opened again")
+  void incompleteRecordShouldBeDropped() throws Exception {
+    try (var journal = DataJournal.open(directory, 4096, 512, JournalSyncPolicy.NONE)) {
+      for (int i = 1; i <= 100; i++) {
+        journal.append(newMessage(i));
+      }
+    }
+    Path lastSegment;
+    try (var segments = Files.list(directory)) {
+      lastSegment = segments.filter(path -> path.toString().endsWith(".journal")).sorted()
+          .reduce((previous, next) -> next).orElseThrow();
+    }
+    Files.write(lastSegment, new byte[] {0, 0, 0, 20, 1, 2, 3}, StandardOpenOption.APPEND);
+
+    try (var journal = DataJournal.open(directory, 4096, 512, JournalSyncPolicy.NONE)) {
+      assertEquals(100, journal.getLastSequence());
+      assertEquals(101, journal.append(newMessage(101)));
+    }
+
+    try (var reader = JournalReader.open(directory)) {
+      var expected = 1L;
+      while (reader.next()) {
+        assertEquals(expected++, reader.getSequence());
+      }
+      assertEquals(102, expected);
+    }
+  }
+
+  @Test
+  @DisplayName("A torn indexed record should not make the journal reuse sequence numbers")
+  void tornIndexedRecordShouldBeDropped() throws Exception {
+    var payload = new byte[1000];
+    try (var journal = DataJournal.open(directory, 1 << 20, 64, JournalSyncPolicy.NONE)) {
+      for (int i = 0; i < 70; i++) {
+        journal.append(DataType.ZERO, payload);
+      }
+    }
+    var segment = findLastSegment();
+    var recordBytes = Files.size(segment) / 70;
+    var indexedRecords = (DataJournal.INDEX_INTERVAL_BYTES + recordBytes - 1) / recordBytes;
+    try (var channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+      channel.truncate(indexedRecords * recordBytes + 10);
+    }
+
+    try (var journal = DataJournal.open(directory, 1 << 20, 64, JournalSyncPolicy.NONE)) {
+      assertEquals(indexedRecords, journal.getLastSequence());
+      assertEquals(indexedRecords + 1, journal.append(DataType.ZERO, payload));
+    }
+
+    try (var reader = JournalReader.open(directory)) {
+      var expected = 1L;
+      while (reader.next()) {
+        assertEquals(expected++, reader.getSequence());
+      }
+      assertEquals(indexedRecords + 2, expected);
+    }
+  }
+
+  @Test
+  @DisplayName("Reopening with a smaller segment size should keep the written records")
+  void smallerSegmentSizeShouldKeepRecords() throws Exception {
+    try (var journal = DataJournal.open(directory, 1 << 20, 512, JournalSyncPolicy.NONE)) {
+      for (int i = 1; i <= 200; i++) {
+        journal.append(newMessage(i));
+      }
+    }
+
+    try (var journal = DataJournal.open(directory, 1024, 512, JournalSyncPolicy.NONE)) {
+      assertEquals(200, journal.getLastSequence());
+      assertEquals(201, journal.append(newMessage(201)));
+    }
+
+    try (var reader = JournalReader.open(directory)) {
+      var expected = 1L;
+      while (reader.next()) {
+        assertEquals(expected++, reader.getSequence());
+      }
+      assertEquals(202, expected);
+    }
+  }
+
+  private Path findLastSegment() throws Exception {
+    try (var segments = Files.list(directory)) {
+      return segments.filter(path -> path.toString().endsWith(".journal")).sorted()
+          .reduce((previous, next) -> next).orElseThrow();
+    }
+  }
+
+  @Test
+  @DisplayName("A reader should follow a journal which is still being written")
+  void readerShouldFollowJournal() throws Exception {
+    try (var journal = DataJournal.open(directory, 4096, 512, JournalSyncPolicy.NONE);
+         var reader = JournalReader.open(directory)) {
+      journal.append(newMessage(1));
+      var beforeFlush = reader.next();
+      journal.flush();
+      var afterFlush = reader.next() && reader.getSequence() == 1;
+      for (int i = 2; i <= 500; i++) {
+        journal.append(newMessage(i));
+      }
+      journal.flush();
+      var count = 1;
+      while (reader.next()) {
+        count++;
+      }
+      var readCount = count;
+
+      assertAll("readerShouldFollowJournal",
+          () -> assertFalse(beforeFlush),
+          () -> assertTrue(afterFlush),
+          () -> assertEquals(500, readCount),
+          () -> assertThrows(IllegalArgumentException.class,
+              () -> journal.append(DataType.ZERO, new byte[4096]))
+      );
+    }
+  }
+}
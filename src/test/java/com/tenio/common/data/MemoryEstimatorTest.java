@@ -0,0 +1,115 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.MemoryEstimator.Mode;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Memory Estimator")
+class MemoryEstimatorTest {
+
+  @Test
+  @DisplayName("A small zero map should be estimated by the compressed references layout")
+  void smallZeroMapShouldMatchLayout() {
+    var empty = ZeroUtility.newZeroMap();
+    var large = ZeroUtility.newZeroMap().putInteger("a", 1000);
+    var small = ZeroUtility.newZeroMap().putInteger("a", 1);
+
+    assertAll("smallZeroMapShouldMatchLayout",
+        () -> assertEquals(64, MemoryEstimator.estimate(empty)),
+        () -> assertEquals(264, MemoryEstimator.estimate(large)),
+        () -> assertEquals(264, MemoryEstimator.estimate(large, Mode.EXACT)),
+        () -> assertEquals(264, MemoryEstimator.estimate(small)),
+        () -> assertEquals(248, MemoryEstimator.estimate(small, Mode.EXACT))
+    );
+  }
+
+  @Test
+  @DisplayName("Shared objects should only be counted once in the exact mode")
+  void sharedObjectsShouldBeCountedOnceWhenExact() {
+    var shared = ZeroUtility.newZeroMap().putString("name", "shared value");
+    var zeroArray = ZeroUtility.newZeroArray();
+    for (int i = 0; i < 100; i++) {
+      zeroArray.addZeroMap(shared);
+    }
+
+    var approximate = MemoryEstimator.estimate(zeroArray);
+    var exact = MemoryEstimator.estimate(zeroArray, Mode.EXACT);
+    var single = MemoryEstimator.estimate(shared, Mode.EXACT);
+
+    assertAll("sharedObjectsShouldBeCountedOnceWhenExact",
+        () -> assertTrue(exact < approximate),
+        () -> assertTrue(approximate > 100 * single),
+        () -> assertTrue(exact < single + 100 * 32 + 1024)
+    );
+  }
+
+  @Test
+  @DisplayName("Strings out of Latin-1 should take two bytes per char in the exact mode")
+  void wideStringsShouldBeCountedWhenExact() {
+    var zeroMap = ZeroUtility.newZeroMap().putString("k", "你好你好你");
+
+    assertEquals(8, MemoryEstimator.estimate(zeroMap, Mode.EXACT)
+        - MemoryEstimator.estimate(zeroMap));
+  }
+
+  @Test
+  @DisplayName("Typed arrays should be estimated smaller than the generic ones")
+  void typedArrayShouldBeSmallerThanGenericArray() {
+    var typed = ZeroUtility.newTypedZeroArray(ZeroType.INTEGER);
+    var generic = ZeroUtility.newZeroArray();
+    for (int i = 0; i < 1000; i++) {
+      typed.addInteger(i + 1000);
+      generic.addInteger(i + 1000);
+    }
+
+    assertAll("typedArrayShouldBeSmallerThanGenericArray",
+        () -> assertEquals(24 + 16 + 4000, MemoryEstimator.estimate(typed)),
+        () -> assertTrue(MemoryEstimator.estimate(generic) > 40 * 1000)
+    );
+  }
+
+  @Test
+  @DisplayName("A msgpack map should be estimated with its nested values")
+  void msgPackMapShouldBeEstimated() {
+    var msgPackMap = DataUtility.newMsgMap();
+    msgPackMap.putIntegerArray("ints", new int[] {1, 2, 3});
+    var parent = DataUtility.newMsgMap();
+    parent.putMsgPackMap("child", msgPackMap);
+
+    assertAll("msgPackMapShouldBeEstimated",
+        () -> assertEquals(48 + 80 + 32 + 48 + 32, MemoryEstimator.estimate(msgPackMap)),
+        () -> assertEquals(48 + 80 + 32 + 48 + MemoryEstimator.estimate(msgPackMap),
+            MemoryEstimator.estimate(parent))
+    );
+  }
+}
@@ -0,0 +1,193 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.zero.ZeroArray;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.implement.IntegerZeroArrayImpl;
+import com.tenio.common.data.zero.implement.StringZeroArrayImpl;
+import com.tenio.common.data.zero.implement.TypedZeroArrayImpl;
+import com.tenio.common.data.zero.utility.ZeroEncodingOption;
+import com.tenio.common.data.zero.utility.ZeroJsonTranscoder;
+import com.tenio.common.data.zero.utility.ZeroMsgPackTranscoder;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Typed Zero Array")
+class TypedZeroArrayTest {
+
+  @Test
+  @DisplayName("Typed arrays should behave the same as the generic array")
+  void typedArrayShouldMatchGenericArray() {
+    var typed = ZeroUtility.newTypedZeroArray(ZeroType.INTEGER);
+    var generic = ZeroUtility.newZeroArray();
+    for (int i = 0; i < 100; i++) {
+      typed.addInteger(i);
+      generic.addInteger(i);
+    }
+    typed.removeElementAt(10);
+    generic.removeElementAt(10);
+
+    assertAll("typedArrayShouldMatchGenericArray",
+        () -> assertEquals(generic.toString(), typed.toString()),
+        () -> assertEquals(99, typed.size()),
+        () -> assertEquals(11, typed.getInteger(10)),
+        () -> assertEquals(ZeroType.INTEGER, typed.getZeroElement(0).getType()),
+        () -> assertTrue(typed.contains(50)),
+        () -> assertFalse(typed.contains(10)),
+        () -> assertFalse(typed.isNull(0)),
+        () -> assertTrue(typed.containsValueAt(98)),
+        () -> assertFalse(typed.containsValueAt(99)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> typed.getInteger(99)),
+        () -> assertThrows(ClassCastException.class, () -> typed.getLong(0)),
+        () -> assertEquals(generic.toString(), typed.getReadonlyZeroArray().toString())
+    );
+  }
+
+  @Test
+  @DisplayName("A value of another type should move the values to the generic storage")
+  void foreignValueShouldInflateTypedArray() {
+    var typed = (TypedZeroArrayImpl) ZeroUtility.newTypedZeroArray(ZeroType.DOUBLE);
+    typed.addDouble(1.5).addDouble(2.5);
+    var returned = typed.addString("tail");
+
+    assertAll("foreignValueShouldInflateTypedArray",
+        () -> assertSame(typed, returned),
+        () -> assertFalse(typed.isTyped()),
+        () -> assertEquals(3, typed.size()),
+        () -> assertEquals(2.5, typed.getDouble(1)),
+        () -> assertEquals("tail", typed.getString(2)),
+        () -> assertEquals(ZeroUtility.newZeroArray().addDouble(1.5).addDouble(2.5)
+            .addString("tail").toString(), typed.toString()),
+        () -> assertEquals(typed.toString(),
+            ZeroUtility.binariesToArray(typed.toBinaries()).toString())
+    );
+  }
+
+  @Test
+  @DisplayName("Typed arrays should be encoded compactly and decoded to typed arrays")
+  void typedArraysShouldRoundTrip() {
+    var scores = ZeroUtility.newTypedZeroArray(ZeroType.INTEGER);
+    for (int i = 0; i < 1000; i++) {
+      scores.addInteger(i * 7);
+    }
+    var zeroMap = ZeroUtility.newZeroMap().putZeroArray("scores", scores)
+        .putZeroArray("longs", ZeroUtility.newTypedZeroArray(ZeroType.LONG).addLong(1L << 40)
+            .setLong(0, 42L))
+        .putZeroArray("heights", ZeroUtility.newTypedZeroArray(ZeroType.FLOAT).addFloat(0.5f))
+        .putZeroArray("ratios", ZeroUtility.newTypedZeroArray(ZeroType.DOUBLE).addDouble(0.25))
+        .putZeroArray("names", ZeroUtility.newTypedZeroArray(ZeroType.STRING).addString("kong"));
+
+    var binaries = ZeroUtility.mapToBinaries(ZeroUtility.newZeroMap().putZeroArray("s", scores));
+    var decoded = ZeroUtility.binariesToMap(zeroMap.toBinaries());
+    var root = ZeroUtility.binariesToCollection(scores.toBinaries());
+
+    assertAll("typedArraysShouldRoundTrip",
+        () -> assertEquals(3 + 2 + 1 + 4 + 1000 * Integer.BYTES, binaries.length),
+        () -> assertEquals(zeroMap.toString(), decoded.toString()),
+        () -> assertInstanceOf(IntegerZeroArrayImpl.class, decoded.getZeroArray("scores")),
+        () -> assertEquals(6993, decoded.getZeroArray("scores").getInteger(999)),
+        () -> assertEquals(42L, decoded.getZeroArray("longs").getLong(0)),
+        () -> assertInstanceOf(IntegerZeroArrayImpl.class, root),
+        () -> assertEquals(scores.toString(), root.toString())
+    );
+  }
+
+  @Test
+  @DisplayName("Nested typed arrays should round trip by default and be transcoded")
+  void nestedTypedArraysShouldRoundTripByDefault() {
+    var scores = ZeroUtility.newTypedZeroArray(ZeroType.INTEGER).addInteger(1).addInteger(2);
+    var names = ZeroUtility.newTypedZeroArray(ZeroType.STRING).addString("kong");
+    var zeroMap = ZeroUtility.newZeroMap().putZeroArray("scores", scores)
+        .putZeroArray("names", names);
+
+    var binaries = zeroMap.toBinaries();
+    var decoded = ZeroUtility.binariesToMap(binaries);
+    var json = ZeroJsonTranscoder.binariesToJson(binaries);
+
+    assertAll("nestedTypedArraysShouldRoundTripByDefault",
+        () -> assertEquals(zeroMap, decoded),
+        () -> assertInstanceOf(IntegerZeroArrayImpl.class, decoded.getZeroArray("scores")),
+        () -> assertEquals(2, decoded.getZeroArray("scores").getInteger(1)),
+        () -> assertEquals("kong", decoded.getZeroArray("names").getString(0)),
+        () -> assertTrue(json.contains("\"scores\":[1,2]")),
+        () -> assertTrue(json.contains("\"names\":[\"kong\"]")),
+        () -> assertEquals(json, ZeroJsonTranscoder.binariesToJson(
+            ZeroMsgPackTranscoder.msgPackToBinaries(
+                ZeroMsgPackTranscoder.binariesToMsgPack(binaries))))
+    );
+  }
+
+  @Test
+  @DisplayName("Typed string arrays should reference the deduplicated strings")
+  void typedStringArrayShouldReferenceStrings() {
+    var names = ZeroUtility.newTypedZeroArray(ZeroType.STRING);
+    for (int i = 0; i < 10; i++) {
+      names.addString(i % 2 == 0 ? "alliance" : "horde");
+    }
+
+    var deduplicated = ZeroUtility.arrayToBinaries(names, ZeroEncodingOption.DEDUPLICATE_STRINGS);
+    var decoded = ZeroUtility.binariesToArray(deduplicated);
+
+    assertAll("typedStringArrayShouldReferenceStrings",
+        () -> assertTrue(deduplicated.length < names.toBinaries().length),
+        () -> assertInstanceOf(StringZeroArrayImpl.class, decoded),
+        () -> assertEquals(names.toString(), decoded.toString()),
+        () -> assertSame(decoded.getString(0), decoded.getString(2))
+    );
+  }
+
+  @Test
+  @DisplayName("Typed arrays should only be created for the supported types")
+  void unsupportedTypedArrayShouldThrowException() {
+    assertThrows(IllegalArgumentException.class,
+        () -> ZeroUtility.newTypedZeroArray(ZeroType.BOOLEAN));
+  }
+
+  @Test
+  @DisplayName("Elements of the same type should be kept typed until another type is added")
+  void matchingElementShouldStayTyped() {
+    var typed = (TypedZeroArrayImpl) ZeroUtility.newTypedZeroArray(ZeroType.STRING);
+    ZeroArray returned = typed.addZeroElement(ZeroUtility.newZeroElement(ZeroType.STRING, "a"));
+    typed.addStringArray(List.of("b"));
+
+    assertAll("matchingElementShouldStayTyped",
+        () -> assertSame(typed, returned),
+        () -> assertFalse(typed.isTyped()),
+        () -> assertEquals("a", typed.getString(0)),
+        () -> assertEquals(List.of("b"), typed.getStringArray(1))
+    );
+  }
+}
@@ -0,0 +1,179 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Versioned Zero Map")
+class VersionedZeroMapTest {
+
+  @Test
+  @DisplayName("A pinned version should not see later changes")
+  void pinnedVersionShouldBeIsolated() {
+    var zeroMap = ZeroUtility.newVersionedZeroMap();
+    zeroMap.putInteger("gold", 10).putString("name", "knight");
+    var beforeCommit = zeroMap.pin();
+    zeroMap.commit();
+
+    try (var first = zeroMap.pin()) {
+      zeroMap.putInteger("gold", 20).removeElement("name");
+      zeroMap.putBoolean("online", true);
+      var uncommitted = zeroMap.pin();
+      zeroMap.commit();
+      var second = zeroMap.pin();
+
+      assertAll("pinnedVersionShouldBeIsolated",
+          () -> assertEquals(0, beforeCommit.size()),
+          () -> assertEquals(1, first.getVersion()),
+          () -> assertEquals(10, first.getInteger("gold")),
+          () -> assertEquals("knight", first.getString("name")),
+          () -> assertFalse(first.containsKey("online")),
+          () -> assertEquals(2, first.size()),
+          () -> assertEquals(first.toString(), uncommitted.toString()),
+          () -> assertEquals(20, second.getInteger("gold")),
+          () -> assertNull(second.getString("name")),
+          () -> assertEquals(2, second.size()),
+          () -> assertEquals(20, zeroMap.getInteger("gold")),
+          () -> assertEquals(2, zeroMap.size()),
+          () -> assertEquals(2, zeroMap.getVersion())
+      );
+      uncommitted.close();
+      second.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Nested versioned maps should be pinned with their root")
+  void nestedMapsShouldBePinnedTogether() {
+    var zeroMap = ZeroUtility.newVersionedZeroMap();
+    var player = zeroMap.putVersionedZeroMap("player").putInteger("hp", 100);
+    zeroMap.putZeroArray("items", ZeroUtility.newZeroArray().addString("sword"));
+    zeroMap.commit();
+    var pinned = zeroMap.pin();
+
+    player.putInteger("hp", 50);
+    zeroMap.commit();
+    var plain = ZeroUtility.newZeroMap()
+        .putZeroMap("player", ZeroUtility.newZeroMap().putInteger("hp", 100))
+        .putZeroArray("items", ZeroUtility.newZeroArray().addString("sword"));
+
+    assertAll("nestedMapsShouldBePinnedTogether",
+        () -> assertEquals(100, pinned.getZeroMap("player").getInteger("hp")),
+        () -> assertEquals(50, zeroMap.getZeroMap("player").getInteger("hp")),
+        () -> assertEquals(ZeroUtility.binariesToMap(plain.toBinaries()).toString(),
+            ZeroUtility.binariesToMap(ZeroUtility.mapToBinaries(pinned)).toString()),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> zeroMap.putZeroMap("other", ZeroUtility.newVersionedZeroMap()))
+    );
+    pinned.close();
+    pinned.close();
+  }
+
+  @Test
+  @DisplayName("A pinned version should be read-only and kept until it is closed")
+  void pinnedVersionShouldBeKept() {
+    var zeroMap = ZeroUtility.newVersionedZeroMap();
+    zeroMap.putLong("tick", 0L);
+    zeroMap.commit();
+    var pinned = zeroMap.pin();
+
+    for (long tick = 1; tick <= 1000; tick++) {
+      zeroMap.putLong("tick", tick);
+      if (tick % 2 == 0) {
+        zeroMap.putLong("temporary", tick);
+      } else {
+        zeroMap.removeElement("temporary");
+      }
+      zeroMap.commit();
+    }
+
+    assertAll("pinnedVersionShouldBeKept",
+        () -> assertEquals(0L, pinned.getLong("tick")),
+        () -> assertFalse(pinned.containsKey("temporary")),
+        () -> assertEquals(1000L, zeroMap.getLong("tick")),
+        () -> assertEquals(1000L, zeroMap.getLong("temporary")),
+        () -> assertThrows(UnsupportedOperationException.class,
+            () -> pinned.putLong("tick", 1L)),
+        () -> assertThrows(UnsupportedOperationException.class,
+            () -> pinned.removeElement("tick"))
+    );
+    pinned.close();
+  }
+
+  @Test
+  @DisplayName("Readers should always see consistent versions while the writer commits")
+  void readersShouldSeeConsistentVersions() throws Exception {
+    var zeroMap = ZeroUtility.newVersionedZeroMap();
+    var stats = zeroMap.putVersionedZeroMap("stats");
+    zeroMap.putInteger("sent", 0);
+    stats.putInteger("received", 0);
+    zeroMap.commit();
+
+    var running = new AtomicBoolean(true);
+    var failure = new AtomicReference<String>();
+    var reader = new Thread(() -> {
+      while (running.get()) {
+        try (var pinned = zeroMap.pin()) {
+          var decoded = ZeroUtility.binariesToMap(pinned.toBinaries());
+          var sent = decoded.getInteger("sent");
+          var received = decoded.getZeroMap("stats").getInteger("received");
+          if (!sent.equals(received)) {
+            failure.set(String.format("sent: %d, received: %d", sent, received));
+          }
+        }
+      }
+    });
+
+    reader.start();
+    try {
+      for (int i = 1; i <= 20_000; i++) {
+        zeroMap.putInteger("sent", i);
+        stats.putInteger("received", i);
+        zeroMap.putString("scratch", "value");
+        zeroMap.removeElement("scratch");
+        zeroMap.commit();
+      }
+    } finally {
+      running.set(false);
+      reader.join();
+    }
+
+    assertAll("readersShouldSeeConsistentVersions",
+        () -> assertNull(failure.get()),
+        () -> assertTrue(zeroMap.getVersion() > 20_000)
+    );
+  }
+}
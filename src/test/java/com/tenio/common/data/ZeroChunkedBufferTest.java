@@ -0,0 +1,150 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroChunkedBuffer;
+import com.tenio.common.data.zero.utility.ZeroEncodingOption;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Chunked Buffer")
+class ZeroChunkedBufferTest {
+
+  @Test
+  @DisplayName("A large array should be encoded into chunks holding the same binaries")
+  void largeArrayShouldBeEncodedIntoChunks() {
+    var snapshot = ZeroUtility.newZeroArray();
+    for (int i = 0; i < 20_000; i++) {
+      snapshot.addZeroMap(ZeroUtility.newZeroMap().putInteger("id", i)
+          .putString("name", "player-" + i % 100));
+    }
+    var expected = snapshot.toBinaries();
+
+    try (var chunkedBuffer = ZeroUtility.arrayToChunkedBuffer(snapshot)) {
+      var gathered = new ByteArrayOutputStream();
+      for (var buffer : chunkedBuffer.toByteBuffers()) {
+        var binaries = new byte[buffer.remaining()];
+        buffer.get(binaries);
+        gathered.writeBytes(binaries);
+      }
+
+      assertAll("largeArrayShouldBeEncodedIntoChunks",
+          () -> assertEquals(expected.length, chunkedBuffer.size()),
+          () -> assertEquals((expected.length + ZeroChunkedBuffer.CHUNK_BYTES - 1)
+              / ZeroChunkedBuffer.CHUNK_BYTES, chunkedBuffer.getChunkCount()),
+          () -> assertArrayEquals(expected, gathered.toByteArray()),
+          () -> assertArrayEquals(expected, chunkedBuffer.toBinaries()),
+          () -> assertEquals(snapshot, ZeroUtility.binariesToArray(chunkedBuffer.toBinaries()))
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("A chunked map should honour encoding options and reject use after closing")
+  void chunkedMapShouldHonourOptions() {
+    var map = ZeroUtility.newZeroMap();
+    for (int i = 0; i < 10_000; i++) {
+      map.putString("key-" + i, "value-" + i % 10);
+    }
+    var expected = ZeroUtility.mapToBinaries(map, ZeroEncodingOption.DEDUPLICATE_STRINGS);
+    var chunkedBuffer =
+        ZeroUtility.mapToChunkedBuffer(map, ZeroEncodingOption.DEDUPLICATE_STRINGS);
+    var binaries = chunkedBuffer.toBinaries();
+    chunkedBuffer.close();
+
+    assertAll("chunkedMapShouldHonourOptions",
+        () -> assertEquals(0, chunkedBuffer.getChunkCount()),
+        () -> assertArrayEquals(expected, binaries),
+        () -> assertThrows(IllegalStateException.class, chunkedBuffer::toBinaries)
+    );
+  }
+
+  @Test
+  @DisplayName("Large arrays and columns should be written in slices holding the same binaries")
+  void largeArraysAndColumnsShouldBeWrittenInSlices() {
+    var integers = new ArrayList<Integer>();
+    var doubles = new ArrayList<Double>();
+    var strings = new ArrayList<String>();
+    var typed = ZeroUtility.newTypedZeroArray(ZeroType.LONG);
+    for (int i = 0; i < 50_000; i++) {
+      integers.add(i);
+      doubles.add(i * 0.5);
+      strings.add("player-" + i);
+      typed.addLong(i);
+    }
+    strings.add("x".repeat(20_000));
+    var leaderboard = ZeroUtility.newZeroArray();
+    for (int i = 0; i < 5_000; i++) {
+      leaderboard.addZeroMap(ZeroUtility.newZeroMap().putLong("score", i)
+          .putString("name", "player-" + i));
+    }
+    var map = ZeroUtility.newZeroMap().putIntegerArray("integers", integers)
+        .putDoubleArray("doubles", doubles).putStringArray("strings", strings)
+        .putZeroArray("typed", typed).putZeroArray("leaderboard", leaderboard);
+    var expected = ZeroUtility.mapToBinaries(map, ZeroEncodingOption.COLUMNAR_ARRAYS);
+
+    try (var chunkedBuffer =
+             ZeroUtility.mapToChunkedBuffer(map, ZeroEncodingOption.COLUMNAR_ARRAYS)) {
+      var binaries = chunkedBuffer.toBinaries();
+
+      assertAll("largeArraysAndColumnsShouldBeWrittenInSlices",
+          () -> assertArrayEquals(expected, binaries),
+          () -> assertEquals(map, ZeroUtility.binariesToMap(binaries))
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("Large blobs and strings should be split over the chunks")
+  void largeBlobsAndStringsShouldBeSplit() {
+    var blob = new byte[3 << 20];
+    for (int i = 0; i < blob.length; i++) {
+      blob[i] = (byte) i;
+    }
+    var map = ZeroUtility.newZeroMap().putByteArray("blob", blob)
+        .putString("text", "ö".repeat(1 << 20)).putString("name", "knight");
+    var expected = map.toBinaries();
+
+    try (var chunkedBuffer = ZeroUtility.mapToChunkedBuffer(map)) {
+      var binaries = chunkedBuffer.toBinaries();
+
+      assertAll("largeBlobsAndStringsShouldBeSplit",
+          () -> assertTrue(chunkedBuffer.getChunkCount() > 1),
+          () -> assertArrayEquals(expected, binaries),
+          () -> assertEquals(map, ZeroUtility.binariesToMap(binaries))
+      );
+    }
+  }
+}
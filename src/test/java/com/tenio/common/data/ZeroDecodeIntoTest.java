@@ -0,0 +1,175 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.zero.ZeroArray;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.implement.IntegerZeroArrayImpl;
+import com.tenio.common.data.zero.utility.ZeroEncodingOption;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Decode Into")
+class ZeroDecodeIntoTest {
+
+  private static ZeroMap newMessage(int tick) {
+    var position = ZeroUtility.newZeroMap().putFloat("x", tick * 0.5f).putFloat("y", -tick);
+    var items = new IntegerZeroArrayImpl(new int[] {tick, tick + 1, tick + 2});
+    var players = ZeroUtility.newZeroArray();
+    for (int i = 0; i < 3; i++) {
+      players.addZeroMap(ZeroUtility.newZeroMap().putString("name", "player-" + i)
+          .putInteger("score", tick * i).putBoolean("alive", i % 2 == 0));
+    }
+
+    return ZeroUtility.newZeroMap()
+        .putInteger("tick", tick)
+        .putString("room", "lobby")
+        .putZeroMap("position", position)
+        .putZeroArray("items", items)
+        .putZeroArray("players", players)
+        .putByteArray("checksum", new byte[] {(byte) tick, 1, 2, 3})
+        .putIntegerArray("ids", List.of(tick, 7, 9));
+  }
+
+  @Test
+  @DisplayName("Decoding into a map should refill nested collections in place")
+  void decodeIntoMapShouldReuseNestedCollections() {
+    var target = ZeroUtility.binariesToMap(newMessage(1).toBinaries());
+    var position = target.getZeroMap("position");
+    var items = target.getZeroArray("items");
+    var players = target.getZeroArray("players");
+    var player = players.getZeroMap(0);
+    var checksum = target.getByteArray("checksum");
+
+    var message = newMessage(2);
+    assertSame(target, ZeroUtility.decodeInto(target, message.toBinaries()));
+
+    assertAll("decodeIntoMapShouldReuseNestedCollections",
+        () -> assertEquals(ZeroUtility.binariesToMap(message.toBinaries()), target),
+        () -> assertEquals(message, target),
+        () -> assertSame(position, target.getZeroMap("position")),
+        () -> assertSame(items, target.getZeroArray("items")),
+        () -> assertSame(players, target.getZeroArray("players")),
+        () -> assertSame(player, target.getZeroArray("players").getZeroMap(0)),
+        () -> assertSame(checksum, target.getByteArray("checksum")),
+        () -> assertArrayEquals(new byte[] {2, 1, 2, 3}, checksum),
+        () -> assertEquals(2, items.getInteger(0)),
+        () -> assertEquals(1.0f, position.getFloat("x"))
+    );
+  }
+
+  @Test
+  @DisplayName("Decoding into a map should drop keys which are not in the payload")
+  void decodeIntoMapShouldRemoveStaleKeys() {
+    var target = newMessage(1).putString("stale", "value");
+    target.getZeroMap("position").putLong("stale", 1L);
+    var position = target.getZeroMap("position");
+
+    var message = newMessage(3);
+    ZeroUtility.decodeInto(target, ByteBuffer.wrap(message.toBinaries()));
+
+    assertAll("decodeIntoMapShouldRemoveStaleKeys",
+        () -> assertEquals(message, target),
+        () -> assertFalse(target.containsKey("stale")),
+        () -> assertFalse(target.getZeroMap("position").containsKey("stale")),
+        () -> assertFalse(position.containsKey("stale")),
+        () -> assertSame(position, target.getZeroMap("position"))
+    );
+  }
+
+  @Test
+  @DisplayName("Decoding into an array should resize it to the payload")
+  void decodeIntoArrayShouldResize() {
+    var longer = ZeroUtility.newZeroArray().addInteger(1).addString("two")
+        .addZeroMap(ZeroUtility.newZeroMap().putInteger("three", 3)).addDouble(4.0);
+    var shorter = ZeroUtility.newZeroArray().addInteger(5)
+        .addZeroMap(ZeroUtility.newZeroMap().putInteger("six", 6));
+
+    var target = ZeroUtility.newZeroArray();
+    ZeroUtility.decodeInto(target, longer.toBinaries());
+    var nested = target.getZeroMap(2);
+    ZeroUtility.decodeInto(target, longer.toBinaries());
+    var reused = target.getZeroMap(2);
+    ZeroUtility.decodeInto(target, shorter.toBinaries());
+
+    assertAll("decodeIntoArrayShouldResize",
+        () -> assertSame(nested, reused),
+        () -> assertEquals(shorter, target),
+        () -> assertEquals(2, target.size()),
+        () -> assertEquals(ZeroUtility.newZeroArray(), ZeroUtility.decodeInto(target,
+            ZeroUtility.newZeroArray().toBinaries()))
+    );
+  }
+
+  @Test
+  @DisplayName("Decoding into a typed array should keep its typed storage")
+  void decodeIntoTypedArrayShouldKeepStorage() {
+    ZeroArray target = new IntegerZeroArrayImpl();
+    var source = new IntegerZeroArrayImpl(new int[] {4, 8, 15, 16, 23, 42});
+
+    ZeroUtility.decodeInto(target, source.toBinaries());
+
+    assertAll("decodeIntoTypedArrayShouldKeepStorage",
+        () -> assertEquals(source, target),
+        () -> assertEquals(6, target.size()),
+        () -> assertTrue(((IntegerZeroArrayImpl) target).isTyped())
+    );
+  }
+
+  @Test
+  @DisplayName("Decoding into a map should match a fresh decoding for every encoding option")
+  void decodeIntoShouldMatchEveryOption() {
+    var target = ZeroUtility.newZeroMap();
+    for (var option : ZeroEncodingOption.values()) {
+      for (int tick = 0; tick < 3; tick++) {
+        var binaries = ZeroUtility.mapToBinaries(newMessage(tick), option);
+        ZeroUtility.decodeInto(target, binaries);
+        assertEquals(ZeroUtility.binariesToMap(binaries), target, option.toString());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Decoding into an instance should reject too short payloads")
+  void decodeIntoShouldRejectShortPayloads() {
+    assertAll("decodeIntoShouldRejectShortPayloads",
+        () -> assertThrows(IllegalStateException.class,
+            () -> ZeroUtility.decodeInto(ZeroUtility.newZeroMap(), new byte[] {0})),
+        () -> assertThrows(IllegalStateException.class,
+            () -> ZeroUtility.decodeInto(ZeroUtility.newZeroArray(), new byte[] {0}))
+    );
+  }
+}
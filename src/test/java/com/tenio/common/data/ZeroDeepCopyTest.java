@@ -0,0 +1,98 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.zero.ConcurrentZeroMap;
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.implement.IntegerZeroArrayImpl;
+import com.tenio.common.data.zero.implement.ZeroQuantizedElementImpl;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Deep Copy")
+class ZeroDeepCopyTest {
+
+  @Test
+  @DisplayName("A deep copy of a map should not share mutable state")
+  void mapDeepCopyShouldNotShareMutableState() {
+    var scores = new ArrayList<>(List.of(1, 2, 3));
+    var original = ZeroUtility.newZeroMap()
+        .putString("name", "room")
+        .putIntegerArray("scores", scores)
+        .putByteArray("bytes", new byte[] {1, 2})
+        .putQuantizedFloat("speed", 1.5f, new ZeroQuantization(0.0f, 4.0f, 8))
+        .putZeroMap("nested", ZeroUtility.newZeroMap().putInteger("level", 1))
+        .putZeroArray("items", ZeroUtility.newZeroArray().addZeroMap(
+            ZeroUtility.newZeroMap().putString("kind", "sword")));
+    var copy = original.deepCopy();
+    var equalBeforeChanges = original.equals(copy);
+
+    scores.add(4);
+    original.getByteArray("bytes")[0] = 9;
+    original.getZeroMap("nested").putInteger("level", 2);
+    original.getZeroArray("items").getZeroMap(0).putString("kind", "shield");
+
+    assertAll("mapDeepCopyShouldNotShareMutableState",
+        () -> assertTrue(equalBeforeChanges),
+        () -> assertSame(original.getString("name"), copy.getString("name")),
+        () -> assertSame(original.getZeroElement("name"), copy.getZeroElement("name")),
+        () -> assertEquals(List.of(1, 2, 3), copy.getIntegerArray("scores")),
+        () -> assertArrayEquals(new byte[] {1, 2}, copy.getByteArray("bytes")),
+        () -> assertInstanceOf(ZeroQuantizedElementImpl.class, copy.getZeroElement("speed")),
+        () -> assertEquals(1, copy.getZeroMap("nested").getInteger("level")),
+        () -> assertEquals("sword", copy.getZeroArray("items").getZeroMap(0).getString("kind")),
+        () -> assertNotEquals(original, copy)
+    );
+  }
+
+  @Test
+  @DisplayName("A deep copy should keep the kind of collection")
+  void deepCopyShouldKeepCollectionKind() {
+    var concurrent = ZeroUtility.newConcurrentZeroMap().putInteger("count", 1);
+    var typed = new IntegerZeroArrayImpl(new int[] {1, 2, 3});
+    var typedCopy = typed.deepCopy();
+    typed.addInteger(4);
+
+    assertAll("deepCopyShouldKeepCollectionKind",
+        () -> assertInstanceOf(ConcurrentZeroMap.class, concurrent.deepCopy()),
+        () -> assertEquals(concurrent, concurrent.deepCopy()),
+        () -> assertInstanceOf(IntegerZeroArrayImpl.class, typedCopy),
+        () -> assertEquals(3, typedCopy.size()),
+        () -> assertNotSame(typed, typedCopy)
+    );
+  }
+}
@@ -0,0 +1,296 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenio.common.data.zero.ZeroArray;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroEncodingOption;
+import com.tenio.common.data.zero.utility.ZeroJsonTranscoder;
+import com.tenio.common.data.zero.utility.ZeroMsgPackTranscoder;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@DisplayName("Unit Test Cases For Zero Encoding Option")
+class ZeroEncodingOptionTest {
+
+  private static final int FLAGS = 32;
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @AfterEach
+  void resetDefaultEncodingOptions() {
+    ZeroUtility.setDefaultEncodingOptions();
+  }
+
+  @Test
+  @DisplayName("Packed boolean arrays should be decoded to the same values with fewer bytes")
+  void packedBooleanArrayShouldRoundTrip() {
+    var booleans = new ArrayList<Boolean>();
+    for (int i = 0; i < 100; i++) {
+      booleans.add(i % 3 == 0);
+    }
+    var zeroMap = ZeroUtility.newZeroMap().putBooleanArray("bits", booleans)
+        .putBooleanArray("empty", List.of());
+
+    var plain = ZeroUtility.mapToBinaries(zeroMap);
+    var packed = ZeroUtility.mapToBinaries(zeroMap, ZeroEncodingOption.PACK_BOOLEAN_ARRAYS);
+    var decoded = ZeroUtility.binariesToMap(packed);
+
+    assertAll("packedBooleanArrayShouldRoundTrip",
+        () -> assertEquals(plain.length - 100 + 13, packed.length),
+        () -> assertEquals(booleans, decoded.getBooleanArray("bits")),
+        () -> assertTrue(decoded.getBooleanArray("empty").isEmpty()),
+        () -> assertEquals(ZeroUtility.binariesToMap(plain).toString(), decoded.toString())
+    );
+  }
+
+  @Test
+  @DisplayName("Packed boolean fields should be decoded to the same map with fewer bytes")
+  void packedBooleanFieldsShouldRoundTrip() {
+    var zeroMap = newEntityState();
+
+    var plain = ZeroUtility.mapToBinaries(zeroMap);
+    var packed = ZeroUtility.mapToBinaries(zeroMap, ZeroEncodingOption.PACK_BOOLEAN_FIELDS);
+    var decoded = ZeroUtility.binariesToMap(packed);
+
+    assertAll("packedBooleanFieldsShouldRoundTrip",
+        () -> assertEquals(plain.length - FLAGS * 2 + 5 + FLAGS / 8, packed.length),
+        () -> assertEquals(zeroMap.size(), decoded.size()),
+        () -> assertTrue(decoded.getBoolean("flag0")),
+        () -> assertFalse(decoded.getBoolean("flag1")),
+        () -> assertEquals(7, decoded.getInteger("id")),
+        () -> assertEquals(ZeroUtility.binariesToMap(plain).toString(), decoded.toString())
+    );
+  }
+
+  @Test
+  @DisplayName("Optional encodings should apply to nested collections")
+  void optionsShouldApplyToNestedCollections() {
+    var zeroArray = ZeroUtility.newZeroArray().addZeroMap(newEntityState())
+        .addBooleanArray(List.of(true, false, true));
+    var zeroMap = ZeroUtility.newZeroMap().putZeroArray("entities", zeroArray);
+
+    var plain = ZeroUtility.mapToBinaries(zeroMap);
+    var packed = ZeroUtility.mapToBinaries(zeroMap, ZeroEncodingOption.values());
+    var decoded = ZeroUtility.binariesToMap(packed);
+
+    assertAll("optionsShouldApplyToNestedCollections",
+        () -> assertTrue(packed.length < plain.length),
+        () -> assertEquals(ZeroUtility.binariesToMap(plain).toString(), decoded.toString())
+    );
+  }
+
+  @Test
+  @DisplayName("A few boolean fields should not be packed when it does not save any byte")
+  void fewBooleanFieldsShouldNotBePacked() {
+    var zeroMap = ZeroUtility.newZeroMap().putBoolean("a", true).putBoolean("b", false)
+        .putBoolean("c", true).putString("name", "kong");
+
+    assertArrayEquals(ZeroUtility.mapToBinaries(zeroMap),
+        ZeroUtility.mapToBinaries(zeroMap, ZeroEncodingOption.PACK_BOOLEAN_FIELDS));
+  }
+
+  @Test
+  @DisplayName("Deduplicated strings should be decoded to shared instances with fewer bytes")
+  void deduplicatedStringsShouldRoundTrip() {
+    var zeroArray = ZeroUtility.newZeroArray();
+    for (int i = 0; i < 100; i++) {
+      zeroArray.addZeroMap(ZeroUtility.newZeroMap().putInteger("id", i)
+          .putString("faction", i % 2 == 0 ? "alliance" : "horde")
+          .putString("name", "player" + i)
+          .putStringArray("status", List.of("poisoned", "stunned")));
+    }
+    zeroArray.addString("ab").addString("ab");
+
+    var plain = ZeroUtility.arrayToBinaries(zeroArray);
+    var deduplicated =
+        ZeroUtility.arrayToBinaries(zeroArray, ZeroEncodingOption.DEDUPLICATE_STRINGS);
+    var decoded = (ZeroArray) ZeroUtility.binariesToCollection(deduplicated);
+
+    assertAll("deduplicatedStringsShouldRoundTrip",
+        () -> assertTrue(deduplicated.length < plain.length),
+        () -> assertEquals(ZeroUtility.binariesToArray(plain).toString(), decoded.toString()),
+        () -> assertSame(decoded.getZeroMap(0).getString("faction"),
+            decoded.getZeroMap(2).getString("faction")),
+        () -> assertSame(decoded.getZeroMap(0).getStringArray("status").iterator().next(),
+            decoded.getZeroMap(99).getStringArray("status").iterator().next()),
+        () -> assertEquals("ab", decoded.getString(101))
+    );
+  }
+
+  @Test
+  @DisplayName("A payload without repeated strings should not get a string table")
+  void uniqueStringsShouldNotBeDeduplicated() {
+    var zeroMap = ZeroUtility.newZeroMap().putString("a", "alliance").putString("b", "horde")
+        .putStringArray("c", List.of("x", "x"));
+
+    assertArrayEquals(ZeroUtility.mapToBinaries(zeroMap),
+        ZeroUtility.mapToBinaries(zeroMap, ZeroEncodingOption.DEDUPLICATE_STRINGS));
+  }
+
+  @Test
+  @DisplayName("Columnar arrays should be decoded to the same maps with fewer bytes")
+  void columnarArraysShouldRoundTrip() {
+    var leaderboard = newLeaderboard(500);
+
+    var plain = ZeroUtility.arrayToBinaries(leaderboard);
+    var columnar = ZeroUtility.arrayToBinaries(leaderboard, ZeroEncodingOption.COLUMNAR_ARRAYS);
+    var decoded = (ZeroArray) ZeroUtility.binariesToCollection(columnar);
+
+    assertAll("columnarArraysShouldRoundTrip",
+        () -> assertTrue(columnar.length < plain.length / 2),
+        () -> assertEquals(ZeroUtility.binariesToArray(plain).toString(), decoded.toString()),
+        () -> assertEquals(499L, decoded.getZeroMap(499).getLong("score")),
+        () -> assertEquals(0.5f, decoded.getZeroMap(1).getFloat("ratio"))
+    );
+  }
+
+  @Test
+  @DisplayName("Columnar arrays should reference the deduplicated strings")
+  void columnarArraysShouldReferenceStrings() {
+    var zeroMap = ZeroUtility.newZeroMap().putZeroArray("leaderboard", newLeaderboard(100));
+
+    var columnar = ZeroUtility.mapToBinaries(zeroMap, ZeroEncodingOption.COLUMNAR_ARRAYS);
+    var both = ZeroUtility.mapToBinaries(zeroMap, ZeroEncodingOption.COLUMNAR_ARRAYS,
+        ZeroEncodingOption.DEDUPLICATE_STRINGS);
+    var decoded = ZeroUtility.binariesToMap(both);
+
+    assertAll("columnarArraysShouldReferenceStrings",
+        () -> assertTrue(both.length < columnar.length),
+        () -> assertEquals(zeroMap.toString(), decoded.toString()),
+        () -> assertSame(decoded.getZeroArray("leaderboard").getZeroMap(1).getString("guild"),
+            decoded.getZeroArray("leaderboard").getZeroMap(2).getString("guild"))
+    );
+  }
+
+  @Test
+  @DisplayName("Arrays of different maps should keep the plain encoding")
+  void heterogeneousArraysShouldNotBeColumnar() {
+    var zeroArray = ZeroUtility.newZeroArray()
+        .addZeroMap(ZeroUtility.newZeroMap().putInteger("id", 1))
+        .addZeroMap(ZeroUtility.newZeroMap().putLong("id", 2L));
+    var nested = ZeroUtility.newZeroArray()
+        .addZeroMap(ZeroUtility.newZeroMap().putZeroMap("child", ZeroUtility.newZeroMap()))
+        .addZeroMap(ZeroUtility.newZeroMap().putZeroMap("child", ZeroUtility.newZeroMap()));
+
+    assertAll("heterogeneousArraysShouldNotBeColumnar",
+        () -> assertArrayEquals(ZeroUtility.arrayToBinaries(zeroArray),
+            ZeroUtility.arrayToBinaries(zeroArray, ZeroEncodingOption.COLUMNAR_ARRAYS)),
+        () -> assertArrayEquals(ZeroUtility.arrayToBinaries(nested),
+            ZeroUtility.arrayToBinaries(nested, ZeroEncodingOption.COLUMNAR_ARRAYS))
+    );
+  }
+
+  @Test
+  @DisplayName("Default encoding options should be applied by the collection itself")
+  void defaultEncodingOptionsShouldBeApplied() {
+    var zeroMap = newEntityState();
+    var plain = zeroMap.toBinaries();
+
+    ZeroUtility.setDefaultEncodingOptions(ZeroEncodingOption.PACK_BOOLEAN_FIELDS);
+
+    assertAll("defaultEncodingOptionsShouldBeApplied",
+        () -> assertTrue(ZeroUtility.getDefaultEncodingOptions()
+            .contains(ZeroEncodingOption.PACK_BOOLEAN_FIELDS)),
+        () -> assertArrayEquals(
+            ZeroUtility.mapToBinaries(zeroMap, ZeroEncodingOption.PACK_BOOLEAN_FIELDS),
+            zeroMap.toBinaries()),
+        () -> assertTrue(zeroMap.toBinaries().length < plain.length)
+    );
+  }
+
+  @ParameterizedTest
+  @EnumSource(ZeroEncodingOption.class)
+  @DisplayName("Transcoders should expand every optional encoding to the plain values")
+  void transcodersShouldExpandOptionalEncodings(ZeroEncodingOption option)
+      throws JsonProcessingException {
+    var zeroMap = newEntityState().putZeroArray("leaderboard", newLeaderboard(20))
+        .putBooleanArray("bits", List.of(true, false, true, true))
+        .putStringArray("status", List.of("poisoned", "poisoned", "stunned"))
+        .putZeroArray("scores", ZeroUtility.newTypedZeroArray(ZeroType.INTEGER).addInteger(3)
+            .addInteger(5));
+    var leaderboard = newLeaderboard(20);
+
+    var plainMap = ZeroUtility.mapToBinaries(zeroMap);
+    var encodedMap = ZeroUtility.mapToBinaries(zeroMap, option);
+    var plainArray = ZeroUtility.arrayToBinaries(leaderboard);
+    var encodedArray = ZeroUtility.arrayToBinaries(leaderboard, option);
+
+    assertAll("transcodersShouldExpandOptionalEncodings",
+        () -> assertEquals(toJsonTree(plainMap), toJsonTree(encodedMap)),
+        () -> assertEquals(toJsonTree(plainArray), toJsonTree(encodedArray)),
+        () -> assertEquals(toMsgPackTree(plainMap), toMsgPackTree(encodedMap)),
+        () -> assertEquals(toMsgPackTree(plainArray), toMsgPackTree(encodedArray))
+    );
+  }
+
+  private JsonNode toJsonTree(byte[] binaries) throws JsonProcessingException {
+    return MAPPER.readTree(ZeroJsonTranscoder.binariesToJson(binaries));
+  }
+
+  private JsonNode toMsgPackTree(byte[] binaries) throws JsonProcessingException {
+    return toJsonTree(ZeroMsgPackTranscoder.msgPackToBinaries(
+        ZeroMsgPackTranscoder.binariesToMsgPack(binaries)));
+  }
+
+  private ZeroArray newLeaderboard(int rows) {
+    var zeroArray = ZeroUtility.newZeroArray();
+    for (int i = 0; i < rows; i++) {
+      zeroArray.addZeroMap(ZeroUtility.newZeroMap().putInteger("rank", i + 1)
+          .putLong("score", i).putString("name", "player" + i)
+          .putString("guild", i % 3 == 0 ? "knights" : "rangers").putBoolean("online", i % 2 == 0)
+          .putByte("level", (byte) i).putShort("wins", (short) i).putFloat("ratio", i / 2f)
+          .putDouble("exp", i * 1.5).putHalfFloat("speed", 1.5f));
+    }
+
+    return zeroArray;
+  }
+
+  private ZeroMap newEntityState() {
+    var zeroMap = ZeroUtility.newZeroMap().putInteger("id", 7).putString("name", "kong");
+    for (int i = 0; i < FLAGS; i++) {
+      zeroMap.putBoolean("flag" + i, i % 2 == 0);
+    }
+
+    return zeroMap;
+  }
+}
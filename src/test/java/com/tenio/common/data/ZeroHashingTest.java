@@ -0,0 +1,108 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.implement.IntegerZeroArrayImpl;
+import com.tenio.common.data.zero.utility.ZeroHashing;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Hashing")
+class ZeroHashingTest {
+
+  @Test
+  @DisplayName("Maps with the same content should be equal regardless of key order")
+  void mapsShouldBeStructurallyEqual() {
+    var first = ZeroUtility.newZeroMap();
+    var second = ZeroUtility.newConcurrentZeroMap();
+    for (int i = 0; i < 50; i++) {
+      first.putInteger("key-" + i, i);
+      second.putInteger("key-" + (49 - i), 49 - i);
+    }
+    first.putByteArray("bytes", new byte[] {1, 2, 3})
+        .putZeroMap("nested", ZeroUtility.newZeroMap().putStringArray("tags", List.of("a", "b")));
+    second.putByteArray("bytes", new byte[] {1, 2, 3})
+        .putZeroMap("nested", ZeroUtility.newZeroMap().putStringArray("tags", List.of("a", "b")));
+    var decoded = ZeroUtility.binariesToMap(first.toBinaries());
+
+    assertAll("mapsShouldBeStructurallyEqual",
+        () -> assertEquals(first, second),
+        () -> assertEquals(first.hashCode(), second.hashCode()),
+        () -> assertEquals(first, decoded),
+        () -> assertEquals(first.hashCode(), decoded.hashCode()),
+        () -> assertEquals(ZeroHashing.fingerprint(first), ZeroHashing.fingerprint(decoded)),
+        () -> assertNotEquals(first, decoded.putInteger("key-0", 1)),
+        () -> assertNotEquals(ZeroUtility.newZeroMap().putInteger("value", 1),
+            ZeroUtility.newZeroMap().putLong("value", 1L)),
+        () -> assertNotEquals(ZeroUtility.newZeroMap().putFloat("value", 1.0f),
+            ZeroUtility.newZeroMap().putQuantizedFloat("value", 1.0f,
+                new ZeroQuantization(0.0f, 2.0f, 8)))
+    );
+  }
+
+  @Test
+  @DisplayName("Typed and generic arrays with the same values should be equal")
+  void arraysShouldBeStructurallyEqual() {
+    var typed = new IntegerZeroArrayImpl(new int[] {1, 2, 3});
+    var generic = ZeroUtility.newZeroArray().addInteger(1).addInteger(2).addInteger(3);
+
+    assertAll("arraysShouldBeStructurallyEqual",
+        () -> assertEquals(typed, generic),
+        () -> assertEquals(generic, typed),
+        () -> assertEquals(typed.hashCode(), generic.hashCode()),
+        () -> assertNotEquals(typed, ZeroUtility.newZeroArray().addInteger(3).addInteger(2)
+            .addInteger(1)),
+        () -> assertNotEquals(typed, generic.addInteger(4))
+    );
+  }
+
+  @Test
+  @DisplayName("The xxHash64 should match the reference values")
+  void xxHash64ShouldMatchReferenceValues() {
+    var binaries = new byte[100];
+    for (int i = 0; i < binaries.length; i++) {
+      binaries[i] = (byte) i;
+    }
+    var buffer = ByteBuffer.allocateDirect(binaries.length).put(binaries).flip();
+
+    assertAll("xxHash64ShouldMatchReferenceValues",
+        () -> assertEquals(0xEF46DB3751D8E999L, ZeroHashing.xxHash64(new byte[0], 0L)),
+        () -> assertEquals(0x44BC2CF5AD770999L,
+            ZeroHashing.xxHash64("abc".getBytes(StandardCharsets.UTF_8), 0L)),
+        () -> assertEquals(0x6AC1E58032166597L, ZeroHashing.xxHash64(binaries, 0L)),
+        () -> assertEquals(0x819D2B726001D507L, ZeroHashing.xxHash64(buffer, 42L)),
+        () -> assertEquals(0, buffer.position())
+    );
+  }
+}
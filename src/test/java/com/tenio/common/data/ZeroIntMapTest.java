@@ -0,0 +1,139 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.zero.ZeroIntMap;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroJsonTranscoder;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Int Map")
+class ZeroIntMapTest {
+
+  private static ZeroIntMap newPlayer() {
+    return ZeroUtility.newZeroIntMap()
+        .putInteger(1, 1001)
+        .putString(2, "knight")
+        .putFloat(3, 0.5f)
+        .putBoolean(4, true)
+        .putIntegerArray(5, List.of(1, 2, 3))
+        .putZeroMap(6, ZeroUtility.newZeroMap().putLong("gold", 300L))
+        .putZeroIntMap(300, ZeroUtility.newZeroIntMap().putShort(0, (short) 7))
+        .putNull(7);
+  }
+
+  @Test
+  @DisplayName("Values should be read back by their field IDs")
+  void valuesShouldBeReadByFieldIds() {
+    var player = newPlayer();
+
+    assertAll("valuesShouldBeReadByFieldIds",
+        () -> assertEquals(8, player.size()),
+        () -> assertEquals(1001, player.getInteger(1)),
+        () -> assertEquals("knight", player.getString(2)),
+        () -> assertEquals(0.5f, player.getFloat(3)),
+        () -> assertTrue(player.getBoolean(4)),
+        () -> assertEquals(300L, player.getZeroMap(6).getLong("gold")),
+        () -> assertEquals((short) 7, player.getZeroIntMap(300).getShort(0)),
+        () -> assertTrue(player.isNull(7)),
+        () -> assertNull(player.getString(8)),
+        () -> assertFalse(player.containsKey(-1)),
+        () -> assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6, 7, 300}, player.getKeys())
+    );
+  }
+
+  @Test
+  @DisplayName("Negative field IDs should be rejected")
+  void negativeFieldIdsShouldBeRejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> ZeroUtility.newZeroIntMap().putInteger(-1, 0));
+  }
+
+  @Test
+  @DisplayName("Puts and removals of colliding field IDs should behave like a hash map")
+  void collidingFieldIdsShouldBehaveLikeHashMap() {
+    var random = new Random(48);
+    var expected = new HashMap<Integer, Integer>();
+    var map = ZeroUtility.newZeroIntMap();
+    for (int i = 0; i < 20_000; i++) {
+      var key = random.nextInt(64) * 1024 + random.nextInt(4);
+      if (random.nextInt(3) == 0) {
+        assertEquals(expected.remove(key) != null, map.removeElement(key));
+      } else {
+        expected.put(key, i);
+        map.putInteger(key, i);
+      }
+    }
+
+    assertEquals(expected.size(), map.size());
+    expected.forEach((key, value) -> assertEquals(value, map.getInteger(key)));
+  }
+
+  @Test
+  @DisplayName("Int maps should be encoded with varint field IDs and decoded equally")
+  void intMapsShouldRoundTrip() {
+    var player = newPlayer();
+    var binaries = player.toBinaries();
+    var holder = ZeroUtility.newZeroMap().putZeroElement("player",
+        ZeroUtility.newZeroElement(ZeroType.ZERO_INT_MAP, player));
+    var small = ZeroUtility.newZeroIntMap().putByte(5, (byte) 1);
+
+    assertAll("intMapsShouldRoundTrip",
+        () -> assertEquals(player, ZeroUtility.binariesToIntMap(binaries)),
+        () -> assertEquals(player, ZeroUtility.binariesToCollection(binaries)),
+        () -> assertEquals(holder, ZeroUtility.binariesToMap(holder.toBinaries())),
+        () -> assertArrayEquals(new byte[] {23, 1, 5, 2, 1}, small.toBinaries()),
+        () -> assertEquals("{\"5\":1}", ZeroJsonTranscoder.binariesToJson(small.toBinaries()))
+    );
+  }
+
+  @Test
+  @DisplayName("A deep copy should be equal and share no nested collections")
+  void deepCopyShouldBeEqual() {
+    var player = newPlayer();
+    var copy = player.deepCopy();
+
+    assertAll("deepCopyShouldBeEqual",
+        () -> assertEquals(player, copy),
+        () -> assertEquals(player.hashCode(), copy.hashCode()),
+        () -> assertNotSame(player.getZeroMap(6), copy.getZeroMap(6)),
+        () -> assertNotSame(player.getZeroIntMap(300), copy.getZeroIntMap(300))
+    );
+  }
+}
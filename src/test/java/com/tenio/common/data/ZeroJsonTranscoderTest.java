@@ -0,0 +1,142 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.NumericInference;
+import com.tenio.common.data.zero.utility.ZeroJsonTranscoder;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Json Transcoder")
+class ZeroJsonTranscoderTest {
+
+  private static final String JSON = """
+      {"name":"kong","level":12,"exp":9876543210,"ratio":0.25,"active":true,"guild":null,
+      "items":[1,"sword",{"id":7,"tags":["rare","epic"]}],"empty":{}}
+      """;
+
+  @Test
+  @DisplayName("Throw an exception when the class's instance is attempted creating")
+  void createNewInstanceShouldThrowException() throws NoSuchMethodException {
+    var constructor = ZeroJsonTranscoder.class.getDeclaredConstructor();
+    assertTrue(Modifier.isPrivate(constructor.getModifiers()));
+    assertThrows(InvocationTargetException.class, () -> {
+      constructor.setAccessible(true);
+      constructor.newInstance();
+    });
+  }
+
+  @Test
+  @DisplayName("Converting a JSON document to binaries should give the expected zero map")
+  void jsonToBinariesShouldMatchZeroMap() {
+    var zeroMap = ZeroUtility.binariesToMap(ZeroJsonTranscoder.jsonToBinaries(JSON));
+    var items = zeroMap.getZeroArray("items");
+
+    assertAll("jsonToBinariesShouldMatchZeroMap",
+        () -> assertEquals("kong", zeroMap.getString("name")),
+        () -> assertEquals(12, zeroMap.getInteger("level")),
+        () -> assertEquals(9876543210L, zeroMap.getLong("exp")),
+        () -> assertEquals(0.25, zeroMap.getDouble("ratio")),
+        () -> assertTrue(zeroMap.getBoolean("active")),
+        () -> assertTrue(zeroMap.isNull("guild")),
+        () -> assertEquals(0, zeroMap.getZeroMap("empty").size()),
+        () -> assertEquals(1, items.getInteger(0)),
+        () -> assertEquals("sword", items.getString(1)),
+        () -> assertEquals(7, items.getZeroMap(2).getInteger("id")),
+        () -> assertEquals("rare", items.getZeroMap(2).getZeroArray("tags").getString(0))
+    );
+  }
+
+  @Test
+  @DisplayName("Numeric inference strategies should choose the expected types")
+  void numericInferenceShouldChooseExpectedTypes() {
+    var json = "[1,300,70000,9876543210,0.5,0.1]";
+    var compact = ZeroUtility.binariesToArray(
+        ZeroJsonTranscoder.jsonToBinaries(json, NumericInference.COMPACT));
+    var widest = ZeroUtility.binariesToArray(
+        ZeroJsonTranscoder.jsonToBinaries(json, NumericInference.WIDEST));
+
+    assertAll("numericInferenceShouldChooseExpectedTypes",
+        () -> assertEquals(ZeroType.BYTE, compact.getZeroElement(0).getType()),
+        () -> assertEquals(ZeroType.SHORT, compact.getZeroElement(1).getType()),
+        () -> assertEquals(ZeroType.INTEGER, compact.getZeroElement(2).getType()),
+        () -> assertEquals(ZeroType.LONG, compact.getZeroElement(3).getType()),
+        () -> assertEquals(ZeroType.FLOAT, compact.getZeroElement(4).getType()),
+        () -> assertEquals(ZeroType.DOUBLE, compact.getZeroElement(5).getType()),
+        () -> assertEquals(ZeroType.LONG, widest.getZeroElement(0).getType()),
+        () -> assertEquals(ZeroType.DOUBLE, widest.getZeroElement(4).getType())
+    );
+  }
+
+  @Test
+  @DisplayName("Converting binaries to JSON and back should keep the document")
+  void jsonRoundTripShouldKeepTheDocument() throws Exception {
+    var objectMapper = new ObjectMapper();
+    var binaries = ZeroJsonTranscoder.jsonToBinaries(JSON);
+
+    assertEquals(objectMapper.readTree(JSON),
+        objectMapper.readTree(ZeroJsonTranscoder.binariesToJson(binaries)));
+  }
+
+  @Test
+  @DisplayName("Converting a zero map with primitive collections to JSON should work")
+  void zeroMapToJsonShouldWork() throws Exception {
+    var zeroMap = ZeroUtility.newZeroMap()
+        .putIntegerArray("i", List.of(1, 2, 3))
+        .putStringArray("s", List.of("a", "b"))
+        .putBooleanArray("b", List.of(true, false))
+        .putByteArray("r", new byte[] {1, 2, 3})
+        .putFloat("f", 1.5f);
+    var tree = new ObjectMapper().readTree(ZeroJsonTranscoder.binariesToJson(zeroMap.toBinaries()));
+
+    assertAll("zeroMapToJsonShouldWork",
+        () -> assertEquals("[1,2,3]", tree.get("i").toString()),
+        () -> assertEquals("[\"a\",\"b\"]", tree.get("s").toString()),
+        () -> assertEquals("[true,false]", tree.get("b").toString()),
+        () -> assertArrayEquals(new byte[] {1, 2, 3}, tree.get("r").binaryValue()),
+        () -> assertEquals(1.5, tree.get("f").doubleValue())
+    );
+  }
+
+  @Test
+  @DisplayName("It should throw exceptions when the root is not a collection")
+  void invalidRootShouldThrowException() {
+    assertThrows(IllegalStateException.class, () -> ZeroJsonTranscoder.jsonToBinaries("42"));
+    assertThrows(UnsupportedOperationException.class,
+        () -> ZeroJsonTranscoder.binariesToJson(new byte[] {(byte) ZeroType.STRING.getValue()}));
+  }
+}
@@ -0,0 +1,147 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.msgpack.MsgPackUtility;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.NumericInference;
+import com.tenio.common.data.zero.utility.ZeroMsgPackTranscoder;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessagePack;
+
+@DisplayName("Unit Test Cases For Zero MsgPack Transcoder")
+class ZeroMsgPackTranscoderTest {
+
+  @Test
+  @DisplayName("Throw an exception when the class's instance is attempted creating")
+  void createNewInstanceShouldThrowException() throws NoSuchMethodException {
+    var constructor = ZeroMsgPackTranscoder.class.getDeclaredConstructor();
+    assertTrue(Modifier.isPrivate(constructor.getModifiers()));
+    assertThrows(InvocationTargetException.class, () -> {
+      constructor.setAccessible(true);
+      constructor.newInstance();
+    });
+  }
+
+  @Test
+  @DisplayName("Converting MsgPack binaries should give the expected zero map")
+  void msgPackToBinariesShouldMatchZeroMap() {
+    var msgPackMap = MsgPackUtility.newMsgPackMap()
+        .putBoolean("b", true)
+        .putInteger("i", 100)
+        .putFloat("f", 1.5f)
+        .putString("s", "kong")
+        .putNull("n")
+        .putIntegerArray("ia", new int[] {1, 2, 3})
+        .putMsgPackMap("m", MsgPackUtility.newMsgPackMap().putString("x", "y"));
+    var zeroMap =
+        ZeroUtility.binariesToMap(ZeroMsgPackTranscoder.msgPackToBinaries(msgPackMap.toBinaries()));
+
+    assertAll("msgPackToBinariesShouldMatchZeroMap",
+        () -> assertTrue(zeroMap.getBoolean("b")),
+        () -> assertEquals(100, zeroMap.getInteger("i")),
+        () -> assertEquals(1.5f, zeroMap.getFloat("f")),
+        () -> assertEquals("kong", zeroMap.getString("s")),
+        () -> assertTrue(zeroMap.isNull("n")),
+        () -> assertEquals(3, zeroMap.getZeroArray("ia").getInteger(2)),
+        () -> assertEquals("y", zeroMap.getZeroMap("m").getString("x"))
+    );
+  }
+
+  @Test
+  @DisplayName("Converting zero binaries should give the expected MsgPack map")
+  void binariesToMsgPackShouldMatchMsgPackMap() {
+    var zeroMap = ZeroUtility.newZeroMap()
+        .putBoolean("b", false)
+        .putInteger("i", 42)
+        .putString("s", "zero")
+        .putIntegerArray("ia", List.of(4, 5, 6))
+        .putZeroMap("m", ZeroUtility.newZeroMap().putFloat("f", 2.5f));
+    var msgPackMap =
+        MsgPackUtility.deserialize(ZeroMsgPackTranscoder.binariesToMsgPack(zeroMap.toBinaries()));
+
+    assertAll("binariesToMsgPackShouldMatchMsgPackMap",
+        () -> assertEquals(false, msgPackMap.getBoolean("b")),
+        () -> assertEquals(42, msgPackMap.getInteger("i")),
+        () -> assertEquals("zero", msgPackMap.getString("s")),
+        () -> assertArrayEquals(new int[] {4, 5, 6}, msgPackMap.getIntegerArray("ia")),
+        () -> assertEquals(2.5f, msgPackMap.getMsgPackMap("m").getFloat("f"))
+    );
+  }
+
+  @Test
+  @DisplayName("Converting zero binaries to MsgPack and back should keep the data")
+  void roundTripShouldKeepTheData() {
+    var zeroArray = ZeroUtility.newZeroArray()
+        .addNull()
+        .addInteger(7)
+        .addLong(9876543210L)
+        .addDouble(0.1)
+        .addFloat(0.5f)
+        .addString("text")
+        .addByteArray(new byte[] {1, 2, 3})
+        .addZeroMap(ZeroUtility.newZeroMap().putString("k", "v"));
+    var binaries = zeroArray.toBinaries();
+
+    assertArrayEquals(binaries,
+        ZeroMsgPackTranscoder.msgPackToBinaries(ZeroMsgPackTranscoder.binariesToMsgPack(binaries)));
+  }
+
+  @Test
+  @DisplayName("Numeric inference should be applied on MsgPack integers")
+  void numericInferenceShouldBeApplied() throws Exception {
+    var packer = MessagePack.newDefaultBufferPacker();
+    packer.packArrayHeader(2).packInt(5).packInt(70000);
+    var zeroArray = ZeroUtility.binariesToArray(
+        ZeroMsgPackTranscoder.msgPackToBinaries(packer.toByteArray(), NumericInference.COMPACT));
+
+    assertEquals(ZeroType.BYTE, zeroArray.getZeroElement(0).getType());
+    assertEquals(ZeroType.INTEGER, zeroArray.getZeroElement(1).getType());
+  }
+
+  @Test
+  @DisplayName("It should throw exceptions when the root is not a collection")
+  void invalidRootShouldThrowException() throws Exception {
+    var packer = MessagePack.newDefaultBufferPacker();
+    packer.packInt(1);
+    var binaries = packer.toByteArray();
+
+    assertThrows(IllegalStateException.class,
+        () -> ZeroMsgPackTranscoder.msgPackToBinaries(binaries));
+    assertThrows(UnsupportedOperationException.class,
+        () -> ZeroMsgPackTranscoder.binariesToMsgPack(new byte[] {(byte) 1}));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.zero.utility.ZeroPayloadProfile;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Payload Profile")
+class ZeroPayloadProfileTest {
+
+  @AfterEach
+  void clearProfiles() {
+    ZeroPayloadProfile.clearProfiles();
+  }
+
+  @Test
+  @DisplayName("Percentiles should be within 12.5% above the recorded sizes")
+  void percentilesShouldBeBounded() {
+    var profile = ZeroPayloadProfile.of("position");
+    for (int i = 1; i <= 1000; i++) {
+      profile.record(i);
+    }
+
+    assertAll("percentilesShouldBeBounded",
+        () -> assertEquals(1000, profile.getCount()),
+        () -> assertEquals(500_500, profile.getTotalBytes()),
+        () -> assertEquals(500.5, profile.getMeanBytes()),
+        () -> assertEquals(1000, profile.getMaxBytes()),
+        () -> assertEquals(1, profile.getPercentile(0)),
+        () -> assertTrue(profile.getPercentile(0.5) >= 500
+            && profile.getPercentile(0.5) <= 500 * 1.125),
+        () -> assertTrue(profile.getPercentile(0.99) >= 990),
+        () -> assertEquals(1000, profile.getPercentile(1)),
+        () -> assertEquals(1000, profile.getHistogram().values().stream()
+            .mapToLong(Long::longValue).sum()),
+        () -> assertThrows(IllegalArgumentException.class, () -> profile.getPercentile(2)),
+        () -> assertThrows(IllegalArgumentException.class, () -> profile.record(-1))
+    );
+  }
+
+  @Test
+  @DisplayName("The initial capacity should follow the 99th percentile after enough samples")
+  void initialCapacityShouldFollowPercentile() {
+    var profile = ZeroPayloadProfile.of("snapshot");
+    for (int i = 1; i < ZeroPayloadProfile.MIN_SAMPLES; i++) {
+      profile.record(4096);
+    }
+    var beforeSamples = profile.getInitialCapacity();
+    for (int i = 0; i < ZeroPayloadProfile.MIN_SAMPLES; i++) {
+      profile.record(4096);
+    }
+    profile.record(Integer.MAX_VALUE);
+
+    assertAll("initialCapacityShouldFollowPercentile",
+        () -> assertEquals(0, beforeSamples),
+        () -> assertTrue(profile.getInitialCapacity() >= 4096
+            && profile.getInitialCapacity() <= 4096 * 1.125),
+        () -> assertEquals(Integer.MAX_VALUE, profile.getPercentile(1))
+    );
+  }
+
+  @Test
+  @DisplayName("Profiled encodings should be recorded and produce the same binaries")
+  void profiledEncodingsShouldBeRecorded() {
+    var profile = ZeroPayloadProfile.of("inventory");
+    var map = ZeroUtility.newZeroMap().putStringArray("items", List.of("sword", "shield"));
+    var array = ZeroUtility.newZeroArray().addInteger(1);
+    var intMap = ZeroUtility.newZeroIntMap().putLong(1, 2L);
+    for (int i = 0; i < ZeroPayloadProfile.MIN_SAMPLES; i++) {
+      ZeroUtility.mapToBinaries(map, profile);
+    }
+    var mapBinaries = ZeroUtility.mapToBinaries(map, profile);
+
+    assertAll("profiledEncodingsShouldBeRecorded",
+        () -> assertArrayEquals(map.toBinaries(), mapBinaries),
+        () -> assertArrayEquals(array.toBinaries(), ZeroUtility.arrayToBinaries(array, profile)),
+        () -> assertArrayEquals(intMap.toBinaries(),
+            ZeroUtility.intMapToBinaries(intMap, profile)),
+        () -> assertEquals(ZeroPayloadProfile.MIN_SAMPLES + 3, profile.getCount()),
+        () -> assertEquals(mapBinaries.length, profile.getInitialCapacity()),
+        () -> assertSame(profile, ZeroPayloadProfile.getProfiles().get("inventory"))
+    );
+  }
+}
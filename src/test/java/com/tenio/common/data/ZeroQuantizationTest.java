@@ -0,0 +1,162 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroJsonTranscoder;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Quantization")
+class ZeroQuantizationTest {
+
+  private static final ZeroQuantization POSITION =
+      ZeroQuantization.newInstanceWithPrecision(-1000f, 1000f, 0.01f);
+
+  @Test
+  @DisplayName("Invalid ranges and numbers of bits should be rejected")
+  void invalidQuantizationShouldThrowException() {
+    assertAll("invalidQuantizationShouldThrowException",
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> new ZeroQuantization(1f, 1f, 8)),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> new ZeroQuantization(0f, Float.NaN, 8)),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> new ZeroQuantization(0f, 1f, 0)),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> new ZeroQuantization(0f, 1f, ZeroQuantization.MAX_BITS + 1)),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> ZeroQuantization.newInstanceWithPrecision(0f, 1f, 0f)),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> ZeroQuantization.newInstanceWithPrecision(0f, 1e9f, 1e-6f))
+    );
+  }
+
+  @Test
+  @DisplayName("A quantization made from a precision should keep that precision")
+  void quantizationShouldKeepPrecision() {
+    var quantization = new ZeroQuantization(0f, 10f, 8);
+
+    assertAll("quantizationShouldKeepPrecision",
+        () -> assertEquals(17, POSITION.getBits()),
+        () -> assertTrue(POSITION.getPrecision() <= 0.01f),
+        () -> assertEquals(-1000f, POSITION.dequantize(POSITION.quantize(-1000f))),
+        () -> assertEquals(1000f, POSITION.dequantize(POSITION.quantize(1000f))),
+        () -> assertEquals(0, quantization.quantize(-5f)),
+        () -> assertEquals(0, quantization.quantize(Float.NaN)),
+        () -> assertEquals(255, quantization.quantize(20f)),
+        () -> assertEquals(new ZeroQuantization(0f, 10f, 8), quantization)
+    );
+  }
+
+  @Test
+  @DisplayName("Half-precision floats should be decoded within their precision")
+  void halfFloatsShouldRoundTrip() {
+    var values = List.of(0f, 1.5f, -2.25f, 3.14159f, 65504f);
+    var zeroMap = ZeroUtility.newZeroMap().putHalfFloat("speed", 12.345f)
+        .putHalfFloatArray("velocity", values)
+        .putZeroArray("array", ZeroUtility.newZeroArray().addHalfFloat(0.1f));
+    var binaries = zeroMap.toBinaries();
+    var decoded = ZeroUtility.binariesToMap(binaries);
+
+    assertAll("halfFloatsShouldRoundTrip",
+        () -> assertEquals(ZeroType.HALF_FLOAT, decoded.getZeroElement("speed").getType()),
+        () -> assertEquals(12.345f, decoded.getFloat("speed"), 0.01f),
+        () -> assertEquals(List.of(0f, 1.5f, -2.25f, 3.140625f, 65504f),
+            decoded.getFloatArray("velocity")),
+        () -> assertEquals(0.1f, decoded.getZeroArray("array").getFloat(0), 0.0001f),
+        () -> assertEquals(3 + 2 + "speed".length() + 3
+            + 2 + "velocity".length() + 3 + values.size() * 2
+            + 2 + "array".length() + 3 + 3, binaries.length)
+    );
+  }
+
+  @Test
+  @DisplayName("Quantized floats should be decoded within their precision using packed bits")
+  void quantizedFloatsShouldRoundTrip() {
+    var values = new ArrayList<Float>();
+    for (int i = 0; i < 100; i++) {
+      values.add(-1000f + i * 19.87f);
+    }
+    var zeroMap = ZeroUtility.newZeroMap().putQuantizedFloat("x", 123.456f, POSITION)
+        .putQuantizedFloatArray("path", values, POSITION)
+        .putQuantizedFloatArray("empty", List.of(), POSITION);
+    var binaries = zeroMap.toBinaries();
+    var decoded = ZeroUtility.binariesToMap(binaries);
+    var path = new ArrayList<>(decoded.getFloatArray("path"));
+
+    assertAll("quantizedFloatsShouldRoundTrip",
+        () -> assertEquals(123.456f, decoded.getFloat("x"), 0.01f),
+        () -> assertEquals(values.size(), path.size()),
+        () -> {
+          for (int i = 0; i < values.size(); i++) {
+            assertEquals(values.get(i), path.get(i), 0.01f);
+          }
+        },
+        () -> assertTrue(decoded.getFloatArray("empty").isEmpty()),
+        () -> assertEquals(3 + 2 + "x".length() + 10 + 3
+            + 2 + "path".length() + 12 + (100 * 17 + 7) / 8
+            + 2 + "empty".length() + 12, binaries.length),
+        () -> assertEquals(zeroMap.getZeroElement("path").toString().replace(
+            values.toString(), path.toString()), decoded.getZeroElement("path").toString())
+    );
+  }
+
+  @Test
+  @DisplayName("Quantized elements without any quantization should not be encoded")
+  void quantizedElementWithoutQuantizationShouldThrowException() {
+    var zeroMap = ZeroUtility.newZeroMap().putZeroElement("x",
+        ZeroUtility.newZeroElement(ZeroType.QUANTIZED_FLOAT, 1f));
+
+    assertThrows(IllegalArgumentException.class, zeroMap::toBinaries);
+  }
+
+  @Test
+  @DisplayName("Compact float types should be transcoded to plain JSON numbers")
+  void compactFloatsShouldBeTranscodedToJson() throws Exception {
+    var zeroMap = ZeroUtility.newZeroMap().putHalfFloat("half", 1.5f)
+        .putHalfFloatArray("halves", List.of(0.5f, 2f))
+        .putQuantizedFloat("x", 250f, new ZeroQuantization(0f, 1000f, 10))
+        .putQuantizedFloatArray("xs", List.of(0f, 1000f), new ZeroQuantization(0f, 1000f, 10));
+    var json = new ObjectMapper().readTree(ZeroJsonTranscoder.binariesToJson(zeroMap.toBinaries()));
+
+    assertAll("compactFloatsShouldBeTranscodedToJson",
+        () -> assertEquals(1.5, json.get("half").asDouble()),
+        () -> assertEquals(2.0, json.get("halves").get(1).asDouble()),
+        () -> assertEquals(250.0, json.get("x").asDouble(), 0.5),
+        () -> assertEquals(1000.0, json.get("xs").get(1).asDouble())
+    );
+  }
+}
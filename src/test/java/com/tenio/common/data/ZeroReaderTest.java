@@ -0,0 +1,370 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.zero.ZeroArray;
+import com.tenio.common.data.zero.ZeroElement;
+import com.tenio.common.data.zero.ZeroIntMap;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroEncodingOption;
+import com.tenio.common.data.zero.utility.ZeroReader;
+import com.tenio.common.data.zero.utility.ZeroToken;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Reader")
+class ZeroReaderTest {
+
+  private static final byte[] SCORE_KEY = "score".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  @DisplayName("Reading the plain encoding should visit the same content as decoding")
+  void plainEncodingShouldBeRead() {
+    var binaries = newPayload().toBinaries();
+
+    assertEquals(ZeroUtility.binariesToMap(binaries).toString(),
+        readMap(new ZeroReader(binaries)).toString());
+  }
+
+  @Test
+  @DisplayName("Reading the optional encodings should visit the same content as decoding")
+  void optionalEncodingsShouldBeRead() {
+    var binaries = ZeroUtility.mapToBinaries(newPayload(), ZeroEncodingOption.values());
+
+    assertEquals(ZeroUtility.binariesToMap(binaries).toString(),
+        readMap(new ZeroReader(binaries)).toString());
+  }
+
+  @Test
+  @DisplayName("Keys should be matched against binaries and other values should be skipped")
+  void keysShouldBeMatchedAndValuesSkipped() {
+    var zeroMap = ZeroUtility.newZeroMap()
+        .putZeroArray("leaderboard", newLeaderboard(10))
+        .putZeroMap("profile", ZeroUtility.newZeroMap().putInteger("score", -1))
+        .putInteger("score", 42);
+
+    for (var binaries : List.of(zeroMap.toBinaries(),
+        ZeroUtility.mapToBinaries(zeroMap, ZeroEncodingOption.values()))) {
+      var reader = new ZeroReader(binaries);
+      var score = 0;
+      assertEquals(ZeroToken.START_MAP, reader.nextToken());
+      assertEquals(3, reader.currentSize());
+      while (reader.nextToken() != ZeroToken.END_MAP) {
+        if (reader.currentKeyEquals(SCORE_KEY)) {
+          score = reader.readInt();
+        } else {
+          reader.skipValue();
+        }
+      }
+
+      assertEquals(42, score);
+      assertNull(reader.nextToken());
+    }
+  }
+
+  @Test
+  @DisplayName("Int maps should be read with their field IDs and skipped as a whole")
+  void intMapsShouldBeReadAndSkipped() {
+    var intMap = ZeroUtility.newZeroIntMap().putString(1, "sword").putInteger(300, 7)
+        .putZeroIntMap(5000, ZeroUtility.newZeroIntMap().putBoolean(0, true));
+    var zeroMap = ZeroUtility.newZeroMap()
+        .putString("a", "x")
+        .putZeroElement("im", ZeroUtility.newZeroElement(ZeroType.ZERO_INT_MAP, intMap))
+        .putInteger("z", 1);
+    var skipping = new ZeroReader(zeroMap.toBinaries());
+    var values = new ArrayList<Object>();
+    skipping.nextToken();
+    while (skipping.nextToken() != ZeroToken.END_MAP) {
+      if (skipping.currentType() == ZeroType.ZERO_INT_MAP) {
+        skipping.skipValue();
+      } else {
+        values.add(readElement(skipping).getData());
+      }
+    }
+    var reading = new ZeroReader(ZeroUtility.intMapToBinaries(intMap));
+
+    assertAll("intMapsShouldBeReadAndSkipped",
+        () -> assertEquals(List.of("x", 1), values),
+        () -> assertNull(skipping.nextToken()),
+        () -> assertEquals(ZeroToken.START_INT_MAP, reading.nextToken()),
+        () -> assertEquals(3, reading.currentSize()),
+        () -> assertEquals(intMap, readIntMapContent(reading)),
+        () -> assertEquals(-1, reading.currentFieldId()),
+        () -> assertNull(reading.nextToken())
+    );
+  }
+
+  @Test
+  @DisplayName("Numeric values should be widened and decoded when reading")
+  void numericValuesShouldBeConverted() {
+    var quantization = new ZeroQuantization(0f, 100f, 16);
+    var zeroArray = ZeroUtility.newZeroArray()
+        .addByte((byte) -5)
+        .addFloat(1.25f)
+        .addQuantizedFloat(33.3f, quantization)
+        .addQuantizedFloatArray(List.of(1f, 50f, 99f), quantization)
+        .addString("text");
+    var reader = new ZeroReader().reset(ByteBuffer.wrap(zeroArray.toBinaries()));
+
+    assertAll("numericValuesShouldBeConverted",
+        () -> assertEquals(ZeroToken.START_ARRAY, reader.nextToken()),
+        () -> assertEquals(ZeroToken.VALUE, reader.nextToken()),
+        () -> assertEquals(-5L, reader.readLong()),
+        () -> assertEquals(-5, reader.readInt()),
+        () -> assertEquals(ZeroToken.VALUE, reader.nextToken()),
+        () -> assertEquals(1.25, reader.readDouble()),
+        () -> assertEquals(ZeroToken.VALUE, reader.nextToken()),
+        () -> assertEquals(ZeroType.QUANTIZED_FLOAT, reader.currentType()),
+        () -> assertEquals(33.3f, reader.readFloat(), quantization.getPrecision()),
+        () -> assertEquals(ZeroToken.VALUE, reader.nextToken()),
+        () -> assertEquals(3, reader.currentSize()),
+        () -> assertEquals(50f, reader.readFloatArray()[1], quantization.getPrecision()),
+        () -> assertEquals(ZeroToken.VALUE, reader.nextToken()),
+        () -> assertThrows(IllegalStateException.class, reader::readInt),
+        () -> assertEquals("text", reader.readString()),
+        () -> assertEquals(ZeroToken.END_ARRAY, reader.nextToken()),
+        () -> assertNull(reader.nextToken())
+    );
+  }
+
+  @Test
+  @DisplayName("A reader should be reusable and reject invalid payloads")
+  void readerShouldBeReusable() {
+    var reader = new ZeroReader();
+    reader.reset(ZeroUtility.newZeroMap().putString("name", "first").toBinaries());
+    reader.nextToken();
+    reader.nextToken();
+    var first = reader.readString();
+    var firstKey = reader.currentKey();
+
+    reader.reset(ZeroUtility.newZeroArray().addBoolean(true).toBinaries());
+
+    assertAll("readerShouldBeReusable",
+        () -> assertEquals("first", first),
+        () -> assertEquals("name", firstKey),
+        () -> assertEquals(ZeroToken.START_ARRAY, reader.nextToken()),
+        () -> assertEquals(ZeroToken.VALUE, reader.nextToken()),
+        () -> assertNull(reader.currentKey()),
+        () -> assertFalse(reader.currentKeyEquals(new byte[0])),
+        () -> assertTrue(reader.readBoolean()),
+        () -> assertThrows(IllegalStateException.class,
+            () -> new ZeroReader(new byte[0]).nextToken()),
+        () -> assertThrows(IllegalStateException.class,
+            () -> new ZeroReader(new byte[] {(byte) ZeroType.INTEGER.getValue(), 0, 0, 0, 1})
+                .nextToken())
+    );
+  }
+
+  @Test
+  @DisplayName("Primitive collections should be read as arrays")
+  void primitiveCollectionsShouldBeRead() {
+    var reader = new ZeroReader(ZeroUtility.newZeroArray()
+        .addIntegerArray(List.of(7, 8, 9))
+        .addByteArray(new byte[] {4, 5})
+        .toBinaries());
+
+    reader.nextToken();
+    reader.nextToken();
+    var integers = reader.readIntArray();
+    var size = reader.currentSize();
+    reader.nextToken();
+
+    assertAll("primitiveCollectionsShouldBeRead",
+        () -> assertArrayEquals(new int[] {7, 8, 9}, integers),
+        () -> assertEquals(3, size),
+        () -> assertEquals(2, reader.currentSize()),
+        () -> assertArrayEquals(new byte[] {4, 5}, reader.readByteArray())
+    );
+  }
+
+  private static ZeroMap newPayload() {
+    var booleans = new ArrayList<Boolean>();
+    for (int i = 0; i < 20; i++) {
+      booleans.add(i % 3 == 0);
+    }
+    var names = List.of("knight", "knight", "ranger", "knight");
+
+    var typedArray = ZeroUtility.newTypedZeroArray(ZeroType.LONG);
+    typedArray.addLong(1L).addLong(Long.MAX_VALUE);
+    var typedStrings = ZeroUtility.newTypedZeroArray(ZeroType.STRING);
+    names.forEach(typedStrings::addString);
+
+    return ZeroUtility.newZeroMap()
+        .putNull("null")
+        .putBoolean("alive", true)
+        .putBoolean("admin", false)
+        .putBoolean("muted", true)
+        .putBoolean("hidden", false)
+        .putByte("byte", (byte) 1)
+        .putShort("short", (short) 2)
+        .putInteger("integer", 3)
+        .putLong("long", 4L)
+        .putFloat("float", 5.5f)
+        .putDouble("double", 6.5)
+        .putString("class", "knight")
+        .putString("title", "knight")
+        .putHalfFloat("half", 0.5f)
+        .putBooleanArray("flags", booleans)
+        .putByteArray("bytes", new byte[] {1, 2, 3})
+        .putShortArray("shorts", List.of((short) 1, (short) 2))
+        .putIntegerArray("integers", List.of(1, 2, 3))
+        .putLongArray("longs", List.of(1L, 2L))
+        .putFloatArray("floats", List.of(1f, 2f))
+        .putDoubleArray("doubles", List.of(1.0, 2.0))
+        .putStringArray("names", names)
+        .putHalfFloatArray("halves", List.of(0.25f, 0.75f))
+        .putZeroArray("leaderboard", newLeaderboard(5))
+        .putZeroArray("typed", typedArray)
+        .putZeroArray("typedStrings", typedStrings)
+        .putZeroArray("empty", ZeroUtility.newZeroArray())
+        .putZeroElement("stats", ZeroUtility.newZeroElement(ZeroType.ZERO_INT_MAP,
+            ZeroUtility.newZeroIntMap().putInteger(1, 10).putStringArray(200, names)))
+        .putZeroMap("nested", ZeroUtility.newZeroMap()
+            .putBoolean("a", true).putBoolean("b", true).putBoolean("c", false)
+            .putBoolean("d", true).putString("class", "knight"));
+  }
+
+  private static ZeroArray newLeaderboard(int rows) {
+    var leaderboard = ZeroUtility.newZeroArray();
+    for (int i = 0; i < rows; i++) {
+      leaderboard.addZeroMap(ZeroUtility.newZeroMap()
+          .putString("guild", i % 2 == 0 ? "knights" : "rangers")
+          .putLong("score", i)
+          .putBoolean("online", i % 3 == 0)
+          .putHalfFloat("ratio", i * 0.5f));
+    }
+    return leaderboard;
+  }
+
+  private static ZeroMap readMap(ZeroReader reader) {
+    assertEquals(ZeroToken.START_MAP, reader.nextToken());
+    return readMapContent(reader);
+  }
+
+  private static ZeroMap readMapContent(ZeroReader reader) {
+    var zeroMap = ZeroUtility.newZeroMap();
+    while (reader.nextToken() != ZeroToken.END_MAP) {
+      zeroMap.putZeroElement(reader.currentKey(), readElement(reader));
+    }
+    return zeroMap;
+  }
+
+  private static ZeroIntMap readIntMapContent(ZeroReader reader) {
+    var zeroIntMap = ZeroUtility.newZeroIntMap();
+    while (reader.nextToken() != ZeroToken.END_INT_MAP) {
+      zeroIntMap.putZeroElement(reader.currentFieldId(), readElement(reader));
+    }
+    return zeroIntMap;
+  }
+
+  private static ZeroArray readArrayContent(ZeroReader reader) {
+    var zeroArray = ZeroUtility.newZeroArray();
+    while (reader.nextToken() != ZeroToken.END_ARRAY) {
+      zeroArray.addZeroElement(readElement(reader));
+    }
+    return zeroArray;
+  }
+
+  private static ZeroElement readElement(ZeroReader reader) {
+    var type = reader.currentType();
+    Object data = switch (type) {
+      case NULL -> null;
+      case BOOLEAN -> reader.readBoolean();
+      case BYTE -> reader.readByte();
+      case SHORT -> reader.readShort();
+      case INTEGER -> reader.readInt();
+      case LONG -> reader.readLong();
+      case FLOAT, HALF_FLOAT -> reader.readFloat();
+      case DOUBLE -> reader.readDouble();
+      case STRING -> reader.readString();
+      case BOOLEAN_ARRAY -> {
+        var values = new ArrayList<Boolean>();
+        for (var value : reader.readBooleanArray()) {
+          values.add(value);
+        }
+        yield values;
+      }
+      case BYTE_ARRAY -> reader.readByteArray();
+      case SHORT_ARRAY -> {
+        var values = new ArrayList<Short>();
+        for (var value : reader.readShortArray()) {
+          values.add(value);
+        }
+        yield values;
+      }
+      case INTEGER_ARRAY -> {
+        var values = new ArrayList<Integer>();
+        for (var value : reader.readIntArray()) {
+          values.add(value);
+        }
+        yield values;
+      }
+      case LONG_ARRAY -> {
+        var values = new ArrayList<Long>();
+        for (var value : reader.readLongArray()) {
+          values.add(value);
+        }
+        yield values;
+      }
+      case FLOAT_ARRAY, HALF_FLOAT_ARRAY, QUANTIZED_FLOAT_ARRAY -> {
+        var values = new ArrayList<Float>();
+        for (var value : reader.readFloatArray()) {
+          values.add(value);
+        }
+        yield values;
+      }
+      case DOUBLE_ARRAY -> {
+        var values = new ArrayList<Double>();
+        for (var value : reader.readDoubleArray()) {
+          values.add(value);
+        }
+        yield values;
+      }
+      case STRING_ARRAY -> List.of(reader.readStringArray());
+      case ZERO_ARRAY -> readArrayContent(reader);
+      case ZERO_MAP -> readMapContent(reader);
+      case QUANTIZED_FLOAT -> reader.readFloat();
+      case ZERO_INT_MAP -> readIntMapContent(reader);
+    };
+
+    return ZeroUtility.newZeroElement(type == ZeroType.QUANTIZED_FLOAT ? ZeroType.FLOAT : type,
+        data);
+  }
+}
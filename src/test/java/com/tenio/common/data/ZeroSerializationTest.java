@@ -0,0 +1,162 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.zero.ConcurrentZeroMap;
+import com.tenio.common.data.zero.VersionedZeroMap;
+import com.tenio.common.data.zero.ZeroArray;
+import com.tenio.common.data.zero.ZeroElement;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.implement.LongZeroArrayImpl;
+import com.tenio.common.data.zero.implement.StringZeroArrayImpl;
+import com.tenio.common.data.zero.implement.ZeroQuantizedElementImpl;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Serialization")
+class ZeroSerializationTest {
+
+  private static byte[] serialize(Object object) throws Exception {
+    var output = new ByteArrayOutputStream();
+    try (var stream = new ObjectOutputStream(output)) {
+      stream.writeObject(object);
+    }
+    return output.toByteArray();
+  }
+
+  private static Object deserialize(byte[] binaries) throws Exception {
+    try (var stream = new ObjectInputStream(new ByteArrayInputStream(binaries))) {
+      return stream.readObject();
+    }
+  }
+
+  private static ZeroMap newSession() {
+    var session = ZeroUtility.newZeroMap()
+        .putString("name", "knight")
+        .putLong("id", 1_000_000_000_000L)
+        .putBoolean("online", true)
+        .putIntegerArray("slots", List.of(1, 2, 3))
+        .putZeroArray("items", ZeroUtility.newZeroArray().addString("sword").addInteger(2));
+    for (int i = 0; i < 100; i++) {
+      session.putInteger("stat-" + i, i);
+    }
+    return session.putZeroMap("position", ZeroUtility.newZeroMap().putFloat("x", 1.5f));
+  }
+
+  @Test
+  @DisplayName("A map should be serialized as its Zero binaries")
+  void mapShouldBeSerializedAsBinaries() throws Exception {
+    var session = newSession();
+    var serialized = serialize(session);
+    var deserialized = deserialize(serialized);
+
+    assertAll("mapShouldBeSerializedAsBinaries",
+        () -> assertInstanceOf(ZeroMap.class, deserialized),
+        () -> assertEquals(session.toString(), deserialized.toString()),
+        () -> assertTrue(serialized.length < session.toBinaries().length + 200)
+    );
+  }
+
+  @Test
+  @DisplayName("Arrays and elements should keep their content")
+  void arraysAndElementsShouldBeSerialized() throws Exception {
+    var array = ZeroUtility.newZeroArray().addString("a").addZeroMap(newSession());
+    var quantization = new ZeroQuantization(-100f, 100f, 16);
+    var element = ZeroUtility.newZeroElement(ZeroType.QUANTIZED_FLOAT, 12.5f, quantization);
+    var deserializedArray = deserialize(serialize(array));
+    var deserializedElement = (ZeroElement) deserialize(serialize(element));
+
+    assertAll("arraysAndElementsShouldBeSerialized",
+        () -> assertInstanceOf(ZeroArray.class, deserializedArray),
+        () -> assertEquals(array.toString(), deserializedArray.toString()),
+        () -> assertEquals(ZeroType.QUANTIZED_FLOAT, deserializedElement.getType()),
+        () -> assertEquals(12.5f, (float) deserializedElement.getData(), 0.01f),
+        () -> assertEquals(quantization,
+            ((ZeroQuantizedElementImpl) deserializedElement).getQuantization())
+    );
+  }
+
+  @Test
+  @DisplayName("Typed arrays should be read back as typed arrays")
+  void typedArraysShouldBeSerialized() throws Exception {
+    var ids = ZeroUtility.newTypedZeroArray(ZeroType.LONG).addLong(7L).addLong(Long.MIN_VALUE);
+    var names = ZeroUtility.newTypedZeroArray(ZeroType.STRING).addString("kong");
+    var map = ZeroUtility.newZeroMap().putZeroArray("ids", ids).putZeroArray("names", names);
+    var deserializedArray = (ZeroArray) deserialize(serialize(ids));
+    var deserializedMap = (ZeroMap) deserialize(serialize(map));
+
+    assertAll("typedArraysShouldBeSerialized",
+        () -> assertInstanceOf(LongZeroArrayImpl.class, deserializedArray),
+        () -> assertEquals(ids, deserializedArray),
+        () -> assertEquals(map, deserializedMap),
+        () -> assertInstanceOf(LongZeroArrayImpl.class, deserializedMap.getZeroArray("ids")),
+        () -> assertInstanceOf(StringZeroArrayImpl.class, deserializedMap.getZeroArray("names"))
+    );
+  }
+
+  @Test
+  @DisplayName("Concurrent, versioned and pinned maps should be read back in their own kind")
+  void specialMapsShouldBeSerialized() throws Exception {
+    var concurrentMap = ZeroUtility.newConcurrentZeroMap();
+    concurrentMap.putInteger("count", 3);
+    var versionedMap = ZeroUtility.newVersionedZeroMap();
+    versionedMap.putVersionedZeroMap("player").putInteger("hp", 100);
+    versionedMap.putInteger("gold", 10);
+    versionedMap.commit();
+    var pinned = versionedMap.pin();
+    versionedMap.putInteger("gold", 20);
+    versionedMap.commit();
+
+    var deserializedConcurrentMap = deserialize(serialize(concurrentMap));
+    var deserializedVersionedMap = deserialize(serialize(versionedMap));
+    var deserializedPinned = (ZeroMap) deserialize(serialize(pinned));
+    pinned.close();
+
+    assertAll("specialMapsShouldBeSerialized",
+        () -> assertInstanceOf(ConcurrentZeroMap.class, deserializedConcurrentMap),
+        () -> assertEquals(concurrentMap.toString(), deserializedConcurrentMap.toString()),
+        () -> assertInstanceOf(VersionedZeroMap.class, deserializedVersionedMap),
+        () -> assertEquals(1, ((VersionedZeroMap) deserializedVersionedMap).getVersion()),
+        () -> assertEquals(20, ((VersionedZeroMap) deserializedVersionedMap).getInteger("gold")),
+        () -> assertEquals(100, ((VersionedZeroMap) deserializedVersionedMap)
+            .getZeroMap("player").getInteger("hp")),
+        () -> assertEquals(10, deserializedPinned.getInteger("gold")),
+        () -> assertEquals(11, deserializedPinned.putInteger("gold", 11).getInteger("gold"))
+    );
+  }
+}
@@ -0,0 +1,318 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.data.store.ZeroStore;
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroReader;
+import com.tenio.common.data.zero.utility.ZeroToken;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Unit Test Cases For Zero Store")
+class ZeroStoreTest {
+
+  private static final int REGION_BYTES = 4096;
+
+  @TempDir
+  Path directory;
+
+  private static ZeroMap newProfile(int level, String name) {
+    return ZeroUtility.newZeroMap().putInteger("level", level).putString("name", name);
+  }
+
+  @Test
+  @DisplayName("Values should be stored, replaced in place and removed")
+  void valuesShouldBeStored() throws Exception {
+    try (var store = ZeroStore.open(directory, REGION_BYTES, 1)) {
+      store.put("player-1", newProfile(1, "knight"));
+      var liveBytes = store.getLiveBytes();
+      store.put("player-1", newProfile(2, "mage"));
+      var inPlaceDeadBytes = store.getDeadBytes();
+      store.put("player-1", newProfile(3, "a much longer name than before"));
+      store.put("player-2", newProfile(1, "archer"));
+      var reader = new ZeroReader();
+      var level = store.read("player-1", binaries -> {
+        reader.reset(binaries).nextToken();
+        while (reader.nextToken() != ZeroToken.END_MAP) {
+          if (reader.currentKey().equals("level")) {
+            return reader.readInt();
+          }
+          reader.skipValue();
+        }
+        return null;
+      });
+      var removed = store.remove("player-2");
+
+      assertAll("valuesShouldBeStored",
+          () -> assertEquals(0, inPlaceDeadBytes),
+          () -> assertTrue(store.getLiveBytes() > liveBytes),
+          () -> assertTrue(store.getDeadBytes() > 0),
+          () -> assertEquals(newProfile(3, "a much longer name than before").toString(),
+              store.get("player-1").toString()),
+          () -> assertEquals(3, level),
+          () -> assertTrue(removed),
+          () -> assertFalse(store.remove("player-2")),
+          () -> assertFalse(store.containsKey("player-2")),
+          () -> assertNull(store.get("player-2")),
+          () -> assertNull(store.read("player-2", binaries -> ZeroType.NULL)),
+          () -> assertEquals(1, store.size()),
+          () -> assertThrows(IllegalArgumentException.class,
+              () -> store.put("large", new byte[REGION_BYTES]))
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("A reopened store should find all values")
+  void reopenedStoreShouldFindValues() throws Exception {
+    try (var store = ZeroStore.open(directory, REGION_BYTES, 1)) {
+      for (int i = 0; i < 2000; i++) {
+        store.put("player-" + i, newProfile(i, "name-" + i));
+      }
+      store.remove("player-0");
+    }
+
+    try (var store = ZeroStore.open(directory)) {
+      assertAll("reopenedStoreShouldFindValues",
+          () -> assertEquals(1999, store.size()),
+          () -> assertNull(store.get("player-0")),
+          () -> assertEquals(newProfile(1999, "name-1999").toString(),
+              store.get("player-1999").toString()),
+          () -> assertEquals(newProfile(1000, "name-1000").toString(),
+              store.get("player-1000").toString())
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("The index should be rebuilt when the store was not closed")
+  void indexShouldBeRebuiltAfterCrash() throws Exception {
+    var crashed = ZeroStore.open(directory, REGION_BYTES, 1);
+    for (int i = 0; i < 100; i++) {
+      crashed.put("player-" + (i % 10), newProfile(i, "name-" + "x".repeat(i)));
+    }
+    crashed.remove("player-9");
+    var liveBytes = crashed.getLiveBytes();
+    var deadBytes = crashed.getDeadBytes();
+
+    try (var store = ZeroStore.open(directory, REGION_BYTES, 1)) {
+      assertAll("indexShouldBeRebuiltAfterCrash",
+          () -> assertEquals(9, store.size()),
+          () -> assertEquals(liveBytes, store.getLiveBytes()),
+          () -> assertEquals(deadBytes, store.getDeadBytes()),
+          () -> assertNull(store.get("player-9")),
+          () -> assertEquals(newProfile(98, "name-" + "x".repeat(98)).toString(),
+              store.get("player-8").toString())
+      );
+    }
+  }
+
+  @Test
+  @DisplayName("Compaction should drop the garbage and keep the values")
+  void compactionShouldDropGarbage() throws Exception {
+    var dataPath = directory.resolve("zero-store.data");
+    try (var store = ZeroStore.open(directory, REGION_BYTES, 1)) {
+      for (int i = 0; i < 200; i++) {
+        store.put("player-" + (i % 4), newProfile(i, "name-" + "x".repeat(i)));
+      }
+      var dataBytes = Files.size(dataPath);
+      var liveBytes = store.getLiveBytes();
+      store.compact();
+
+      assertAll("compactionShouldDropGarbage",
+          () -> assertEquals(0, store.getDeadBytes()),
+          () -> assertEquals(liveBytes, store.getLiveBytes()),
+          () -> assertTrue(Files.size(dataPath) < dataBytes),
+          () -> assertEquals(newProfile(199, "name-" + "x".repeat(199)).toString(),
+              store.get("player-3").toString())
+      );
+    }
+
+    try (var store = ZeroStore.open(directory)) {
+      assertEquals(4, store.size());
+      assertEquals(newProfile(196, "name-" + "x".repeat(196)).toString(),
+          store.get("player-0").toString());
+    }
+  }
+
+  @Test
+  @DisplayName("Garbage should be compacted in the background")
+  void garbageShouldBeCompactedInBackground() throws Exception {
+    var dataPath = directory.resolve("zero-store.data");
+    var appendedBytes = 0L;
+    try (var store = ZeroStore.open(directory, REGION_BYTES, 0.5)) {
+      for (int i = 0; i < 2000; i++) {
+        var binaries = ("value-" + i).repeat(1 + i % 20).getBytes(StandardCharsets.UTF_8);
+        store.put("key-" + (i % 8), binaries);
+        appendedBytes += binaries.length;
+      }
+
+      var deadline = System.currentTimeMillis() + 5000L;
+      while (store.getDeadBytes() > store.getLiveBytes() + REGION_BYTES / 4
+          && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10L);
+      }
+
+      assertEquals(8, store.size());
+      assertTrue(Files.size(dataPath) < appendedBytes / 2);
+    }
+  }
+
+  @Test
+  @DisplayName("Writes made while a compaction copies the records should be kept")
+  void compactionShouldKeepConcurrentWrites() throws Exception {
+    var expected = new HashMap<String, String>();
+    try (var store = ZeroStore.open(directory, REGION_BYTES, 1)) {
+      for (int i = 0; i < 2000; i++) {
+        store.put("player-" + (i % 500), newProfile(i, "name-" + i));
+      }
+
+      var compaction = CompletableFuture.runAsync(() -> {
+        for (int i = 0; i < 5; i++) {
+          try {
+            store.compact();
+          } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+          }
+        }
+      });
+      for (int i = 0; i < 2000; i++) {
+        var key = "player-" + (i % 700);
+        if (i % 7 == 0) {
+          store.remove(key);
+          expected.put(key, null);
+        } else {
+          var profile = newProfile(i, i % 2 == 0 ? "n" + i : "name-" + "x".repeat(i % 50));
+          store.put(key, profile);
+          expected.put(key, profile.toString());
+        }
+      }
+      compaction.join();
+
+      for (var entry : expected.entrySet()) {
+        var value = store.get(entry.getKey());
+        assertEquals(entry.getValue(), value == null ? null : value.toString());
+      }
+    }
+
+    try (var store = ZeroStore.open(directory)) {
+      for (var entry : expected.entrySet()) {
+        var value = store.get(entry.getKey());
+        assertEquals(entry.getValue(), value == null ? null : value.toString());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Keys added while a compaction copies the records should grow the new index")
+  void keysAddedDuringCompactionShouldGrowIndex() throws Exception {
+    try (var store = ZeroStore.open(directory, REGION_BYTES, 1)) {
+      for (int i = 0; i < 20_000; i++) {
+        store.put("player-" + i, newProfile(i, "name-" + i));
+      }
+      for (int i = 0; i < 20_000; i += 2) {
+        store.remove("player-" + i);
+      }
+
+      var writing = new AtomicBoolean(true);
+      var compaction = CompletableFuture.runAsync(() -> {
+        do {
+          try {
+            store.compact();
+          } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+          }
+        } while (writing.get());
+      });
+      for (int i = 0; i < 60_000; i++) {
+        store.put("new-" + i, newProfile(i, "name-" + i));
+      }
+      writing.set(false);
+      compaction.get(60, TimeUnit.SECONDS);
+
+      assertAll("keysAddedDuringCompactionShouldGrowIndex",
+          () -> assertEquals(70_000, store.size()),
+          () -> assertNull(store.get("player-0")),
+          () -> assertEquals(newProfile(1, "name-1").toString(),
+              store.get("player-1").toString()),
+          () -> assertEquals(newProfile(59_999, "name-59999").toString(),
+              store.get("new-59999").toString())
+      );
+    }
+
+    try (var store = ZeroStore.open(directory)) {
+      assertEquals(70_000, store.size());
+      for (int i = 0; i < 60_000; i += 997) {
+        assertEquals(newProfile(i, "name-" + i).toString(), store.get("new-" + i).toString());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("A value torn by a crash should be dropped when the index is rebuilt")
+  void tornValueShouldBeDroppedOnRebuild() throws Exception {
+    var crashed = ZeroStore.open(directory, REGION_BYTES, 1);
+    crashed.put("player-1", newProfile(1, "knight"));
+    crashed.put("player-2", newProfile(2, "mage"));
+    crashed.put("player-1", newProfile(3, "archer"));
+    crashed.flush();
+
+    // the first value byte of the first record, behind the file and record headers and the key
+    try (var channel = FileChannel.open(directory.resolve("zero-store.data"),
+        StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] {(byte) 0x7F}), 32 + 16 + "player-1".length());
+    }
+
+    try (var store = ZeroStore.open(directory, REGION_BYTES, 1)) {
+      assertAll("tornValueShouldBeDroppedOnRebuild",
+          () -> assertEquals(1, store.size()),
+          () -> assertNull(store.get("player-1")),
+          () -> assertEquals(newProfile(2, "mage").toString(), store.get("player-2").toString()),
+          () -> assertTrue(store.getDeadBytes() > 0)
+      );
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.tenio.common.data.zero.utility.ZeroStringCache;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero String Cache")
+class ZeroStringCacheTest {
+
+  private static String keyOf(byte[] binaries) {
+    return ZeroUtility.binariesToMap(binaries).getKeys().iterator().next();
+  }
+
+  @Test
+  @DisplayName("Decoded keys should be shared between messages")
+  void decodedKeysShouldBeShared() {
+    var binaries = ZeroUtility.newZeroMap().putInteger("health", 100).toBinaries();
+
+    assertAll("decodedKeysShouldBeShared",
+        () -> assertSame(keyOf(binaries), keyOf(binaries)),
+        () -> assertEquals("health", keyOf(binaries))
+    );
+  }
+
+  @Test
+  @DisplayName("Non-ASCII keys and values should be encoded in UTF-8")
+  void nonAsciiStringsShouldRoundTrip() {
+    var map = ZeroUtility.newZeroMap()
+        .putString("名前", "騎士")
+        .putStringArray("称号", List.of("勇者", "ü"));
+    var decoded = ZeroUtility.binariesToMap(map.toBinaries());
+
+    assertAll("nonAsciiStringsShouldRoundTrip",
+        () -> assertEquals("騎士", decoded.getString("名前")),
+        () -> assertEquals(map.getStringArray("称号"), decoded.getStringArray("称号"))
+    );
+  }
+
+  @Test
+  @DisplayName("Enabling the value cache should share short string values")
+  void valueCacheShouldShareShortValues() {
+    var binaries = ZeroUtility.newZeroMap().putString("state", "idle").toBinaries();
+    try {
+      var disabled = ZeroUtility.binariesToMap(binaries).getString("state");
+      ZeroUtility.setValueCache(new ZeroStringCache());
+      var first = ZeroUtility.binariesToMap(binaries).getString("state");
+      var second = ZeroUtility.binariesToMap(binaries).getString("state");
+
+      assertAll("valueCacheShouldShareShortValues",
+          () -> assertNotSame(disabled, first),
+          () -> assertSame(first, second)
+      );
+    } finally {
+      ZeroUtility.setValueCache(null);
+    }
+  }
+
+  @Test
+  @DisplayName("The cache should bypass long strings and reject invalid settings")
+  void cacheShouldBypassLongStrings() {
+    var cache = new ZeroStringCache(100, 4);
+    var shortBytes = "abcd".getBytes(StandardCharsets.UTF_8);
+    var longBytes = "abcde".getBytes(StandardCharsets.UTF_8);
+    var buffer = ByteBuffer.wrap(shortBytes);
+    var first = cache.read(buffer, shortBytes.length);
+    var second = cache.read(ByteBuffer.wrap(shortBytes), shortBytes.length);
+
+    assertAll("cacheShouldBypassLongStrings",
+        () -> assertEquals(128, cache.getCapacity()),
+        () -> assertEquals(shortBytes.length, buffer.position()),
+        () -> assertSame(first, second),
+        () -> assertNotSame(cache.read(ByteBuffer.wrap(longBytes), longBytes.length),
+            cache.read(ByteBuffer.wrap(longBytes), longBytes.length)),
+        () -> assertThrows(IllegalArgumentException.class, () -> new ZeroStringCache(0, 4))
+    );
+  }
+}
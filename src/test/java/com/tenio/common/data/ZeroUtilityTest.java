@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.common.data;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -38,6 +39,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -522,7 +525,7 @@ class ZeroUtilityTest {
     assertThrows(IllegalArgumentException.class,
         () -> ZeroUtility.binariesToArray(
             new byte[] {(byte) ZeroType.ZERO_ARRAY.getValue(), arraySizeInShort[0],
-                arraySizeInShort[1], (byte) 19, (byte) 1}));
+                arraySizeInShort[1], (byte) 127, (byte) 1}));
     // failed to decode boolean
     assertThrows(IllegalArgumentException.class,
         () -> ZeroUtility.binariesToArray(
@@ -580,7 +583,7 @@ class ZeroUtilityTest {
     assertThrows(IllegalStateException.class,
         () -> ZeroUtility.binariesToMap(
             new byte[] {(byte) ZeroType.ZERO_ARRAY.getValue(), arraySizeInShort[0],
-                arraySizeInShort[1], (byte) 19, (byte) 1}));
+                arraySizeInShort[1], (byte) 127, (byte) 1}));
     // failed to decode boolean
     assertThrows(IllegalArgumentException.class,
         () -> ZeroUtility.binariesToMap(
@@ -592,7 +595,7 @@ class ZeroUtilityTest {
         () -> ZeroUtility.binariesToMap(
             new byte[] {(byte) ZeroType.ZERO_MAP.getValue(), arraySizeInShort[0],
                 arraySizeInShort[1], arraySizeInShort[0], arraySizeInShort[1], (byte) 61,
-                (byte) 0, (byte) 19}));
+                (byte) 0, (byte) 127}));
   }
 
   @Test
@@ -612,4 +615,47 @@ class ZeroUtilityTest {
 
     origin.toBinaries();
   }
+
+  @Test
+  @DisplayName("Reused buffers should produce the same binaries on every thread")
+  void reusedBuffersShouldProduceSameBinaries() throws Exception {
+    var large = ZeroUtility.newZeroMap();
+    for (int i = 0; i < 20_000; i++) {
+      large.putInteger("key-" + i, i);
+    }
+    var small = ZeroUtility.newZeroMap().putString("name", "knight").putIntegerArray("slots",
+        integers);
+
+    ZeroUtility.setReusableBuffersEnabled(false);
+    var expectedLarge = large.toBinaries();
+    var expectedSmall = small.toBinaries();
+    ZeroUtility.setReusableBuffersEnabled(true);
+
+    var largeBinaries = large.toBinaries();
+    var smallBinaries = small.toBinaries();
+    var smallAgain = small.toBinaries();
+    var virtualBinaries = new ArrayList<byte[]>();
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var futures = new ArrayList<Future<byte[]>>();
+      for (int i = 0; i < 100; i++) {
+        var collection = i % 2 == 0 ? small : large;
+        futures.add(executor.submit(collection::toBinaries));
+      }
+      for (var future : futures) {
+        virtualBinaries.add(future.get());
+      }
+    }
+
+    assertAll("reusedBuffersShouldProduceSameBinaries",
+        () -> assertTrue(ZeroUtility.isReusableBuffersEnabled()),
+        () -> assertArrayEquals(expectedLarge, largeBinaries),
+        () -> assertArrayEquals(expectedSmall, smallBinaries),
+        () -> assertArrayEquals(expectedSmall, smallAgain),
+        () -> {
+          for (int i = 0; i < virtualBinaries.size(); i++) {
+            assertArrayEquals(i % 2 == 0 ? expectedSmall : expectedLarge, virtualBinaries.get(i));
+          }
+        }
+    );
+  }
 }
@@ -0,0 +1,230 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.ZeroType;
+import com.tenio.common.data.zero.utility.ZeroEncodingOption;
+import com.tenio.common.data.zero.utility.ZeroJsonTranscoder;
+import com.tenio.common.data.zero.utility.ZeroMsgPackTranscoder;
+import com.tenio.common.data.zero.utility.ZeroReader;
+import com.tenio.common.data.zero.utility.ZeroToken;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import com.tenio.common.data.zero.utility.ZeroWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Wide Headers")
+class ZeroWideHeaderTest {
+
+  private static final int LEADERBOARD_SIZE = 200_000;
+
+  private static ZeroMap newLeaderboard() {
+    var scores = new ArrayList<Integer>(LEADERBOARD_SIZE);
+    var names = new ArrayList<String>(LEADERBOARD_SIZE);
+    var entries = ZeroUtility.newZeroArray();
+    for (int i = 0; i < LEADERBOARD_SIZE; i++) {
+      scores.add(i * 7);
+      names.add("player-" + i);
+      entries.addInteger(i);
+    }
+
+    return ZeroUtility.newZeroMap()
+        .putIntegerArray("scores", scores)
+        .putStringArray("names", names)
+        .putZeroArray("entries", entries);
+  }
+
+  @Test
+  @DisplayName("Collections beyond the 16-bit range should round trip")
+  void largeCollectionsShouldRoundTrip() {
+    var leaderboard = newLeaderboard();
+    var ranks = ZeroUtility.newZeroMap();
+    for (int i = 0; i < 40_000; i++) {
+      ranks.putInteger("rank-" + i, i);
+    }
+    leaderboard.putZeroMap("ranks", ranks);
+
+    var decoded = ZeroUtility.binariesToMap(leaderboard.toBinaries());
+
+    assertAll("largeCollectionsShouldRoundTrip",
+        () -> assertEquals(leaderboard, decoded),
+        () -> assertEquals(LEADERBOARD_SIZE, decoded.getIntegerArray("scores").size()),
+        () -> assertEquals(LEADERBOARD_SIZE, decoded.getZeroArray("entries").size()),
+        () -> assertEquals(39_999, decoded.getZeroMap("ranks").getInteger("rank-39999"))
+    );
+  }
+
+  @Test
+  @DisplayName("Strings beyond the 16-bit range should round trip")
+  void largeStringsShouldRoundTrip() {
+    var text = "ö".repeat(25_000);
+    var map = ZeroUtility.newZeroMap()
+        .putString("text", text)
+        .putStringArray("texts", List.of("short", text));
+    var array = ZeroUtility.newZeroArray().addString(text);
+
+    assertAll("largeStringsShouldRoundTrip",
+        () -> assertEquals(map, ZeroUtility.binariesToMap(map.toBinaries())),
+        () -> assertEquals(array, ZeroUtility.binariesToArray(array.toBinaries())),
+        () -> assertEquals(map, ZeroUtility.binariesToMap(
+            ZeroUtility.mapToBinaries(map, ZeroEncodingOption.values())))
+    );
+  }
+
+  @Test
+  @DisplayName("Small payloads should keep their 16-bit headers")
+  void smallPayloadsShouldKeepShortHeaders() {
+    var map = ZeroUtility.newZeroMap()
+        .putString("name", "knight")
+        .putIntegerArray("scores", List.of(1, 2, 3));
+    var binaries = map.toBinaries();
+    var wideBinaries = ZeroUtility.mapToBinaries(map, ZeroEncodingOption.WIDE_SIZES);
+
+    assertAll("smallPayloadsShouldKeepShortHeaders",
+        () -> assertEquals(ZeroType.ZERO_MAP.getValue(), binaries[0]),
+        () -> assertNotEquals(ZeroType.ZERO_MAP.getValue(), wideBinaries[0]),
+        () -> assertEquals(ZeroType.ZERO_MAP.getValue(), wideBinaries[1]),
+        () -> assertEquals(map, ZeroUtility.binariesToMap(wideBinaries)),
+        () -> assertEquals(ZeroJsonTranscoder.binariesToJson(binaries),
+            ZeroJsonTranscoder.binariesToJson(wideBinaries))
+    );
+  }
+
+  @Test
+  @DisplayName("Transcoded collections beyond the 16-bit range should switch to wide headers")
+  void transcodedLargeCollectionsShouldBeWide() {
+    var values = ZeroUtility.newZeroArray();
+    var ranks = ZeroUtility.newZeroMap();
+    for (int i = 0; i < 40_000; i++) {
+      values.addInteger(i);
+      ranks.putInteger("rank-" + i, i);
+    }
+    var map = ZeroUtility.newZeroMap()
+        .putZeroArray("values", values)
+        .putZeroArray("nested", ZeroUtility.newZeroArray().addZeroArray(values).addInteger(1))
+        .putZeroMap("ranks", ranks)
+        .putString("text", "ö".repeat(20_000));
+    var json = ZeroJsonTranscoder.binariesToJson(map.toBinaries());
+
+    var fromJson = ZeroJsonTranscoder.jsonToBinaries(json);
+    var fromMsgPack = ZeroMsgPackTranscoder.msgPackToBinaries(
+        ZeroMsgPackTranscoder.binariesToMsgPack(map.toBinaries()));
+
+    assertAll("transcodedLargeCollectionsShouldBeWide",
+        () -> assertEquals(json, ZeroJsonTranscoder.binariesToJson(fromJson)),
+        () -> assertEquals(json, ZeroJsonTranscoder.binariesToJson(fromMsgPack)),
+        () -> assertEquals(40_000,
+            ZeroUtility.binariesToMap(fromJson).getZeroArray("values").size()),
+        () -> assertEquals(40_000,
+            ZeroUtility.binariesToMap(fromMsgPack).getZeroMap("ranks").size())
+    );
+  }
+
+  @Test
+  @DisplayName("Written collections beyond the 16-bit range should match the encoded ones")
+  void writtenLargeCollectionsShouldBeWide() {
+    var quantization = new ZeroQuantization(0f, 100f, 12);
+    var integers = new int[40_000];
+    var integerList = new ArrayList<Integer>(integers.length);
+    var floats = new ArrayList<Float>(integers.length);
+    var text = "ö".repeat(20_000);
+    var array = ZeroUtility.newZeroArray();
+    var elements = ZeroUtility.newZeroArray();
+    var writer = new ZeroWriter().beginArray().beginArray();
+    for (int i = 0; i < integers.length; i++) {
+      integers[i] = i;
+      integerList.add(i);
+      floats.add(i % 100f);
+      elements.addInteger(i);
+      writer.writeInt(i);
+    }
+    var floatValues = new float[floats.size()];
+    for (int i = 0; i < floatValues.length; i++) {
+      floatValues[i] = floats.get(i);
+    }
+    array.addZeroArray(elements)
+        .addIntegerArray(integerList)
+        .addString(text)
+        .addStringArray(List.of("short", text))
+        .addQuantizedFloatArray(floats, quantization);
+    writer.end().writeIntArray(integers).writeString(text).writeStringArray("short", text)
+        .writeQuantizedFloatArray(quantization, floatValues).end();
+
+    assertArrayEquals(array.toBinaries(), writer.toBinaries());
+  }
+
+  @Test
+  @DisplayName("Keys beyond the 16-bit range should not be encoded")
+  void largeKeysShouldBeRejected() {
+    var map = ZeroUtility.newZeroMap().putInteger("k".repeat(Short.MAX_VALUE + 1), 1);
+
+    assertThrows(IllegalArgumentException.class, map::toBinaries);
+  }
+
+  @Test
+  @DisplayName("The reader should visit the wide collections")
+  void readerShouldReadWideCollections() {
+    var leaderboard = newLeaderboard();
+    var reader = new ZeroReader(leaderboard.toBinaries());
+    var scores = new int[0];
+    var names = new String[0];
+    var entries = 0;
+
+    assertEquals(ZeroToken.START_MAP, reader.nextToken());
+    for (var token = reader.nextToken(); token != ZeroToken.END_MAP; token = reader.nextToken()) {
+      switch (reader.currentKey()) {
+        case "scores" -> scores = reader.readIntArray();
+        case "names" -> names = reader.readStringArray();
+        default -> {
+          entries = reader.currentSize();
+          while (reader.nextToken() != ZeroToken.END_ARRAY) {
+            reader.skipValue();
+          }
+        }
+      }
+    }
+
+    var expectedScores = leaderboard.getIntegerArray("scores").stream()
+        .mapToInt(Integer::intValue).toArray();
+    var readScores = scores;
+    var readNames = names;
+    var readEntries = entries;
+    assertAll("readerShouldReadWideCollections",
+        () -> assertArrayEquals(expectedScores, readScores),
+        () -> assertEquals(LEADERBOARD_SIZE, readNames.length),
+        () -> assertEquals("player-199999", readNames[LEADERBOARD_SIZE - 1]),
+        () -> assertEquals(LEADERBOARD_SIZE, readEntries)
+    );
+  }
+}
@@ -0,0 +1,230 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.tenio.common.data.zero.ZeroMap;
+import com.tenio.common.data.zero.ZeroQuantization;
+import com.tenio.common.data.zero.utility.ZeroUtility;
+import com.tenio.common.data.zero.utility.ZeroWriter;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Zero Writer")
+class ZeroWriterTest {
+
+  @Test
+  @DisplayName("Written scalars should be byte-identical to the encoded map")
+  void scalarsShouldMatchEncodedMap() {
+    var zeroMap = ZeroUtility.newZeroMap()
+        .putNull("n")
+        .putBoolean("b", true)
+        .putByte("y", (byte) 7)
+        .putShort("s", (short) -300)
+        .putInteger("i", 100_000)
+        .putLong("l", Long.MIN_VALUE)
+        .putFloat("f", 1.5f)
+        .putDouble("d", -2.25)
+        .putString("str", "xin chào 👋")
+        .putHalfFloat("h", 0.75f);
+
+    var entries = new HashMap<String, Consumer<ZeroWriter>>();
+    entries.put("n", ZeroWriter::writeNull);
+    entries.put("b", writer -> writer.writeBoolean(true));
+    entries.put("y", writer -> writer.writeByte((byte) 7));
+    entries.put("s", writer -> writer.writeShort((short) -300));
+    entries.put("i", writer -> writer.writeInt(100_000));
+    entries.put("l", writer -> writer.writeLong(Long.MIN_VALUE));
+    entries.put("f", writer -> writer.writeFloat(1.5f));
+    entries.put("d", writer -> writer.writeDouble(-2.25));
+    entries.put("str", writer -> writer.writeString("xin chào 👋"));
+    entries.put("h", writer -> writer.writeHalfFloat(0.75f));
+    var binaries = writeMap(zeroMap, entries);
+
+    assertArrayEquals(zeroMap.toBinaries(), binaries);
+  }
+
+  @Test
+  @DisplayName("Written arrays and nested collections should be byte-identical to the encoded map")
+  void collectionsShouldMatchEncodedMap() {
+    var quantization = new ZeroQuantization(-10f, 10f, 10);
+    var zeroMap = ZeroUtility.newZeroMap()
+        .putBooleanArray("ba", List.of(true, false, true))
+        .putByteArray("by", new byte[] {1, 2, 3})
+        .putShortArray("sa", List.of((short) 1, (short) 2))
+        .putIntegerArray("ia", List.of(1, 2, 3))
+        .putLongArray("la", List.of(4L, 5L))
+        .putFloatArray("fa", List.of(1.0f, 2.0f))
+        .putDoubleArray("da", List.of(3.0, 4.0))
+        .putStringArray("st", List.of("a", "bb", "ccc"))
+        .putHalfFloatArray("ha", List.of(0.5f, 1.5f))
+        .putQuantizedFloat("q", 3.3f, quantization)
+        .putQuantizedFloatArray("qa", List.of(-1f, 0f, 7.5f), quantization)
+        .putZeroArray("za", ZeroUtility.newZeroArray()
+            .addInteger(1)
+            .addZeroMap(ZeroUtility.newZeroMap().putString("name", "knight"))
+            .addZeroArray(ZeroUtility.newZeroArray()))
+        .putZeroMap("zm", ZeroUtility.newZeroMap());
+
+    var entries = new HashMap<String, Consumer<ZeroWriter>>();
+    entries.put("ba", writer -> writer.writeBooleanArray(true, false, true));
+    entries.put("by", writer -> writer.writeByteArray(new byte[] {1, 2, 3}));
+    entries.put("sa", writer -> writer.writeShortArray((short) 1, (short) 2));
+    entries.put("ia", writer -> writer.writeIntArray(1, 2, 3));
+    entries.put("la", writer -> writer.writeLongArray(4L, 5L));
+    entries.put("fa", writer -> writer.writeFloatArray(1.0f, 2.0f));
+    entries.put("da", writer -> writer.writeDoubleArray(3.0, 4.0));
+    entries.put("st", writer -> writer.writeStringArray("a", "bb", "ccc"));
+    entries.put("ha", writer -> writer.writeHalfFloatArray(0.5f, 1.5f));
+    entries.put("q", writer -> writer.writeQuantizedFloat(3.3f, quantization));
+    entries.put("qa", writer -> writer.writeQuantizedFloatArray(quantization, -1f, 0f, 7.5f));
+    entries.put("za", writer -> writer.beginArray()
+        .writeInt(1)
+        .beginMap().key("name").writeString("knight").end()
+        .beginArray().end()
+        .end());
+    entries.put("zm", writer -> writer.beginMap().end());
+    var binaries = writeMap(zeroMap, entries);
+
+    assertArrayEquals(zeroMap.toBinaries(), binaries);
+  }
+
+  /*
+   * Entries are written in the iteration order of the map, so the output could be compared.
+   */
+  private static byte[] writeMap(ZeroMap zeroMap, Map<String, Consumer<ZeroWriter>> entries) {
+    var writer = new ZeroWriter(16).beginMap();
+    for (var key : zeroMap.getKeys()) {
+      entries.get(key).accept(writer.key(key));
+    }
+
+    return writer.end().toBinaries();
+  }
+
+  @Test
+  @DisplayName("A writer should be reusable after resetting")
+  void writerShouldBeReusable() {
+    var writer = new ZeroWriter();
+    writer.beginMap().key("first").writeInt(1).end();
+    var first = writer.toBinaries();
+
+    writer.reset().beginArray().writeString("second").end();
+    var second = writer.toBinaries();
+    var target = ByteBuffer.allocate(writer.size() + 2);
+    target.put((byte) -1);
+    writer.writeTo(target);
+
+    assertAll("writerShouldBeReusable",
+        () -> assertArrayEquals(ZeroUtility.newZeroMap().putInteger("first", 1).toBinaries(),
+            first),
+        () -> assertArrayEquals(ZeroUtility.newZeroArray().addString("second").toBinaries(),
+            second),
+        () -> assertEquals(second.length + 1, target.position()),
+        () -> assertArrayEquals(second,
+            Arrays.copyOfRange(target.array(), 1, second.length + 1))
+    );
+  }
+
+  @Test
+  @DisplayName("Deeply nested collections should be written")
+  void deeplyNestedCollectionsShouldBeWritten() {
+    var writer = new ZeroWriter();
+    var zeroArray = ZeroUtility.newZeroArray();
+    var current = zeroArray;
+    writer.beginArray();
+    for (int i = 0; i < 20; i++) {
+      var child = ZeroUtility.newZeroArray();
+      current.addInteger(i).addZeroArray(child);
+      current = child;
+      writer.writeInt(i).beginArray();
+    }
+    for (int i = 0; i <= 20; i++) {
+      writer.end();
+    }
+
+    assertArrayEquals(zeroArray.toBinaries(), writer.toBinaries());
+  }
+
+  @Test
+  @DisplayName("Written int maps should be byte-identical to the encoded int map")
+  void intMapsShouldBeWritten() {
+    var writer = new ZeroWriter();
+    var intMap = ZeroUtility.newZeroIntMap();
+    var nested = ZeroUtility.newZeroIntMap();
+    writer.beginIntMap().fieldId(7).writeString("sword").fieldId(300).beginIntMap();
+    for (int i = 0; i < 200; i++) {
+      nested.putInteger(i, i);
+      writer.fieldId(i).writeInt(i);
+    }
+    writer.end().end();
+    intMap.putString(7, "sword").putZeroIntMap(300, nested);
+
+    assertAll("intMapsShouldBeWritten",
+        () -> assertArrayEquals(ZeroUtility.intMapToBinaries(intMap), writer.toBinaries()),
+        () -> assertEquals(intMap, ZeroUtility.binariesToIntMap(writer.toBinaries())),
+        () -> assertThrows(IllegalStateException.class,
+            () -> new ZeroWriter().beginMap().fieldId(1)),
+        () -> assertThrows(IllegalStateException.class,
+            () -> new ZeroWriter().beginIntMap().key("a")),
+        () -> assertThrows(IllegalStateException.class,
+            () -> new ZeroWriter().beginIntMap().writeInt(1)),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> new ZeroWriter().beginIntMap().fieldId(-1))
+    );
+  }
+
+  @Test
+  @DisplayName("Misplaced calls should throw exceptions")
+  void misplacedCallsShouldThrowExceptions() {
+    assertAll("misplacedCallsShouldThrowExceptions",
+        () -> assertThrows(IllegalStateException.class, () -> new ZeroWriter().writeInt(1)),
+        () -> assertThrows(IllegalStateException.class, () -> new ZeroWriter().end()),
+        () -> assertThrows(IllegalStateException.class,
+            () -> new ZeroWriter().beginMap().writeInt(1)),
+        () -> assertThrows(IllegalStateException.class,
+            () -> new ZeroWriter().beginMap().key("a").key("b")),
+        () -> assertThrows(IllegalStateException.class,
+            () -> new ZeroWriter().beginMap().key("a").end()),
+        () -> assertThrows(IllegalStateException.class,
+            () -> new ZeroWriter().beginArray().key("a")),
+        () -> assertThrows(IllegalStateException.class,
+            () -> new ZeroWriter().beginArray().toBinaries()),
+        () -> assertThrows(IllegalStateException.class,
+            () -> new ZeroWriter().beginArray().end().beginMap()),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> new ZeroWriter().beginMap().key("k".repeat(Short.MAX_VALUE + 1)))
+    );
+  }
+}